@@ -3,10 +3,12 @@ package com.kakaobase.snsapp.domain.comments.controller;
 import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
 import com.kakaobase.snsapp.domain.comments.dto.CommentRequestDto;
 import com.kakaobase.snsapp.domain.comments.dto.CommentResponseDto;
+import com.kakaobase.snsapp.domain.comments.exception.CommentException;
 import com.kakaobase.snsapp.domain.comments.service.CommentService;
 import com.kakaobase.snsapp.domain.comments.service.CommentLikeService;
 import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
 import com.kakaobase.snsapp.global.common.response.CustomResponse;
+import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -90,16 +92,28 @@ public class CommentController {
     @GetMapping("/posts/{postId}/comments")
     @Operation(
             summary = "게시글의 댓글 목록 조회",
-            description = "게시글에 작성된 댓글 목록을 조회합니다. 페이지네이션을 지원합니다."
+            description = "게시글에 작성된 댓글 목록을 조회합니다. 페이지네이션을 지원합니다. " +
+                    "expand=recomments를 지정하면 댓글별 앞부분 대댓글을 함께 반환합니다."
     )
     public CustomResponse<List<CommentResponseDto.CommentInfo>> getCommentsByPostId(
             @PathVariable Long postId,
             @Parameter(description = "한 번에 불러올 댓글 수 (기본값: 12)") @RequestParam(required = false, defaultValue = "12") Integer limit,
             @Parameter(description = "페이지네이션 커서 (이전 응답의 next_cursor)") @RequestParam(required = false) Long cursor,
+            @Parameter(description = "함께 조회할 하위 항목 (recomments)") @RequestParam(required = false) String expand,
+            @Parameter(description = "댓글별 대댓글 미리보기 수 (기본값: 3, 0~10, 0이면 미포함)") @RequestParam(name = "recomment_limit", required = false, defaultValue = "3") Integer recommentLimit,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
         Long memberId = Long.valueOf(userDetails.getId());
-        List<CommentResponseDto.CommentInfo> response = commentService.getCommentsByPostId(memberId, postId, limit, cursor);
+
+        int recommentPreviewSize = 0;
+        if (expand != null) {
+            if (!"recomments".equals(expand)) {
+                throw new CommentException(GeneralErrorCode.INVALID_QUERY_PARAMETER, "expand", "expand는 recomments만 지원합니다.");
+            }
+            recommentPreviewSize = recommentLimit;
+        }
+
+        List<CommentResponseDto.CommentInfo> response = commentService.getCommentsByPostId(memberId, postId, limit, cursor, recommentPreviewSize);
         return CustomResponse.success("댓글 목록을 조회했습니다.", response);
     }
 
@@ -7,11 +7,15 @@ import com.kakaobase.snsapp.domain.comments.entity.Recomment;
 import com.kakaobase.snsapp.domain.comments.exception.CommentErrorCode;
 import com.kakaobase.snsapp.domain.comments.exception.CommentException;
 import com.kakaobase.snsapp.domain.comments.service.cache.CommentCacheService;
+import com.kakaobase.snsapp.domain.comments.service.cache.RecommentCacheService;
 import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
 import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.members.service.cache.MemberSummaryCacheService;
 import com.kakaobase.snsapp.domain.posts.entity.Post;
 import com.kakaobase.snsapp.global.common.redis.CacheRecord;
 import com.kakaobase.snsapp.global.common.redis.error.CacheException;
+import com.kakaobase.snsapp.global.common.viewer.ViewerContext;
+import com.kakaobase.snsapp.global.common.viewer.ViewerContextService;
 import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +33,9 @@ import java.util.Map;
 public class CommentConverter {
 
     private final CommentCacheService commentCacheService;
+    private final RecommentCacheService recommentCacheService;
+    private final ViewerContextService viewerContextService;
+    private final MemberSummaryCacheService memberSummaryCacheService;
 
     /**
      * 댓글 작성 요청 DTO를 댓글 엔티티로 변환
@@ -164,4 +171,84 @@ public class CommentConverter {
         return original.withStats(cacheStats.likeCount(), cacheStats.recommentCount());
     }
 
-}
\ No newline at end of file
+    /**
+     * RecommentInfo 리스트의 likeCount를 캐시 데이터로 업데이트
+     */
+    public List<CommentResponseDto.RecommentInfo> updateRecommentsWithCachedStats(
+            List<CommentResponseDto.RecommentInfo> recommentInfos) {
+
+        if (recommentInfos == null || recommentInfos.isEmpty()) {
+            return recommentInfos;
+        }
+
+        try{
+            Map<Long, CacheRecord.RecommentStatsCache> recommentStatsCache = recommentCacheService.findAllByItems(recommentInfos);
+            if (recommentStatsCache == null || recommentStatsCache.isEmpty()) {
+                return recommentInfos;
+            }
+            return recommentInfos.stream()
+                    .map(recommentInfo -> {
+                        CacheRecord.RecommentStatsCache cacheStats = recommentStatsCache.get(recommentInfo.id());
+                        return cacheStats == null ? recommentInfo : recommentInfo.withLikeCount(cacheStats.likeCount());
+                    })
+                    .toList();
+        } catch (CacheException e) {
+            log.error(e.getMessage());
+            return recommentInfos;
+        }
+    }
+
+    /**
+     * CommentInfo 리스트에 작성자 요약과 조회자 기준 값(작성자 팔로우/본인/좋아요 여부)을 일괄 반영
+     * 조회 결과는 viewer에 누적되어 같은 요청의 이후 조회에서 재사용됩니다.
+     * 탈퇴한 회원의 댓글은 조회 쿼리에서 이미 제외되므로 행을 거르지 않습니다.
+     */
+    public List<CommentResponseDto.CommentInfo> applyViewerContext(
+            List<CommentResponseDto.CommentInfo> commentInfos, ViewerContext viewer) {
+
+        if (commentInfos == null || commentInfos.isEmpty()) {
+            return commentInfos;
+        }
+
+        List<Long> authorIds = commentInfos.stream().map(commentInfo -> commentInfo.user().id()).toList();
+        Map<Long, MemberResponseDto.UserInfo> authors = memberSummaryCacheService.findAll(authorIds);
+
+        viewerContextService.extend(viewer, ViewerContext.LikeTarget.COMMENT,
+                authorIds,
+                commentInfos.stream().map(CommentResponseDto.CommentInfo::id).toList());
+
+        return commentInfos.stream()
+                .map(commentInfo -> commentInfo.withViewerFlags(
+                        authors.get(commentInfo.user().id()),
+                        viewer.isFollowed(commentInfo.user().id()),
+                        viewer.isMine(commentInfo.user().id()),
+                        viewer.isLiked(ViewerContext.LikeTarget.COMMENT, commentInfo.id())))
+                .toList();
+    }
+
+    /**
+     * RecommentInfo 리스트에 작성자 요약과 조회자 기준 값(작성자 팔로우/본인/좋아요 여부)을 일괄 반영
+     */
+    public List<CommentResponseDto.RecommentInfo> applyRecommentViewerContext(
+            List<CommentResponseDto.RecommentInfo> recommentInfos, ViewerContext viewer) {
+
+        if (recommentInfos == null || recommentInfos.isEmpty()) {
+            return recommentInfos;
+        }
+
+        List<Long> authorIds = recommentInfos.stream().map(recommentInfo -> recommentInfo.user().id()).toList();
+        Map<Long, MemberResponseDto.UserInfo> authors = memberSummaryCacheService.findAll(authorIds);
+
+        viewerContextService.extend(viewer, ViewerContext.LikeTarget.RECOMMENT,
+                authorIds,
+                recommentInfos.stream().map(CommentResponseDto.RecommentInfo::id).toList());
+
+        return recommentInfos.stream()
+                .map(recommentInfo -> recommentInfo.withViewerFlags(
+                        authors.get(recommentInfo.user().id()),
+                        viewer.isFollowed(recommentInfo.user().id()),
+                        viewer.isMine(recommentInfo.user().id()),
+                        viewer.isLiked(ViewerContext.LikeTarget.RECOMMENT, recommentInfo.id())))
+                .toList();
+    }
+}
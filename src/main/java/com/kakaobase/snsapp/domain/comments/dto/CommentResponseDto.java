@@ -1,11 +1,13 @@
 package com.kakaobase.snsapp.domain.comments.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 댓글 관련 응답 DTO 클래스
@@ -55,8 +57,21 @@ public class CommentResponseDto {
 
             @Schema(description = "좋아요 여부", example = "false")
             @JsonProperty("is_liked")
-            boolean isLiked
+            boolean isLiked,
+
+            @Schema(description = "대댓글 미리보기 (expand=recomments 요청 시에만 포함)", nullable = true)
+            @JsonProperty("recomments")
+            @JsonInclude(JsonInclude.Include.NON_NULL)
+            List<RecommentInfo> recomments
     ) {
+        /**
+         * 대댓글 미리보기 없이 생성 (QueryDSL 프로젝션용)
+         */
+        public CommentInfo(Long id, Long postId, MemberResponseDto.UserInfoWithFollowing user, String content,
+                           LocalDateTime createdAt, Long likeCount, Long recommentCount, boolean isMine, boolean isLiked) {
+            this(id, postId, user, content, createdAt, likeCount, recommentCount, isMine, isLiked, null);
+        }
+
         public CommentInfo withStats(Long newLikeCount, Long newRecommentCount) {
             return CommentInfo.builder()
                     .id(this.id)
@@ -68,6 +83,46 @@ public class CommentResponseDto {
                     .recommentCount(newRecommentCount)
                     .isMine(this.isMine)
                     .isLiked(this.isLiked)
+                    .recomments(this.recomments)
+                    .build();
+        }
+
+        public CommentInfo withRecomments(List<RecommentInfo> newRecomments) {
+            return CommentInfo.builder()
+                    .id(this.id)
+                    .user(this.user)
+                    .postId(this.postId)
+                    .content(this.content)
+                    .createdAt(this.createdAt)
+                    .likeCount(this.likeCount)
+                    .recommentCount(this.recommentCount)
+                    .isMine(this.isMine)
+                    .isLiked(this.isLiked)
+                    .recomments(newRecomments)
+                    .build();
+        }
+
+        /**
+         * 작성자 요약과 조회자 기준 값(팔로우/본인/좋아요 여부)을 반영한 새 인스턴스 반환
+         * 작성자 요약이 없으면(조회 직후 탈퇴 등) 기존 작성자 정보를 유지합니다.
+         */
+        public CommentInfo withViewerFlags(MemberResponseDto.UserInfo author,
+                                           boolean isFollowed, boolean isMine, boolean isLiked) {
+            return CommentInfo.builder()
+                    .id(this.id)
+                    .user(new MemberResponseDto.UserInfoWithFollowing(
+                            user.id(),
+                            author != null ? author.nickname() : user.nickname(),
+                            author != null ? author.imageUrl() : user.imageUrl(),
+                            isFollowed))
+                    .postId(this.postId)
+                    .content(this.content)
+                    .createdAt(this.createdAt)
+                    .likeCount(this.likeCount)
+                    .recommentCount(this.recommentCount)
+                    .isMine(isMine)
+                    .isLiked(isLiked)
+                    .recomments(this.recomments)
                     .build();
         }
     }
@@ -104,7 +159,28 @@ public class CommentResponseDto {
             @Schema(description = "좋아요 여부", example = "true")
             @JsonProperty("is_liked")
             boolean isLiked
-    ) {}
+    ) {
+        /**
+         * 캐시된 좋아요 수를 반영한 새 인스턴스 반환
+         */
+        public RecommentInfo withLikeCount(Long newLikeCount) {
+            return new RecommentInfo(id, user, content, createdAt, newLikeCount, isMine, isLiked);
+        }
+
+        /**
+         * 작성자 요약과 조회자 기준 값(팔로우/본인/좋아요 여부)을 반영한 새 인스턴스 반환
+         * 작성자 요약이 없으면(조회 직후 탈퇴 등) 기존 작성자 정보를 유지합니다.
+         */
+        public RecommentInfo withViewerFlags(MemberResponseDto.UserInfo author,
+                                             boolean isFollowed, boolean isMine, boolean isLiked) {
+            return new RecommentInfo(id,
+                    new MemberResponseDto.UserInfoWithFollowing(user.id(),
+                            author != null ? author.nickname() : user.nickname(),
+                            author != null ? author.imageUrl() : user.imageUrl(),
+                            isFollowed),
+                    content, createdAt, likeCount, isMine, isLiked);
+        }
+    }
 
     /**
      * 댓글 생성 응답 DTO
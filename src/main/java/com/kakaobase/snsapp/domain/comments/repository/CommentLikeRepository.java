@@ -8,7 +8,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * 댓글 좋아요 엔티티에 대한 데이터 액세스 객체
@@ -37,6 +39,16 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Commen
      */
     boolean existsByMemberIdAndCommentId(Long memberId, Long commentId);
 
+    /**
+     * 주어진 댓글 중 특정 회원이 좋아요를 누른 댓글 ID를 조회합니다.
+     *
+     * @param memberId 회원 ID
+     * @param commentIds 확인할 댓글 ID 목록
+     * @return 좋아요를 누른 댓글 ID 집합
+     */
+    @Query("SELECT cl.id.commentId FROM CommentLike cl WHERE cl.id.memberId = :memberId AND cl.id.commentId IN :commentIds")
+    Set<Long> findLikedCommentIds(@Param("memberId") Long memberId, @Param("commentIds") Collection<Long> commentIds);
+
     /**
      * 특정 댓글의 모든 좋아요를 삭제
      *
@@ -8,7 +8,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * 대댓글 좋아요 엔티티에 대한 데이터 액세스 객체
@@ -60,4 +62,14 @@ public interface RecommentLikeRepository extends JpaRepository<RecommentLike, Re
     @Modifying
     @Query("DELETE FROM RecommentLike rl WHERE rl.recomment.comment.id = :commentId")
     void deleteByCommentId(@Param("commentId") Long commentId);
-}
\ No newline at end of file
+
+    /**
+     * 주어진 대댓글 중 특정 회원이 좋아요를 누른 대댓글 ID를 조회합니다.
+     *
+     * @param memberId 회원 ID
+     * @param recommentIds 확인할 대댓글 ID 목록
+     * @return 좋아요를 누른 대댓글 ID 집합
+     */
+    @Query("SELECT rl.id.recommentId FROM RecommentLike rl WHERE rl.id.memberId = :memberId AND rl.id.recommentId IN :recommentIds")
+    Set<Long> findLikedRecommentIds(@Param("memberId") Long memberId, @Param("recommentIds") Collection<Long> recommentIds);
+}
@@ -1,6 +1,7 @@
 package com.kakaobase.snsapp.domain.comments.repository.custom;
 
 import com.kakaobase.snsapp.domain.comments.dto.CommentResponseDto;
+import com.kakaobase.snsapp.global.common.redis.CacheRecord;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,10 +15,9 @@ public interface CommentCustomRepository {
      * 댓글 상세 정보 조회 (단건)
      *
      * @param commentId 댓글 ID
-     * @param memberId 현재 로그인한 회원 ID (null 가능)
-     * @return 댓글 상세 정보
+     * @return 댓글 상세 정보 (조회자 기준 값 제외)
      */
-    Optional<CommentResponseDto.CommentInfo> findCommentInfoById(Long commentId, Long memberId);
+    Optional<CommentResponseDto.CommentInfo> findCommentInfoById(Long commentId);
 
     /**
      * 특정 게시글의 댓글 목록을 커서 기반으로 조회
@@ -25,29 +25,34 @@ public interface CommentCustomRepository {
      * @param postId 게시글 ID
      * @param cursor 마지막으로 조회한 댓글 ID (커서)
      * @param limit 조회할 댓글 수
-     * @param memberId 현재 로그인한 회원 ID (null 가능)
-     * @return 댓글 목록
+     * @return 댓글 목록 (조회자 기준 값 제외)
      */
     List<CommentResponseDto.CommentInfo> findCommentInfoListWithCursor(
             Long postId,
             Long cursor,
-            int limit,
-            Long memberId
+            int limit
     );
 
+    /**
+     * 게시글의 앞부분 댓글을 조회자 정보 없이 조회합니다. (댓글 페이지 캐시용)
+     *
+     * @param postId 게시글 ID
+     * @param limit 조회할 댓글 수
+     * @return 작성 순 댓글 목록
+     */
+    List<CacheRecord.CommentPageEntry> findCommentPageEntries(Long postId, int limit);
+
     /**
      * 특정 회원이 작성한 댓글 목록을 커서 기반으로 조회
      *
      * @param authorMemberId 댓글 작성자 ID
      * @param cursor 마지막으로 조회한 댓글 ID (커서)
      * @param limit 조회할 댓글 수
-     * @param currentMemberId 현재 로그인한 회원 ID (null 가능)
-     * @return 댓글 목록
+     * @return 댓글 목록 (조회자 기준 값 제외)
      */
     List<CommentResponseDto.CommentInfo> findCommentInfoByMemberWithCursor(
             Long authorMemberId,
             Long cursor,
-            int limit,
-            Long currentMemberId
+            int limit
     );
 }
@@ -2,12 +2,12 @@ package com.kakaobase.snsapp.domain.comments.repository.custom;
 
 import com.kakaobase.snsapp.domain.comments.dto.CommentResponseDto;
 import com.kakaobase.snsapp.domain.comments.entity.QComment;
-import com.kakaobase.snsapp.domain.comments.entity.QCommentLike;
-import com.kakaobase.snsapp.domain.follow.entity.QFollow;
 import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
 import com.kakaobase.snsapp.domain.members.entity.QMember;
+import com.kakaobase.snsapp.global.common.redis.CacheRecord;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -15,6 +15,12 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * 댓글 조회 쿼리
+ *
+ * <p>조회자와 무관한 값만 조회하며, 본인 여부/좋아요 여부/작성자 팔로우 여부는 false로 채워집니다.
+ * 해당 값은 ViewerContextService가 페이지 단위로 채웁니다.</p>
+ */
 @Repository
 @RequiredArgsConstructor
 public class CommentCustomRepositoryImpl implements CommentCustomRepository {
@@ -22,54 +28,10 @@ public class CommentCustomRepositoryImpl implements CommentCustomRepository {
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public Optional<CommentResponseDto.CommentInfo> findCommentInfoById(Long commentId, Long memberId) {
+    public Optional<CommentResponseDto.CommentInfo> findCommentInfoById(Long commentId) {
         QComment comment = QComment.comment;
-        QMember member = QMember.member;
-        QCommentLike commentLike = QCommentLike.commentLike;
-        QFollow follow = QFollow.follow;
-
-        CommentResponseDto.CommentInfo result = queryFactory
-                .select(Projections.constructor(CommentResponseDto.CommentInfo.class,
-                        comment.id,
-                        comment.post.id,
-
-                        // 작성자 정보 (UserInfoWithFollowing)
-                        Projections.constructor(MemberResponseDto.UserInfoWithFollowing.class,
-                                comment.member.id,
-                                comment.member.nickname,
-                                comment.member.profileImgUrl,
-                                // 현재 사용자가 댓글 작성자를 팔로우하는지 확인
-                                follow.id.isNotNull()
-                        ),
-
-                        comment.content,
-                        comment.createdAt,
-                        comment.likeCount,
-                        comment.recommentCount,
-
-                        // 본인 댓글 여부
-                        memberId != null ?
-                                comment.member.id.eq(memberId) :
-                                Expressions.constant(false),
-
-                        // 현재 사용자가 이 댓글에 좋아요했는지 확인
-                        commentLike.id.isNotNull()
-                ))
-                .from(comment)
-                .join(comment.member, member)
-
-                // 현재 사용자의 좋아요만 LEFT JOIN
-                .leftJoin(commentLike).on(
-                        commentLike.comment.eq(comment)
-                                .and(memberId != null ? commentLike.id.memberId.eq(memberId) : null)
-                )
-
-                // 현재 사용자가 댓글 작성자를 팔로우하는지 LEFT JOIN
-                .leftJoin(follow).on(
-                        memberId != null ? follow.followerUser.id.eq(memberId) : null,
-                        follow.followingUser.eq(comment.member)
-                )
 
+        CommentResponseDto.CommentInfo result = selectCommentInfo(comment)
                 .where(comment.id.eq(commentId))
                 .fetchOne();
 
@@ -80,60 +42,41 @@ public class CommentCustomRepositoryImpl implements CommentCustomRepository {
     public List<CommentResponseDto.CommentInfo> findCommentInfoListWithCursor(
             Long postId,
             Long cursor,
-            int limit,
-            Long memberId) {
+            int limit) {
+
+        QComment comment = QComment.comment;
+
+        return selectCommentInfo(comment)
+                .where(
+                        comment.post.id.eq(postId)
+                                .and(cursor != null ? comment.id.gt(cursor) : null)
+                )
+                .orderBy(comment.createdAt.asc(), comment.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<CacheRecord.CommentPageEntry> findCommentPageEntries(Long postId, int limit) {
 
         QComment comment = QComment.comment;
         QMember member = QMember.member;
-        QCommentLike commentLike = QCommentLike.commentLike;
-        QFollow follow = QFollow.follow;
 
         return queryFactory
-                .select(Projections.constructor(CommentResponseDto.CommentInfo.class,
+                .select(Projections.constructor(CacheRecord.CommentPageEntry.class,
                         comment.id,
                         comment.post.id,
-
-                        // 작성자 정보 (UserInfoWithFollowing)
-                        Projections.constructor(MemberResponseDto.UserInfoWithFollowing.class,
-                                comment.member.id,
-                                comment.member.nickname,
-                                comment.member.profileImgUrl,
-                                // 현재 사용자가 댓글 작성자를 팔로우하는지 확인
-                                follow.id.isNotNull()
-                        ),
-
+                        member.id,
+                        member.nickname,
+                        member.profileImgUrl,
                         comment.content,
                         comment.createdAt,
                         comment.likeCount,
-                        comment.recommentCount,
-
-                        // 본인 댓글 여부
-                        memberId != null ?
-                                comment.member.id.eq(memberId) :
-                                Expressions.constant(false),
-
-                        // 현재 사용자가 이 댓글에 좋아요했는지 확인
-                        commentLike.id.isNotNull()
+                        comment.recommentCount
                 ))
                 .from(comment)
-                .join(comment.member, member)
-
-                // 현재 사용자의 좋아요만 LEFT JOIN
-                .leftJoin(commentLike).on(
-                        commentLike.comment.eq(comment)
-                                .and(memberId != null ? commentLike.id.memberId.eq(memberId) : null)
-                )
-
-                // 현재 사용자가 댓글 작성자를 팔로우하는지 LEFT JOIN
-                .leftJoin(follow).on(
-                        memberId != null ? follow.followerUser.id.eq(memberId) : null,
-                        follow.followingUser.eq(comment.member)
-                )
-
-                .where(
-                        comment.post.id.eq(postId)
-                                .and(cursor != null ? comment.id.gt(cursor) : null)
-                )
+                .join(comment.member, member).on(member.deletedAt.isNull())
+                .where(comment.post.id.eq(postId))
                 .orderBy(comment.createdAt.asc(), comment.id.asc())
                 .limit(limit)
                 .fetch();
@@ -143,62 +86,45 @@ public class CommentCustomRepositoryImpl implements CommentCustomRepository {
     public List<CommentResponseDto.CommentInfo> findCommentInfoByMemberWithCursor(
             Long authorMemberId,
             Long cursor,
-            int limit,
-            Long currentMemberId) {
+            int limit) {
 
         QComment comment = QComment.comment;
+
+        return selectCommentInfo(comment)
+                .where(
+                        comment.member.id.eq(authorMemberId)
+                                .and(cursor != null ? comment.id.lt(cursor) : null)
+                )
+                .orderBy(comment.createdAt.desc(), comment.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 댓글 공통 조회 (작성자는 ID만, 조회자 기준 값은 false)
+     * 탈퇴한 회원의 댓글은 페이지를 자르기 전에 제외되도록 작성자 조인 조건으로 거릅니다.
+     */
+    private JPAQuery<CommentResponseDto.CommentInfo> selectCommentInfo(QComment comment) {
         QMember member = QMember.member;
-        QCommentLike commentLike = QCommentLike.commentLike;
-        QFollow follow = QFollow.follow;
 
         return queryFactory
                 .select(Projections.constructor(CommentResponseDto.CommentInfo.class,
                         comment.id,
                         comment.post.id,
 
-                        // 작성자 정보 (authorMemberId로 고정)
+                        // 작성자 ID (닉네임/이미지는 회원 요약 캐시로 채움)
                         Projections.constructor(MemberResponseDto.UserInfoWithFollowing.class,
-                                comment.member.id,
-                                comment.member.nickname,
-                                comment.member.profileImgUrl,
-                                // 현재 사용자가 작성자를 팔로우하는지
-                                follow.id.isNotNull()
+                                comment.member.id
                         ),
 
                         comment.content,
                         comment.createdAt,
                         comment.likeCount,
                         comment.recommentCount,
-
-                        // 본인 댓글 여부 (authorMemberId == currentMemberId)
-                        currentMemberId != null ?
-                                comment.member.id.eq(currentMemberId) :
-                                Expressions.constant(false),
-
-                        // 현재 사용자의 좋아요 여부
-                        commentLike.id.isNotNull()
+                        Expressions.constant(false),
+                        Expressions.constant(false)
                 ))
                 .from(comment)
-                .join(comment.member, member)
-
-                // 현재 사용자의 좋아요만 LEFT JOIN
-                .leftJoin(commentLike).on(
-                        commentLike.comment.eq(comment)
-                                .and(currentMemberId != null ? commentLike.id.memberId.eq(currentMemberId) : null)
-                )
-
-                // 현재 사용자가 작성자를 팔로우하는지 LEFT JOIN
-                .leftJoin(follow).on(
-                        currentMemberId != null ? follow.followerUser.id.eq(currentMemberId) : null,
-                        follow.followingUser.id.eq(authorMemberId)
-                )
-
-                .where(
-                        comment.member.id.eq(authorMemberId)
-                                .and(cursor != null ? comment.id.lt(cursor) : null)
-                )
-                .orderBy(comment.createdAt.desc(), comment.id.desc())
-                .limit(limit)
-                .fetch();
+                .join(comment.member, member).on(member.deletedAt.isNull());
     }
 }
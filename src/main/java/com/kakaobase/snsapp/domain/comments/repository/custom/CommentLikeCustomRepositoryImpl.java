@@ -1,14 +1,11 @@
 package com.kakaobase.snsapp.domain.comments.repository.custom;
 
-import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
-import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
-import static com.kakaobase.snsapp.domain.members.entity.QMember.member;
 import static com.kakaobase.snsapp.domain.comments.entity.QCommentLike.commentLike;
 
 @Repository
@@ -18,26 +15,19 @@ public class CommentLikeCustomRepositoryImpl implements CommentLikeCustomReposit
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public List<MemberResponseDto.UserInfo> findMembersByCommentIdWithCursor(
+    public List<Long> findMemberIdsByCommentIdWithCursor(
             Long commentId,
             Long lastMemberId,
             int limit) {
 
         return queryFactory
-                .select(Projections.constructor(
-                        MemberResponseDto.UserInfo.class,
-                        member.id,
-                        member.name,
-                        member.nickname,
-                        member.profileImgUrl
-                ))
+                .select(commentLike.member.id)
                 .from(commentLike)
-                .join(commentLike.member, member)
                 .where(
                         commentLike.comment.id.eq(commentId)
-                                .and(lastMemberId != null ? member.id.lt(lastMemberId) : null)  // 커서 조건
+                                .and(lastMemberId != null ? commentLike.member.id.lt(lastMemberId) : null)  // 커서 조건
                 )
-                .orderBy(member.id.desc())  // ID 내림차순 정렬
+                .orderBy(commentLike.member.id.desc())  // ID 내림차순 정렬
                 .limit(limit)
                 .fetch();
     }
@@ -2,7 +2,9 @@ package com.kakaobase.snsapp.domain.comments.repository.custom;
 
 import com.kakaobase.snsapp.domain.comments.dto.CommentResponseDto;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -25,14 +27,24 @@ public interface RecommentCustomRepository {
      * @param commentId 댓글 ID
      * @param cursor 마지막으로 조회한 대댓글 ID (커서)
      * @param limit 조회할 대댓글 수
-     * @param memberId 현재 로그인한 회원 ID (null 가능)
-     * @return 대댓글 목록
+     * @return 대댓글 목록 (조회자 기준 값 제외)
      */
     List<CommentResponseDto.RecommentInfo> findRecommentInfoListWithCursor(
             Long commentId,
             Long cursor,
-            int limit,
-            Long memberId
+            int limit
+    );
+
+    /**
+     * 여러 댓글의 앞부분 대댓글을 한 번에 조회 (댓글 목록의 대댓글 미리보기용)
+     *
+     * @param commentIds 댓글 ID 목록
+     * @param size 댓글별로 조회할 대댓글 수
+     * @return 댓글 ID별 대댓글 목록 (작성 순, 조회자 기준 값 제외)
+     */
+    Map<Long, List<CommentResponseDto.RecommentInfo>> findRecommentPreviews(
+            Collection<Long> commentIds,
+            int size
     );
 
     /**
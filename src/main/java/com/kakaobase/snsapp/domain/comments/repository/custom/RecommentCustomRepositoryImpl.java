@@ -8,18 +8,43 @@ import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
 import com.kakaobase.snsapp.domain.members.entity.QMember;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 public class RecommentCustomRepositoryImpl implements RecommentCustomRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final EntityManager em;
+
+    /**
+     * 댓글별 앞부분 대댓글 ID를 한 번에 조회하는 윈도우 쿼리 (MySQL 8 이상)
+     */
+    private static final String RECOMMENT_PREVIEW_ID_SQL = """
+            SELECT ranked.id, ranked.comment_id
+            FROM (
+                SELECT r.id, r.comment_id,
+                       ROW_NUMBER() OVER (PARTITION BY r.comment_id ORDER BY r.created_at ASC, r.id ASC) AS rn
+                FROM recomments r
+                JOIN members m ON m.id = r.member_id AND m.deleted_at IS NULL
+                WHERE r.comment_id IN (:commentIds) AND r.deleted_at IS NULL
+            ) ranked
+            WHERE ranked.rn <= :size
+            ORDER BY ranked.comment_id, ranked.rn
+            """;
 
     @Override
     public Optional<CommentResponseDto.RecommentInfo> findRecommentInfoById(Long recommentId, Long memberId) {
@@ -78,61 +103,85 @@ public class RecommentCustomRepositoryImpl implements RecommentCustomRepository
     public List<CommentResponseDto.RecommentInfo> findRecommentInfoListWithCursor(
             Long commentId,
             Long cursor,
-            int limit,
-            Long memberId) {
+            int limit) {
+
+        QRecomment recomment = QRecomment.recomment;
+
+        return selectRecommentInfo(recomment)
+                .where(
+                        recomment.comment.id.eq(commentId)
+                                .and(cursor != null ? recomment.id.gt(cursor) : null)
+                )
+                .orderBy(recomment.createdAt.asc(), recomment.id.asc())
+                .limit(limit)
+                .fetch();
+    }
 
+    @Override
+    public Map<Long, List<CommentResponseDto.RecommentInfo>> findRecommentPreviews(
+            Collection<Long> commentIds,
+            int size) {
+
+        if (commentIds == null || commentIds.isEmpty() || size < 1) {
+            return Map.of();
+        }
+
+        // 1. 댓글별 앞부분 대댓글 ID (댓글 ID, 작성 순으로 정렬됨)
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = em.createNativeQuery(RECOMMENT_PREVIEW_ID_SQL)
+                .setParameter("commentIds", commentIds)
+                .setParameter("size", size)
+                .getResultList();
+
+        if (rows.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Long> commentIdByRecommentId = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            commentIdByRecommentId.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+
+        // 2. 대댓글 정보를 한 번에 조회
         QRecomment recomment = QRecomment.recomment;
+
+        Map<Long, CommentResponseDto.RecommentInfo> infoById = selectRecommentInfo(recomment)
+                .where(recomment.id.in(commentIdByRecommentId.keySet()))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(CommentResponseDto.RecommentInfo::id, Function.identity()));
+
+        // 3. 윈도우 쿼리 순서대로 댓글별 묶음 구성
+        Map<Long, List<CommentResponseDto.RecommentInfo>> result = new LinkedHashMap<>();
+        commentIdByRecommentId.forEach((recommentId, commentId) -> {
+            CommentResponseDto.RecommentInfo info = infoById.get(recommentId);
+            if (info != null) {
+                result.computeIfAbsent(commentId, k -> new ArrayList<>()).add(info);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 대댓글 공통 조회 (작성자는 ID만, 조회자 기준 값은 false)
+     */
+    private JPAQuery<CommentResponseDto.RecommentInfo> selectRecommentInfo(QRecomment recomment) {
         QMember member = QMember.member;
-        QRecommentLike recommentLike = QRecommentLike.recommentLike;
-        QFollow follow = QFollow.follow;
 
         return queryFactory
                 .select(Projections.constructor(CommentResponseDto.RecommentInfo.class,
                         recomment.id,
-
-                        // 작성자 정보 (UserInfoWithFollowing)
                         Projections.constructor(MemberResponseDto.UserInfoWithFollowing.class,
-                                recomment.member.id,
-                                recomment.member.nickname,
-                                recomment.member.profileImgUrl,
-                                // 현재 사용자가 대댓글 작성자를 팔로우하는지 확인
-                                follow.id.isNotNull()
+                                recomment.member.id
                         ),
-
                         recomment.content,
                         recomment.createdAt,
                         recomment.likeCount,
-
-                        // 본인 대댓글 여부
-                        memberId != null ?
-                                recomment.member.id.eq(memberId) :
-                                Expressions.constant(false),
-
-                        // 현재 사용자가 이 대댓글에 좋아요했는지 확인
-                        recommentLike.id.isNotNull()
+                        Expressions.constant(false),
+                        Expressions.constant(false)
                 ))
                 .from(recomment)
-                .join(recomment.member, member)
-
-                // 현재 사용자의 좋아요만 LEFT JOIN
-                .leftJoin(recommentLike).on(
-                        recommentLike.recomment.eq(recomment)
-                                .and(memberId != null ? recommentLike.id.memberId.eq(memberId) : null)
-                )
-
-                // 현재 사용자가 대댓글 작성자를 팔로우하는지 LEFT JOIN
-                .leftJoin(follow).on(
-                        memberId != null ? follow.followerUser.id.eq(memberId) : null,
-                        follow.followingUser.eq(recomment.member)
-                )
-
-                .where(
-                        recomment.comment.id.eq(commentId)
-                                .and(cursor != null ? recomment.id.gt(cursor) : null)
-                )
-                .orderBy(recomment.createdAt.asc(), recomment.id.asc())
-                .limit(limit)
-                .fetch();
+                .join(recomment.member, member).on(member.deletedAt.isNull());
     }
 
     @Override
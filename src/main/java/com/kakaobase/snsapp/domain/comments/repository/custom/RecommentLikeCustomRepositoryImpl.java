@@ -1,14 +1,11 @@
 package com.kakaobase.snsapp.domain.comments.repository.custom;
 
-import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
-import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
-import static com.kakaobase.snsapp.domain.members.entity.QMember.member;
 import static com.kakaobase.snsapp.domain.comments.entity.QRecommentLike.recommentLike;
 
 @Repository
@@ -18,27 +15,20 @@ public class RecommentLikeCustomRepositoryImpl implements RecommentLikeCustomRep
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public List<MemberResponseDto.UserInfo> findMembersByRecommentIdWithCursor(
+    public List<Long> findMemberIdsByRecommentIdWithCursor(
             Long recommentId,
             Long lastMemberId,
             int limit) {
 
         return queryFactory
-                .select(Projections.constructor(
-                        MemberResponseDto.UserInfo.class,
-                        member.id,
-                        member.name,
-                        member.nickname,
-                        member.profileImgUrl
-                ))
+                .select(recommentLike.member.id)
                 .from(recommentLike)
-                .join(recommentLike.member, member)
                 .where(
                         recommentLike.recomment.id.eq(recommentId)
-                                .and(lastMemberId != null ? member.id.lt(lastMemberId) : null)  // 커서 조건
+                                .and(lastMemberId != null ? recommentLike.member.id.lt(lastMemberId) : null)  // 커서 조건
                 )
-                .orderBy(member.id.desc())  // ID 내림차순 정렬
+                .orderBy(recommentLike.member.id.desc())  // ID 내림차순 정렬
                 .limit(limit)
                 .fetch();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,27 @@
+package com.kakaobase.snsapp.domain.comments.scheduler;
+
+
+import com.kakaobase.snsapp.domain.comments.service.cache.RecommentCacheSyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대댓글 캐시데이터-DB 동기화 스케줄러
+ * - 1분마다 실행
+ * - 실제 동기화 로직은 RecommentCacheSyncService에 위임
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommentCacheSyncScheduler {
+
+    private final RecommentCacheSyncService recommentCacheSyncService;
+
+    @Scheduled(fixedRate = 60000) // 1분마다 실행
+    public void syncRecommentCache() {
+        recommentCacheSyncService.syncCacheToDB();
+    }
+
+}
@@ -11,67 +11,123 @@ import com.kakaobase.snsapp.domain.comments.service.cache.CommentCacheService;
 import com.kakaobase.snsapp.domain.members.entity.Member;
 import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
 import com.kakaobase.snsapp.domain.posts.entity.Post;
+import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
+import com.kakaobase.snsapp.global.common.ai.AiRequestPipeline;
 import com.kakaobase.snsapp.global.common.redis.error.CacheException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
-import java.util.Objects;
 
+/**
+ * 소셜봇 대댓글 서비스
+ *
+ * <p>소셜봇 게시글에 달린 댓글에 대해 AI 서버로 대댓글을 생성합니다.
+ * 문맥 조회와 저장은 각각 짧은 트랜잭션으로 분리되고, AI 서버 호출은 트랜잭션 밖에서 논블로킹으로 이루어집니다.</p>
+ */
 @Slf4j
 @Service
 public class BotRecommentService {
 
+    private static final String OPERATION = "bot_recomment";
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
     private final RecommentRepository recommentRepository;
     private final MemberRepository memberRepository;
     private final WebClient webClient;
     private final CommentCacheService commentCacheService;
     private final BotRecommentConverter botRecommentConverter;
+    private final AiRequestPipeline aiRequestPipeline;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate writeTransaction;
 
     @Value("${ai.server.url}")
     private String aiServerUrl;
 
     public BotRecommentService(@Qualifier("generalWebClient") WebClient webClient,
+                               PostRepository postRepository,
+                               CommentRepository commentRepository,
                                MemberRepository memberRepository,
                                RecommentRepository recommentRepository,
                                CommentCacheService commentCacheService,
-                               BotRecommentConverter botRecommentConverter){
+                               BotRecommentConverter botRecommentConverter,
+                               AiRequestPipeline aiRequestPipeline,
+                               PlatformTransactionManager transactionManager){
         this.webClient = webClient;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
         this.memberRepository = memberRepository;
         this.recommentRepository = recommentRepository;
         this.commentCacheService = commentCacheService;
         this.botRecommentConverter = botRecommentConverter;
-    }
+        this.aiRequestPipeline = aiRequestPipeline;
 
-    @Transactional
-    public void handle(Post post, Comment comment) {
-        log.info("👉 [BotHandle] 트리거 시작 - postId={}, commentId={}", post.getId(), comment.getId());
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
 
-        Member bot = memberRepository.findFirstByRole(Member.Role.BOT)
-                .orElseThrow(() -> new IllegalStateException("소셜봇 계정이 없습니다."));
+    /**
+     * 소셜봇 대댓글 생성을 요청합니다. 호출 스레드를 막지 않습니다.
+     * 엔티티 대신 ID를 받아 파이프라인 스레드에서 새로 조회합니다.
+     */
+    public void handle(Long postId, Long commentId) {
+        log.info("👉 [BotHandle] 트리거 시작 - postId={}, commentId={}", postId, commentId);
+
+        aiRequestPipeline.submit(
+                OPERATION,
+                () -> readOnlyTransaction.execute(status -> prepareRequest(postId, commentId)),
+                this::callAiServer,
+                (request, response) -> writeTransaction.executeWithoutResult(status -> saveRecomment(commentId, response))
+        );
+    }
 
-        Member writer = memberRepository.findById(post.getMember().getId())
-                .orElseThrow(() -> new IllegalStateException("작성자 조회 실패"));
+    /**
+     * 게시글, 댓글, 기존 대댓글로 AI 서버 요청 DTO를 만듭니다.
+     *
+     * @return 요청 DTO, 게시글이나 댓글이 삭제되었으면 null
+     */
+    private BotRecommentRequestDto prepareRequest(Long postId, Long commentId) {
+        Post post = postRepository.findById(postId).orElse(null);
+        Comment comment = commentRepository.findById(commentId).orElse(null);
+        if (post == null || comment == null) {
+            log.info("🙅 [BotHandle] 게시글 또는 댓글이 삭제되어 건너뜀 - postId={}, commentId={}", postId, commentId);
+            return null;
+        }
 
-        List<Recomment> recomments = recommentRepository.findByCommentId(comment.getId());
+        List<Recomment> recomments = recommentRepository.findByCommentId(commentId);
 
-        BotRecommentRequestDto requestDto = botRecommentConverter.toRequestDto(post, writer, comment, recomments);
+        return botRecommentConverter.toRequestDto(post, post.getMember(), comment, recomments);
+    }
 
-        BotRecommentResponseDto response = webClient.post()
+    private Mono<BotRecommentResponseDto> callAiServer(BotRecommentRequestDto requestDto) {
+        return webClient.post()
                 .uri(aiServerUrl + "/recomments/bot")
                 .bodyValue(requestDto)
                 .retrieve()
-                .bodyToMono(BotRecommentResponseDto.class)
-                .block();
+                .bodyToMono(BotRecommentResponseDto.class);
+    }
 
-        String generatedContent = Objects.requireNonNull(response).getData().getContent();
+    private void saveRecomment(Long commentId, BotRecommentResponseDto response) {
+        String generatedContent = response.getData().getContent();
         log.info("📩 [BotHandle] AI 생성 대댓글: {}", generatedContent);
 
+        Comment comment = commentRepository.findById(commentId).orElse(null);
+        if (comment == null) {
+            log.info("🙅 [BotHandle] AI 응답 대기 중 댓글이 삭제되어 저장하지 않음 - commentId={}", commentId);
+            return;
+        }
+
+        Member bot = memberRepository.findFirstByRole(Member.Role.BOT)
+                .orElseThrow(() -> new IllegalStateException("소셜봇 계정이 없습니다."));
+
         Recomment newRecomment = Recomment.builder()
                 .comment(comment)
                 .member(bot)
@@ -12,9 +12,11 @@ import com.kakaobase.snsapp.domain.comments.repository.CommentRepository;
 import com.kakaobase.snsapp.domain.comments.repository.RecommentLikeRepository;
 import com.kakaobase.snsapp.domain.comments.repository.RecommentRepository;
 import com.kakaobase.snsapp.domain.comments.service.cache.CommentCacheService;
+import com.kakaobase.snsapp.domain.comments.service.cache.RecommentCacheService;
 import com.kakaobase.snsapp.domain.members.converter.MemberConverter;
 import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
 import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.members.service.cache.MemberSummaryCacheService;
 import com.kakaobase.snsapp.domain.notification.service.NotificationService;
 import com.kakaobase.snsapp.domain.posts.exception.PostException;
 import com.kakaobase.snsapp.global.common.redis.error.CacheException;
@@ -41,9 +43,11 @@ public class CommentLikeService {
     private final RecommentLikeRepository recommentLikeRepository;
     private final CommentConverter commentConverter;
     private final CommentCacheService commentCacheService;
+    private final RecommentCacheService recommentCacheService;
     private final NotificationService notifService;
     private final EntityManager em;
     private final MemberConverter memberConverter;
+    private final MemberSummaryCacheService memberSummaryCacheService;
 
     /**
      * 댓글에 좋아요를 추가합니다.
@@ -128,8 +132,9 @@ public class CommentLikeService {
     @Transactional
     public void addRecommentLike(Long memberId, Long recommentId) {
         // 대댓글 존재 여부 확인
-        Recomment recomment = recommentRepository.findById(recommentId)
-                .orElseThrow(() -> new CommentException(GeneralErrorCode.RESOURCE_NOT_FOUND, "recommentId"));
+        if(!recommentRepository.existsById(recommentId)) {
+            throw new CommentException(GeneralErrorCode.RESOURCE_NOT_FOUND, "recommentId");
+        }
 
         // 이미 좋아요한 경우 확인
         if (recommentLikeRepository.existsByMemberIdAndRecommentId(memberId, recommentId)) {
@@ -145,7 +150,13 @@ public class CommentLikeService {
         recommentLikeRepository.save(recommentLike);
 
         // 대댓글 좋아요 수 증가
-        recomment.increaseLikeCount();
+        try{
+            recommentCacheService.incrementLikeCount(recommentId);
+        } catch (CacheException e){
+            log.error(e.getMessage());
+            Recomment recomment = em.find(Recomment.class, recommentId);
+            recomment.increaseLikeCount();
+        }
 
         log.info("대댓글 좋아요 추가 완료: 대댓글 ID={}, 회원 ID={}", recommentId, memberId);
 
@@ -167,8 +178,9 @@ public class CommentLikeService {
     @Transactional
     public void removeRecommentLike(Long memberId, Long recommentId) {
         // 대댓글 존재 여부 확인
-        Recomment recomment = recommentRepository.findById(recommentId)
-                .orElseThrow(() -> new CommentException(GeneralErrorCode.RESOURCE_NOT_FOUND, "recommentId"));
+        if(!recommentRepository.existsById(recommentId)) {
+            throw new CommentException(GeneralErrorCode.RESOURCE_NOT_FOUND, "recommentId");
+        }
 
         // 좋아요 존재 여부 확인
         RecommentLike recommentLike = recommentLikeRepository.findByMemberIdAndRecommentId(memberId, recommentId)
@@ -178,7 +190,13 @@ public class CommentLikeService {
         recommentLikeRepository.delete(recommentLike);
 
         // 대댓글 좋아요 수 감소
-        recomment.decreaseLikeCount();
+        try{
+            recommentCacheService.decrementLikeCount(recommentId);
+        } catch (CacheException e){
+            log.error(e.getMessage());
+            Recomment recomment = em.find(Recomment.class, recommentId);
+            recomment.decreaseLikeCount();
+        }
 
         log.info("대댓글 좋아요 취소 완료: 대댓글 ID={}, 회원 ID={}", recommentId, memberId);
     }
@@ -192,7 +210,8 @@ public class CommentLikeService {
             throw new PostException(GeneralErrorCode.RESOURCE_NOT_FOUND);
         }
 
-        return commentLikeRepository.findMembersByCommentIdWithCursor(commentId, cursor, limit);
+        List<Long> memberIds = commentLikeRepository.findMemberIdsByCommentIdWithCursor(commentId, cursor, limit);
+        return memberSummaryCacheService.findAllInOrder(memberIds);
     }
 
     /**
@@ -204,6 +223,7 @@ public class CommentLikeService {
             throw new PostException(GeneralErrorCode.RESOURCE_NOT_FOUND);
         }
 
-        return recommentLikeRepository.findMembersByRecommentIdWithCursor(recommentId, cursor, limit);
+        List<Long> memberIds = recommentLikeRepository.findMemberIdsByRecommentIdWithCursor(recommentId, cursor, limit);
+        return memberSummaryCacheService.findAllInOrder(memberIds);
     }
 }
\ No newline at end of file
@@ -7,12 +7,13 @@ import com.kakaobase.snsapp.domain.comments.entity.Comment;
 import com.kakaobase.snsapp.domain.comments.entity.Recomment;
 import com.kakaobase.snsapp.domain.comments.exception.CommentErrorCode;
 import com.kakaobase.snsapp.domain.comments.exception.CommentException;
-import com.kakaobase.snsapp.domain.comments.repository.CommentLikeRepository;
 import com.kakaobase.snsapp.domain.comments.repository.CommentRepository;
 import com.kakaobase.snsapp.domain.comments.repository.RecommentLikeRepository;
 import com.kakaobase.snsapp.domain.comments.repository.RecommentRepository;
 import com.kakaobase.snsapp.domain.comments.service.async.CommentAsyncService;
 import com.kakaobase.snsapp.domain.comments.service.cache.CommentCacheService;
+import com.kakaobase.snsapp.domain.comments.service.cache.RecommentCacheService;
+import com.kakaobase.snsapp.domain.comments.service.cache.CommentPageCacheService;
 import com.kakaobase.snsapp.domain.members.converter.MemberConverter;
 import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
 import com.kakaobase.snsapp.domain.members.entity.Member;
@@ -21,16 +22,25 @@ import com.kakaobase.snsapp.domain.notification.service.NotificationService;
 import com.kakaobase.snsapp.domain.posts.entity.Post;
 import com.kakaobase.snsapp.domain.posts.exception.PostException;
 import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
+import com.kakaobase.snsapp.domain.posts.service.async.DeletionCascadeService;
 import com.kakaobase.snsapp.domain.posts.service.cache.PostCacheService;
+import com.kakaobase.snsapp.domain.posts.service.cache.PostTrendingService;
+import com.kakaobase.snsapp.domain.posts.util.DeletionCascadeType;
+import com.kakaobase.snsapp.domain.search.event.SearchIndexEvent;
+import com.kakaobase.snsapp.domain.search.util.SearchDocumentType;
 import com.kakaobase.snsapp.global.common.redis.error.CacheException;
+import com.kakaobase.snsapp.global.common.viewer.ViewerContext;
 import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 댓글 관련 비즈니스 로직을 처리하는 서비스
@@ -40,21 +50,30 @@ import java.util.*;
 @RequiredArgsConstructor
 public class CommentService {
 
+    /**
+     * 댓글 목록과 함께 조회할 수 있는 댓글별 최대 대댓글 수
+     */
+    private static final int MAX_RECOMMENT_PREVIEW_SIZE = 10;
+
     private final CommentRepository commentRepository;
     private final RecommentRepository recommentRepository;
     private final MemberRepository memberRepository;
     private final CommentConverter commentConverter;
     private final PostCacheService postCacheService;
 
-    private final CommentLikeRepository commentLikeRepository;
     private final EntityManager em;
 
     private final PostRepository postRepository;
     private final CommentCacheService commentCacheService;
+    private final RecommentCacheService recommentCacheService;
+    private final CommentPageCacheService commentPageCacheService;
     private final RecommentLikeRepository recommentLikeRepository;
     private final CommentAsyncService commentAsyncService;
     private final NotificationService notifService;
     private final MemberConverter memberConverter;
+    private final DeletionCascadeService deletionCascadeService;
+    private final PostTrendingService postTrendingService;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     /**
      * 댓글을 생성합니다.
@@ -94,6 +113,7 @@ public class CommentService {
             } catch (CacheException e) {
                 proxyComment.increaseRecommentCount();
             }
+            postTrendingService.recordRecomment(postId);
             // 5) 알림
             if (!proxyComment.getMember().getId().equals(memberId)) {
                 MemberResponseDto.UserInfo userInfo = memberConverter.toUserInfo(proxyMember);
@@ -110,7 +130,7 @@ public class CommentService {
             Post post = proxyComment.getPost();
             if (post.getMember().getRole().equals(Member.Role.BOT)) {
                 log.info("🤖 [Trigger] BOT 작성 게시글에 유저 대댓글 → BOT 후속 대댓글");
-                commentAsyncService.triggerAsync(post, proxyComment);
+                commentAsyncService.triggerAsync(post.getId(), proxyComment.getId());
             }
 
             // 6) 응답 DTO 반환 (대댓글)
@@ -131,15 +151,19 @@ public class CommentService {
             log.error(e.getMessage());
             post.increaseCommentCount();
         }
+        postTrendingService.recordComment(postId);
 
 
         log.info("댓글 생성 완료: 댓글 ID={}, 작성자 ID={}, 게시글 ID={}",
                 savedComment.getId(), memberId, postId);
 
+        applicationEventPublisher.publishEvent(SearchIndexEvent.index(SearchDocumentType.COMMENT, savedComment.getId()));
+        commentPageCacheService.evictOnCreate(postId);
+
         // 게시물 작성자가 소셜봇이면 소셜봇 대댓글 로직 구현하도록
         if (post.getMember().getRole().equals("BOT")) {
             log.info("🤖 [Trigger] 소셜봇 게시글이므로 BOT 대댓글 생성");
-            commentAsyncService.triggerAsync(post, savedComment);
+            commentAsyncService.triggerAsync(post.getId(), savedComment.getId());
         } else {
             log.info("🙅 [Skip] 게시글 작성자가 소셜봇이 아님 → BOT 대댓글 미실행");
         }
@@ -160,6 +184,7 @@ public class CommentService {
 
     /**
      * 댓글을 삭제합니다.
+     * 댓글은 즉시 soft delete 되고, 대댓글/좋아요 정리는 커밋 이후 백그라운드에서 진행됩니다.
      */
     @Transactional
     public void deleteComment(Long commentId) {
@@ -167,10 +192,6 @@ public class CommentService {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new CommentException(GeneralErrorCode.RESOURCE_NOT_FOUND, "commentId", "삭제할 댓글을 찾을 수 없습니다."));
 
-        recommentLikeRepository.deleteByCommentId(commentId);
-        recommentRepository.deleteByCommentId(commentId);
-        commentLikeRepository.deleteByCommentId(commentId);
-
         // 게시글의 댓글 수 1감소
         try{
             postCacheService.decrementCommentCount(comment.getPost().getId());
@@ -182,6 +203,12 @@ public class CommentService {
 
         // 댓글 삭제 (Soft Delete)
         commentRepository.delete(comment);
+        commentCacheService.delete(commentId);
+        commentPageCacheService.evictOnDelete(comment.getPost().getId(), commentId);
+
+        // 대댓글, 좋아요는 청크 단위로 비동기 정리
+        deletionCascadeService.enqueue(DeletionCascadeType.COMMENT, commentId);
+        applicationEventPublisher.publishEvent(SearchIndexEvent.delete(SearchDocumentType.COMMENT, commentId));
     }
 
     /**
@@ -205,6 +232,7 @@ public class CommentService {
 
         // 대댓글 삭제 (Soft Delete)
         recommentRepository.delete(recomment);
+        recommentCacheService.delete(recommentId);
 
         log.info("대댓글 삭제 완료: 대댓글 ID={}, 삭제자 ID={}", recommentId, memberId);
     }
@@ -214,25 +242,72 @@ public class CommentService {
      */
     @Transactional(readOnly = true)
     public CommentResponseDto.CommentInfo getCommentInfo(Long memberId, Long commentId) {
-        return commentRepository.findCommentInfoById(commentId, memberId)
+        CommentResponseDto.CommentInfo commentInfo = commentRepository.findCommentInfoById(commentId)
+                .orElseThrow(() -> new CommentException(GeneralErrorCode.RESOURCE_NOT_FOUND, "commentId"));
+
+        return commentConverter.applyViewerContext(List.of(commentInfo), ViewerContext.of(memberId)).stream()
+                .findFirst()
                 .orElseThrow(() -> new CommentException(GeneralErrorCode.RESOURCE_NOT_FOUND, "commentId"));
     }
 
     /**
      * 게시글의 댓글 목록을 조회합니다.
+     *
+     * @param recommentPreviewSize 댓글별로 함께 내려줄 대댓글 수 (0이면 미포함)
      */
     @Transactional(readOnly = true)
-    public List<CommentResponseDto.CommentInfo> getCommentsByPostId(Long memberId, Long postId, Integer limit, Long cursor) {
+    public List<CommentResponseDto.CommentInfo> getCommentsByPostId(Long memberId, Long postId, Integer limit, Long cursor,
+                                                                    int recommentPreviewSize) {
         // 1. 유효성 검증
         if (limit < 1) {
             throw new CommentException(GeneralErrorCode.INVALID_QUERY_PARAMETER, "limit", "limit는 1 이상이어야 합니다.");
         }
+        if (recommentPreviewSize < 0 || recommentPreviewSize > MAX_RECOMMENT_PREVIEW_SIZE) {
+            throw new CommentException(GeneralErrorCode.INVALID_QUERY_PARAMETER, "recomment_limit",
+                    "recomment_limit는 0 이상 " + MAX_RECOMMENT_PREVIEW_SIZE + " 이하여야 합니다. (0이면 대댓글 미포함)");
+        }
+
+        // 2. 댓글 조회 (앞부분 페이지는 캐시, 그 이후는 DB)
+        List<CommentResponseDto.CommentInfo> commentInfos = commentPageCacheService.findPage(postId, cursor, limit);
+        if (commentInfos == null) {
+            commentInfos = commentRepository.findCommentInfoListWithCursor(postId, cursor, limit);
+        }
 
-        // 2. 게시글 조회
-        List<CommentResponseDto.CommentInfo> commentInfos = commentRepository.findCommentInfoListWithCursor(postId, cursor, limit, memberId);
+        // 3. 조회자 기준 값과 캐시된 통계 반영
+        ViewerContext viewer = ViewerContext.of(memberId);
+        commentInfos = commentConverter.updateWithCachedStats(commentConverter.applyViewerContext(commentInfos, viewer));
 
-        // 3. PostListItem으로 변환
-        return commentConverter.updateWithCachedStats(commentInfos);
+        // 4. 대댓글 미리보기 (댓글 목록 전체를 한 번에 조회)
+        if (recommentPreviewSize > 0 && !commentInfos.isEmpty()) {
+            commentInfos = attachRecommentPreviews(commentInfos, recommentPreviewSize, viewer);
+        }
+        return commentInfos;
+    }
+
+    private List<CommentResponseDto.CommentInfo> attachRecommentPreviews(
+            List<CommentResponseDto.CommentInfo> commentInfos, int size, ViewerContext viewer) {
+
+        List<Long> commentIds = commentInfos.stream()
+                .filter(info -> info.recommentCount() == null || info.recommentCount() > 0)
+                .map(CommentResponseDto.CommentInfo::id)
+                .toList();
+
+        Map<Long, List<CommentResponseDto.RecommentInfo>> previews =
+                recommentRepository.findRecommentPreviews(commentIds, size);
+
+        // 조회자 기준 값과 캐시된 좋아요 수는 전체 미리보기를 모아 한 번에 반영
+        List<CommentResponseDto.RecommentInfo> allPreviews = previews.values().stream()
+                .flatMap(List::stream)
+                .toList();
+        Map<Long, CommentResponseDto.RecommentInfo> updatedById = commentConverter.updateRecommentsWithCachedStats(
+                        commentConverter.applyRecommentViewerContext(allPreviews, viewer)).stream()
+                .collect(Collectors.toMap(CommentResponseDto.RecommentInfo::id, Function.identity()));
+
+        return commentInfos.stream()
+                .map(info -> info.withRecomments(previews.getOrDefault(info.id(), List.of()).stream()
+                        .map(recommentInfo -> updatedById.getOrDefault(recommentInfo.id(), recommentInfo))
+                        .toList()))
+                .toList();
     }
 
     /**
@@ -245,7 +320,11 @@ public class CommentService {
         }
 
         // 대댓글 목록 조회
-        return recommentRepository.findRecommentInfoListWithCursor(commentId, cursor, limit, memberId);
+        List<CommentResponseDto.RecommentInfo> recommentInfos =
+                recommentRepository.findRecommentInfoListWithCursor(commentId, cursor, limit);
+
+        return commentConverter.updateRecommentsWithCachedStats(
+                commentConverter.applyRecommentViewerContext(recommentInfos, ViewerContext.of(memberId)));
     }
 
     /**
@@ -262,8 +341,9 @@ public class CommentService {
             throw new CommentException(GeneralErrorCode.RESOURCE_NOT_FOUND, "userId");
         }
 
-        List<CommentResponseDto.CommentInfo> commentInfos = commentRepository.findCommentInfoByMemberWithCursor(memberId, cursor, limit, currentMemberId);
+        List<CommentResponseDto.CommentInfo> commentInfos = commentRepository.findCommentInfoByMemberWithCursor(memberId, cursor, limit);
 
-        return commentConverter.updateWithCachedStats(commentInfos);
+        return commentConverter.updateWithCachedStats(
+                commentConverter.applyViewerContext(commentInfos, ViewerContext.of(currentMemberId)));
     }
 }
\ No newline at end of file
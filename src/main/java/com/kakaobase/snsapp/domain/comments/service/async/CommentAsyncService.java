@@ -1,12 +1,11 @@
 package com.kakaobase.snsapp.domain.comments.service.async;
 
-import com.kakaobase.snsapp.domain.comments.entity.Comment;
 import com.kakaobase.snsapp.domain.comments.service.BotRecommentService;
-import com.kakaobase.snsapp.domain.posts.entity.Post;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Slf4j
 @Service
@@ -15,12 +14,28 @@ public class CommentAsyncService {
 
     private final BotRecommentService botRecommentService;
 
-    @Async
-    public void triggerAsync(Post post, Comment comment) {
+    /**
+     * 소셜봇 대댓글 생성을 트리거합니다.
+     * 새 댓글/대댓글이 AI 요청 문맥에 포함되도록 현재 트랜잭션이 커밋된 뒤에 요청합니다.
+     */
+    public void triggerAsync(Long postId, Long commentId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    trigger(postId, commentId);
+                }
+            });
+            return;
+        }
+        trigger(postId, commentId);
+    }
+
+    private void trigger(Long postId, Long commentId) {
         try {
-            log.info("🚀 [BotTrigger] 비동기 트리거 시작 - postId={}, commentId={}", post.getId(), comment.getId());
-            botRecommentService.handle(post, comment);
-            log.info("✅ [BotTrigger] 성공적으로 처리됨");
+            log.info("🚀 [BotTrigger] 비동기 트리거 시작 - postId={}, commentId={}", postId, commentId);
+            botRecommentService.handle(postId, commentId);
+            log.info("✅ [BotTrigger] 요청 등록됨");
         } catch (Exception e) {
             log.error("❌ [BotTrigger] 실패 - reason: {}", e.getMessage(), e);
         }
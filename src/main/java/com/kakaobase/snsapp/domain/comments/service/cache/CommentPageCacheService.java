@@ -0,0 +1,143 @@
+package com.kakaobase.snsapp.domain.comments.service.cache;
+
+import com.kakaobase.snsapp.domain.comments.dto.CommentResponseDto;
+import com.kakaobase.snsapp.domain.comments.repository.CommentRepository;
+import com.kakaobase.snsapp.domain.comments.util.CommentPageCacheUtil;
+import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
+import com.kakaobase.snsapp.global.common.redis.CacheRecord;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 게시글 댓글 앞부분 페이지 캐시 서비스
+ *
+ * <p>인기 게시글의 첫 댓글 페이지들이 반복 조회될 때 회원/좋아요/팔로우 JOIN을 매번 수행하지 않도록,
+ * 게시글별로 앞부분 PAGE_WINDOW개 댓글의 조회자 무관 정보만 캐싱합니다.
+ * 조회자별 값(본인 여부, 좋아요 여부, 작성자 팔로우 여부)은 호출 측에서 ViewerContext로 채웁니다.</p>
+ *
+ * <p>무효화는 캐시된 범위가 실제로 바뀌는 경우에만 커밋 이후 수행합니다.</p>
+ * <ul>
+ *     <li>댓글 작성: 새 댓글은 항상 맨 뒤에 붙으므로, 캐시가 게시글의 모든 댓글을 담고 있을 때만 무효화</li>
+ *     <li>댓글 삭제: 삭제된 댓글이 캐시 범위 안에 있을 때만 무효화</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommentPageCacheService {
+
+    /**
+     * 캐싱할 앞부분 댓글 수 (기본 페이지 크기 12 기준 5페이지)
+     */
+    static final int PAGE_WINDOW = 60;
+
+    private final CommentPageCacheUtil pageCacheUtil;
+    private final CommentRepository commentRepository;
+
+    /**
+     * 캐시로 댓글 페이지를 구성합니다.
+     *
+     * @return 댓글 목록 (조회자 기준 값 제외), 요청 범위가 캐시 범위를 벗어나면 null
+     */
+    public List<CommentResponseDto.CommentInfo> findPage(Long postId, Long cursor, int limit) {
+        CacheRecord.CommentPageCache page = loadOrBuild(postId);
+        if (page == null) {
+            return null;
+        }
+
+        List<CacheRecord.CommentPageEntry> remaining = page.items().stream()
+                .filter(entry -> cursor == null || entry.id() > cursor)
+                .toList();
+
+        if (remaining.size() < limit && !page.complete()) {
+            return null;
+        }
+
+        return remaining.stream()
+                .limit(limit)
+                .map(this::toCommentInfo)
+                .toList();
+    }
+
+    /**
+     * 댓글 작성 커밋 이후 필요한 경우 캐시를 무효화합니다.
+     */
+    public void evictOnCreate(Long postId) {
+        afterCommit(() -> {
+            CacheRecord.CommentPageCache page = pageCacheUtil.load(postId);
+            if (page != null && page.complete()) {
+                pageCacheUtil.delete(postId);
+            }
+        });
+    }
+
+    /**
+     * 댓글 삭제 커밋 이후 필요한 경우 캐시를 무효화합니다.
+     */
+    public void evictOnDelete(Long postId, Long commentId) {
+        afterCommit(() -> {
+            CacheRecord.CommentPageCache page = pageCacheUtil.load(postId);
+            if (page != null && page.items().stream().anyMatch(entry -> entry.id().equals(commentId))) {
+                pageCacheUtil.delete(postId);
+            }
+        });
+    }
+
+    private CacheRecord.CommentPageCache loadOrBuild(Long postId) {
+        try {
+            CacheRecord.CommentPageCache page = pageCacheUtil.load(postId);
+            if (page != null) {
+                return page;
+            }
+
+            List<CacheRecord.CommentPageEntry> entries = commentRepository.findCommentPageEntries(postId, PAGE_WINDOW + 1);
+            boolean complete = entries.size() <= PAGE_WINDOW;
+            page = new CacheRecord.CommentPageCache(complete ? entries : entries.subList(0, PAGE_WINDOW), complete);
+            pageCacheUtil.save(postId, page);
+            return page;
+        } catch (Exception e) {
+            log.warn("댓글 페이지 캐시 사용 불가, DB 조회로 대체 - postId: {}", postId, e);
+            return null;
+        }
+    }
+
+    private CommentResponseDto.CommentInfo toCommentInfo(CacheRecord.CommentPageEntry entry) {
+        return new CommentResponseDto.CommentInfo(
+                entry.id(),
+                entry.postId(),
+                new MemberResponseDto.UserInfoWithFollowing(entry.memberId(), entry.nickname(), entry.imageUrl(), false),
+                entry.content(),
+                entry.createdAt(),
+                entry.likeCount(),
+                entry.recommentCount(),
+                false,
+                false
+        );
+    }
+
+    private void afterCommit(Runnable action) {
+        Runnable safeAction = () -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                log.warn("댓글 페이지 캐시 무효화 실패", e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeAction.run();
+                }
+            });
+            return;
+        }
+        safeAction.run();
+    }
+}
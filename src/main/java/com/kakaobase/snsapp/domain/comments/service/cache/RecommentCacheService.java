@@ -0,0 +1,85 @@
+package com.kakaobase.snsapp.domain.comments.service.cache;
+
+import com.kakaobase.snsapp.domain.comments.dto.CommentResponseDto;
+import com.kakaobase.snsapp.domain.comments.entity.Recomment;
+import com.kakaobase.snsapp.domain.comments.exception.CommentException;
+import com.kakaobase.snsapp.domain.comments.repository.RecommentRepository;
+import com.kakaobase.snsapp.domain.comments.util.RecommentCacheUtil;
+import com.kakaobase.snsapp.global.common.redis.CacheRecord;
+import com.kakaobase.snsapp.global.common.redis.error.CacheException;
+import com.kakaobase.snsapp.global.common.redis.service.cacheService.AbstractCacheService;
+import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * 대댓글 좋아요 수 캐시 서비스
+ *
+ * <p>좋아요/취소 시 recomments 행을 바로 갱신하지 않고 캐시 값만 증감한 뒤,
+ * RecommentCacheSyncScheduler가 주기적으로 DB에 일괄 반영합니다.</p>
+ */
+@Slf4j
+@Service
+public class RecommentCacheService extends AbstractCacheService<CacheRecord.RecommentStatsCache, CommentResponseDto.RecommentInfo> {
+
+    private static final String RECOMMENT_CACHE_PREFIX = "recomment:stats:";
+    private static final Duration CACHE_TTL = Duration.ofHours(24);
+    private final RecommentRepository recommentRepository;
+
+    public RecommentCacheService(RedisTemplate<String, Object> redisTemplate,
+                                 RecommentCacheSyncService recommentCacheSyncService,
+                                 RecommentCacheUtil cacheUtil,
+                                 RecommentRepository recommentRepository) {
+        super(redisTemplate, recommentCacheSyncService, cacheUtil);
+        this.recommentRepository = recommentRepository;
+    }
+
+    @Override
+    protected String generateCacheKey(Long id) {
+        return RECOMMENT_CACHE_PREFIX + id;
+    }
+
+    @Override
+    protected Long extractId(CommentResponseDto.RecommentInfo recommentInfo) {
+        return recommentInfo.id();
+    }
+
+    @Override
+    protected void saveFromDB(Long id) {
+        Recomment recomment = recommentRepository.findById(id)
+                .orElseThrow(() -> new CommentException(GeneralErrorCode.RESOURCE_NOT_FOUND, "recommentId"));
+
+        var cacheData = CacheRecord.RecommentStatsCache.builder()
+                .recommentId(recomment.getId())
+                .likeCount(recomment.getLikeCount())
+                .build();
+
+        cacheUtil.save(generateCacheKey(id), cacheData);
+    }
+
+    @Override
+    protected void saveByEntity(Long id, CommentResponseDto.RecommentInfo recommentInfo) {
+        var cacheData = CacheRecord.RecommentStatsCache.builder()
+                .recommentId(recommentInfo.id())
+                .likeCount(recommentInfo.likeCount())
+                .build();
+
+        cacheUtil.save(generateCacheKey(id), cacheData);
+    }
+
+    @Override
+    protected Duration getTTL() {
+        return CACHE_TTL;
+    }
+
+    public void incrementLikeCount(Long recommentId) throws CacheException {
+        incrementField(recommentId, "likeCount");
+    }
+
+    public void decrementLikeCount(Long recommentId) throws CacheException {
+        decrementField(recommentId, "likeCount");
+    }
+}
@@ -0,0 +1,59 @@
+package com.kakaobase.snsapp.domain.comments.service.cache;
+
+import com.kakaobase.snsapp.domain.comments.util.RecommentCacheUtil;
+import com.kakaobase.snsapp.global.common.redis.CacheRecord;
+import com.kakaobase.snsapp.global.common.redis.service.cacheSyncService.AbstractCacheSyncService;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+@Service
+public class RecommentCacheSyncService extends AbstractCacheSyncService<CacheRecord.RecommentStatsCache> {
+
+    private static final String SYNC_QUEUE_KEY = "recomment:need_sync";
+    private static final Duration CACHE_TTL = Duration.ofHours(24);
+
+    public RecommentCacheSyncService(StringRedisTemplate stringRedisTemplate,
+                                     RecommentCacheUtil cacheUtil,
+                                     JdbcTemplate jdbcTemplate) {
+        super(stringRedisTemplate, cacheUtil, jdbcTemplate);
+    }
+
+    @Override
+    protected String getSyncKey() {
+        return SYNC_QUEUE_KEY;
+    }
+
+    @Override
+    protected Duration getTTL() {
+        return CACHE_TTL;
+    }
+
+    @Override
+    protected Object[] extractSqlParameters(CacheRecord.RecommentStatsCache cache) {
+        return new Object[]{
+                cache.likeCount(),
+                cache.recommentId()
+        };
+    }
+
+    @Override
+    protected Object extractEntityId(CacheRecord.RecommentStatsCache cache) {
+        return cache.recommentId();
+    }
+
+    @Override
+    protected int[] executeJdbcBatchUpdate(List<Object[]> batchArgs) {
+        String sql = """
+            UPDATE recomments 
+            SET like_count = ?, 
+                updated_at = NOW()
+            WHERE id = ? AND deleted_at IS NULL
+            """;
+
+        return jdbcTemplate.batchUpdate(sql, batchArgs);
+    }
+}
@@ -0,0 +1,66 @@
+package com.kakaobase.snsapp.domain.comments.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kakaobase.snsapp.global.common.redis.CacheRecord;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 게시글별 댓글 앞부분 페이지 캐시 유틸리티
+ *
+ * <p>조회자와 무관한 댓글 정보만 JSON으로 저장합니다.
+ * 좋아요/대댓글 수는 저장 시점 값이며, 조회 시 댓글 통계 캐시로 덮어씁니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentPageCacheUtil {
+
+    private static final String PAGE_PREFIX = "comment:page:";
+
+    /**
+     * 작성자 닉네임/프로필 이미지 변경은 무효화하지 않으므로 짧게 유지
+     */
+    private static final Duration PAGE_TTL = Duration.ofMinutes(10);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @return 캐시된 페이지, 없거나 읽을 수 없으면 null
+     */
+    public CacheRecord.CommentPageCache load(Long postId) {
+        String json = stringRedisTemplate.opsForValue().get(generateKey(postId));
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, CacheRecord.CommentPageCache.class);
+        } catch (JsonProcessingException e) {
+            log.warn("댓글 페이지 캐시 역직렬화 실패 - postId: {}", postId, e);
+            delete(postId);
+            return null;
+        }
+    }
+
+    public void save(Long postId, CacheRecord.CommentPageCache page) {
+        try {
+            stringRedisTemplate.opsForValue().set(generateKey(postId), objectMapper.writeValueAsString(page), PAGE_TTL);
+        } catch (JsonProcessingException e) {
+            log.warn("댓글 페이지 캐시 직렬화 실패 - postId: {}", postId, e);
+        }
+    }
+
+    public void delete(Long postId) {
+        stringRedisTemplate.delete(generateKey(postId));
+    }
+
+    private String generateKey(Long postId) {
+        return PAGE_PREFIX + postId;
+    }
+}
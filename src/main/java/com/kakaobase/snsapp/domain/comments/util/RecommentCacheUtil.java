@@ -1,4 +1,4 @@
-package com.kakaobase.snsapp.domain.follow.util;
+package com.kakaobase.snsapp.domain.comments.util;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kakaobase.snsapp.global.common.redis.CacheRecord;
@@ -10,17 +10,17 @@ import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
-public class FollowCacheUtil extends AbstractCacheUtil<CacheRecord.FollowStatsCache> {
+public class RecommentCacheUtil extends AbstractCacheUtil<CacheRecord.RecommentStatsCache> {
 
-    public FollowCacheUtil(RedisTemplate<String, Object> redisTemplate,
-                           ObjectMapper objectMapper,
-                           RedissonClient redissonClient) {
+    public RecommentCacheUtil(
+            RedisTemplate<String, Object> redisTemplate,
+            ObjectMapper objectMapper,
+            RedissonClient redissonClient) {
         super(redisTemplate, objectMapper, redissonClient);
     }
 
     @Override
-    protected Class<CacheRecord.FollowStatsCache> getType() {
-        return CacheRecord.FollowStatsCache.class;
+    protected Class<CacheRecord.RecommentStatsCache> getType() {
+        return CacheRecord.RecommentStatsCache.class;
     }
-
 }
@@ -3,6 +3,7 @@ package com.kakaobase.snsapp.domain.follow.controller;
 
 import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
 import com.kakaobase.snsapp.domain.comments.dto.CommentResponseDto;
+import com.kakaobase.snsapp.domain.follow.service.FollowRecommendService;
 import com.kakaobase.snsapp.domain.follow.service.FollowService;
 import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
 import com.kakaobase.snsapp.global.common.response.CustomResponse;
@@ -28,6 +29,7 @@ import java.util.List;
 public class FollowController {
 
     private final FollowService followService;
+    private final FollowRecommendService followRecommendService;
 
     @PostMapping("{targetUserId}/follows")
     @Operation(
@@ -116,4 +118,24 @@ public class FollowController {
 
         return CustomResponse.success("팔로잉 목록이 정상적으로 조회되었습니다" , response);
     }
+
+    @GetMapping("recommendations")
+    @Operation(
+            summary = "팔로우 추천 목록 요청",
+            description = "내가 팔로우하는 회원들이 팔로우하는 회원 중 추천 회원 목록을 요청합니다"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "팔로우 추천 목록 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "401", description = "로그인이 필요한 요청")
+    })
+    public CustomResponse<List<MemberResponseDto.UserInfo>> getRecommendations(
+            @Parameter(description = "불러올 추천 회원 수 (기본값: 10, 최대: 30)") @RequestParam(required = false, defaultValue = "10") Integer limit,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        List<MemberResponseDto.UserInfo> response =
+                followRecommendService.getRecommendations(Long.valueOf(userDetails.getId()), limit);
+
+        return CustomResponse.success("팔로우 추천 목록이 정상적으로 조회되었습니다", response);
+    }
 }
@@ -0,0 +1,9 @@
+package com.kakaobase.snsapp.domain.follow.dto;
+
+import com.kakaobase.snsapp.domain.members.entity.Member;
+
+/**
+ * 팔로우 추천 계산에 필요한 회원 정보
+ */
+public record RecommendMember(Long memberId, Member.ClassName className) {
+}
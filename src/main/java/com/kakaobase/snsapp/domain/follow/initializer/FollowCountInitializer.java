@@ -2,11 +2,13 @@ package com.kakaobase.snsapp.domain.follow.initializer;
 
 import com.kakaobase.snsapp.domain.members.service.MemberService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+@Slf4j
 @Component
 @Order(1)
 @RequiredArgsConstructor
@@ -17,13 +19,18 @@ public class FollowCountInitializer implements ApplicationRunner {
 
     @Override
     public void run(ApplicationArguments args) throws Exception {
-        System.out.println("🚀 애플리케이션 시작 - 팔로우 카운트 동기화 시작...");
+        log.info("애플리케이션 시작 - 팔로우/게시글 카운트 동기화 시작");
 
         try {
             memberService.syncMemberFollowCount();
         } catch (Exception e) {
-            System.err.println("❌ 팔로우 카운트 동기화 실패: " + e.getMessage());
-            e.printStackTrace();
+            log.error("팔로우 카운트 동기화 실패", e);
+        }
+
+        try {
+            memberService.syncMemberPostCount();
+        } catch (Exception e) {
+            log.error("게시글 카운트 동기화 실패", e);
         }
     }
 }
@@ -30,6 +30,11 @@ public interface FollowCustomRepository {
      */
     Set<Long> findFollowingUserIdsByFollowerUserId(Long followerUserId);
 
+    /**
+     * 특정 사용자의 팔로워 ID를 오름차순으로 cursor 이후 limit개 조회 (피드 팬아웃용)
+     */
+    List<Long> findFollowerIdsByFollowingUserId(Long followingUserId, Long cursor, int limit);
+
     /**
      * 모든 사용자의 팔로잉 수 조회
      */
@@ -73,13 +78,4 @@ public interface FollowCustomRepository {
      * (특정 유저가 탈퇴할 때, 그 유저가 팔로우했던 사람들의 팔로워 카운트 감소)
      */
     Long decrementFollowerCountForFollowingsOf(Long followerUserId);
-
-    /**
-     * 회원 탈퇴 시 모든 팔로우 관계 정리 (4개 작업을 순차 실행)
-     * 1. 해당 유저를 팔로우한 사람들의 팔로잉 카운트 감소
-     * 2. 해당 유저가 팔로우한 사람들의 팔로워 카운트 감소
-     * 3. 해당 유저의 팔로잉 관계 삭제
-     * 4. 해당 유저의 팔로워 관계 삭제
-     */
-    void cleanupAllFollowRelationships(Long memberId);
 }
\ No newline at end of file
@@ -102,6 +102,20 @@ public class FollowCustomRepositoryImpl implements FollowCustomRepository {
         return new HashSet<>(result);
     }
 
+    @Override
+    public List<Long> findFollowerIdsByFollowingUserId(Long followingUserId, Long cursor, int limit) {
+        return queryFactory
+                .select(follow.followerUser.id)
+                .from(follow)
+                .where(
+                        follow.followingUser.id.eq(followingUserId),
+                        cursor != null ? follow.followerUser.id.gt(cursor) : null
+                )
+                .orderBy(follow.followerUser.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
     @Override
     public List<FollowCount> findFollowingCounts() {
         return queryFactory
@@ -146,32 +160,6 @@ public class FollowCustomRepositoryImpl implements FollowCustomRepository {
                 .fetchOne();
     }
 
-    @Override
-    public void cleanupAllFollowRelationships(Long memberId) {
-        log.info("Starting cleanup of all follow relationships for member: {}", memberId);
-
-        // 1. 해당 유저를 팔로우한 사람들의 팔로잉 카운트 감소
-        Long decrementedFollowingCount = decrementFollowingCountForFollowersOf(memberId);
-        log.debug("Decremented following count for {} members", decrementedFollowingCount);
-
-        // 2. 해당 유저가 팔로우한 사람들의 팔로워 카운트 감소
-        Long decrementedFollowerCount = decrementFollowerCountForFollowingsOf(memberId);
-        log.debug("Decremented follower count for {} members", decrementedFollowerCount);
-
-        // 3. 해당 유저가 다른 사람들을 팔로우한 관계 삭제
-        Long deletedFollowingRelations = deleteByFollowerUserId(memberId);
-        log.debug("Deleted {} following relationships", deletedFollowingRelations);
-
-        // 4. 다른 사람들이 해당 유저를 팔로우한 관계 삭제
-        Long deletedFollowerRelations = deleteByFollowingUserId(memberId);
-        log.debug("Deleted {} follower relationships", deletedFollowerRelations);
-
-        log.info("Completed cleanup of all follow relationships for member: {} " +
-                        "(decremented: {} following, {} follower counts, deleted: {} following, {} follower relations)",
-                memberId, decrementedFollowingCount, decrementedFollowerCount,
-                deletedFollowingRelations, deletedFollowerRelations);
-    }
-
     @Override
     public Long deleteByFollowingUserId(Long followingUserId) {
         log.info("Deleting all follow relationships where followingUserId = {}", followingUserId);
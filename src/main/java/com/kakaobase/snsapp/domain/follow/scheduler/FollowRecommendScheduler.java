@@ -0,0 +1,41 @@
+package com.kakaobase.snsapp.domain.follow.scheduler;
+
+import com.kakaobase.snsapp.domain.follow.service.FollowRecommendService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팔로우 추천 스케줄러
+ * 팔로우 변경 회원 증분 갱신 (1분마다) + 2촌 관계 변화 반영을 위한 전체 계산 (매일 새벽 5시)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowRecommendScheduler {
+
+    private final FollowRecommendService followRecommendService;
+
+    @Scheduled(fixedRate = 60000)
+    public void refreshDirty() {
+        try {
+            int refreshed = followRecommendService.refreshDirty();
+            if (refreshed > 0) {
+                log.debug("팔로우 추천 증분 갱신 - {} 명", refreshed);
+            }
+        } catch (Exception e) {
+            log.error("팔로우 추천 증분 갱신 중 오류 발생", e);
+        }
+    }
+
+    @Scheduled(cron = "0 0 5 * * *")
+    public void rebuildAll() {
+        log.info("팔로우 추천 전체 계산 시작");
+        try {
+            followRecommendService.rebuildAll();
+        } catch (Exception e) {
+            log.error("팔로우 추천 전체 계산 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package com.kakaobase.snsapp.domain.follow.service;
+
+import com.kakaobase.snsapp.domain.follow.dto.RecommendMember;
+import com.kakaobase.snsapp.domain.follow.exception.FollowException;
+import com.kakaobase.snsapp.domain.follow.service.cache.FollowGraphService;
+import com.kakaobase.snsapp.domain.follow.util.FollowRecommendCacheUtil;
+import com.kakaobase.snsapp.domain.members.converter.MemberConverter;
+import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
+import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
+import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 팔로우 추천(알 수도 있는 사람) 서비스
+ *
+ * <p>내가 팔로우하는 사람들이 팔로우하는 회원(2촌)을 후보로 삼아 미리 계산해 둡니다.</p>
+ * <ul>
+ *     <li>팔로우 그래프 비트맵을 따라가며, 1촌과 1촌별 팔로잉은 각각 상한까지만 표본 추출합니다.</li>
+ *     <li>공통 팔로우 수(나의 1촌 중 후보를 팔로우하는 수)에 같은 기수 가중치를 더해 상위 N명을 저장합니다.</li>
+ *     <li>전체 계산은 회원 ID 구간을 fork/join으로 나눠 병렬 실행하며, 한 노드에서만 실행됩니다.</li>
+ *     <li>팔로우/언팔로우한 회원은 재계산 대상으로 표시되어 스케줄러가 증분 갱신합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class FollowRecommendService {
+
+    static final int RECOMMEND_SIZE = 30;
+
+    /**
+     * 같은 기수 회원에게 더하는 점수 (공통 팔로우 2명에 해당)
+     */
+    static final double SAME_CLASS_BONUS = 2.0;
+
+    private static final int MAX_FIRST_DEGREE_SAMPLE = 200;
+    private static final int MAX_SECOND_DEGREE_SAMPLE = 200;
+
+    /**
+     * 기수 가중치를 적용하기 전 공통 팔로우 수 기준으로 남길 후보 수
+     */
+    private static final int CANDIDATE_POOL_SIZE = RECOMMEND_SIZE * 4;
+
+    private static final int TASK_THRESHOLD = 256;
+    private static final int DIRTY_BATCH_SIZE = 200;
+    private static final String REBUILD_LOCK_KEY = "lock:follow:recommend:rebuild";
+
+    private final FollowGraphService followGraphService;
+    private final FollowRecommendCacheUtil recommendCacheUtil;
+    private final MemberRepository memberRepository;
+    private final MemberConverter memberConverter;
+    private final RedissonClient redissonClient;
+
+    private final ForkJoinPool pool;
+
+    public FollowRecommendService(FollowGraphService followGraphService,
+                                  FollowRecommendCacheUtil recommendCacheUtil,
+                                  MemberRepository memberRepository,
+                                  MemberConverter memberConverter,
+                                  RedissonClient redissonClient,
+                                  @Value("${app.follow-recommend.parallelism:4}") int parallelism) {
+        this.followGraphService = followGraphService;
+        this.recommendCacheUtil = recommendCacheUtil;
+        this.memberRepository = memberRepository;
+        this.memberConverter = memberConverter;
+        this.redissonClient = redissonClient;
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * 미리 계산된 추천 목록을 조회합니다.
+     * 아직 계산되지 않은 회원은 그 자리에서 계산합니다.
+     */
+    public List<MemberResponseDto.UserInfo> getRecommendations(Long memberId, int limit) {
+        if (limit < 1 || limit > RECOMMEND_SIZE) {
+            throw new FollowException(GeneralErrorCode.INVALID_QUERY_PARAMETER, "limit",
+                    "limit은 1 이상 " + RECOMMEND_SIZE + " 이하여야 합니다.");
+        }
+
+        List<Long> candidateIds = recommendCacheUtil.find(memberId, RECOMMEND_SIZE);
+        if (candidateIds == null) {
+            recompute(List.of(memberId));
+            candidateIds = recommendCacheUtil.find(memberId, RECOMMEND_SIZE);
+            if (candidateIds == null) {
+                return List.of();
+            }
+        }
+
+        // 계산 이후 팔로우한 회원은 제외
+        Set<Long> followed = followGraphService.filterFollowing(memberId, candidateIds);
+        List<Long> visibleIds = candidateIds.stream()
+                .filter(id -> !followed.contains(id))
+                .limit(limit)
+                .toList();
+        if (visibleIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Member> members = memberRepository.findAllByIdIn(visibleIds).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+
+        return visibleIds.stream()
+                .map(members::get)
+                .filter(Objects::nonNull)
+                .map(memberConverter::toUserInfo)
+                .toList();
+    }
+
+    /**
+     * 팔로우 커밋 이후 호출됩니다.
+     * 방금 팔로우한 회원은 바로 추천에서 빼고, 팔로우한 회원의 추천 목록은 재계산 대상으로 표시합니다.
+     */
+    public void onFollow(Long followerId, Long targetId) {
+        try {
+            recommendCacheUtil.remove(followerId, targetId);
+            recommendCacheUtil.markDirty(List.of(followerId));
+        } catch (Exception e) {
+            log.warn("팔로우 추천 갱신 표시 실패 - followerId: {}", followerId, e);
+        }
+    }
+
+    /**
+     * 언팔로우 커밋 이후 호출됩니다.
+     */
+    public void onUnfollow(Long followerId, Long targetId) {
+        try {
+            recommendCacheUtil.markDirty(List.of(followerId));
+        } catch (Exception e) {
+            log.warn("팔로우 추천 갱신 표시 실패 - followerId: {}", followerId, e);
+        }
+    }
+
+    /**
+     * 재계산 대상으로 표시된 회원의 추천 목록을 갱신합니다. (스케줄러에서 호출)
+     *
+     * @return 갱신한 회원 수
+     */
+    public int refreshDirty() {
+        int refreshed = 0;
+        List<Long> memberIds;
+        while (!(memberIds = recommendCacheUtil.popDirty(DIRTY_BATCH_SIZE)).isEmpty()) {
+            recompute(memberIds);
+            refreshed += memberIds.size();
+        }
+        return refreshed;
+    }
+
+    /**
+     * 모든 회원의 추천 목록을 다시 계산합니다. (스케줄러에서 호출)
+     * 다른 노드가 실행 중이면 건너뜁니다.
+     */
+    public void rebuildAll() {
+        RLock lock = redissonClient.getLock(REBUILD_LOCK_KEY);
+        if (!lock.tryLock()) {
+            log.info("팔로우 추천 전체 계산이 다른 노드에서 진행 중이므로 건너뜁니다.");
+            return;
+        }
+
+        try {
+            long startedAt = System.currentTimeMillis();
+            List<RecommendMember> members = memberRepository.findRecommendMembers(Member.Role.BOT);
+            Map<Long, Member.ClassName> classNames = new HashMap<>(members.size() * 2);
+            members.forEach(member -> classNames.put(member.memberId(), member.className()));
+            long[] memberIds = members.stream().mapToLong(RecommendMember::memberId).toArray();
+
+            AtomicInteger failed = new AtomicInteger();
+            pool.invoke(new RecommendTask(memberIds, 0, memberIds.length, classNames, failed));
+
+            log.info("팔로우 추천 전체 계산 완료 - 회원: {} 명, 실패: {} 명, 소요: {} ms",
+                    memberIds.length, failed.get(), System.currentTimeMillis() - startedAt);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 일부 회원의 추천 목록을 계산합니다. 후보 회원의 기수는 DB에서 한 번에 조회합니다.
+     */
+    private void recompute(List<Long> memberIds) {
+        Map<Long, Map<Long, Integer>> poolsByMember = new LinkedHashMap<>();
+        Set<Long> lookupIds = new HashSet<>(memberIds);
+
+        for (Long memberId : memberIds) {
+            Map<Long, Integer> candidatePool = collectCandidatePool(memberId);
+            poolsByMember.put(memberId, candidatePool);
+            lookupIds.addAll(candidatePool.keySet());
+        }
+
+        Map<Long, Member.ClassName> classNames = memberRepository
+                .findRecommendMembersByIdIn(lookupIds, Member.Role.BOT).stream()
+                .collect(Collectors.toMap(RecommendMember::memberId, RecommendMember::className));
+
+        Map<Long, Map<Long, Double>> results = new HashMap<>();
+        poolsByMember.forEach((memberId, candidatePool) ->
+                results.put(memberId, rank(memberId, candidatePool, classNames::get)));
+        recommendCacheUtil.saveAll(results);
+    }
+
+    /**
+     * 표본 추출한 1촌의 팔로잉을 따라가며 2촌 후보별 공통 팔로우 수를 세고,
+     * 공통 팔로우 수 상위 CANDIDATE_POOL_SIZE명만 남깁니다.
+     */
+    private Map<Long, Integer> collectCandidatePool(Long memberId) {
+        Set<Long> following = followGraphService.getFollowingIds(memberId);
+        if (following.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Integer> mutualCounts = new HashMap<>();
+        for (Long friendId : sample(following, MAX_FIRST_DEGREE_SAMPLE)) {
+            for (Long candidateId : sample(followGraphService.getFollowingIds(friendId), MAX_SECOND_DEGREE_SAMPLE)) {
+                if (!candidateId.equals(memberId) && !following.contains(candidateId)) {
+                    mutualCounts.merge(candidateId, 1, Integer::sum);
+                }
+            }
+        }
+
+        return mutualCounts.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed())
+                .limit(CANDIDATE_POOL_SIZE)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    /**
+     * 공통 팔로우 수에 같은 기수 가중치를 더해 상위 RECOMMEND_SIZE명을 고릅니다.
+     * 기수를 알 수 없는 후보(탈퇴/봇)는 제외됩니다.
+     */
+    private Map<Long, Double> rank(Long memberId, Map<Long, Integer> candidatePool,
+                                   Function<Long, Member.ClassName> classNameOf) {
+        Member.ClassName myClassName = classNameOf.apply(memberId);
+
+        Map<Long, Double> scores = new HashMap<>();
+        candidatePool.forEach((candidateId, mutualCount) -> {
+            Member.ClassName className = classNameOf.apply(candidateId);
+            if (className == null) {
+                return;
+            }
+            double bonus = className == myClassName ? SAME_CLASS_BONUS : 0;
+            scores.put(candidateId, mutualCount + bonus);
+        });
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                .limit(RECOMMEND_SIZE)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private List<Long> sample(Set<Long> ids, int max) {
+        List<Long> list = new ArrayList<>(ids);
+        if (list.size() <= max) {
+            return list;
+        }
+        Collections.shuffle(list, ThreadLocalRandom.current());
+        return list.subList(0, max);
+    }
+
+    /**
+     * 회원 ID 구간을 나눠 계산하는 fork/join 작업
+     */
+    private class RecommendTask extends RecursiveAction {
+
+        private final long[] memberIds;
+        private final int from;
+        private final int to;
+        private final Map<Long, Member.ClassName> classNames;
+        private final AtomicInteger failed;
+
+        RecommendTask(long[] memberIds, int from, int to,
+                      Map<Long, Member.ClassName> classNames, AtomicInteger failed) {
+            this.memberIds = memberIds;
+            this.from = from;
+            this.to = to;
+            this.classNames = classNames;
+            this.failed = failed;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= TASK_THRESHOLD) {
+                computeDirectly();
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RecommendTask(memberIds, from, mid, classNames, failed),
+                    new RecommendTask(memberIds, mid, to, classNames, failed));
+        }
+
+        private void computeDirectly() {
+            Map<Long, Map<Long, Double>> results = new HashMap<>();
+            for (int i = from; i < to; i++) {
+                Long memberId = memberIds[i];
+                try {
+                    results.put(memberId, rank(memberId, collectCandidatePool(memberId), classNames::get));
+                } catch (Exception e) {
+                    failed.incrementAndGet();
+                    log.warn("팔로우 추천 계산 실패 - memberId: {}", memberId, e);
+                }
+            }
+
+            try {
+                recommendCacheUtil.saveAll(results);
+            } catch (Exception e) {
+                failed.addAndGet(results.size());
+                log.error("팔로우 추천 저장 실패 - 회원 ID 구간: [{}, {}]", memberIds[from], memberIds[to - 1], e);
+            }
+        }
+    }
+}
@@ -7,11 +7,16 @@ import com.kakaobase.snsapp.domain.follow.entity.Follow;
 import com.kakaobase.snsapp.domain.follow.exception.FollowErrorCode;
 import com.kakaobase.snsapp.domain.follow.exception.FollowException;
 import com.kakaobase.snsapp.domain.follow.repository.FollowRepository;
+import com.kakaobase.snsapp.domain.follow.service.cache.FollowGraphService;
+import com.kakaobase.snsapp.domain.follow.service.cache.FollowListCacheService;
 import com.kakaobase.snsapp.domain.members.converter.MemberConverter;
 import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
 import com.kakaobase.snsapp.domain.members.entity.Member;
 import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
+import com.kakaobase.snsapp.domain.members.service.cache.MemberStatsCacheService;
+import com.kakaobase.snsapp.domain.members.service.cache.MemberSummaryCacheService;
 import com.kakaobase.snsapp.domain.notification.service.NotificationService;
+import com.kakaobase.snsapp.domain.posts.service.cache.FollowingFeedService;
 import com.kakaobase.snsapp.global.common.redis.error.CacheException;
 import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
 import jakarta.persistence.EntityManager;
@@ -19,6 +24,8 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 
@@ -30,10 +37,15 @@ public class FollowService {
     private final FollowRepository followRepository;
     private final FollowConverter followConverter;
     private final MemberRepository memberRepository;
-    private final FollowCacheService followCacheService;
+    private final MemberStatsCacheService memberStatsCacheService;
     private final EntityManager em;
     private final NotificationService notifService;
     private final MemberConverter memberConverter;
+    private final FollowingFeedService followingFeedService;
+    private final FollowGraphService followGraphService;
+    private final FollowRecommendService followRecommendService;
+    private final FollowListCacheService followListCacheService;
+    private final MemberSummaryCacheService memberSummaryCacheService;
 
 
     @Transactional
@@ -54,14 +66,15 @@ public class FollowService {
         //팔로우 신청 받은 사람
         Member followingUser = em.getReference(Member.class, targetUserId);
         
+        // follows 테이블에 유니크 제약이 없으므로 중복 팔로우 방지는 그래프가 아닌 DB로 확인
         if(followRepository.existsByFollowerUserAndFollowingUser(followerUser, followingUser)){
             throw new FollowException(FollowErrorCode.ALREADY_FOLLOWING);
         }
 
         //캐싱 시도
         try{
-            followCacheService.incrementFollowingCount(currentUserId);
-            followCacheService.incrementFollowerCount(targetUserId);
+            memberStatsCacheService.incrementFollowingCount(currentUserId);
+            memberStatsCacheService.incrementFollowerCount(targetUserId);
         } catch (CacheException e) {
             log.error(e.getMessage());
             followerUser.incrementFollowingCount();
@@ -73,13 +86,24 @@ public class FollowService {
 
         // 팔로우 알림 전송 - 팔로우를 받은 사용자에게 팔로우한 사용자의 정보와 함께 알림 전송
         // followingUser가 followerUser를 팔로우하고 있는지 확인 (상호 팔로우 여부)
-        boolean isFollowingBack = followRepository.existsByFollowerUserAndFollowingUser(followingUser, followerUser);
+        boolean isFollowingBack = followGraphService.isFollowing(targetUserId, currentUserId);
         MemberResponseDto.UserInfoWithFollowing userInfoWithFollowing = memberConverter.toUserInfoWithFollowing(followerUser, isFollowingBack);
         notifService.sendFollowingCreatedNotification(
                 targetUserId, 
                 savedFollow.getId(), 
                 userInfoWithFollowing
         );
+
+        // 커밋 이후 팔로우 그래프 갱신, 팔로잉 피드에 작성자의 최근 게시글 백필
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                followGraphService.onFollow(currentUserId, targetUserId);
+                followListCacheService.onFollow(currentUserId, targetUserId);
+                followRecommendService.onFollow(currentUserId, targetUserId);
+                followingFeedService.onFollow(currentUserId, targetUserId);
+            }
+        });
     }
 
     @Transactional
@@ -105,8 +129,8 @@ public class FollowService {
 
         //캐싱 시도
         try{
-            followCacheService.decrementFollowingCount(currentUserId);
-            followCacheService.decrementFollowerCount(targetUserId);
+            memberStatsCacheService.decrementFollowingCount(currentUserId);
+            memberStatsCacheService.decrementFollowerCount(targetUserId);
         } catch (CacheException e) {
             log.error(e.getMessage());
             followerUser.decrementFollowingCount();
@@ -114,10 +138,37 @@ public class FollowService {
         }
 
         followRepository.delete(follow);
+
+        // 커밋 이후 팔로우 그래프 갱신, 팔로잉 피드에서 작성자의 게시글 제거
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                followGraphService.onUnfollow(currentUserId, targetUserId);
+                followListCacheService.onUnfollow(currentUserId, targetUserId);
+                followRecommendService.onUnfollow(currentUserId, targetUserId);
+                followingFeedService.onUnfollow(currentUserId, targetUserId);
+            }
+        });
     }
 
 
+    /**
+     * 팔로워 목록을 조회합니다.
+     * 회원 ID 페이지는 목록 캐시에서, 회원 요약은 회원 요약 캐시에서 가져오며 Redis 장애 시 DB 조회로 대체합니다.
+     */
     public List<MemberResponseDto.UserInfo> getFollowers(Long userId, Integer limit, Long cursor) {
+        try {
+            if (!memberSummaryCacheService.exists(userId)) {
+                throw new FollowException(GeneralErrorCode.RESOURCE_NOT_FOUND, "userId");
+            }
+            List<Long> followerIds = followListCacheService.findFollowerIds(userId, cursor, limit);
+            return memberSummaryCacheService.findAllInOrder(followerIds);
+        } catch (FollowException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("팔로워 목록 캐시 조회 실패, DB 조회로 대체 - userId: {}", userId, e);
+        }
+
         if(!memberRepository.existsById(userId)){
             throw new FollowException(GeneralErrorCode.RESOURCE_NOT_FOUND, "userId");
         }
@@ -125,7 +176,22 @@ public class FollowService {
         return followRepository.findFollowersByFollowingUserWithCursor(userId, limit, cursor);
     }
 
+    /**
+     * 팔로잉 목록을 조회합니다. (getFollowers와 같은 방식)
+     */
     public List<MemberResponseDto.UserInfo> getFollowings(Long userId, Integer limit, Long cursor) {
+        try {
+            if (!memberSummaryCacheService.exists(userId)) {
+                throw new FollowException(GeneralErrorCode.RESOURCE_NOT_FOUND, "userId");
+            }
+            List<Long> followingIds = followListCacheService.findFollowingIds(userId, cursor, limit);
+            return memberSummaryCacheService.findAllInOrder(followingIds);
+        } catch (FollowException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("팔로잉 목록 캐시 조회 실패, DB 조회로 대체 - userId: {}", userId, e);
+        }
+
         if(!memberRepository.existsById(userId)){
             throw new FollowException(GeneralErrorCode.RESOURCE_NOT_FOUND, "userId");
         }
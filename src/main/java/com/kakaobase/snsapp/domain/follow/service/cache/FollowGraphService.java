@@ -0,0 +1,317 @@
+package com.kakaobase.snsapp.domain.follow.service.cache;
+
+import com.kakaobase.snsapp.domain.follow.repository.FollowRepository;
+import com.kakaobase.snsapp.domain.follow.util.FollowGraphCacheUtil;
+import com.kakaobase.snsapp.domain.follow.util.FollowGraphCacheUtil.Direction;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * 팔로우 그래프 서비스
+ *
+ * <p>"A가 B를 팔로우하는가", "A가 이 작성자들 중 누구를 팔로우하는가"를 DB 조회 없이 판단합니다.</p>
+ * <ul>
+ *     <li>회원별 팔로잉/팔로워 집합을 RoaringBitmap으로 보관하며, 처음 필요할 때 DB에서 적재합니다.</li>
+ *     <li>적재된 비트맵은 Redis에 공유되고, 최근 조회한 회원의 비트맵은 TTL 동안 노드 메모리(LRU)에 둡니다.</li>
+ *     <li>팔로우/언팔로우 커밋 이후 Redis 비트맵을 갱신하고, 모든 노드의 로컬 비트맵을 무효화합니다.</li>
+ * </ul>
+ *
+ * <p>Redis를 사용할 수 없는 경우 조회 메서드는 DB 조회로 대체합니다.</p>
+ */
+@Slf4j
+@Service
+public class FollowGraphService {
+
+    private static final int LOAD_CHUNK_SIZE = 10000;
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final FollowGraphCacheUtil graphCacheUtil;
+    private final FollowRepository followRepository;
+    private final int localCapacity;
+    private final long localTtlMillis;
+
+    /**
+     * 노드 로컬 비트맵 (접근 순서 LRU, 모든 접근은 localCache 잠금 안에서 처리)
+     */
+    private final Map<String, LocalEntry> localCache;
+
+    /**
+     * 키 구간별 무효화 세대. 적재 도중 무효화된 비트맵을 로컬에 남기지 않기 위해 사용합니다.
+     */
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public FollowGraphService(FollowGraphCacheUtil graphCacheUtil,
+                              FollowRepository followRepository,
+                              @Value("${app.follow-graph.local-capacity:10000}") int localCapacity,
+                              @Value("${app.follow-graph.local-ttl:300000}") long localTtlMillis) {
+        this.graphCacheUtil = graphCacheUtil;
+        this.followRepository = followRepository;
+        this.localCapacity = localCapacity;
+        this.localTtlMillis = localTtlMillis;
+        this.localCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+                return size() > localCapacity;
+            }
+        };
+    }
+
+    @PostConstruct
+    public void subscribeInvalidation() {
+        try {
+            graphCacheUtil.subscribeInvalidation(this::evictLocal);
+        } catch (Exception e) {
+            log.warn("팔로우 그래프 무효화 구독 실패, 로컬 비트맵은 TTL로만 만료됨", e);
+        }
+    }
+
+    /**
+     * followerId가 targetId를 팔로우하는지 확인합니다.
+     */
+    public boolean isFollowing(Long followerId, Long targetId) {
+        RoaringBitmap following = getBitmap(Direction.FOLLOWING, followerId);
+        if (following == null) {
+            return !followRepository.findFollowingMemberIdsByFollowerAndTargets(followerId, List.of(targetId)).isEmpty();
+        }
+        return following.contains(toInt(targetId));
+    }
+
+    /**
+     * targetIds 중 followerId가 팔로우하는 회원 ID를 반환합니다.
+     */
+    public Set<Long> filterFollowing(Long followerId, Collection<Long> targetIds) {
+        if (targetIds == null || targetIds.isEmpty()) {
+            return Set.of();
+        }
+
+        RoaringBitmap following = getBitmap(Direction.FOLLOWING, followerId);
+        if (following == null) {
+            return followRepository.findFollowingMemberIdsByFollowerAndTargets(followerId, List.copyOf(targetIds));
+        }
+
+        Set<Long> result = new HashSet<>();
+        for (Long targetId : targetIds) {
+            if (following.contains(toInt(targetId))) {
+                result.add(targetId);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * memberId가 팔로우하는 모든 회원 ID를 반환합니다.
+     */
+    public Set<Long> getFollowingIds(Long memberId) {
+        RoaringBitmap following = getBitmap(Direction.FOLLOWING, memberId);
+        if (following == null) {
+            return followRepository.findFollowingUserIdsByFollowerUserId(memberId);
+        }
+        return toIdSet(following);
+    }
+
+    /**
+     * memberId를 팔로우하는 모든 회원 ID를 반환합니다.
+     */
+    public Set<Long> getFollowerIds(Long memberId) {
+        RoaringBitmap followers = getBitmap(Direction.FOLLOWER, memberId);
+        if (followers == null) {
+            return toIdSet(loadFromDB(Direction.FOLLOWER, memberId));
+        }
+        return toIdSet(followers);
+    }
+
+    /**
+     * 팔로우 커밋 이후 그래프에 반영합니다.
+     */
+    public void onFollow(Long followerId, Long targetId) {
+        apply(Direction.FOLLOWING, followerId, bitmap -> bitmap.add(toInt(targetId)));
+        apply(Direction.FOLLOWER, targetId, bitmap -> bitmap.add(toInt(followerId)));
+    }
+
+    /**
+     * 언팔로우 커밋 이후 그래프에 반영합니다.
+     */
+    public void onUnfollow(Long followerId, Long targetId) {
+        apply(Direction.FOLLOWING, followerId, bitmap -> bitmap.remove(toInt(targetId)));
+        apply(Direction.FOLLOWER, targetId, bitmap -> bitmap.remove(toInt(followerId)));
+    }
+
+    /**
+     * 회원의 그래프 비트맵을 모두 버립니다. (회원 탈퇴 등 대량 변경 시)
+     */
+    public void evict(Long memberId) {
+        for (Direction direction : Direction.values()) {
+            evictLocal(direction, memberId);
+            try {
+                graphCacheUtil.withLock(direction, memberId, () -> {
+                    graphCacheUtil.delete(direction, memberId);
+                    return null;
+                });
+                graphCacheUtil.publishInvalidation(direction, memberId);
+            } catch (Exception e) {
+                log.warn("팔로우 그래프 삭제 실패 - direction: {}, memberId: {}", direction, memberId, e);
+            }
+        }
+    }
+
+    /**
+     * Redis에 적재된 비트맵이 있을 때만 변경을 반영합니다.
+     * 적재되지 않은 회원은 다음 조회 시 DB에서 최신 상태로 적재되므로 반영할 필요가 없습니다.
+     */
+    private void apply(Direction direction, Long memberId, Consumer<RoaringBitmap> change) {
+        evictLocal(direction, memberId);
+        try {
+            graphCacheUtil.withLock(direction, memberId, () -> {
+                RoaringBitmap bitmap = graphCacheUtil.load(direction, memberId);
+                if (bitmap != null) {
+                    change.accept(bitmap);
+                    graphCacheUtil.save(direction, memberId, bitmap);
+                }
+                return null;
+            });
+            graphCacheUtil.publishInvalidation(direction, memberId);
+        } catch (Exception e) {
+            // 갱신하지 못한 비트맵은 최신 상태를 보장할 수 없으므로 제거
+            log.warn("팔로우 그래프 갱신 실패, 비트맵 삭제 시도 - direction: {}, memberId: {}", direction, memberId, e);
+            try {
+                graphCacheUtil.delete(direction, memberId);
+                graphCacheUtil.publishInvalidation(direction, memberId);
+            } catch (Exception ignored) {
+                log.error("팔로우 그래프 비트맵 삭제 실패 - direction: {}, memberId: {}", direction, memberId);
+            }
+        }
+    }
+
+    /**
+     * 로컬 → Redis → DB 순으로 비트맵을 조회합니다.
+     *
+     * @return 비트맵, Redis를 사용할 수 없으면 null
+     */
+    private RoaringBitmap getBitmap(Direction direction, Long memberId) {
+        String localKey = localKey(direction, memberId);
+        long now = System.currentTimeMillis();
+
+        RoaringBitmap cached = getLocal(localKey, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        int stripe = stripe(localKey);
+        long generation = generations.get(stripe);
+
+        try {
+            RoaringBitmap bitmap = graphCacheUtil.load(direction, memberId);
+            if (bitmap == null) {
+                bitmap = graphCacheUtil.withLock(direction, memberId, () -> {
+                    RoaringBitmap loaded = graphCacheUtil.load(direction, memberId);
+                    if (loaded == null) {
+                        loaded = loadFromDB(direction, memberId);
+                        graphCacheUtil.save(direction, memberId, loaded);
+                    }
+                    return loaded;
+                });
+            }
+
+            putLocal(localKey, new LocalEntry(bitmap, now), stripe, generation);
+            return bitmap;
+        } catch (Exception e) {
+            log.warn("팔로우 그래프 조회 실패, DB 조회로 대체 - direction: {}, memberId: {}", direction, memberId, e);
+            return null;
+        }
+    }
+
+    private RoaringBitmap loadFromDB(Direction direction, Long memberId) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+
+        if (direction == Direction.FOLLOWING) {
+            followRepository.findFollowingUserIdsByFollowerUserId(memberId)
+                    .forEach(id -> bitmap.add(toInt(id)));
+            return bitmap;
+        }
+
+        Long cursor = null;
+        while (true) {
+            List<Long> followerIds = followRepository.findFollowerIdsByFollowingUserId(memberId, cursor, LOAD_CHUNK_SIZE);
+            followerIds.forEach(id -> bitmap.add(toInt(id)));
+            if (followerIds.size() < LOAD_CHUNK_SIZE) {
+                return bitmap;
+            }
+            cursor = followerIds.get(followerIds.size() - 1);
+        }
+    }
+
+    /**
+     * 적재 후 TTL이 지나지 않은 로컬 비트맵을 반환합니다. 조회한 비트맵은 LRU 순서상 가장 최근으로 옮겨집니다.
+     */
+    private RoaringBitmap getLocal(String localKey, long now) {
+        synchronized (localCache) {
+            LocalEntry entry = localCache.get(localKey);
+            if (entry == null) {
+                return null;
+            }
+            if (now - entry.loadedAt() >= localTtlMillis) {
+                localCache.remove(localKey);
+                return null;
+            }
+            return entry.bitmap();
+        }
+    }
+
+    /**
+     * 적재를 시작한 뒤 무효화가 있었다면 비트맵을 넣지 않습니다.
+     * 무효화는 세대를 올린 뒤 잠금 안에서 제거하므로, 잠금 안에서 세대를 확인하면 어느 순서로 겹쳐도 오래된 비트맵이 남지 않습니다.
+     * 용량을 넘으면 가장 오래 조회되지 않은 비트맵이 제거됩니다.
+     */
+    private void putLocal(String localKey, LocalEntry entry, int stripe, long generation) {
+        synchronized (localCache) {
+            if (generations.get(stripe) == generation) {
+                localCache.put(localKey, entry);
+            }
+        }
+    }
+
+    private void evictLocal(Direction direction, Long memberId) {
+        String localKey = localKey(direction, memberId);
+        generations.incrementAndGet(stripe(localKey));
+        synchronized (localCache) {
+            localCache.remove(localKey);
+        }
+    }
+
+    private int stripe(String localKey) {
+        return Math.floorMod(localKey.hashCode(), GENERATION_STRIPES);
+    }
+
+    private String localKey(Direction direction, Long memberId) {
+        return direction.name() + ":" + memberId;
+    }
+
+    private Set<Long> toIdSet(RoaringBitmap bitmap) {
+        Set<Long> ids = new HashSet<>(bitmap.getCardinality() * 2);
+        bitmap.forEach((int value) -> ids.add(Integer.toUnsignedLong(value)));
+        return ids;
+    }
+
+    /**
+     * 회원 ID(INT UNSIGNED)를 비트맵 값으로 변환
+     */
+    private static int toInt(Long memberId) {
+        return (int) memberId.longValue();
+    }
+
+    private record LocalEntry(RoaringBitmap bitmap, long loadedAt) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.kakaobase.snsapp.domain.follow.service.cache;
+
+import com.kakaobase.snsapp.domain.follow.util.FollowListCacheUtil;
+import com.kakaobase.snsapp.domain.follow.util.FollowListCacheUtil.ListType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 팔로워/팔로잉 목록 페이지 캐시 서비스
+ *
+ * <p>회원별 목록을 Redis Sorted Set으로 유지하고 커서 페이지를 점수 범위 조회로 잘라냅니다.
+ * 목록이 없으면 팔로우 그래프 비트맵에서 전체를 구성하므로, 그래프가 적재된 회원은 MySQL을 조회하지 않습니다.
+ * 팔로우/언팔로우 커밋 이후 목록에 항상 증분 반영하고, 구성 여부는 완료 표식으로만 판단합니다.
+ * 따라서 구성 도중 들어온 팔로우는 교체 시 함께 합쳐지고, 언팔로우는 제거 표식으로 걸러집니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FollowListCacheService {
+
+    private final FollowListCacheUtil listCacheUtil;
+    private final FollowGraphService followGraphService;
+
+    /**
+     * memberId를 팔로우하는 회원 ID를 커서 이후부터 오름차순으로 조회합니다.
+     */
+    public List<Long> findFollowerIds(Long memberId, Long cursor, int limit) {
+        if (!listCacheUtil.isBuilt(ListType.FOLLOWERS, memberId)) {
+            listCacheUtil.rebuild(ListType.FOLLOWERS, memberId, followGraphService.getFollowerIds(memberId));
+        }
+        return listCacheUtil.findPage(ListType.FOLLOWERS, memberId, cursor, limit);
+    }
+
+    /**
+     * memberId가 팔로우하는 회원 ID를 커서 이후부터 오름차순으로 조회합니다.
+     */
+    public List<Long> findFollowingIds(Long memberId, Long cursor, int limit) {
+        if (!listCacheUtil.isBuilt(ListType.FOLLOWINGS, memberId)) {
+            listCacheUtil.rebuild(ListType.FOLLOWINGS, memberId, followGraphService.getFollowingIds(memberId));
+        }
+        return listCacheUtil.findPage(ListType.FOLLOWINGS, memberId, cursor, limit);
+    }
+
+    /**
+     * 팔로우 커밋 이후 호출됩니다.
+     */
+    public void onFollow(Long followerId, Long targetId) {
+        try {
+            listCacheUtil.add(ListType.FOLLOWERS, targetId, followerId);
+            listCacheUtil.add(ListType.FOLLOWINGS, followerId, targetId);
+        } catch (Exception e) {
+            log.warn("팔로우 목록 캐시 갱신 실패, 목록 삭제 시도 - followerId: {}, targetId: {}", followerId, targetId, e);
+            evictQuietly(followerId, targetId);
+        }
+    }
+
+    /**
+     * 언팔로우 커밋 이후 호출됩니다.
+     */
+    public void onUnfollow(Long followerId, Long targetId) {
+        try {
+            listCacheUtil.remove(ListType.FOLLOWERS, targetId, followerId);
+            listCacheUtil.remove(ListType.FOLLOWINGS, followerId, targetId);
+        } catch (Exception e) {
+            log.warn("팔로우 목록 캐시 갱신 실패, 목록 삭제 시도 - followerId: {}, targetId: {}", followerId, targetId, e);
+            evictQuietly(followerId, targetId);
+        }
+    }
+
+    /**
+     * 회원의 팔로워/팔로잉 목록을 모두 버립니다.
+     */
+    public void evict(Long memberId) {
+        try {
+            listCacheUtil.delete(ListType.FOLLOWERS, memberId);
+            listCacheUtil.delete(ListType.FOLLOWINGS, memberId);
+        } catch (Exception e) {
+            log.error("팔로우 목록 캐시 삭제 실패 - memberId: {}", memberId, e);
+        }
+    }
+
+    private void evictQuietly(Long followerId, Long targetId) {
+        try {
+            listCacheUtil.delete(ListType.FOLLOWERS, targetId);
+            listCacheUtil.delete(ListType.FOLLOWINGS, followerId);
+        } catch (Exception e) {
+            log.error("팔로우 목록 캐시 삭제 실패 - followerId: {}, targetId: {}", followerId, targetId);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.kakaobase.snsapp.domain.follow.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RLock;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.StringCodec;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * 팔로우 그래프 비트맵 Redis 저장소
+ *
+ * <p>회원별 팔로잉/팔로워 ID 집합을 직렬화한 RoaringBitmap으로 저장합니다.
+ * 회원 하나가 키 하나를 차지하므로 Redis 클러스터에서는 회원 단위로 샤딩됩니다.
+ * 회원 ID는 INT UNSIGNED이므로 비트맵에는 부호 없는 32비트 값으로 저장됩니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowGraphCacheUtil {
+
+    private static final String KEY_PREFIX = "follow:graph:";
+    private static final String LOCK_PREFIX = "lock:follow:graph:";
+    private static final String INVALIDATE_TOPIC = "follow:graph:invalidate";
+
+    private static final Duration TTL = Duration.ofDays(1);
+    private static final long LOCK_WAIT_MILLIS = 3000;
+    private static final long LOCK_LEASE_MILLIS = 10000;
+
+    private final RedissonClient redissonClient;
+
+    public enum Direction {
+        /** 회원이 팔로우하는 사람들 */
+        FOLLOWING,
+        /** 회원을 팔로우하는 사람들 */
+        FOLLOWER
+    }
+
+    /**
+     * @return 저장된 비트맵, 없으면 null
+     */
+    public RoaringBitmap load(Direction direction, Long memberId) {
+        byte[] bytes = bucket(direction, memberId).get();
+        return bytes != null ? deserialize(bytes) : null;
+    }
+
+    public void save(Direction direction, Long memberId, RoaringBitmap bitmap) {
+        bucket(direction, memberId).set(serialize(bitmap), TTL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void delete(Direction direction, Long memberId) {
+        bucket(direction, memberId).delete();
+    }
+
+    /**
+     * 같은 회원/방향의 비트맵 적재와 변경이 겹치지 않도록 분산 락 안에서 실행합니다.
+     */
+    public <T> T withLock(Direction direction, Long memberId, Supplier<T> action) {
+        RLock lock = redissonClient.getLock(LOCK_PREFIX + key(direction, memberId));
+        boolean acquired = false;
+        try {
+            acquired = lock.tryLock(LOCK_WAIT_MILLIS, LOCK_LEASE_MILLIS, TimeUnit.MILLISECONDS);
+            if (!acquired) {
+                throw new IllegalStateException("팔로우 그래프 락 획득 실패: " + key(direction, memberId));
+            }
+            return action.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("팔로우 그래프 락 대기 중 인터럽트", e);
+        } finally {
+            if (acquired && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 다른 노드의 로컬 비트맵을 무효화하도록 알립니다.
+     */
+    public void publishInvalidation(Direction direction, Long memberId) {
+        topic().publish(direction.name() + ":" + memberId);
+    }
+
+    public void subscribeInvalidation(BiConsumer<Direction, Long> listener) {
+        topic().addListener(String.class, (channel, message) -> {
+            int separator = message.indexOf(':');
+            listener.accept(Direction.valueOf(message.substring(0, separator)),
+                    Long.parseLong(message.substring(separator + 1)));
+        });
+    }
+
+    private RBucket<byte[]> bucket(Direction direction, Long memberId) {
+        return redissonClient.getBucket(key(direction, memberId), ByteArrayCodec.INSTANCE);
+    }
+
+    private RTopic topic() {
+        return redissonClient.getTopic(INVALIDATE_TOPIC, StringCodec.INSTANCE);
+    }
+
+    private String key(Direction direction, Long memberId) {
+        return KEY_PREFIX + direction.name().toLowerCase() + ":" + memberId;
+    }
+
+    private byte[] serialize(RoaringBitmap bitmap) {
+        bitmap.runOptimize();
+        ByteBuffer buffer = ByteBuffer.allocate(bitmap.serializedSizeInBytes());
+        bitmap.serialize(buffer);
+        return buffer.array();
+    }
+
+    private RoaringBitmap deserialize(byte[] bytes) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        try {
+            bitmap.deserialize(ByteBuffer.wrap(bytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException("팔로우 그래프 비트맵 역직렬화 실패", e);
+        }
+        return bitmap;
+    }
+}
@@ -0,0 +1,155 @@
+package com.kakaobase.snsapp.domain.follow.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 팔로워/팔로잉 목록 Sorted Set을 관리하는 유틸리티
+ *
+ * <p>목록 API가 회원 ID 오름차순, 커서는 마지막 회원 ID이므로 점수로 회원 ID를 그대로 사용합니다.
+ * 빈 목록도 구성 완료 상태로 구분할 수 있도록 별도 표식 키를 둡니다.
+ * 전체 구성은 별도 키에 채운 뒤 Lua 스크립트로 원자적으로 교체합니다.</p>
+ *
+ * <p>구성에 쓰는 회원 ID는 구성 시작 전에 읽은 스냅샷이므로, 그 사이 커밋된 언팔로우는 스냅샷에 남아 있을 수 있습니다.
+ * 제거 시 짧은 기간 제거 표식을 남기고 교체 스크립트가 표식된 회원을 빼므로 언팔로우가 되살아나지 않습니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowListCacheUtil {
+
+    private static final String KEY_FORMAT = "follow:list:%s:%d";
+    private static final String BUILT_KEY_FORMAT = "follow:list:%s:built:%d";
+
+    private static final String BUILDING_KEY_FORMAT = "follow:list:%s:building:%d";
+    private static final String REMOVED_KEY_FORMAT = "follow:list:%s:removed:%d";
+
+    private static final Duration TTL = Duration.ofDays(1);
+
+    /**
+     * 구성 도중 실패해 남은 구성 중 키를 정리하기 위한 만료 시간
+     */
+    private static final Duration BUILDING_TTL = Duration.ofMinutes(1);
+
+    /**
+     * 제거 표식 보관 기간. 스냅샷을 읽은 뒤 교체까지 걸리는 시간보다 길어야 합니다.
+     */
+    private static final Duration REMOVED_TTL = Duration.ofMinutes(5);
+
+    /**
+     * 구성 중 키(KEYS[1])에서 제거 표식(KEYS[4])된 회원을 빼고 현재 목록(KEYS[2])을 합친 뒤
+     * 목록으로 교체하고 구성 완료 표식(KEYS[3])을 남깁니다.
+     */
+    private static final DefaultRedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  for _, member in ipairs(redis.call('SMEMBERS', KEYS[4])) do " +
+            "    redis.call('ZREM', KEYS[1], member) " +
+            "  end " +
+            "  redis.call('ZUNIONSTORE', KEYS[1], 2, KEYS[1], KEYS[2], 'AGGREGATE', 'MAX') " +
+            "  redis.call('RENAME', KEYS[1], KEYS[2]) " +
+            "  redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+            "end " +
+            "redis.call('SET', KEYS[3], '1', 'EX', ARGV[1]) " +
+            "return 1",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public enum ListType {
+        FOLLOWERS,
+        FOLLOWINGS
+    }
+
+    /**
+     * 목록 전체를 주어진 회원 ID로 구성합니다.
+     * 구성 중 키에 먼저 채운 뒤 그 사이 반영된 팔로우와 합쳐 한 번에 교체하므로, 조회 중인 목록이 비거나 구성 중 팔로우가 유실되지 않습니다.
+     * 스냅샷 이후 제거된 회원은 제거 표식으로 걸러내므로 언팔로우도 되살아나지 않습니다.
+     */
+    public void rebuild(ListType type, Long ownerId, Collection<Long> memberIds) {
+        String buildingKey = buildingKey(type, ownerId);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long memberId : memberIds) {
+                stringConnection.zAdd(buildingKey, memberId, memberId.toString());
+            }
+            stringConnection.expire(buildingKey, BUILDING_TTL.toSeconds());
+            return null;
+        });
+
+        stringRedisTemplate.execute(
+                SWAP_SCRIPT,
+                List.of(buildingKey, key(type, ownerId), builtKey(type, ownerId), removedKey(type, ownerId)),
+                String.valueOf(TTL.toSeconds())
+        );
+    }
+
+    public boolean isBuilt(ListType type, Long ownerId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(builtKey(type, ownerId)));
+    }
+
+    /**
+     * cursor보다 큰 회원 ID를 오름차순으로 조회합니다.
+     */
+    public List<Long> findPage(ListType type, Long ownerId, Long cursor, int limit) {
+        double min = (cursor != null) ? cursor + 1 : Double.NEGATIVE_INFINITY;
+        Set<String> members = stringRedisTemplate.opsForZSet()
+                .rangeByScore(key(type, ownerId), min, Double.POSITIVE_INFINITY, 0, limit);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    /**
+     * 목록에 추가합니다. 구성 여부와 관계없이 항상 기록해 구성 중인 목록에도 반영되며,
+     * 구성되지 않은 목록은 다음 조회 시 전체가 구성됩니다. 다시 팔로우한 회원은 제거 표식도 지웁니다.
+     */
+    public void add(ListType type, Long ownerId, Long memberId) {
+        String key = key(type, ownerId);
+        stringRedisTemplate.opsForSet().remove(removedKey(type, ownerId), memberId.toString());
+        stringRedisTemplate.opsForZSet().add(key, memberId.toString(), memberId);
+        stringRedisTemplate.expire(key, TTL);
+    }
+
+    /**
+     * 목록과 구성 중인 목록에서 모두 제거하고, 진행 중인 구성의 스냅샷에서도 빠지도록 제거 표식을 남깁니다.
+     */
+    public void remove(ListType type, Long ownerId, Long memberId) {
+        String removedKey = removedKey(type, ownerId);
+        stringRedisTemplate.opsForSet().add(removedKey, memberId.toString());
+        stringRedisTemplate.expire(removedKey, REMOVED_TTL);
+        stringRedisTemplate.opsForZSet().remove(key(type, ownerId), memberId.toString());
+        stringRedisTemplate.opsForZSet().remove(buildingKey(type, ownerId), memberId.toString());
+    }
+
+    public void delete(ListType type, Long ownerId) {
+        stringRedisTemplate.delete(List.of(key(type, ownerId), builtKey(type, ownerId)));
+    }
+
+    private String key(ListType type, Long ownerId) {
+        return String.format(KEY_FORMAT, type.name().toLowerCase(), ownerId);
+    }
+
+    private String buildingKey(ListType type, Long ownerId) {
+        return String.format(BUILDING_KEY_FORMAT, type.name().toLowerCase(), ownerId);
+    }
+
+    private String removedKey(ListType type, Long ownerId) {
+        return String.format(REMOVED_KEY_FORMAT, type.name().toLowerCase(), ownerId);
+    }
+
+    private String builtKey(ListType type, Long ownerId) {
+        return String.format(BUILT_KEY_FORMAT, type.name().toLowerCase(), ownerId);
+    }
+}
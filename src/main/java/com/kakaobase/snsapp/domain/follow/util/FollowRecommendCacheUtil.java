@@ -0,0 +1,121 @@
+package com.kakaobase.snsapp.domain.follow.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 팔로우 추천 목록 Sorted Set을 관리하는 유틸리티
+ *
+ * <p>회원별로 미리 계산된 추천 회원 ID를 점수(공통 팔로우 수 + 같은 기수 가중치)와 함께 저장합니다.
+ * 추천 목록은 임시 키에 쓴 뒤 RENAME으로 교체하므로 조회 중 빈 목록이 보이지 않습니다.
+ * 임시 키와 본 키는 같은 해시 슬롯에 배치되도록 회원 ID를 해시 태그로 사용합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowRecommendCacheUtil {
+
+    private static final String KEY_FORMAT = "follow:recommend:{%d}";
+    private static final String TMP_KEY_FORMAT = "follow:recommend:{%d}:tmp";
+    private static final String DIRTY_KEY = "follow:recommend:dirty";
+
+    /**
+     * 정기 전체 갱신 주기보다 길게 유지
+     */
+    private static final Duration TTL = Duration.ofDays(3);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 여러 회원의 추천 목록을 한 번의 파이프라인으로 교체합니다.
+     *
+     * @param recommendations 회원 ID → (추천 회원 ID → 점수)
+     */
+    public void saveAll(Map<Long, Map<Long, Double>> recommendations) {
+        if (recommendations.isEmpty()) {
+            return;
+        }
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            recommendations.forEach((memberId, candidates) -> {
+                String key = String.format(KEY_FORMAT, memberId);
+                if (candidates.isEmpty()) {
+                    // 추천할 회원이 없다는 계산 결과도 남겨 조회 시 재계산하지 않도록 함
+                    stringConnection.del(key);
+                    stringConnection.zAdd(key, 0, "");
+                    stringConnection.expire(key, TTL.toSeconds());
+                    return;
+                }
+
+                String tmpKey = String.format(TMP_KEY_FORMAT, memberId);
+                stringConnection.del(tmpKey);
+                candidates.forEach((candidateId, score) ->
+                        stringConnection.zAdd(tmpKey, score, candidateId.toString()));
+                stringConnection.rename(tmpKey, key);
+                stringConnection.expire(key, TTL.toSeconds());
+            });
+            return null;
+        });
+    }
+
+    /**
+     * 점수 내림차순으로 추천 회원 ID를 조회합니다.
+     *
+     * @return 추천 회원 ID, 아직 계산되지 않은 회원이면 null
+     */
+    public List<Long> find(Long memberId, int limit) {
+        String key = String.format(KEY_FORMAT, memberId);
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                stringRedisTemplate.opsForZSet().reverseRangeWithScores(key, 0, limit - 1);
+
+        if (tuples == null || tuples.isEmpty()) {
+            return null;
+        }
+
+        List<Long> candidateIds = new ArrayList<>(tuples.size());
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            if (tuple.getValue() != null && !tuple.getValue().isEmpty()) {
+                candidateIds.add(Long.valueOf(tuple.getValue()));
+            }
+        }
+        return candidateIds;
+    }
+
+    public void remove(Long memberId, Long candidateId) {
+        stringRedisTemplate.opsForZSet().remove(String.format(KEY_FORMAT, memberId), candidateId.toString());
+    }
+
+    /**
+     * 추천 목록을 다시 계산해야 하는 회원으로 표시합니다.
+     */
+    public void markDirty(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.opsForSet().add(DIRTY_KEY, memberIds.stream().map(String::valueOf).toArray(String[]::new));
+    }
+
+    /**
+     * 재계산 대상 회원을 최대 count명 꺼냅니다.
+     */
+    public List<Long> popDirty(int count) {
+        List<String> values = stringRedisTemplate.opsForSet().pop(DIRTY_KEY, count);
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream().map(Long::valueOf).toList();
+    }
+}
@@ -1,14 +1,15 @@
 package com.kakaobase.snsapp.domain.members.converter;
 
-import com.kakaobase.snsapp.domain.follow.service.FollowCacheService;
 import com.kakaobase.snsapp.domain.members.dto.MemberRequestDto;
 import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
 import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.members.service.cache.MemberStatsCacheService;
 import com.kakaobase.snsapp.global.common.redis.CacheRecord;
 import com.kakaobase.snsapp.global.common.redis.error.CacheException;
 import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
 import com.kakaobase.snsapp.global.error.exception.CustomException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
@@ -19,12 +20,13 @@ import java.util.stream.Collectors;
  * Member 도메인의 객체 변환을 담당하는 컨버터입니다.
  * DTO와 Entity 사이의 변환을 처리합니다.
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class MemberConverter {
 
     private final PasswordEncoder passwordEncoder;
-    private final FollowCacheService followCacheService;
+    private final MemberStatsCacheService memberStatsCacheService;
 
     /**
      * 회원가입 요청 DTO를 Member 엔티티로 변환합니다.
@@ -95,38 +97,39 @@ public class MemberConverter {
                 .build();
     }
 
-    public MemberResponseDto.Mypage toMypage(Member member, Long postCount, Boolean isMe, boolean isFollowing) {
+    /**
+     * 마이페이지 응답 생성. 게시글/팔로워/팔로잉 수는 MemberStatsCache 한 번의 조회로 채우고,
+     * 캐시를 사용할 수 없으면 회원 엔티티의 카운트 컬럼을 사용합니다.
+     */
+    public MemberResponseDto.Mypage toMypage(Member member, Boolean isMe, boolean isFollowing) {
+        Long postCount = member.getPostCount();
+        Long followerCount = member.getFollowerCount();
+        Long followingCount = member.getFollowingCount();
+
         try {
-            CacheRecord.FollowStatsCache cacheData = followCacheService.findBy(member.getId());
-            return MemberResponseDto.Mypage
-                    .builder()
-                    .id(member.getId())
-                    .name(member.getName())
-                    .nickname(member.getNickname())
-                    .imageUrl(member.getProfileImgUrl())
-                    .githubUrl(member.getGithubUrl())
-                    .className(member.getClassName())
-                    .postCount(postCount)
-                    .followerCount(cacheData.followerCount())
-                    .followingCount(cacheData.followingCount())
-                    .isMe(isMe)
-                    .isFollowed(isFollowing)
-                    .build();
+            CacheRecord.MemberStatsCache cacheData = memberStatsCacheService.findBy(member.getId());
+            if (cacheData != null) {
+                postCount = cacheData.postCount();
+                followerCount = cacheData.followerCount();
+                followingCount = cacheData.followingCount();
+            }
         } catch (CacheException e) {
-            return MemberResponseDto.Mypage
-                    .builder()
-                    .id(member.getId())
-                    .name(member.getName())
-                    .nickname(member.getNickname())
-                    .imageUrl(member.getProfileImgUrl())
-                    .githubUrl(member.getGithubUrl())
-                    .className(member.getClassName())
-                    .postCount(postCount)
-                    .followerCount(member.getFollowerCount())
-                    .followingCount(member.getFollowingCount())
-                    .isMe(isMe)
-                    .isFollowed(isFollowing)
-                    .build();
+            log.warn("회원 통계 캐시 조회 실패, DB 값으로 대체 - memberId: {}", member.getId());
         }
+
+        return MemberResponseDto.Mypage
+                .builder()
+                .id(member.getId())
+                .name(member.getName())
+                .nickname(member.getNickname())
+                .imageUrl(member.getProfileImgUrl())
+                .githubUrl(member.getGithubUrl())
+                .className(member.getClassName())
+                .postCount(postCount)
+                .followerCount(followerCount)
+                .followingCount(followingCount)
+                .isMe(isMe)
+                .isFollowed(isFollowing)
+                .build();
     }
 }
\ No newline at end of file
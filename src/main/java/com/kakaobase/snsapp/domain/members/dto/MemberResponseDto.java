@@ -52,7 +52,14 @@ public class MemberResponseDto {
             @Schema(description = "팔로우 여부", example = "false")
             @JsonProperty("is_followed")
             boolean isFollowed
-    ) {}
+    ) {
+        /**
+         * 작성자 ID만 조회하는 프로젝션용 (닉네임/이미지는 회원 요약 캐시로 채움)
+         */
+        public UserInfoWithFollowing(Long id) {
+            this(id, null, null, false);
+        }
+    }
 
     @Schema(description = "마이페이지 조회 회원 정보 DTO")
     @Builder
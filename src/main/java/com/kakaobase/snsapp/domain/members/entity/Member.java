@@ -80,6 +80,10 @@ public class Member extends BaseSoftDeletableEntity {
     @ColumnDefault("0")
     private Long followerCount = 0L;
 
+    @Column(name = "post_count", nullable = false)
+    @ColumnDefault("0")
+    private Long postCount = 0L;
+
     @Builder
     public Member(String email, String name, String nickname, String password, ClassName className, String githubUrl) {
         this.email = email;
@@ -188,6 +192,26 @@ public class Member extends BaseSoftDeletableEntity {
         }
     }
 
+    public void updatePostCount(Long postCount) {
+        this.postCount = postCount;
+    }
+
+    /**
+     * 게시글 카운트를 증가시킵니다.
+     */
+    public void incrementPostCount() {
+        this.postCount++;
+    }
+
+    /**
+     * 게시글 카운트를 감소시킵니다.
+     */
+    public void decrementPostCount() {
+        if (this.postCount > 0) {
+            this.postCount--;
+        }
+    }
+
     /**
      * 회원 역할을 문자열로 반환합니다.
      * JWT 토큰에 반환하는 타입 호환성을 위해 별도로 선언됩니다.
@@ -1,11 +1,13 @@
 package com.kakaobase.snsapp.domain.members.repository;
 
+import com.kakaobase.snsapp.domain.follow.dto.RecommendMember;
 import com.kakaobase.snsapp.domain.members.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -86,4 +88,21 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     List<Member> findAllByNicknameIn(List<String> nicknames);
 
     Optional<Member> findFirstByRole(Member.Role role);
+
+    /**
+     * 팔로우 추천 대상이 될 수 있는 활성 회원의 ID와 기수를 ID 순으로 조회합니다.
+     *
+     * @param excludedRole 추천에서 제외할 역할 (봇)
+     */
+    @Query("SELECT new com.kakaobase.snsapp.domain.follow.dto.RecommendMember(m.id, m.className) " +
+            "FROM Member m WHERE m.role <> :excludedRole ORDER BY m.id")
+    List<RecommendMember> findRecommendMembers(@Param("excludedRole") Member.Role excludedRole);
+
+    /**
+     * 주어진 ID 중 팔로우 추천 대상이 될 수 있는 활성 회원의 ID와 기수를 조회합니다.
+     */
+    @Query("SELECT new com.kakaobase.snsapp.domain.follow.dto.RecommendMember(m.id, m.className) " +
+            "FROM Member m WHERE m.id IN :ids AND m.role <> :excludedRole")
+    List<RecommendMember> findRecommendMembersByIdIn(@Param("ids") Collection<Long> ids,
+                                                     @Param("excludedRole") Member.Role excludedRole);
 }
\ No newline at end of file
@@ -0,0 +1,293 @@
+package com.kakaobase.snsapp.domain.members.repository;
+
+import com.kakaobase.snsapp.domain.auth.entity.QAuthToken;
+import com.kakaobase.snsapp.domain.chat.entity.QChatMessage;
+import com.kakaobase.snsapp.domain.chat.entity.QChatRoom;
+import com.kakaobase.snsapp.domain.chat.entity.QChatRoomMember;
+import com.kakaobase.snsapp.domain.comments.entity.QComment;
+import com.kakaobase.snsapp.domain.comments.entity.QCommentLike;
+import com.kakaobase.snsapp.domain.comments.entity.QRecomment;
+import com.kakaobase.snsapp.domain.comments.entity.QRecommentLike;
+import com.kakaobase.snsapp.domain.follow.entity.QFollow;
+import com.kakaobase.snsapp.domain.members.entity.QMember;
+import com.kakaobase.snsapp.domain.notification.dto.records.UnreadNotificationCount;
+import com.kakaobase.snsapp.domain.notification.entity.QNotification;
+import com.kakaobase.snsapp.domain.posts.entity.QPost;
+import com.kakaobase.snsapp.domain.posts.entity.QPostLike;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 회원 탈퇴 후 회원과 연결된 행을 id 구간 단위로 정리하기 위한 Repository
+ *
+ * <p>find* 메서드는 cursor 이후의 id를 오름차순으로 최대 limit개 조회하고,
+ * delete, decrement 메서드는 조회된 구간만 처리하므로 청크 하나가 잠그는 행 수가 제한됩니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberTeardownRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    // === 팔로우 ===
+
+    /**
+     * 회원이 팔로우한 관계 (follow ID, 팔로우 대상 ID)
+     */
+    public List<Tuple> findFollowings(Long memberId, Long cursor, int limit) {
+        QFollow follow = QFollow.follow;
+
+        return queryFactory
+                .select(follow.id, follow.followingUser.id)
+                .from(follow)
+                .where(follow.followerUser.id.eq(memberId), follow.id.gt(cursor))
+                .orderBy(follow.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 회원을 팔로우한 관계 (follow ID, 팔로워 ID)
+     */
+    public List<Tuple> findFollowers(Long memberId, Long cursor, int limit) {
+        QFollow follow = QFollow.follow;
+
+        return queryFactory
+                .select(follow.id, follow.followerUser.id)
+                .from(follow)
+                .where(follow.followingUser.id.eq(memberId), follow.id.gt(cursor))
+                .orderBy(follow.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    public void deleteFollows(Collection<Long> followIds) {
+        QFollow follow = QFollow.follow;
+
+        queryFactory.delete(follow)
+                .where(follow.id.in(followIds))
+                .execute();
+    }
+
+    public void decrementFollowerCounts(Collection<Long> memberIds) {
+        QMember member = QMember.member;
+
+        queryFactory.update(member)
+                .set(member.followerCount, member.followerCount.subtract(1))
+                .where(member.id.in(memberIds), member.followerCount.gt(0))
+                .execute();
+    }
+
+    public void decrementFollowingCounts(Collection<Long> memberIds) {
+        QMember member = QMember.member;
+
+        queryFactory.update(member)
+                .set(member.followingCount, member.followingCount.subtract(1))
+                .where(member.id.in(memberIds), member.followingCount.gt(0))
+                .execute();
+    }
+
+    // === 좋아요 ===
+
+    public List<Long> findLikedPostIds(Long memberId, Long cursor, int limit) {
+        QPostLike postLike = QPostLike.postLike;
+
+        return queryFactory
+                .select(postLike.id.postId)
+                .from(postLike)
+                .where(postLike.id.memberId.eq(memberId), postLike.id.postId.gt(cursor))
+                .orderBy(postLike.id.postId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    public void deletePostLikes(Long memberId, Collection<Long> postIds) {
+        QPostLike postLike = QPostLike.postLike;
+
+        queryFactory.delete(postLike)
+                .where(postLike.id.memberId.eq(memberId), postLike.id.postId.in(postIds))
+                .execute();
+    }
+
+    public void decrementPostLikeCounts(Collection<Long> postIds) {
+        QPost post = QPost.post;
+
+        queryFactory.update(post)
+                .set(post.likeCount, post.likeCount.subtract(1))
+                .where(post.id.in(postIds), post.likeCount.gt(0))
+                .execute();
+    }
+
+    public List<Long> findLikedCommentIds(Long memberId, Long cursor, int limit) {
+        QCommentLike commentLike = QCommentLike.commentLike;
+
+        return queryFactory
+                .select(commentLike.id.commentId)
+                .from(commentLike)
+                .where(commentLike.id.memberId.eq(memberId), commentLike.id.commentId.gt(cursor))
+                .orderBy(commentLike.id.commentId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    public void deleteCommentLikes(Long memberId, Collection<Long> commentIds) {
+        QCommentLike commentLike = QCommentLike.commentLike;
+
+        queryFactory.delete(commentLike)
+                .where(commentLike.id.memberId.eq(memberId), commentLike.id.commentId.in(commentIds))
+                .execute();
+    }
+
+    public void decrementCommentLikeCounts(Collection<Long> commentIds) {
+        QComment comment = QComment.comment;
+
+        queryFactory.update(comment)
+                .set(comment.likeCount, comment.likeCount.subtract(1))
+                .where(comment.id.in(commentIds), comment.likeCount.gt(0))
+                .execute();
+    }
+
+    public List<Long> findLikedRecommentIds(Long memberId, Long cursor, int limit) {
+        QRecommentLike recommentLike = QRecommentLike.recommentLike;
+
+        return queryFactory
+                .select(recommentLike.id.recommentId)
+                .from(recommentLike)
+                .where(recommentLike.id.memberId.eq(memberId), recommentLike.id.recommentId.gt(cursor))
+                .orderBy(recommentLike.id.recommentId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    public void deleteRecommentLikes(Long memberId, Collection<Long> recommentIds) {
+        QRecommentLike recommentLike = QRecommentLike.recommentLike;
+
+        queryFactory.delete(recommentLike)
+                .where(recommentLike.id.memberId.eq(memberId), recommentLike.id.recommentId.in(recommentIds))
+                .execute();
+    }
+
+    public void decrementRecommentLikeCounts(Collection<Long> recommentIds) {
+        QRecomment recomment = QRecomment.recomment;
+
+        queryFactory.update(recomment)
+                .set(recomment.likeCount, recomment.likeCount.subtract(1))
+                .where(recomment.id.in(recommentIds), recomment.likeCount.gt(0))
+                .execute();
+    }
+
+    // === 알림 / 인증 토큰 ===
+
+    public List<Long> findReceivedNotificationIds(Long memberId, Long cursor, int limit) {
+        QNotification notification = QNotification.notification;
+
+        return queryFactory
+                .select(notification.id)
+                .from(notification)
+                .where(notification.receiverId.eq(memberId), notification.id.gt(cursor))
+                .orderBy(notification.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    public List<Long> findSentNotificationIds(Long memberId, Long cursor, int limit) {
+        QNotification notification = QNotification.notification;
+
+        return queryFactory
+                .select(notification.id)
+                .from(notification)
+                .where(notification.senderId.eq(memberId), notification.id.gt(cursor))
+                .orderBy(notification.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 삭제할 알림 중 안읽은 알림 개수를 수신자별로 조회
+     */
+    public List<UnreadNotificationCount> findUnreadNotificationCounts(Collection<Long> notificationIds) {
+        QNotification notification = QNotification.notification;
+
+        return queryFactory
+                .select(Projections.constructor(
+                        UnreadNotificationCount.class,
+                        notification.receiverId,
+                        notification.count()
+                ))
+                .from(notification)
+                .where(notification.id.in(notificationIds), notification.isRead.isFalse())
+                .groupBy(notification.receiverId)
+                .fetch();
+    }
+
+    public void deleteNotifications(Collection<Long> notificationIds) {
+        QNotification notification = QNotification.notification;
+
+        queryFactory.delete(notification)
+                .where(notification.id.in(notificationIds))
+                .execute();
+    }
+
+    public List<Long> findAuthTokenIds(Long memberId, Long cursor, int limit) {
+        QAuthToken authToken = QAuthToken.authToken;
+
+        return queryFactory
+                .select(authToken.id)
+                .from(authToken)
+                .where(authToken.memberId.eq(memberId), authToken.id.gt(cursor))
+                .orderBy(authToken.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    public void deleteAuthTokens(Collection<Long> authTokenIds) {
+        QAuthToken authToken = QAuthToken.authToken;
+
+        queryFactory.delete(authToken)
+                .where(authToken.id.in(authTokenIds))
+                .execute();
+    }
+
+    // === 채팅 ===
+
+    /**
+     * 봇 채팅방 ID는 회원 ID와 같습니다.
+     */
+    public List<Long> findChatMessageIds(Long chatRoomId, Long cursor, int limit) {
+        QChatMessage chatMessage = QChatMessage.chatMessage;
+
+        return queryFactory
+                .select(chatMessage.id)
+                .from(chatMessage)
+                .where(chatMessage.chatRoom.id.eq(chatRoomId), chatMessage.id.gt(cursor))
+                .orderBy(chatMessage.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    public void deleteChatMessages(Collection<Long> chatMessageIds) {
+        QChatMessage chatMessage = QChatMessage.chatMessage;
+
+        queryFactory.delete(chatMessage)
+                .where(chatMessage.id.in(chatMessageIds))
+                .execute();
+    }
+
+    public void deleteChatRoom(Long chatRoomId) {
+        QChatRoomMember chatRoomMember = QChatRoomMember.chatRoomMember;
+        QChatRoom chatRoom = QChatRoom.chatRoom;
+
+        queryFactory.delete(chatRoomMember)
+                .where(chatRoomMember.id.chatRoomId.eq(chatRoomId))
+                .execute();
+        queryFactory.delete(chatRoom)
+                .where(chatRoom.id.eq(chatRoomId))
+                .execute();
+    }
+}
@@ -0,0 +1,20 @@
+package com.kakaobase.snsapp.domain.members.scheduler;
+
+import com.kakaobase.snsapp.domain.members.service.cache.MemberStatsCacheSyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberStatsCacheSyncScheduler {
+
+    private final MemberStatsCacheSyncService memberStatsCacheSyncService;
+
+    @Scheduled(fixedRate = 60000) // 1분마다 실행
+    public void syncMemberStatsCache() {
+        memberStatsCacheSyncService.syncCacheToDB();
+    }
+}
@@ -6,6 +6,8 @@ import com.kakaobase.snsapp.domain.auth.repository.AuthTokenRepository;
 import com.kakaobase.snsapp.domain.auth.service.AuthCacheService;
 import com.kakaobase.snsapp.domain.follow.dto.FollowCount;
 import com.kakaobase.snsapp.domain.follow.repository.FollowRepository;
+import com.kakaobase.snsapp.domain.follow.service.cache.FollowGraphService;
+import com.kakaobase.snsapp.domain.follow.service.cache.FollowListCacheService;
 import com.kakaobase.snsapp.domain.members.converter.MemberConverter;
 import com.kakaobase.snsapp.domain.members.dto.MemberRequestDto;
 import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
@@ -13,10 +15,13 @@ import com.kakaobase.snsapp.domain.members.entity.Member;
 import com.kakaobase.snsapp.domain.members.exception.MemberErrorCode;
 import com.kakaobase.snsapp.domain.members.exception.MemberException;
 import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
+import com.kakaobase.snsapp.domain.members.service.cache.MemberSummaryCacheService;
+import com.kakaobase.snsapp.domain.posts.dto.PostCount;
 import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
+import com.kakaobase.snsapp.domain.posts.service.async.DeletionCascadeService;
+import com.kakaobase.snsapp.domain.posts.util.DeletionCascadeType;
 import com.kakaobase.snsapp.global.common.email.service.EmailVerificationService;
 import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
-import jakarta.persistence.EntityManager;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +29,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
@@ -45,7 +52,10 @@ public class MemberService {
     private final PasswordEncoder passwordEncoder;
     private final PostRepository postRepository;
     private final FollowRepository followRepository;
-    private final EntityManager em;
+    private final FollowGraphService followGraphService;
+    private final DeletionCascadeService deletionCascadeService;
+    private final FollowListCacheService followListCacheService;
+    private final MemberSummaryCacheService memberSummaryCacheService;
     private final AuthTokenRepository authTokenRepository;
     private final AuthCacheService authCacheService;
 
@@ -135,10 +145,21 @@ public class MemberService {
             throw new MemberException(MemberErrorCode.EMAIL_VERIFICATION_FAILED);
         }
 
-        followRepository.cleanupAllFollowRelationships(member.getId());
+        Long memberId = member.getId();
 
-        // Member 엔티티 삭제
-        memberRepository.delete(member);
+        // 회원만 즉시 soft delete 하고, 팔로우/좋아요/알림/토큰/채팅 정리는 커밋 이후 청크 단위로 진행
+        member.softDelete();
+        deletionCascadeService.enqueue(DeletionCascadeType.MEMBER, memberId);
+
+        // 커밋 이후 탈퇴 회원의 팔로우 그래프 비트맵, 팔로우 목록, 회원 요약 캐시 제거
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                followGraphService.evict(memberId);
+                followListCacheService.evict(memberId);
+                memberSummaryCacheService.delete(memberId);
+            }
+        });
 
     }
 
@@ -184,10 +205,23 @@ public class MemberService {
         member.updateProfile(request.imageUrl());
 
         updateAuthCacheUserImage(member.getId(), request.imageUrl());
+        evictSummaryAfterCommit(member.getId());
 
         return new MemberResponseDto.ProfileImageChange(request.imageUrl());
     }
 
+    /**
+     * 커밋 이후 회원 요약 캐시를 삭제합니다. 다음 조회 시 DB에서 다시 채워집니다.
+     */
+    private void evictSummaryAfterCommit(Long memberId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                memberSummaryCacheService.delete(memberId);
+            }
+        });
+    }
+
     private void updateAuthCacheUserImage(Long memberId, String newImageUrl) {
         List<AuthToken> refreshTokens = authTokenRepository.findAllByMemberId(memberId);
 
@@ -220,10 +254,7 @@ public class MemberService {
         Member tagetMember = memberRepository.findById(userId)
                 .orElseThrow(() -> new MemberException(GeneralErrorCode.RESOURCE_NOT_FOUND, "userId"));
 
-        Long postCount = postRepository.countByMemberId(tagetMember.getId());
-
         Long currentUserId = getCurrentUserId();
-        Member currentMember = em.getReference(Member.class, currentUserId);
 
         boolean isMine = false;
         boolean isFollowing = false;
@@ -231,10 +262,11 @@ public class MemberService {
         if (currentUserId.equals(tagetMember.getId())) {
             isMine = true;
         } else {
-            isFollowing = followRepository.existsByFollowerUserAndFollowingUser(currentMember, tagetMember);
+            isFollowing = followGraphService.isFollowing(currentUserId, tagetMember.getId());
         }
 
-        return memberConverter.toMypage(tagetMember, postCount, isMine, isFollowing);
+        // 게시글/팔로워/팔로잉 수는 MemberStatsCache에서 한 번에 조회
+        return memberConverter.toMypage(tagetMember, isMine, isFollowing);
     }
 
     @Transactional
@@ -274,6 +306,28 @@ public class MemberService {
         });
     }
 
+    /**
+     * 회원별 게시글 수를 실제 게시글 기준으로 맞춥니다.
+     */
+    @Transactional
+    public void syncMemberPostCount() {
+        List<Member> members = memberRepository.findAll();
+
+        Map<Long, Long> postCounts = postRepository.findPostCounts()
+                .stream()
+                .collect(Collectors.toMap(
+                        PostCount::memberId,
+                        PostCount::count
+                ));
+
+        members.forEach(member -> {
+            Long newPostCount = postCounts.getOrDefault(member.getId(), 0L);
+            if (!member.getPostCount().equals(newPostCount)) {
+                member.updatePostCount(newPostCount);
+            }
+        });
+    }
+
     private Long getCurrentUserId() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         CustomUserDetails userDetails = (CustomUserDetails) auth.getPrincipal();
@@ -0,0 +1,246 @@
+package com.kakaobase.snsapp.domain.members.service.async;
+
+import com.kakaobase.snsapp.domain.comments.service.cache.CommentCacheService;
+import com.kakaobase.snsapp.domain.comments.service.cache.RecommentCacheService;
+import com.kakaobase.snsapp.domain.follow.service.cache.FollowGraphService;
+import com.kakaobase.snsapp.domain.follow.service.cache.FollowListCacheService;
+import com.kakaobase.snsapp.domain.members.repository.MemberTeardownRepository;
+import com.kakaobase.snsapp.domain.members.service.cache.MemberStatsCacheService;
+import com.kakaobase.snsapp.domain.notification.dto.records.UnreadNotificationCount;
+import com.kakaobase.snsapp.domain.notification.service.cache.UnreadNotificationCacheService;
+import com.kakaobase.snsapp.domain.posts.service.cache.PostCacheService;
+import com.kakaobase.snsapp.domain.posts.util.DeletionCascadeType;
+import com.kakaobase.snsapp.global.common.redis.error.CacheException;
+import com.querydsl.core.Tuple;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 회원 탈퇴 연쇄 작업의 청크 처리
+ *
+ * <p>DeletionCascadeService가 MEMBER 작업의 단계마다 호출하며, 호출 시점에 청크 트랜잭션이 열려 있습니다.
+ * 상대 회원의 팔로우 수와 게시글/댓글/대댓글 좋아요 수는 다른 API와 같이 캐시를 통해 감소시키되,
+ * 청크가 롤백되어 체크포인트부터 다시 실행될 때 두 번 감소하지 않도록 청크가 커밋된 뒤에 반영합니다.
+ * 캐시를 사용할 수 없는 대상만 별도 트랜잭션에서 DB에 직접 반영합니다.</p>
+ */
+@Slf4j
+@Service
+public class MemberTeardownService {
+
+    private final MemberTeardownRepository teardownRepository;
+    private final MemberStatsCacheService memberStatsCacheService;
+    private final PostCacheService postCacheService;
+    private final CommentCacheService commentCacheService;
+    private final RecommentCacheService recommentCacheService;
+    private final FollowGraphService followGraphService;
+    private final FollowListCacheService followListCacheService;
+    private final UnreadNotificationCacheService unreadNotificationCacheService;
+    private final TransactionTemplate fallbackTransaction;
+
+    public MemberTeardownService(MemberTeardownRepository teardownRepository,
+                                 MemberStatsCacheService memberStatsCacheService,
+                                 PostCacheService postCacheService,
+                                 CommentCacheService commentCacheService,
+                                 RecommentCacheService recommentCacheService,
+                                 FollowGraphService followGraphService,
+                                 FollowListCacheService followListCacheService,
+                                 UnreadNotificationCacheService unreadNotificationCacheService,
+                                 PlatformTransactionManager transactionManager) {
+        this.teardownRepository = teardownRepository;
+        this.memberStatsCacheService = memberStatsCacheService;
+        this.postCacheService = postCacheService;
+        this.commentCacheService = commentCacheService;
+        this.recommentCacheService = recommentCacheService;
+        this.followGraphService = followGraphService;
+        this.followListCacheService = followListCacheService;
+        this.unreadNotificationCacheService = unreadNotificationCacheService;
+
+        // afterCommit 시점에는 청크 트랜잭션이 끝났으므로 새 트랜잭션에서 DB에 반영
+        this.fallbackTransaction = new TransactionTemplate(transactionManager);
+        this.fallbackTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 단계 하나의 청크를 처리합니다.
+     *
+     * @return 이번 청크에서 처리한 커서 기준 id (오름차순)
+     */
+    public List<Long> runChunk(DeletionCascadeType.Stage stage, Long memberId, Long cursor, int limit) {
+        return switch (stage) {
+            case FOLLOWINGS -> {
+                List<Tuple> rows = teardownRepository.findFollowings(memberId, cursor, limit);
+                List<Long> targetIds = column(rows, 1);
+                List<Long> followIds = deleteFollows(rows, targetIds, targetId -> {
+                    followGraphService.onUnfollow(memberId, targetId);
+                    followListCacheService.onUnfollow(memberId, targetId);
+                });
+                decrementOrFallback(targetIds, memberStatsCacheService::decrementFollowerCount,
+                        teardownRepository::decrementFollowerCounts);
+                yield followIds;
+            }
+            case FOLLOWERS -> {
+                List<Tuple> rows = teardownRepository.findFollowers(memberId, cursor, limit);
+                List<Long> followerIds = column(rows, 1);
+                List<Long> followIds = deleteFollows(rows, followerIds, followerId -> {
+                    followGraphService.onUnfollow(followerId, memberId);
+                    followListCacheService.onUnfollow(followerId, memberId);
+                });
+                decrementOrFallback(followerIds, memberStatsCacheService::decrementFollowingCount,
+                        teardownRepository::decrementFollowingCounts);
+                yield followIds;
+            }
+            case MEMBER_POST_LIKES -> {
+                List<Long> postIds = teardownRepository.findLikedPostIds(memberId, cursor, limit);
+                if (!postIds.isEmpty()) {
+                    teardownRepository.deletePostLikes(memberId, postIds);
+                    decrementOrFallback(postIds, postCacheService::decrementLikeCount,
+                            teardownRepository::decrementPostLikeCounts);
+                }
+                yield postIds;
+            }
+            case MEMBER_COMMENT_LIKES -> {
+                List<Long> commentIds = teardownRepository.findLikedCommentIds(memberId, cursor, limit);
+                if (!commentIds.isEmpty()) {
+                    teardownRepository.deleteCommentLikes(memberId, commentIds);
+                    decrementOrFallback(commentIds, commentCacheService::decrementLikeCount,
+                            teardownRepository::decrementCommentLikeCounts);
+                }
+                yield commentIds;
+            }
+            case MEMBER_RECOMMENT_LIKES -> {
+                List<Long> recommentIds = teardownRepository.findLikedRecommentIds(memberId, cursor, limit);
+                if (!recommentIds.isEmpty()) {
+                    teardownRepository.deleteRecommentLikes(memberId, recommentIds);
+                    decrementOrFallback(recommentIds, recommentCacheService::decrementLikeCount,
+                            teardownRepository::decrementRecommentLikeCounts);
+                }
+                yield recommentIds;
+            }
+            case RECEIVED_NOTIFICATIONS -> {
+                List<Long> ids = teardownRepository.findReceivedNotificationIds(memberId, cursor, limit);
+                deleteNotifications(ids);
+                yield ids;
+            }
+            case SENT_NOTIFICATIONS -> {
+                List<Long> ids = teardownRepository.findSentNotificationIds(memberId, cursor, limit);
+                deleteNotifications(ids);
+                yield ids;
+            }
+            case AUTH_TOKENS -> {
+                List<Long> ids = teardownRepository.findAuthTokenIds(memberId, cursor, limit);
+                if (!ids.isEmpty()) {
+                    teardownRepository.deleteAuthTokens(ids);
+                }
+                yield ids;
+            }
+            case CHAT_MESSAGES -> {
+                List<Long> ids = teardownRepository.findChatMessageIds(memberId, cursor, limit);
+                if (!ids.isEmpty()) {
+                    teardownRepository.deleteChatMessages(ids);
+                }
+                yield ids;
+            }
+            case CHAT_ROOM -> {
+                teardownRepository.deleteChatRoom(memberId);
+                yield List.of();
+            }
+            default -> throw new IllegalArgumentException("회원 탈퇴 단계가 아닙니다: " + stage);
+        };
+    }
+
+    /**
+     * 팔로우 관계를 삭제하고, 청크가 커밋된 뒤 상대 회원의 팔로우 그래프와 목록 캐시에서 제거합니다.
+     */
+    private List<Long> deleteFollows(List<Tuple> rows, List<Long> counterpartIds, Consumer<Long> graphUpdate) {
+        List<Long> followIds = column(rows, 0);
+        if (followIds.isEmpty()) {
+            return followIds;
+        }
+
+        teardownRepository.deleteFollows(followIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                counterpartIds.forEach(graphUpdate);
+            }
+        });
+        return followIds;
+    }
+
+    /**
+     * 알림을 삭제하고, 청크가 커밋된 뒤 삭제한 안읽은 알림 수만큼 수신자별 안읽은 알림 수를 감소시킵니다.
+     */
+    private void deleteNotifications(List<Long> notificationIds) {
+        if (notificationIds.isEmpty()) {
+            return;
+        }
+
+        List<UnreadNotificationCount> unreadCounts = teardownRepository.findUnreadNotificationCounts(notificationIds);
+        teardownRepository.deleteNotifications(notificationIds);
+        if (unreadCounts.isEmpty()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                unreadNotificationCacheService.decrementAll(unreadCounts);
+            }
+        });
+    }
+
+    /**
+     * 청크가 커밋된 뒤 캐시로 감소시키고, 캐시를 사용할 수 없었던 대상만 DB에서 한 번에 감소시킵니다.
+     * 롤백된 청크는 아무것도 반영하지 않으므로 재시도해도 한 번만 감소합니다.
+     */
+    private void decrementOrFallback(List<Long> ids, CacheDecrement cacheDecrement, Consumer<List<Long>> dbDecrement) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                List<Long> failed = new ArrayList<>();
+                for (Long id : ids) {
+                    try {
+                        cacheDecrement.apply(id);
+                    } catch (CacheException e) {
+                        failed.add(id);
+                    }
+                }
+
+                if (failed.isEmpty()) {
+                    return;
+                }
+                log.warn("캐시 감소 실패로 DB에 직접 반영 - {} 건", failed.size());
+                try {
+                    fallbackTransaction.executeWithoutResult(status -> dbDecrement.accept(failed));
+                } catch (Exception e) {
+                    log.error("DB 카운트 감소 실패 - {} 건", failed.size(), e);
+                }
+            }
+        });
+    }
+
+    private List<Long> column(List<Tuple> rows, int index) {
+        List<Long> values = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            values.add(row.get(index, Long.class));
+        }
+        return values;
+    }
+
+    @FunctionalInterface
+    private interface CacheDecrement {
+        void apply(Long id) throws CacheException;
+    }
+}
@@ -1,8 +1,8 @@
-package com.kakaobase.snsapp.domain.follow.service;
+package com.kakaobase.snsapp.domain.members.service.cache;
 
-import com.kakaobase.snsapp.domain.follow.util.FollowCacheUtil;
 import com.kakaobase.snsapp.domain.members.entity.Member;
 import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
+import com.kakaobase.snsapp.domain.members.util.MemberStatsCacheUtil;
 import com.kakaobase.snsapp.global.common.redis.CacheRecord;
 import com.kakaobase.snsapp.global.common.redis.error.CacheException;
 import com.kakaobase.snsapp.global.common.redis.service.cacheService.AbstractCacheService;
@@ -12,21 +12,35 @@ import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 
+/**
+ * 회원 프로필 통계 캐시 서비스
+ *
+ * <p>게시글 수, 팔로워 수, 팔로잉 수를 하나의 캐시로 관리합니다.
+ * 게시글 작성/삭제와 팔로우/언팔로우 시 증감되며, 변경분은 동기화 큐를 통해 주기적으로 DB에 반영됩니다.</p>
+ */
 @Slf4j
 @Service
-public class FollowCacheService extends AbstractCacheService<CacheRecord.FollowStatsCache, Member> {
-    private static final String FOLLOW_CACHE_PREFIX = "follow:stats:";
+public class MemberStatsCacheService extends AbstractCacheService<CacheRecord.MemberStatsCache, Member> {
+    private static final String MEMBER_STATS_CACHE_PREFIX = "member:stats:";
     private static final Duration CACHE_TTL = Duration.ofHours(24);
     private final MemberRepository memberRepository;
 
-    public FollowCacheService(RedisTemplate<String, Object> redisTemplate,
-                              FollowCacheUtil cacheUtil,
-                              FollowCacheSyncService cacheSyncService,
-                              MemberRepository memberRepository) {
+    public MemberStatsCacheService(RedisTemplate<String, Object> redisTemplate,
+                                   MemberStatsCacheUtil cacheUtil,
+                                   MemberStatsCacheSyncService cacheSyncService,
+                                   MemberRepository memberRepository) {
         super(redisTemplate, cacheSyncService, cacheUtil);
         this.memberRepository = memberRepository;
     }
 
+    public void incrementPostCount(Long memberId) throws CacheException {
+        incrementField(memberId, "postCount");
+    }
+
+    public void decrementPostCount(Long memberId) throws CacheException {
+        decrementField(memberId, "postCount");
+    }
+
     public void incrementFollowerCount(Long memberId) throws CacheException {
         incrementField(memberId, "followerCount");
     }
@@ -45,7 +59,7 @@ public class FollowCacheService extends AbstractCacheService<CacheRecord.FollowS
 
     @Override
     protected String generateCacheKey(Long id) {
-        return FOLLOW_CACHE_PREFIX + id;
+        return MEMBER_STATS_CACHE_PREFIX + id;
     }
 
     @Override
@@ -60,28 +74,25 @@ public class FollowCacheService extends AbstractCacheService<CacheRecord.FollowS
             return;
         }
 
-        var cacheData = CacheRecord.FollowStatsCache.builder()
-                .memberId(member.getId())
-                .followerCount(member.getFollowerCount())
-                .followingCount(member.getFollowingCount())
-                .build();
-
-        cacheUtil.save(generateCacheKey(id), cacheData);
+        cacheUtil.save(generateCacheKey(id), toCache(member));
     }
 
     @Override
     protected void saveByEntity(Long id, Member member) {
-        var cacheData = CacheRecord.FollowStatsCache.builder()
-                .memberId(member.getId())
-                .followerCount(member.getFollowerCount())
-                .followingCount(member.getFollowingCount())
-                .build();
-
-        cacheUtil.save(generateCacheKey(id), cacheData);
+        cacheUtil.save(generateCacheKey(id), toCache(member));
     }
 
     @Override
     protected Duration getTTL() {
         return CACHE_TTL;
     }
+
+    private CacheRecord.MemberStatsCache toCache(Member member) {
+        return CacheRecord.MemberStatsCache.builder()
+                .memberId(member.getId())
+                .postCount(member.getPostCount())
+                .followerCount(member.getFollowerCount())
+                .followingCount(member.getFollowingCount())
+                .build();
+    }
 }
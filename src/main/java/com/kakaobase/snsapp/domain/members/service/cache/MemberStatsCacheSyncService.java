@@ -1,6 +1,6 @@
-package com.kakaobase.snsapp.domain.follow.service;
+package com.kakaobase.snsapp.domain.members.service.cache;
 
-import com.kakaobase.snsapp.domain.follow.util.FollowCacheUtil;
+import com.kakaobase.snsapp.domain.members.util.MemberStatsCacheUtil;
 import com.kakaobase.snsapp.global.common.redis.CacheRecord;
 import com.kakaobase.snsapp.global.common.redis.service.cacheSyncService.AbstractCacheSyncService;
 import lombok.extern.slf4j.Slf4j;
@@ -13,13 +13,13 @@ import java.util.List;
 
 @Slf4j
 @Service
-public class FollowCacheSyncService extends AbstractCacheSyncService<CacheRecord.FollowStatsCache> {
-    private static final String SYNC_QUEUE_KEY = "follows:need_sync";
+public class MemberStatsCacheSyncService extends AbstractCacheSyncService<CacheRecord.MemberStatsCache> {
+    private static final String SYNC_QUEUE_KEY = "members:need_sync";
     private static final Duration CACHE_TTL = Duration.ofHours(24);
 
-    public FollowCacheSyncService(StringRedisTemplate redisTemplate,
-                                  FollowCacheUtil cacheUtil,
-                                  JdbcTemplate jdbcTemplate) {
+    public MemberStatsCacheSyncService(StringRedisTemplate redisTemplate,
+                                       MemberStatsCacheUtil cacheUtil,
+                                       JdbcTemplate jdbcTemplate) {
         super(redisTemplate, cacheUtil, jdbcTemplate);
     }
 
@@ -34,8 +34,9 @@ public class FollowCacheSyncService extends AbstractCacheSyncService<CacheRecord
     }
 
     @Override
-    protected Object[] extractSqlParameters(CacheRecord.FollowStatsCache cache) {
+    protected Object[] extractSqlParameters(CacheRecord.MemberStatsCache cache) {
         return new Object[]{
+                cache.postCount(),
                 cache.followerCount(),
                 cache.followingCount(),
                 cache.memberId()
@@ -43,7 +44,7 @@ public class FollowCacheSyncService extends AbstractCacheSyncService<CacheRecord
     }
 
     @Override
-    protected Object extractEntityId(CacheRecord.FollowStatsCache cache) {
+    protected Object extractEntityId(CacheRecord.MemberStatsCache cache) {
         return cache.memberId();
     }
 
@@ -51,7 +52,8 @@ public class FollowCacheSyncService extends AbstractCacheSyncService<CacheRecord
     protected int[] executeJdbcBatchUpdate(List<Object[]> batchArgs) {
         String sql = """
             UPDATE members 
-            SET follower_count = ?, 
+            SET post_count = ?, 
+                follower_count = ?, 
                 following_count = ?,
                 updated_at = NOW()
             WHERE id = ? AND deleted_at IS NULL
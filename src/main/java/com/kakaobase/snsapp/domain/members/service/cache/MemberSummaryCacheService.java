@@ -0,0 +1,132 @@
+package com.kakaobase.snsapp.domain.members.service.cache;
+
+import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
+import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
+import com.kakaobase.snsapp.domain.members.util.MemberSummaryCacheUtil;
+import com.kakaobase.snsapp.global.common.redis.CacheRecord;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 회원 요약(UserInfo) 캐시 서비스
+ *
+ * <p>목록 응답에 들어가는 회원 요약을 한 번의 파이프라인으로 조회하고,
+ * 캐시에 없는 회원만 한 번의 IN 쿼리로 가져와 캐싱합니다. (read-through)
+ * 카운터와 달리 DB로 되돌려 쓸 값이 없으므로 프로필이 바뀌면 캐시를 삭제합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberSummaryCacheService {
+
+    private static final String CACHE_KEY_PREFIX = "member:summary:";
+    private static final Duration TTL = Duration.ofDays(1);
+
+    private final MemberSummaryCacheUtil cacheUtil;
+    private final MemberRepository memberRepository;
+
+    /**
+     * 회원 요약을 일괄 조회합니다. 탈퇴 등으로 존재하지 않는 회원은 결과에서 빠집니다.
+     */
+    public Map<Long, MemberResponseDto.UserInfo> findAll(Collection<Long> memberIds) {
+        if (memberIds == null || memberIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(memberIds));
+        Map<Long, MemberResponseDto.UserInfo> result = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+
+        try {
+            Map<String, CacheRecord.MemberSummaryCache> loaded =
+                    cacheUtil.loadBatch(ids.stream().map(this::generateCacheKey).toList());
+            for (Long id : ids) {
+                CacheRecord.MemberSummaryCache cached = loaded.get(generateCacheKey(id));
+                if (cached != null && cached.memberId() != null) {
+                    result.put(id, toUserInfo(cached));
+                } else {
+                    missingIds.add(id);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("회원 요약 캐시 조회 실패, DB 조회로 대체 - {} 명", ids.size(), e);
+            missingIds = ids;
+        }
+
+        if (!missingIds.isEmpty()) {
+            result.putAll(loadAndCache(missingIds));
+        }
+        return result;
+    }
+
+    /**
+     * 주어진 순서대로 회원 요약 목록을 만듭니다.
+     */
+    public List<MemberResponseDto.UserInfo> findAllInOrder(List<Long> memberIds) {
+        Map<Long, MemberResponseDto.UserInfo> summaries = findAll(memberIds);
+        return memberIds.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public boolean exists(Long memberId) {
+        return findAll(List.of(memberId)).containsKey(memberId);
+    }
+
+    public void delete(Long memberId) {
+        try {
+            cacheUtil.delete(generateCacheKey(memberId));
+        } catch (Exception e) {
+            log.error("회원 요약 캐시 삭제 실패: memberId={}", memberId, e);
+        }
+    }
+
+    private Map<Long, MemberResponseDto.UserInfo> loadAndCache(List<Long> memberIds) {
+        List<Member> members = memberRepository.findAllByIdIn(memberIds);
+
+        Map<Long, MemberResponseDto.UserInfo> result = new HashMap<>();
+        Map<String, CacheRecord.MemberSummaryCache> toCache = new HashMap<>();
+        for (Member member : members) {
+            CacheRecord.MemberSummaryCache summary = CacheRecord.MemberSummaryCache.builder()
+                    .memberId(member.getId())
+                    .name(member.getName())
+                    .nickname(member.getNickname())
+                    .imageUrl(member.getProfileImgUrl())
+                    .build();
+            result.put(member.getId(), toUserInfo(summary));
+            toCache.put(generateCacheKey(member.getId()), summary);
+        }
+
+        try {
+            cacheUtil.saveBatch(toCache, TTL);
+        } catch (Exception e) {
+            log.warn("회원 요약 캐시 저장 실패 - {} 명", toCache.size(), e);
+        }
+        return result;
+    }
+
+    private MemberResponseDto.UserInfo toUserInfo(CacheRecord.MemberSummaryCache summary) {
+        return MemberResponseDto.UserInfo.builder()
+                .id(summary.memberId())
+                .name(summary.name())
+                .nickname(summary.nickname())
+                .imageUrl(summary.imageUrl())
+                .build();
+    }
+
+    private String generateCacheKey(Long memberId) {
+        return CACHE_KEY_PREFIX + memberId;
+    }
+}
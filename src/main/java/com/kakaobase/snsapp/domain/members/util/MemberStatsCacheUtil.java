@@ -0,0 +1,26 @@
+package com.kakaobase.snsapp.domain.members.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kakaobase.snsapp.global.common.redis.CacheRecord;
+import com.kakaobase.snsapp.global.common.redis.util.AbstractCacheUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class MemberStatsCacheUtil extends AbstractCacheUtil<CacheRecord.MemberStatsCache> {
+
+    public MemberStatsCacheUtil(RedisTemplate<String, Object> redisTemplate,
+                                ObjectMapper objectMapper,
+                                RedissonClient redissonClient) {
+        super(redisTemplate, objectMapper, redissonClient);
+    }
+
+    @Override
+    protected Class<CacheRecord.MemberStatsCache> getType() {
+        return CacheRecord.MemberStatsCache.class;
+    }
+
+}
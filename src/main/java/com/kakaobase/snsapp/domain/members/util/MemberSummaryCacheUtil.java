@@ -0,0 +1,59 @@
+package com.kakaobase.snsapp.domain.members.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kakaobase.snsapp.global.common.redis.CacheRecord;
+import com.kakaobase.snsapp.global.common.redis.util.AbstractCacheUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+@Slf4j
+@Component
+public class MemberSummaryCacheUtil extends AbstractCacheUtil<CacheRecord.MemberSummaryCache> {
+
+    public MemberSummaryCacheUtil(RedisTemplate<String, Object> redisTemplate,
+                                  ObjectMapper objectMapper,
+                                  RedissonClient redissonClient) {
+        super(redisTemplate, objectMapper, redissonClient);
+    }
+
+    @Override
+    protected Class<CacheRecord.MemberSummaryCache> getType() {
+        return CacheRecord.MemberSummaryCache.class;
+    }
+
+    /**
+     * 여러 회원 요약을 한 번의 파이프라인으로 저장합니다.
+     * 값이 null인 필드(프로필 이미지 없음)는 저장하지 않습니다.
+     */
+    public void saveBatch(Map<String, CacheRecord.MemberSummaryCache> values, Duration ttl) {
+        if (values.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, HV> Object execute(RedisOperations<K, HV> operations) throws DataAccessException {
+                @SuppressWarnings("unchecked")
+                RedisOperations<String, Object> stringOperations = (RedisOperations<String, Object>) operations;
+                values.forEach((key, value) -> {
+                    Map<String, Object> fields = new HashMap<>(objectMapper.convertValue(value, new TypeReference<Map<String, Object>>() {}));
+                    fields.values().removeIf(Objects::isNull);
+                    stringOperations.opsForHash().putAll(key, fields);
+                    stringOperations.expire(key, ttl);
+                });
+                return null;
+            }
+        });
+    }
+}
@@ -6,6 +6,7 @@ import com.kakaobase.snsapp.domain.notification.dto.records.ContentNotification;
 import com.kakaobase.snsapp.domain.notification.dto.records.FollowingNotificationData;
 import com.kakaobase.snsapp.domain.notification.dto.records.NotificationNackData;
 import com.kakaobase.snsapp.domain.notification.dto.records.NotificationResponse;
+import com.kakaobase.snsapp.domain.notification.dto.response.NotificationFetchResponse;
 import com.kakaobase.snsapp.domain.notification.entity.Notification;
 import com.kakaobase.snsapp.domain.notification.error.NotificationErrorCode;
 import com.kakaobase.snsapp.domain.notification.util.NotificationType;
@@ -18,6 +19,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j
 @Component
@@ -86,6 +88,38 @@ public class NotificationConverter {
         return new WebSocketPacketImpl<>(type.getEvent(), data);
     }
 
+    /**
+     * 묶음 알림 패킷 (sender는 최신 행위자, recentSenders는 최신순)
+     */
+    public WebSocketPacket<NotificationResponse> toAggregatedPacket(Long notifId, NotificationType type, Long targetId,
+                                                                    List<MemberResponseDto.UserInfo> recentSenders,
+                                                                    Long actorCount, LocalDateTime timestamp, Boolean isRead){
+        var data = ContentNotification.builder()
+                .id(notifId)
+                .sender(recentSenders.get(0))
+                .content("")
+                .timestamp(timestamp)
+                .target_id(targetId)
+                .isRead(isRead)
+                .actorCount(actorCount)
+                .recentSenders(recentSenders)
+                .build();
+
+        return new WebSocketPacketImpl<>(type.getEvent(), data);
+    }
+
+    /**
+     * 한 수신자에게 한 번에 보내는 묶음 알림 패킷 목록 (조회 응답과 같은 형태)
+     */
+    public WebSocketPacket<NotificationFetchResponse> toBatchPacket(List<WebSocketPacket<NotificationResponse>> packets){
+        var data = NotificationFetchResponse.builder()
+                .hasNext(false)
+                .notifications(packets)
+                .build();
+
+        return new WebSocketPacketImpl<>(NotificationType.NOTIFICATION_FETCH.getEvent(), data);
+    }
+
     // 팔로우 알림용 메서드 추가
     public WebSocketPacket<NotificationResponse> toFollowingResponsePacket(Long notifId, NotificationType type, MemberResponseDto.UserInfoWithFollowing userInfo, LocalDateTime timestamp, Boolean isRead){
         var data = FollowingNotificationData.builder()
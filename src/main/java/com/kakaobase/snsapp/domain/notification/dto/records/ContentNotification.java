@@ -1,11 +1,13 @@
 package com.kakaobase.snsapp.domain.notification.dto.records;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
 import lombok.Builder;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Builder
 public record ContentNotification(
@@ -16,5 +18,12 @@ public record ContentNotification(
         @JsonProperty("is_read")
         Boolean isRead,
         @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
-        LocalDateTime timestamp
+        LocalDateTime timestamp,
+        // 묶음 알림("sender 외 N명")에서만 포함
+        @JsonProperty("actor_count")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Long actorCount,
+        @JsonProperty("recent_senders")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        List<MemberResponseDto.UserInfo> recentSenders
 ) implements NotificationResponse {}
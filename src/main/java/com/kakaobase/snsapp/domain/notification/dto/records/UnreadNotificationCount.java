@@ -0,0 +1,4 @@
+package com.kakaobase.snsapp.domain.notification.dto.records;
+
+public record UnreadNotificationCount(Long receiverId, Long count) {
+}
@@ -9,9 +9,20 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @Entity
-@Table(name = "notifications")
+@Table(
+        name = "notifications",
+        indexes = {
+                @Index(name = "idx_receiver_id_id", columnList = "receiver_id, id DESC"),
+                @Index(name = "idx_receiver_id_is_read", columnList = "receiver_id, is_read"),
+                @Index(name = "idx_receiver_type_target", columnList = "receiver_id, type, target_id")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Notification {
@@ -40,6 +51,18 @@ public class Notification {
     @Column(name = "is_read", nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
     private Boolean isRead = false;
 
+    /**
+     * 묶인 알림의 행위자 수 (묶이지 않는 알림은 1)
+     */
+    @Column(name = "actor_count", nullable = false, columnDefinition = "INT UNSIGNED DEFAULT 1")
+    private Long actorCount = 1L;
+
+    /**
+     * 최근 행위자 ID 목록 (최신순, 쉼표 구분). 묶이지 않는 알림은 null
+     */
+    @Column(name = "recent_actor_ids", length = 100)
+    private String recentActorIds;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -54,6 +77,48 @@ public class Notification {
         this.isRead = false;
     }
 
+    /**
+     * 묶음 알림 생성 (최신 행위자가 발신자가 됨)
+     */
+    public static Notification aggregate(Long receiverId, NotificationType type, Long targetId,
+                                         long actorCount, List<Long> recentActorIds) {
+        Notification notification = new Notification(receiverId, recentActorIds.get(0), type, targetId);
+        notification.actorCount = actorCount;
+        notification.recentActorIds = joinActorIds(recentActorIds);
+        return notification;
+    }
+
+    /**
+     * 새로 모인 행위자를 묶음에 합침
+     *
+     * @param addedCount     이 알림에 처음 합쳐지는 행위자 수 (이미 합쳐진 행위자는 다시 세지 않음)
+     * @param newActorIds    새로 모인 최근 행위자 ID (최신순)
+     * @param recentLimit    보관할 최근 행위자 수
+     */
+    public void mergeActors(long addedCount, List<Long> newActorIds, int recentLimit) {
+        LinkedHashSet<Long> merged = new LinkedHashSet<>(newActorIds);
+        merged.addAll(getRecentActorIdList());
+
+        this.actorCount += addedCount;
+        this.senderId = newActorIds.get(0);
+        this.recentActorIds = joinActorIds(merged.stream().limit(recentLimit).toList());
+    }
+
+    public List<Long> getRecentActorIdList() {
+        if (recentActorIds == null || recentActorIds.isBlank()) {
+            return List.of(senderId);
+        }
+        return Arrays.stream(recentActorIds.split(","))
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    private static String joinActorIds(List<Long> actorIds) {
+        return actorIds.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+
     // 알림 읽음 처리
     public void markAsRead() {
         this.isRead = true;
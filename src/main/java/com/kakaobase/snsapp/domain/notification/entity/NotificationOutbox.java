@@ -0,0 +1,68 @@
+package com.kakaobase.snsapp.domain.notification.entity;
+
+import com.kakaobase.snsapp.domain.notification.util.NotificationType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 아웃박스
+ *
+ * <p>도메인 트랜잭션 안에서는 알림 의도만 이 테이블에 기록하고,
+ * NotificationOutboxDispatcher가 모아서 notifications로 옮긴 뒤 전송합니다.
+ * 전송 패킷에 필요한 값(게시글 ID, 내용, 맞팔로우 여부)을 함께 보관합니다.</p>
+ */
+@Entity
+@Table(name = "notification_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", columnDefinition = "BIGINT UNSIGNED")
+    private Long id;
+
+    @Column(name = "receiver_id", nullable = false, columnDefinition = "INT UNSIGNED")
+    private Long receiverId;
+
+    @Column(name = "sender_id", nullable = false, columnDefinition = "INT UNSIGNED")
+    private Long senderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 20)
+    private NotificationType notificationType;
+
+    @Column(name = "target_id", nullable = false, columnDefinition = "INT UNSIGNED")
+    private Long targetId;
+
+    @Column(name = "post_id", columnDefinition = "INT UNSIGNED")
+    private Long postId;
+
+    @Column(name = "content", length = 3000)
+    private String content;
+
+    @Column(name = "sender_followed", nullable = false)
+    private boolean senderFollowed;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public NotificationOutbox(Long receiverId, Long senderId, NotificationType type, Long targetId,
+                              Long postId, String content, boolean senderFollowed) {
+        this.receiverId = receiverId;
+        this.senderId = senderId;
+        this.notificationType = type;
+        this.targetId = targetId;
+        this.postId = postId;
+        this.content = content;
+        this.senderFollowed = senderFollowed;
+    }
+}
@@ -0,0 +1,116 @@
+package com.kakaobase.snsapp.domain.notification.repository;
+
+import com.kakaobase.snsapp.domain.notification.util.NotificationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 아웃박스 배치 처리 (JDBC)
+ *
+ * <p>여러 노드의 디스패처가 같은 행을 가져가지 않도록 SKIP LOCKED로 행을 점유하고,
+ * notifications 삽입과 아웃박스 삭제를 JDBC 배치로 처리합니다.
+ * 호출부의 트랜잭션 안에서 사용해야 점유가 삽입/삭제까지 유지됩니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationOutboxJdbcRepository {
+
+    private static final String CLAIM_SQL = """
+            SELECT id, receiver_id, sender_id, type, target_id, post_id, content, sender_followed, created_at
+            FROM notification_outbox
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String INSERT_NOTIFICATION_SQL = """
+            INSERT INTO notifications (receiver_id, sender_id, type, target_type, target_id, is_read, actor_count, created_at)
+            VALUES (?, ?, ?, ?, ?, false, 1, ?)
+            """;
+
+    private static final String DELETE_SQL = "DELETE FROM notification_outbox WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 아웃박스 행을 오래된 순으로 점유합니다.
+     */
+    public List<OutboxEntry> claimBatch(int size) {
+        return jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new OutboxEntry(
+                rs.getLong("id"),
+                rs.getLong("receiver_id"),
+                rs.getLong("sender_id"),
+                NotificationType.valueOf(rs.getString("type")),
+                rs.getLong("target_id"),
+                rs.getObject("post_id", Long.class),
+                rs.getString("content"),
+                rs.getBoolean("sender_followed"),
+                rs.getTimestamp("created_at").toLocalDateTime()
+        ), size);
+    }
+
+    /**
+     * 아웃박스 행을 notifications에 배치 삽입하고 생성된 알림 ID를 입력 순서대로 반환합니다.
+     */
+    public List<Long> insertNotifications(List<OutboxEntry> entries) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_NOTIFICATION_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        OutboxEntry entry = entries.get(i);
+                        ps.setLong(1, entry.receiverId());
+                        ps.setLong(2, entry.senderId());
+                        ps.setString(3, entry.type().name());
+                        ps.setString(4, entry.type().getTargetType());
+                        ps.setLong(5, entry.targetId());
+                        ps.setTimestamp(6, Timestamp.valueOf(entry.createdAt()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return entries.size();
+                    }
+                },
+                keyHolder
+        );
+
+        List<Long> ids = new ArrayList<>(entries.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
+    public void deleteAll(List<OutboxEntry> entries) {
+        jdbcTemplate.batchUpdate(DELETE_SQL, entries.stream()
+                .map(entry -> new Object[]{entry.id()})
+                .toList());
+    }
+
+    public record OutboxEntry(
+            Long id,
+            Long receiverId,
+            Long senderId,
+            NotificationType type,
+            Long targetId,
+            Long postId,
+            String content,
+            boolean senderFollowed,
+            LocalDateTime createdAt
+    ) {}
+}
@@ -0,0 +1,7 @@
+package com.kakaobase.snsapp.domain.notification.repository;
+
+import com.kakaobase.snsapp.domain.notification.entity.NotificationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+}
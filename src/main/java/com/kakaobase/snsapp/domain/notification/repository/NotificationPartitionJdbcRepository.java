@@ -0,0 +1,148 @@
+package com.kakaobase.snsapp.domain.notification.repository;
+
+import com.kakaobase.snsapp.domain.notification.util.NotificationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 알림 테이블 파티션 관리 및 보관 기간 정리 (JDBC)
+ *
+ * <p>notifications는 id 기준 RANGE 파티션으로 나뉩니다. id는 생성 순서대로 증가하므로
+ * 매일 마지막 파티션(p_max)을 그 시점의 다음 id에서 잘라 하루 단위 파티션을 만들고,
+ * 만료된 파티션은 DROP PARTITION으로 한 번에 버립니다. 파티션 키가 PK(id)라 PK를 바꿀 필요가 없습니다.</p>
+ *
+ * <p>정리 쿼리는 트랜잭션 없이 문장 단위로 커밋되므로 한 번의 DELETE가 언두 로그를 크게 키우지 않습니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationPartitionJdbcRepository {
+
+    public static final String MAX_PARTITION = "p_max";
+
+    private static final String FIND_PARTITIONS_SQL = """
+            SELECT PARTITION_NAME, PARTITION_DESCRIPTION
+            FROM information_schema.PARTITIONS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'notifications' AND PARTITION_NAME IS NOT NULL
+            ORDER BY PARTITION_ORDINAL_POSITION
+            """;
+
+    private static final String FIND_DAY_STARTS_SQL = """
+            SELECT DATE(created_at) AS day, MIN(id) AS first_id
+            FROM notifications
+            WHERE created_at >= ?
+            GROUP BY DATE(created_at)
+            ORDER BY day
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean isMySql() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+        return "MySQL".equalsIgnoreCase(product);
+    }
+
+    /**
+     * 파티션 목록 (파티션이 없으면 빈 리스트). p_max의 상한은 null
+     */
+    public List<Partition> findPartitions() {
+        return jdbcTemplate.query(FIND_PARTITIONS_SQL, (rs, rowNum) -> {
+            String description = rs.getString("PARTITION_DESCRIPTION");
+            return new Partition(
+                    rs.getString("PARTITION_NAME"),
+                    "MAXVALUE".equalsIgnoreCase(description) ? null : Long.valueOf(description)
+            );
+        });
+    }
+
+    /**
+     * 기존 테이블을 id RANGE 파티션으로 전환합니다. 테이블을 다시 만드므로 최초 1회만 실행됩니다.
+     *
+     * @param partitions 상한이 증가하는 순서의 파티션 (마지막 p_max는 자동으로 추가)
+     */
+    public void partitionByIdRange(List<Partition> partitions) {
+        StringBuilder ddl = new StringBuilder("ALTER TABLE notifications PARTITION BY RANGE (id) (");
+        for (Partition partition : partitions) {
+            ddl.append("PARTITION ").append(partition.name())
+                    .append(" VALUES LESS THAN (").append(partition.upperId()).append("), ");
+        }
+        ddl.append("PARTITION ").append(MAX_PARTITION).append(" VALUES LESS THAN MAXVALUE)");
+        jdbcTemplate.execute(ddl.toString());
+    }
+
+    /**
+     * since 이후 날짜별 첫 알림 id (날짜 오름차순). 최초 파티션 전환 시 기존 행을 날짜별로 나누기 위해 한 번 스캔합니다.
+     */
+    public List<DayStart> findDayStarts(LocalDateTime since) {
+        return jdbcTemplate.query(FIND_DAY_STARTS_SQL,
+                (rs, rowNum) -> new DayStart(rs.getDate("day").toLocalDate(), rs.getLong("first_id")),
+                Timestamp.valueOf(since));
+    }
+
+    /**
+     * p_max를 upperId에서 잘라 새 파티션을 만듭니다. (p_max에 쌓인 하루치 행만 옮겨짐)
+     */
+    public void splitMaxPartition(String partition, long upperId) {
+        jdbcTemplate.execute("ALTER TABLE notifications REORGANIZE PARTITION " + MAX_PARTITION + " INTO ("
+                + "PARTITION " + partition + " VALUES LESS THAN (" + upperId + "), "
+                + "PARTITION " + MAX_PARTITION + " VALUES LESS THAN MAXVALUE)");
+    }
+
+    public void dropPartitions(List<String> partitions) {
+        jdbcTemplate.execute("ALTER TABLE notifications DROP PARTITION " + String.join(", ", partitions));
+    }
+
+    /**
+     * 다음에 발급될 id 이상의 값 (PK 끝만 읽음)
+     */
+    public long nextId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM notifications", Long.class);
+        return maxId != null ? maxId + 1 : 1L;
+    }
+
+    public Long minId() {
+        return jdbcTemplate.queryForObject("SELECT MIN(id) FROM notifications", Long.class);
+    }
+
+    /**
+     * cutoff 이전에 생성된 가장 큰 id 다음 값 (파티션이 없을 때의 정리 상한, created_at 인덱스가 없어 스캔함)
+     */
+    public Long upperIdCreatedBefore(LocalDateTime cutoff) {
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT MAX(id) FROM notifications WHERE created_at < ?", Long.class, Timestamp.valueOf(cutoff));
+        return maxId != null ? maxId + 1 : null;
+    }
+
+    /**
+     * [fromId, toId) 구간에서 해당 타입 알림을 삭제합니다. (PK 범위 스캔)
+     */
+    public int deleteRange(Collection<NotificationType> types, long fromId, long toId) {
+        String placeholders = String.join(", ", Collections.nCopies(types.size(), "?"));
+        List<Object> args = new ArrayList<>(types.size() + 2);
+        args.add(fromId);
+        args.add(toId);
+        types.forEach(type -> args.add(type.name()));
+        return jdbcTemplate.update(
+                "DELETE FROM notifications WHERE id >= ? AND id < ? AND type IN (" + placeholders + ")",
+                args.toArray());
+    }
+
+    /**
+     * @param upperId 이 파티션에 들어 있는 id의 상한 (미포함), p_max는 null
+     */
+    public record Partition(String name, Long upperId) {
+    }
+
+    public record DayStart(LocalDate day, long firstId) {
+    }
+}
@@ -4,9 +4,6 @@ import com.kakaobase.snsapp.domain.notification.entity.Notification;
 import com.kakaobase.snsapp.domain.notification.repository.custom.CustomNotificationRepository;
 import com.kakaobase.snsapp.domain.notification.util.NotificationType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -20,16 +17,15 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     Optional<Notification> findByNotificationTypeAndTargetIdAndReceiverId(NotificationType notificationType, Long targetId, Long receiverId);
 
     /**
-     * 특정 ID 목록에 해당하는 알림 개수 조회
+     * 묶음 대상 알림 중 아직 열려 있는(안읽음, 묶음 시간 내) 가장 최근 알림 조회
      */
-    long countByIdIn(List<Long> ids);
+    Optional<Notification> findFirstByReceiverIdAndNotificationTypeAndTargetIdAndIsReadFalseAndCreatedAtAfterOrderByIdDesc(
+            Long receiverId, NotificationType notificationType, Long targetId, LocalDateTime createdAfter);
 
     /**
-     * 특정 날짜 이전의 알림 삭제
+     * 특정 ID 목록에 해당하는 알림 개수 조회
      */
-    @Modifying
-    @Query("DELETE FROM Notification n WHERE n.createdAt < :cutoffDate")
-    int deleteByCreatedAtBefore(@Param("cutoffDate") LocalDateTime cutoffDate);
+    long countByIdIn(List<Long> ids);
 
     /**
      * 특정 사용자의 안읽은 알림 개수 조회
@@ -1,8 +1,11 @@
 package com.kakaobase.snsapp.domain.notification.repository.custom;
 
 import com.kakaobase.snsapp.domain.notification.dto.records.NotificationResponse;
+import com.kakaobase.snsapp.domain.notification.dto.records.UnreadNotificationCount;
+import com.kakaobase.snsapp.domain.notification.entity.Notification;
 import com.kakaobase.snsapp.global.common.entity.WebSocketPacket;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -19,12 +22,37 @@ public interface CustomNotificationRepository {
     List<WebSocketPacket<NotificationResponse>> findAllNotificationsByUserId(Long userId);
 
     /**
-     * 특정 사용자의 알림을 cursor 기반 페이지네이션으로 조회
+     * 특정 사용자의 알림을 (receiver_id, id DESC) 키셋 기준으로 조회
      *
      * @param userId 사용자 ID
-     * @param limit 조회할 알림 개수 (hasNext 판단을 위해 +1개 더 조회)
      * @param cursor 마지막으로 조회한 알림 ID (null이면 최신부터 조회)
+     * @param size 조회할 알림 개수 (hasNext 판단이 필요하면 호출부에서 +1)
+     * @return ID 내림차순 알림 엔티티 리스트
+     */
+    List<Notification> findPageByReceiverId(Long userId, Long cursor, int size);
+
+    /**
+     * 알림 엔티티를 발신자/컨텐츠 정보와 함께 WebSocketPacket으로 변환
+     * 대상이 삭제된 무효 알림은 결과에서 제외됩니다.
+     *
+     * @param notifications 변환할 알림 엔티티 리스트
      * @return WebSocketPacket으로 래핑된 알림 리스트
      */
-    List<WebSocketPacket<NotificationResponse>> findNotificationsWithCursor(Long userId, Integer limit, Long cursor);
+    List<WebSocketPacket<NotificationResponse>> findResponsePackets(List<Notification> notifications);
+
+    /**
+     * 여러 사용자의 안읽은 알림 개수를 한 번에 조회 (안읽은 알림이 없는 사용자는 결과에서 빠짐)
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자별 안읽은 알림 개수
+     */
+    List<UnreadNotificationCount> findUnreadCounts(Collection<Long> userIds);
+
+    /**
+     * 알림 ID 목록 중 안읽은 알림 개수를 수신자별로 조회 (일괄 삭제 후 카운터 감소용)
+     *
+     * @param notificationIds 알림 ID 목록
+     * @return 수신자별 안읽은 알림 개수
+     */
+    List<UnreadNotificationCount> findUnreadCountsByIdIn(Collection<Long> notificationIds);
 }
\ No newline at end of file
@@ -4,27 +4,32 @@ import com.kakaobase.snsapp.domain.comments.entity.QComment;
 import com.kakaobase.snsapp.domain.comments.entity.QRecomment;
 import com.kakaobase.snsapp.domain.follow.entity.QFollow;
 import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
-import com.kakaobase.snsapp.domain.members.entity.QMember;
+import com.kakaobase.snsapp.domain.members.service.cache.MemberSummaryCacheService;
 import com.kakaobase.snsapp.domain.notification.converter.NotificationConverter;
-import com.kakaobase.snsapp.domain.notification.dto.records.ContentNotification;
-import com.kakaobase.snsapp.domain.notification.dto.records.FollowingNotificationData;
 import com.kakaobase.snsapp.domain.notification.dto.records.NotificationResponse;
+import com.kakaobase.snsapp.domain.notification.dto.records.UnreadNotificationCount;
 import com.kakaobase.snsapp.domain.notification.entity.Notification;
 import com.kakaobase.snsapp.domain.notification.entity.QNotification;
 import com.kakaobase.snsapp.domain.notification.util.InvalidNotificationCacheUtil;
 import com.kakaobase.snsapp.domain.notification.util.NotificationType;
 import com.kakaobase.snsapp.global.common.entity.WebSocketPacket;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
-import com.querydsl.core.BooleanBuilder;
+import java.util.stream.Stream;
 
 @Slf4j
 @Repository
@@ -34,6 +39,7 @@ public class CustomNotificationRepositoryImpl implements CustomNotificationRepos
     private final JPAQueryFactory queryFactory;
     private final NotificationConverter notificationConverter;
     private final InvalidNotificationCacheUtil invalidNotificationCacheUtil;
+    private final MemberSummaryCacheService memberSummaryCacheService;
 
     @Override
     public List<WebSocketPacket<NotificationResponse>> findAllNotificationsByUserId(Long userId) {
@@ -46,413 +52,252 @@ public class CustomNotificationRepositoryImpl implements CustomNotificationRepos
                 .orderBy(notification.createdAt.desc())
                 .fetch();
 
-        // NotificationType별로 그룹화
-        Map<NotificationType, List<Notification>> notificationsByType = notifications.stream()
-                .collect(Collectors.groupingBy(Notification::getNotificationType));
-
-        List<WebSocketPacket<NotificationResponse>> result = new ArrayList<>();
-        
-        // 각 타입별로 일괄 조회 및 처리
-        for (Map.Entry<NotificationType, List<Notification>> entry : notificationsByType.entrySet()) {
-            NotificationType type = entry.getKey();
-            List<Notification> typeNotifications = entry.getValue();
-            
-            if (type == NotificationType.FOLLOWING_CREATED) {
-                // 팔로우 알림 일괄 처리
-                result.addAll(processFollowingNotifications(typeNotifications));
-            } else {
-                // 일반 알림 일괄 처리 (댓글, 좋아요 등)
-                result.addAll(processGeneralNotifications(typeNotifications, type));
-            }
-        }
-        
-        // 원래 시간 순서대로 재정렬 (timestamp만 비교)
-        List<WebSocketPacket<NotificationResponse>> sortedResult = result.stream()
-                .sorted((p1, p2) -> {
-                    LocalDateTime time1 = getTimestamp(p1.data);
-                    LocalDateTime time2 = getTimestamp(p2.data);
-                    return time2.compareTo(time1); // 최신순
-                })
-                .toList();
-        
-        // WebSocketPacket 그대로 반환
-        return sortedResult;
+        return findResponsePackets(notifications);
     }
 
     @Override
-    public List<WebSocketPacket<NotificationResponse>> findNotificationsWithCursor(Long userId, Integer limit, Long cursor) {
+    public List<Notification> findPageByReceiverId(Long userId, Long cursor, int size) {
         QNotification notification = QNotification.notification;
-        BooleanBuilder whereClause = new BooleanBuilder();
-
-        // 기본 조건: 해당 사용자의 알림
-        whereClause.and(notification.receiverId.eq(userId));
-
-        // cursor 조건: cursor보다 작은 ID (오래된 알림)
-        if (cursor != null) {
-            whereClause.and(notification.id.lt(cursor));
-        }
 
-        // 알림 기본 조회 (cursor 기반 페이지네이션)
-        List<Notification> notifications = queryFactory
+        // idx_receiver_id_id 인덱스를 타도록 필터와 정렬을 모두 (receiver_id, id) 기준으로 맞춤
+        return queryFactory
                 .selectFrom(notification)
-                .where(whereClause)
-                .orderBy(notification.createdAt.desc())
-                .limit(limit)
+                .where(
+                        notification.receiverId.eq(userId),
+                        cursor != null ? notification.id.lt(cursor) : null
+                )
+                .orderBy(notification.id.desc())
+                .limit(size)
                 .fetch();
-
-        // NotificationType별로 그룹화
-        Map<NotificationType, List<Notification>> notificationsByType = notifications.stream()
-                .collect(Collectors.groupingBy(Notification::getNotificationType));
-
-        List<WebSocketPacket<NotificationResponse>> result = new ArrayList<>();
-
-        // 각 타입별로 일괄 조회 및 처리
-        for (Map.Entry<NotificationType, List<Notification>> entry : notificationsByType.entrySet()) {
-            NotificationType type = entry.getKey();
-            List<Notification> typeNotifications = entry.getValue();
-
-            if (type == NotificationType.FOLLOWING_CREATED) {
-                // 팔로우 알림 일괄 처리
-                result.addAll(processFollowingNotifications(typeNotifications));
-            } else {
-                // 일반 알림 일괄 처리 (댓글, 좋아요 등)
-                result.addAll(processGeneralNotifications(typeNotifications, type));
-            }
-        }
-
-        // 원래 시간 순서대로 재정렬 (timestamp만 비교)
-        List<WebSocketPacket<NotificationResponse>> sortedResult = result.stream()
-                .sorted((p1, p2) -> {
-                    LocalDateTime time1 = getTimestamp(p1.data);
-                    LocalDateTime time2 = getTimestamp(p2.data);
-                    return time2.compareTo(time1); // 최신순
-                })
-                .toList();
-
-        // WebSocketPacket 그대로 반환
-        return sortedResult;
-    }
-
-    /**
-     * WebSocketPacket에서 timestamp 추출
-     */
-    private LocalDateTime getTimestamp(Object data) {
-        if (data instanceof ContentNotification contentNotification) {
-            return contentNotification.timestamp();
-        } else if (data instanceof FollowingNotificationData followingData) {
-            return followingData.timestamp();
-        }
-        return LocalDateTime.MIN; // 예외 상황
     }
 
     /**
-     * 팔로우 알림들을 일괄 처리
+     * 알림 목록을 응답 패킷으로 변환합니다.
+     *
+     * <p>발신자는 회원 요약 캐시에서 한 번에, 대상은 대상 테이블(댓글/대댓글/팔로우)마다 한 번씩만 조회하므로
+     * 페이지 크기와 상관없이 쿼리 수가 일정합니다. 결과는 입력(SQL) 순서를 그대로 따르며,
+     * 발신자나 대상이 사라진 알림은 제외하고 스케줄러가 DB에서 정리하도록 Redis에 기록합니다.</p>
      */
-    private List<WebSocketPacket<NotificationResponse>> processFollowingNotifications(List<Notification> notifications) {
-        List<WebSocketPacket<NotificationResponse>> result = new ArrayList<>();
-        
+    @Override
+    public List<WebSocketPacket<NotificationResponse>> findResponsePackets(List<Notification> notifications) {
         if (notifications.isEmpty()) {
-            return result;
+            return List.of();
         }
-        
-        // Follow ID 목록 추출
-        List<Long> followIds = notifications.stream()
-                .map(Notification::getTargetId)
-                .toList();
-        
-        // 팔로우 정보 일괄 조회
-        QMember followerMember = QMember.member;
-        QFollow follow = QFollow.follow;
-        
-        Map<Long, MemberResponseDto.UserInfoWithFollowing> senderMap = queryFactory
-                .select(com.querydsl.core.types.Projections.constructor(
-                        MemberResponseDto.UserInfoWithFollowing.class,
-                        followerMember.id,
-                        followerMember.nickname,
-                        followerMember.profileImgUrl,
-                        com.querydsl.core.types.dsl.Expressions.constant(true)
-                ))
-                .from(follow)
-                .leftJoin(follow.followerUser, followerMember)
-                .where(follow.id.in(followIds))
-                .fetch()
-                .stream()
-                .collect(Collectors.toMap(
-                        MemberResponseDto.UserInfoWithFollowing::id,
-                        userInfo -> userInfo,
-                        (existing, replacement) -> existing
-                ));
 
-        // 실제 팔로우 알림 패킷 생성
+        Map<Long, MemberResponseDto.UserInfo> senderMap = memberSummaryCacheService.findAll(collectActorIds(notifications));
+        Map<Long, NotificationTarget> commentTargets = findCommentTargets(
+                collectTargetIds(notifications, NotificationType.COMMENT_CREATED, NotificationType.COMMENT_LIKE_CREATED));
+        Map<Long, NotificationTarget> recommentTargets = findRecommentTargets(
+                collectTargetIds(notifications, NotificationType.RECOMMENT_CREATED, NotificationType.RECOMMENT_LIKE_CREATED));
+        Set<Long> followIds = findExistingFollowIds(
+                collectTargetIds(notifications, NotificationType.FOLLOWING_CREATED));
+
+        List<WebSocketPacket<NotificationResponse>> result = new ArrayList<>(notifications.size());
         for (Notification notification : notifications) {
-            MemberResponseDto.UserInfoWithFollowing sender = senderMap.get(notification.getSenderId());
-            if (sender != null) {
-                WebSocketPacket<NotificationResponse> packet = notificationConverter.toFollowingResponsePacket(
-                        notification.getId(),
-                        notification.getNotificationType(),
-                        sender,
-                        notification.getCreatedAt(),
-                        notification.getIsRead()
-                );
-                result.add(packet);
-            } else {
-                // 무효한 팔로우 알림은 Redis 캐시에 추가
+            WebSocketPacket<NotificationResponse> packet = switch (notification.getNotificationType()) {
+                case FOLLOWING_CREATED -> toFollowingPacket(notification, senderMap, followIds);
+                case COMMENT_CREATED, COMMENT_LIKE_CREATED -> toContentPacket(notification, senderMap,
+                        commentTargets.get(notification.getTargetId()));
+                case RECOMMENT_CREATED, RECOMMENT_LIKE_CREATED -> toContentPacket(notification, senderMap,
+                        recommentTargets.get(notification.getTargetId()));
+                // 게시글 좋아요는 targetId가 곧 postId
+                default -> toContentPacket(notification, senderMap,
+                        new NotificationTarget(notification.getTargetId(), null));
+            };
+
+            if (packet == null) {
                 invalidNotificationCacheUtil.addInvalidNotificationId(notification.getId());
+                continue;
             }
+            result.add(packet);
         }
-
         return result;
     }
 
+    @Override
+    public List<UnreadNotificationCount> findUnreadCounts(Collection<Long> userIds) {
+        QNotification notification = QNotification.notification;
+
+        return queryFactory
+                .select(Projections.constructor(
+                        UnreadNotificationCount.class,
+                        notification.receiverId,
+                        notification.count()
+                ))
+                .from(notification)
+                .where(
+                        notification.receiverId.in(userIds),
+                        notification.isRead.isFalse()
+                )
+                .groupBy(notification.receiverId)
+                .fetch();
+    }
+
+    @Override
+    public List<UnreadNotificationCount> findUnreadCountsByIdIn(Collection<Long> notificationIds) {
+        QNotification notification = QNotification.notification;
+
+        return queryFactory
+                .select(Projections.constructor(
+                        UnreadNotificationCount.class,
+                        notification.receiverId,
+                        notification.count()
+                ))
+                .from(notification)
+                .where(
+                        notification.id.in(notificationIds),
+                        notification.isRead.isFalse()
+                )
+                .groupBy(notification.receiverId)
+                .fetch();
+    }
+
     /**
-     * 일반 알림들을 일괄 처리 (댓글, 좋아요 등)
+     * 팔로우 알림 패킷 생성 (팔로우가 취소되었거나 발신자가 없으면 null)
      */
-    private List<WebSocketPacket<NotificationResponse>> processGeneralNotifications(List<Notification> notifications, NotificationType type) {
-        return processNotifications(notifications, type);
+    private WebSocketPacket<NotificationResponse> toFollowingPacket(Notification notification,
+                                                                   Map<Long, MemberResponseDto.UserInfo> senderMap,
+                                                                   Set<Long> followIds) {
+        MemberResponseDto.UserInfo sender = senderMap.get(notification.getSenderId());
+        if (sender == null || !followIds.contains(notification.getTargetId())) {
+            return null;
+        }
+
+        return notificationConverter.toFollowingResponsePacket(
+                notification.getId(),
+                notification.getNotificationType(),
+                new MemberResponseDto.UserInfoWithFollowing(sender.id(), sender.nickname(), sender.imageUrl(), true),
+                notification.getCreatedAt(),
+                notification.getIsRead()
+        );
     }
-    
+
     /**
-     * 알림을 처리하여 유효한 알림만 WebSocketPacket으로 변환
-     * 무효한 알림은 즉시 필터링하고 스케줄러가 DB에서 정리하도록 함
+     * 댓글/좋아요 알림 패킷 생성 (대상이 삭제되었거나 발신자가 없으면 null)
      */
-    private List<WebSocketPacket<NotificationResponse>> processNotifications(List<Notification> notifications, NotificationType type) {
-        List<WebSocketPacket<NotificationResponse>> result = new ArrayList<>();
-        
-        if (notifications.isEmpty()) {
-            return result;
+    private WebSocketPacket<NotificationResponse> toContentPacket(Notification notification,
+                                                                 Map<Long, MemberResponseDto.UserInfo> senderMap,
+                                                                 NotificationTarget target) {
+        MemberResponseDto.UserInfo sender = senderMap.get(notification.getSenderId());
+        if (sender == null || target == null) {
+            return null;
         }
-        
-        // 타입별 발신자 정보와 컨텐츠 일괄 조회
-        Map<Long, MemberResponseDto.UserInfo> senderMap = getSenderInfoBySenderId(notifications);
-        Map<Long, String> contentMap = getContentBatch(notifications, type);
-        Map<Long, Long> postIdMap = getPostIdBatch(notifications, type);
-        
-        // 각 알림에 대해 패킷 생성 (유효한 알림만 처리)
-        for (Notification notification : notifications) {
-            MemberResponseDto.UserInfo sender = senderMap.get(notification.getSenderId());
-            String content = contentMap.get(notification.getId());
-            Long postId = postIdMap.get(notification.getId());
-            
-            // 무효한 알림은 Redis 캐시에 추가하고 즉시 필터링 (스케줄러가 DB에서 정리)
-            if (sender == null || postId == null || postId.equals(-1L)) {
-                invalidNotificationCacheUtil.addInvalidNotificationId(notification.getId());
-                continue;
-            }
-            
-            WebSocketPacket<NotificationResponse> packet = notificationConverter.toNotificationResponsePacket(
+
+        NotificationType type = notification.getNotificationType();
+        if (type.isAggregatable()) {
+            // 묶음 알림: 최근 행위자 중 남아 있는 회원만 노출 (sender가 첫 번째)
+            List<MemberResponseDto.UserInfo> recentSenders = notification.getRecentActorIdList().stream()
+                    .map(senderMap::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+            return notificationConverter.toAggregatedPacket(
                     notification.getId(),
-                    notification.getNotificationType(),
-                    postId,
-                    content,
-                    sender,
+                    type,
+                    target.postId(),
+                    recentSenders.isEmpty() ? List.of(sender) : recentSenders,
+                    notification.getActorCount(),
                     notification.getCreatedAt(),
                     notification.getIsRead()
             );
-            result.add(packet);
         }
-        
-        return result;
+
+        return notificationConverter.toNotificationResponsePacket(
+                notification.getId(),
+                type,
+                target.postId(),
+                target.content() != null ? target.content() : "",
+                sender,
+                notification.getCreatedAt(),
+                notification.getIsRead()
+        );
     }
 
     /**
-     * senderId를 기반으로 발신자 정보 일괄 조회
+     * 발신자와 묶음 알림의 최근 행위자 ID
      */
-    private Map<Long, MemberResponseDto.UserInfo> getSenderInfoBySenderId(List<Notification> notifications) {
-        List<Long> senderIds = notifications.stream()
-                .map(Notification::getSenderId)
+    private List<Long> collectActorIds(List<Notification> notifications) {
+        return notifications.stream()
+                .flatMap(notification -> notification.getNotificationType().isAggregatable()
+                        ? Stream.concat(Stream.of(notification.getSenderId()), notification.getRecentActorIdList().stream())
+                        : Stream.of(notification.getSenderId()))
                 .distinct()
                 .toList();
+    }
 
-        QMember member = QMember.member;
-        
-        List<com.querydsl.core.Tuple> results = queryFactory
-                .select(member.id, member.name, member.nickname, member.profileImgUrl)
-                .from(member)
-                .where(member.id.in(senderIds))
-                .fetch();
-        
-        return results.stream()
-                .collect(Collectors.toMap(
-                        tuple -> tuple.get(member.id),
-                        tuple -> new MemberResponseDto.UserInfo(
-                                tuple.get(member.id),
-                                tuple.get(member.name),
-                                tuple.get(member.nickname),
-                                tuple.get(member.profileImgUrl)
-                        )
-                ));
+    private List<Long> collectTargetIds(List<Notification> notifications, NotificationType... types) {
+        Set<NotificationType> typeSet = EnumSet.copyOf(Arrays.asList(types));
+        return notifications.stream()
+                .filter(notification -> typeSet.contains(notification.getNotificationType()))
+                .map(Notification::getTargetId)
+                .distinct()
+                .toList();
     }
 
     /**
-     * 타입별 컨텐츠 일괄 조회 (notificationId -> content 매핑)
+     * 댓글 ID -> (postId, content) 일괄 조회
      */
-    private Map<Long, String> getContentBatch(List<Notification> notifications, NotificationType type) {
-        List<Long> targetIds = notifications.stream()
-                .map(Notification::getTargetId)
-                .toList();
-        
+    private Map<Long, NotificationTarget> findCommentTargets(List<Long> commentIds) {
+        if (commentIds.isEmpty()) {
+            return Map.of();
+        }
+
         QComment comment = QComment.comment;
-        QRecomment recomment = QRecomment.recomment;
-        
-        // 먼저 targetId -> content 매핑을 구한 후, notificationId -> content로 변환
-        Map<Long, String> targetToContentMap = switch (type) {
-            case COMMENT_CREATED -> {
-                List<com.querydsl.core.Tuple> results = queryFactory
-                        .select(comment.id, comment.content)
-                        .from(comment)
-                        .where(comment.id.in(targetIds))
-                        .fetch();
-                yield results.stream()
-                        .collect(Collectors.toMap(
-                                tuple -> tuple.get(comment.id),
-                                tuple -> tuple.get(comment.content),
-                                (existing, replacement) -> existing
-                        ));
-            }
-            
-            case RECOMMENT_CREATED -> {
-                List<com.querydsl.core.Tuple> results = queryFactory
-                        .select(recomment.id, recomment.content)
-                        .from(recomment)
-                        .where(recomment.id.in(targetIds))
-                        .fetch();
-                yield results.stream()
-                        .collect(Collectors.toMap(
-                                tuple -> tuple.get(recomment.id),
-                                tuple -> tuple.get(recomment.content),
-                                (existing, replacement) -> existing
-                        ));
-            }
-            
-            // 좋아요 알림들은 content가 필요 없음 (빈 문자열로 처리)
-            default -> notifications.stream()
-                    .collect(Collectors.toMap(
-                            Notification::getTargetId,
-                            n -> "",  // 좋아요 알림은 content가 없음
-                            (existing, replacement) -> existing
-                    ));
-        };
-        
-        // notificationId -> content로 변환
-        return notifications.stream()
+        return queryFactory
+                .select(comment.id, comment.post.id, comment.content)
+                .from(comment)
+                .where(comment.id.in(commentIds))
+                .fetch()
+                .stream()
                 .collect(Collectors.toMap(
-                        Notification::getId,
-                        notification -> targetToContentMap.getOrDefault(notification.getTargetId(), ""),
+                        tuple -> tuple.get(comment.id),
+                        tuple -> new NotificationTarget(tuple.get(comment.post.id), tuple.get(comment.content)),
                         (existing, replacement) -> existing
                 ));
     }
 
     /**
-     * 타입별 PostId 일괄 조회 (notificationId -> postId 매핑)
+     * 대댓글 ID -> (postId, content) 일괄 조회
      */
-    private Map<Long, Long> getPostIdBatch(List<Notification> notifications, NotificationType type) {
+    private Map<Long, NotificationTarget> findRecommentTargets(List<Long> recommentIds) {
+        if (recommentIds.isEmpty()) {
+            return Map.of();
+        }
+
         QComment comment = QComment.comment;
         QRecomment recomment = QRecomment.recomment;
-        
-        // targetId로 PostId를 조회한 후, notificationId와 매핑
-        Map<Long, Long> targetToPostMap = switch (type) {
-            case COMMENT_CREATED -> {
-                List<Long> targetIds = notifications.stream()
-                        .map(Notification::getTargetId)
-                        .toList();
-                List<com.querydsl.core.Tuple> results = queryFactory
-                        .select(comment.id, comment.post.id)
-                        .from(comment)
-                        .where(comment.id.in(targetIds))
-                        .fetch();
-                yield results.stream()
-                        .collect(Collectors.toMap(
-                                tuple -> tuple.get(comment.id),
-                                tuple -> tuple.get(comment.post.id),
-                                (existing, replacement) -> existing
-                        ));
-            }
-
-            case RECOMMENT_CREATED -> {
-                List<Long> targetIds = notifications.stream()
-                        .map(Notification::getTargetId)
-                        .toList();
-                List<com.querydsl.core.Tuple> results = queryFactory
-                        .select(recomment.id, comment.post.id)
-                        .from(recomment)
-                        .join(recomment.comment, comment)
-                        .where(recomment.id.in(targetIds))
-                        .fetch();
-                yield results.stream()
-                        .collect(Collectors.toMap(
-                                tuple -> tuple.get(recomment.id),
-                                tuple -> tuple.get(comment.post.id),
-                                (existing, replacement) -> existing
-                        ));
-            }
-
-            case COMMENT_LIKE_CREATED -> {
-                List<Long> commentIds = notifications.stream()
-                        .map(Notification::getTargetId)
-                        .toList();
-                List<com.querydsl.core.Tuple> results = queryFactory
-                        .select(comment.id, comment.post.id)
-                        .from(comment)
-                        .where(comment.id.in(commentIds))
-                        .fetch();
-                yield results.stream()
-                        .collect(Collectors.toMap(
-                                tuple -> tuple.get(comment.id),
-                                tuple -> tuple.get(comment.post.id),
-                                (existing, replacement) -> existing
-                        ));
-            }
-
-            case RECOMMENT_LIKE_CREATED -> {
-                List<Long> recommentIds = notifications.stream()
-                        .map(Notification::getTargetId)
-                        .toList();
-                List<com.querydsl.core.Tuple> results = queryFactory
-                        .select(recomment.id, comment.post.id)
-                        .from(recomment)
-                        .join(recomment.comment, comment)
-                        .where(recomment.id.in(recommentIds))
-                        .fetch();
-                yield results.stream()
-                        .collect(Collectors.toMap(
-                                tuple -> tuple.get(recomment.id),
-                                tuple -> tuple.get(comment.post.id),
-                                (existing, replacement) -> existing
-                        ));
-            }
-
-            case POST_LIKE_CREATED -> notifications.stream()
-                    .collect(Collectors.toMap(
-                            Notification::getTargetId,
-                            Notification::getTargetId,
-                            (existing, replacement) -> existing
-                    ));
-
-            default -> notifications.stream()
-                    .collect(Collectors.toMap(
-                            Notification::getTargetId,
-                            Notification::getTargetId,
-                            (existing, replacement) -> existing
-                    ));
-        };
-        
-        // notificationId -> postId로 변환
-        return notifications.stream()
+        return queryFactory
+                .select(recomment.id, comment.post.id, recomment.content)
+                .from(recomment)
+                .join(recomment.comment, comment)
+                .where(recomment.id.in(recommentIds))
+                .fetch()
+                .stream()
                 .collect(Collectors.toMap(
-                        Notification::getId,
-                        notification -> {
-                            Long postId = targetToPostMap.get(notification.getTargetId());
-                            if (postId != null) {
-                                return postId;
-                            }
-                            // POST_LIKE_CREATED의 경우 targetId가 이미 postId
-                            if (type == NotificationType.POST_LIKE_CREATED) {
-                                return notification.getTargetId();
-                            }
-                            // 삭제된 엔티티의 경우 -1L 반환 (null 대신)
-                            return -1L;
-                        },
+                        tuple -> tuple.get(recomment.id),
+                        tuple -> new NotificationTarget(tuple.get(comment.post.id), tuple.get(recomment.content)),
                         (existing, replacement) -> existing
                 ));
     }
-}
\ No newline at end of file
+
+    /**
+     * 아직 유지 중인 팔로우 ID 일괄 조회
+     */
+    private Set<Long> findExistingFollowIds(List<Long> followIds) {
+        if (followIds.isEmpty()) {
+            return Set.of();
+        }
+
+        QFollow follow = QFollow.follow;
+        return new HashSet<>(queryFactory
+                .select(follow.id)
+                .from(follow)
+                .where(follow.id.in(followIds))
+                .fetch());
+    }
+
+    /**
+     * 알림 대상 정보 (content는 댓글/대댓글 알림에만 사용)
+     */
+    private record NotificationTarget(Long postId, String content) {
+    }
+}
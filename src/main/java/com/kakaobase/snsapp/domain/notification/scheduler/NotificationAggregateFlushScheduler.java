@@ -0,0 +1,32 @@
+package com.kakaobase.snsapp.domain.notification.scheduler;
+
+import com.kakaobase.snsapp.domain.notification.service.NotificationAggregationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 묶음 알림 플러시 스케줄러
+ * 5초마다 모인 좋아요 알림을 반영하므로, 묶음 알림 전송은 수신자당 5초에 한 번으로 제한됨
+ * 여러 노드에서 실행되어도 분산 락으로 한 노드만 플러시함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationAggregateFlushScheduler {
+
+    private final NotificationAggregationService notificationAggregationService;
+
+    @Scheduled(fixedDelay = 5000)
+    public void flush() {
+        try {
+            int flushed = notificationAggregationService.flush();
+            if (flushed > 0) {
+                log.debug("묶음 알림 반영 - {} 건", flushed);
+            }
+        } catch (Exception e) {
+            log.error("묶음 알림 플러시 중 오류 발생", e);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.kakaobase.snsapp.domain.notification.scheduler;
 
 import com.kakaobase.snsapp.domain.notification.service.NotificationCleanupService;
+import com.kakaobase.snsapp.domain.notification.service.NotificationRetentionService;
 import com.kakaobase.snsapp.domain.notification.util.InvalidNotificationCacheUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,7 +14,7 @@ import java.util.Set;
 
 /**
  * 알림 정리 스케줄러
- * Redis 캐시 기반 무효 알림 정리 (1시간마다) + 주기적 DB 정리 (매일 오후 9시, 매주 일요일)
+ * Redis 캐시 기반 무효 알림 정리 (1시간마다) + 보관 기간 정리 (매일 새벽 3시)
  */
 @Slf4j
 @Component
@@ -23,6 +24,7 @@ public class NotificationCleanupScheduler {
 
     private final NotificationCleanupService notificationCleanupService;
     private final InvalidNotificationCacheUtil invalidNotificationCacheUtil;
+    private final NotificationRetentionService notificationRetentionService;
 
     /**
      * 1시간마다 Redis 캐시에서 무효 알림 ID를 조회하고 실제 DB에서 삭제
@@ -57,18 +59,18 @@ public class NotificationCleanupScheduler {
 
 
     /**
-     * 매주 일요일 새벽 3시에 일주일 이상 오래된 알림 정리
-     * cron: 초 분 시 일 월 요일 (0 = 일요일)
+     * 매일 새벽 3시에 하루치 파티션을 추가하고 타입별 보관 기간이 지난 알림 정리
+     * 파티션은 매일 하나씩 만들어지므로 매일 실행해야 함
      */
-    @Scheduled(cron = "0 0 3 * * 0")
-    public void cleanupOldNotifications() {
-        log.info("스케줄된 오래된 알림 정리 작업 시작 - 매주 일요일 새벽 3시");
-        
+    @Scheduled(cron = "0 0 3 * * *")
+    public void applyRetention() {
+        log.info("알림 보관 기간 정리 작업 시작 - 매일 새벽 3시");
+
         try {
-            int deletedCount = notificationCleanupService.cleanupOldNotifications(7);
-            log.info("스케줄된 오래된 알림 정리 작업 성공적으로 완료 - {}개 삭제", deletedCount);
+            int deletedCount = notificationRetentionService.applyRetention();
+            log.info("알림 보관 기간 정리 작업 완료 - 구간 삭제 {}개", deletedCount);
         } catch (Exception e) {
-            log.error("스케줄된 오래된 알림 정리 작업 중 오류 발생", e);
+            log.error("알림 보관 기간 정리 작업 중 오류 발생", e);
         }
     }
 }
\ No newline at end of file
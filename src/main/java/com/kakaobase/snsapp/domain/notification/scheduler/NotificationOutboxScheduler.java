@@ -0,0 +1,31 @@
+package com.kakaobase.snsapp.domain.notification.scheduler;
+
+import com.kakaobase.snsapp.domain.notification.service.NotificationOutboxDispatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 아웃박스 스케줄러
+ * 1초마다 아웃박스에 쌓인 알림을 배치로 저장하고 전송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxScheduler {
+
+    private final NotificationOutboxDispatcher notificationOutboxDispatcher;
+
+    @Scheduled(fixedDelay = 1000)
+    public void dispatch() {
+        try {
+            int dispatched = notificationOutboxDispatcher.dispatch();
+            if (dispatched > 0) {
+                log.debug("알림 아웃박스 처리 - {} 건", dispatched);
+            }
+        } catch (Exception e) {
+            log.error("알림 아웃박스 처리 중 오류 발생", e);
+        }
+    }
+}
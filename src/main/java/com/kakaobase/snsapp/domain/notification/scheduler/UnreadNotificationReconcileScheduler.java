@@ -0,0 +1,28 @@
+package com.kakaobase.snsapp.domain.notification.scheduler;
+
+import com.kakaobase.snsapp.domain.notification.service.cache.UnreadNotificationCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 안읽은 알림 수 재계산 스케줄러
+ * 증감 누락(Redis 장애, 커밋 후 반영 실패)으로 생긴 오차를 10분마다 DB 값으로 보정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadNotificationReconcileScheduler {
+
+    private final UnreadNotificationCacheService unreadNotificationCacheService;
+
+    @Scheduled(fixedRate = 600000)
+    public void reconcile() {
+        try {
+            unreadNotificationCacheService.reconcile();
+        } catch (Exception e) {
+            log.error("안읽은 알림 수 재계산 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.kakaobase.snsapp.domain.notification.service;
+
+import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
+import com.kakaobase.snsapp.domain.members.service.cache.MemberSummaryCacheService;
+import com.kakaobase.snsapp.domain.notification.converter.NotificationConverter;
+import com.kakaobase.snsapp.domain.notification.dto.records.NotificationResponse;
+import com.kakaobase.snsapp.domain.notification.entity.Notification;
+import com.kakaobase.snsapp.domain.notification.util.NotificationAggregateCacheUtil;
+import com.kakaobase.snsapp.domain.notification.util.NotificationType;
+import com.kakaobase.snsapp.global.common.entity.WebSocketPacket;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 묶음 알림 서비스 ("X님 외 N명이 좋아합니다")
+ *
+ * <p>좋아요처럼 같은 대상에 몰리는 알림은 바로 저장/전송하지 않고 Redis 버퍼에 모은 뒤,
+ * 플러시 주기마다 (수신자, 타입, 대상)별로 한 번만 DB에 반영하고, 수신자별로 모아 한 번만 전송합니다.
+ * 아직 읽지 않았고 묶음 시간 안에 만들어진 알림이 있으면 새 행을 만들지 않고 그 행에 합칩니다.
+ * 따라서 인기 게시글의 좋아요 수천 건은 수신자에게 플러시 주기당 한 번의 갱신과 전송으로 줄어듭니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationAggregationService {
+
+    /**
+     * 이 시간 안에 만들어진 안읽은 알림에만 합침
+     */
+    static final Duration AGGREGATE_WINDOW = Duration.ofHours(1);
+
+    /**
+     * 알림에 보관하는 최근 행위자 수
+     */
+    static final int RECENT_ACTOR_LIMIT = 3;
+
+    private static final String FLUSH_LOCK_KEY = "notification:agg:flush:lock";
+
+    private final NotificationAggregateCacheUtil aggregateCacheUtil;
+    private final NotificationCommandService commandService;
+    private final NotificationConverter notifConverter;
+    private final MemberSummaryCacheService memberSummaryCacheService;
+    private final RedissonClient redissonClient;
+
+    /**
+     * 묶음 알림 버퍼에 행위자를 추가합니다. 호출 트랜잭션이 커밋된 뒤에만 반영됩니다.
+     */
+    public void record(Long receiverId, NotificationType type, Long targetId, Long actorId, Long postId) {
+        NotificationAggregateCacheUtil.AggregateId id = new NotificationAggregateCacheUtil.AggregateId(receiverId, type, targetId);
+        Runnable action = () -> {
+            try {
+                aggregateCacheUtil.record(id, actorId, postId);
+            } catch (Exception e) {
+                log.error("묶음 알림 버퍼 기록 실패 - receiverId: {}, type: {}, targetId: {}", receiverId, type, targetId, e);
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 모인 버퍼를 DB에 반영하고 수신자에게 묶음 알림을 전송합니다. 다른 노드가 실행 중이면 건너뜁니다.
+     * 반영에 실패한 버퍼는 되돌려 다음 플러시에서 다시 반영합니다.
+     *
+     * @return 반영한 묶음 수
+     */
+    public int flush() {
+        Set<String> pending = aggregateCacheUtil.findPending();
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        RLock lock = redissonClient.getLock(FLUSH_LOCK_KEY);
+        if (!lock.tryLock()) {
+            log.debug("묶음 알림 플러시가 다른 노드에서 진행 중이므로 건너뜁니다.");
+            return 0;
+        }
+
+        try {
+            LocalDateTime openedAfter = LocalDateTime.now().minus(AGGREGATE_WINDOW);
+            List<MergedAggregate> merged = new ArrayList<>();
+
+            for (String tag : pending) {
+                NotificationAggregateCacheUtil.Buffer buffer = aggregateCacheUtil.claim(tag, RECENT_ACTOR_LIMIT);
+                if (buffer == null) {
+                    continue;
+                }
+
+                Notification notification;
+                try {
+                    notification = commandService.mergeOrCreateAggregate(
+                            buffer.id().type(), buffer.id().receiverId(), buffer.id().targetId(), buffer.actorCount(),
+                            notificationId -> aggregateCacheUtil.countNewActors(tag, notificationId),
+                            buffer.recentActorIds(), openedAfter, RECENT_ACTOR_LIMIT);
+                } catch (Exception e) {
+                    log.error("묶음 알림 반영 실패, 다음 플러시에서 다시 반영합니다 - {}, 행위자 {} 명", buffer.id(), buffer.actorCount(), e);
+                    restore(tag);
+                    continue;
+                }
+
+                try {
+                    aggregateCacheUtil.complete(tag, notification.getId(), AGGREGATE_WINDOW);
+                } catch (Exception e) {
+                    log.error("묶음 알림 버퍼 정리 실패 - {}", buffer.id(), e);
+                }
+                merged.add(new MergedAggregate(notification, buffer.postId()));
+            }
+
+            push(merged);
+            return merged.size();
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void restore(String tag) {
+        try {
+            aggregateCacheUtil.restore(tag);
+        } catch (Exception e) {
+            log.error("묶음 알림 버퍼 복구 실패 - {}", tag, e);
+        }
+    }
+
+    /**
+     * 수신자별로 모아 플러시당 한 번만 전송합니다. 여러 묶음이면 목록 패킷 하나로 보냅니다.
+     */
+    private void push(List<MergedAggregate> merged) {
+        Set<Long> actorIds = merged.stream()
+                .flatMap(aggregate -> aggregate.notification().getRecentActorIdList().stream())
+                .collect(Collectors.toSet());
+        Map<Long, MemberResponseDto.UserInfo> summaries = memberSummaryCacheService.findAll(actorIds);
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<Long, List<WebSocketPacket<NotificationResponse>>> packetsByReceiver = new LinkedHashMap<>();
+        for (MergedAggregate aggregate : merged) {
+            Notification notification = aggregate.notification();
+            List<MemberResponseDto.UserInfo> recentSenders = notification.getRecentActorIdList().stream()
+                    .map(summaries::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+            if (recentSenders.isEmpty()) {
+                continue;
+            }
+
+            packetsByReceiver.computeIfAbsent(notification.getReceiverId(), receiverId -> new ArrayList<>())
+                    .add(notifConverter.toAggregatedPacket(notification.getId(), notification.getNotificationType(),
+                            aggregate.postId(), recentSenders, notification.getActorCount(), now, false));
+        }
+
+        packetsByReceiver.forEach((receiverId, packets) -> commandService.sendPacket(receiverId,
+                packets.size() == 1 ? packets.get(0) : notifConverter.toBatchPacket(packets)));
+    }
+
+    private record MergedAggregate(Notification notification, Long postId) {
+    }
+}
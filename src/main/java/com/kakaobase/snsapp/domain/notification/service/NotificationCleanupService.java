@@ -1,12 +1,15 @@
 package com.kakaobase.snsapp.domain.notification.service;
 
+import com.kakaobase.snsapp.domain.notification.dto.records.UnreadNotificationCount;
 import com.kakaobase.snsapp.domain.notification.repository.NotificationRepository;
+import com.kakaobase.snsapp.domain.notification.service.cache.UnreadNotificationCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -19,6 +22,7 @@ import java.util.List;
 public class NotificationCleanupService {
 
     private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCacheService unreadCacheService;
 
     /**
      * 특정 알림 ID 목록을 기반으로 알림 삭제
@@ -39,9 +43,11 @@ public class NotificationCleanupService {
         try {
             // 삭제 전 존재하는 알림 개수 확인
             long existingCount = notificationRepository.countByIdIn(notificationIds);
+            List<UnreadNotificationCount> unreadCounts = notificationRepository.findUnreadCountsByIdIn(notificationIds);
             
             // Repository의 deleteAllById 사용하여 일괄 삭제
             notificationRepository.deleteAllById(notificationIds);
+            afterCommit(() -> unreadCacheService.decrementAll(unreadCounts));
             
             log.info("무효 알림 일괄 삭제 완료 - 요청: {}개, 존재했던 알림: {}개", 
                     notificationIds.size(), existingCount);
@@ -54,28 +60,18 @@ public class NotificationCleanupService {
     }
 
     /**
-     * 오래된 알림 정리 (선택적 기능)
-     * 지정된 일수보다 오래된 알림을 삭제
-     * 
-     * @param daysOld 며칠 이전의 알림을 삭제할지
-     * @return 삭제된 알림 개수
+     * 롤백된 삭제가 카운터에 반영되지 않도록 커밋 이후에 실행
      */
-    @Transactional
-    public int cleanupOldNotifications(int daysOld) {
-        log.info("{}일 이전의 오래된 알림 정리 시작", daysOld);
-        
-        try {
-            LocalDateTime cutoffDate = LocalDateTime.now().minusDays(daysOld);
-            
-            // Repository의 날짜 기반 삭제 메서드 사용
-            int deletedCount = notificationRepository.deleteByCreatedAtBefore(cutoffDate);
-            
-            log.info("오래된 알림 정리 완료 - {}일 이전 알림 {}개 삭제", daysOld, deletedCount);
-            return deletedCount;
-            
-        } catch (Exception e) {
-            log.error("오래된 알림 정리 중 오류 발생 - 기준: {}일", daysOld, e);
-            throw e;
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
\ No newline at end of file
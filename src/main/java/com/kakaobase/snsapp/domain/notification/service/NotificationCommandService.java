@@ -1,15 +1,14 @@
 package com.kakaobase.snsapp.domain.notification.service;
 
 
-import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
 import com.kakaobase.snsapp.domain.notification.converter.NotificationConverter;
-import com.kakaobase.snsapp.domain.notification.dto.records.ContentNotification;
-import com.kakaobase.snsapp.domain.notification.dto.records.FollowingNotificationData;
-import com.kakaobase.snsapp.domain.notification.dto.records.NotificationResponse;
+import com.kakaobase.snsapp.domain.notification.dto.records.UnreadNotificationCount;
+import com.kakaobase.snsapp.domain.notification.dto.response.NotificationFetchResponse;
 import com.kakaobase.snsapp.domain.notification.entity.Notification;
 import com.kakaobase.snsapp.domain.notification.error.NotificationErrorCode;
 import com.kakaobase.snsapp.domain.notification.error.NotificationException;
 import com.kakaobase.snsapp.domain.notification.repository.NotificationRepository;
+import com.kakaobase.snsapp.domain.notification.service.cache.UnreadNotificationCacheService;
 import com.kakaobase.snsapp.domain.notification.util.NotificationType;
 import com.kakaobase.snsapp.global.common.entity.WebSocketPacket;
 import com.kakaobase.snsapp.global.common.entity.WebSocketPacketImpl;
@@ -20,9 +19,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.ToLongFunction;
 
 @Slf4j
 @Service
@@ -33,22 +36,19 @@ public class NotificationCommandService {
     private final NotificationRepository notifRepository;
     private final SimpMessagingTemplate simpMessagingTemplate;
     private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCacheService unreadCacheService;
 
     private static final String NOTIFY_SUBSCRIBE_PATH = "/queue/notification";
 
-    @Transactional
-    public Long createNotification(Long receiverId, Long senderId, NotificationType type, Long targetId) {
-        Notification notification = notifConverter.toEntity(receiverId, senderId, type, targetId);
-        notifRepository.save(notification);
-        return notification.getId();
-    }
-
     @Transactional
     public void updateNotificationRead(Long notifId) {
         Notification notification = notificationRepository.findById(notifId)
                 .orElseThrow(()-> new NotificationException(NotificationErrorCode.NOTIFICATION_NOT_FOUND));
 
-        notification.markAsRead();
+        if (notification.isUnread()) {
+            notification.markAsRead();
+            afterCommit(() -> unreadCacheService.decrement(notification.getReceiverId()));
+        }
     }
 
     @Transactional
@@ -57,6 +57,7 @@ public class NotificationCommandService {
                 .orElseThrow(()-> new NotificationException(NotificationErrorCode.NOTIFICATION_NOT_FOUND));
 
         notifRepository.delete(notification);
+        decrementIfUnread(notification);
     }
 
     /**
@@ -68,6 +69,7 @@ public class NotificationCommandService {
         
         if (notification.isPresent()) {
             notifRepository.delete(notification.get());
+            decrementIfUnread(notification.get());
             log.info("알림 삭제 완료 - 타입: {}, 타겟ID: {}, 수신자ID: {}", 
                     notificationType, targetId, receiverId);
         } else {
@@ -76,26 +78,54 @@ public class NotificationCommandService {
         }
     }
 
-    @Async
-    public void sendNotification(Long receiverId, Long notifId, NotificationType type, String content, Long targetId, MemberResponseDto.UserInfo userInfo) {
-        WebSocketPacket<ContentNotification> packet = notifConverter.toNewPacket(notifId, type, targetId, content, userInfo);
-        simpMessagingTemplate.convertAndSendToUser(receiverId.toString(), NOTIFY_SUBSCRIBE_PATH, packet);
+    /**
+     * 묶음 버퍼를 열린 묶음 알림에 합치거나, 열린 알림이 없으면 새 묶음 알림을 만듭니다.
+     * 읽었거나 묶음 시간이 지난 알림에는 합치지 않습니다.
+     *
+     * @param newActorCounter 열린 알림 ID를 받아, 그 알림에 아직 합쳐지지 않은 행위자 수를 돌려줌
+     */
+    @Transactional
+    public Notification mergeOrCreateAggregate(NotificationType type, Long receiverId, Long targetId, long actorCount,
+                                               ToLongFunction<Long> newActorCounter, List<Long> recentActorIds,
+                                               LocalDateTime openedAfter, int recentLimit) {
+        Optional<Notification> open = notificationRepository
+                .findFirstByReceiverIdAndNotificationTypeAndTargetIdAndIsReadFalseAndCreatedAtAfterOrderByIdDesc(
+                        receiverId, type, targetId, openedAfter);
+
+        if (open.isPresent()) {
+            long addedCount = newActorCounter.applyAsLong(open.get().getId());
+            open.get().mergeActors(addedCount, recentActorIds, recentLimit);
+            return open.get();
+        }
+
+        Notification notification = notifRepository.save(
+                Notification.aggregate(receiverId, type, targetId, actorCount, recentActorIds));
+        afterCommit(() -> unreadCacheService.increment(receiverId));
+        return notification;
     }
 
     @Async
-    public void sendNotification(Long receiverId, Long notifId, NotificationType type, MemberResponseDto.UserInfoWithFollowing userInfo) {
-        WebSocketPacket<FollowingNotificationData> packet = notifConverter.toNewPacket(notifId, type, userInfo);
+    public void sendPacket(Long receiverId, WebSocketPacket<?> packet) {
         simpMessagingTemplate.convertAndSendToUser(receiverId.toString(), NOTIFY_SUBSCRIBE_PATH, packet);
     }
 
+    /**
+     * 알림 목록을 키셋 기준으로 한 페이지 조회합니다.
+     * limit + 1개를 조회해 hasNext를 판단하고, 응답에는 limit개까지만 담습니다.
+     */
+    @Transactional(readOnly = true)
+    public NotificationFetchResponse findNotificationPage(Long userId, int limit, Long cursor) {
+        log.info("사용자 {}의 알림 조회 (limit: {}, cursor: {})", userId, limit, cursor);
 
-    @Transactional
-    public List<WebSocketPacket<NotificationResponse>> findNotificationsByUserId(Long userId, Integer limit) {
-        log.info("사용자 {}의 알림 조회 (limit: {})", userId, limit);
-        
         try {
-            // cursor 기반 페이지네이션으로 최신 알림 조회
-            return notificationRepository.findNotificationsWithCursor(userId, limit, null);
+            List<Notification> rows = notificationRepository.findPageByReceiverId(userId, cursor, limit + 1);
+            boolean hasNext = rows.size() > limit;
+            List<Notification> page = hasNext ? rows.subList(0, limit) : rows;
+
+            return NotificationFetchResponse.builder()
+                    .hasNext(hasNext)
+                    .notifications(notificationRepository.findResponsePackets(page))
+                    .build();
 
         } catch (Exception e) {
             log.error("사용자 {}의 알림 조회 실패", userId, e);
@@ -111,7 +141,9 @@ public class NotificationCommandService {
     public void deleteInvalidNotifications(List<Long> invalidNotificationIds) {
         try {
             log.info("무효한 알림 {}개 비동기 삭제 시작", invalidNotificationIds.size());
+            List<UnreadNotificationCount> unreadCounts = notifRepository.findUnreadCountsByIdIn(invalidNotificationIds);
             notifRepository.deleteAllById(invalidNotificationIds);
+            afterCommit(() -> unreadCacheService.decrementAll(unreadCounts));
             log.info("무효한 알림 {}개 비동기 삭제 완료", invalidNotificationIds.size());
         } catch (Exception e) {
             log.error("무효한 알림 삭제 중 오류 발생: {}", invalidNotificationIds, e);
@@ -208,18 +240,38 @@ public class NotificationCommandService {
     }
 
     /**
-     * 특정 사용자의 안읽은 알림 개수 조회
+     * 특정 사용자의 안읽은 알림 개수 조회 (캐시 우선)
      */
-    @Transactional(readOnly = true)
     public Long getUnreadNotificationCount(Long memberId) {
         log.debug("사용자 {}의 안읽은 알림 개수 조회", memberId);
         
         try {
-            Long count = notificationRepository.countByReceiverIdAndIsRead(memberId, false);
-            return count != null ? count : 0L;
+            return unreadCacheService.getCount(memberId);
         } catch (Exception e) {
             log.error("사용자 {}의 안읽은 알림 개수 조회 실패", memberId, e);
             return 0L; // 오류 발생 시 0 반환
         }
     }
+
+    private void decrementIfUnread(Notification notification) {
+        if (notification.isUnread()) {
+            afterCommit(() -> unreadCacheService.decrement(notification.getReceiverId()));
+        }
+    }
+
+    /**
+     * 롤백된 변경이 카운터에 반영되지 않도록 커밋 이후에 실행
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
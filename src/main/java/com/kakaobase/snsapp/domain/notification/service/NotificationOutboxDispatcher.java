@@ -0,0 +1,90 @@
+package com.kakaobase.snsapp.domain.notification.service;
+
+import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
+import com.kakaobase.snsapp.domain.members.service.cache.MemberSummaryCacheService;
+import com.kakaobase.snsapp.domain.notification.converter.NotificationConverter;
+import com.kakaobase.snsapp.domain.notification.repository.NotificationOutboxJdbcRepository;
+import com.kakaobase.snsapp.domain.notification.service.cache.UnreadNotificationCacheService;
+import com.kakaobase.snsapp.domain.notification.util.NotificationType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 아웃박스 디스패처
+ *
+ * <p>아웃박스를 배치 단위로 notifications에 옮기고, 커밋이 끝난 배치에 대해서만
+ * 안읽은 알림 수를 갱신하고 STOMP로 전송합니다. 발신자 정보는 배치마다 회원 요약 캐시에서 한 번에 채웁니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxDispatcher {
+
+    static final int BATCH_SIZE = 500;
+
+    /**
+     * 한 번 실행에서 처리할 최대 배치 수 (밀린 양이 많아도 스케줄러 스레드를 오래 잡지 않도록)
+     */
+    static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final NotificationOutboxService outboxService;
+    private final NotificationCommandService commandService;
+    private final NotificationConverter notifConverter;
+    private final UnreadNotificationCacheService unreadCacheService;
+    private final MemberSummaryCacheService memberSummaryCacheService;
+
+    /**
+     * @return 옮긴 알림 수
+     */
+    public int dispatch() {
+        int dispatched = 0;
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            List<NotificationOutboxService.MovedNotification> moved = outboxService.moveBatch(BATCH_SIZE);
+            if (moved.isEmpty()) {
+                break;
+            }
+
+            dispatched += moved.size();
+            try {
+                afterMove(moved);
+            } catch (Exception e) {
+                log.error("알림 아웃박스 전송 실패 - {} 건 (알림은 저장됨)", moved.size(), e);
+            }
+
+            if (moved.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+        return dispatched;
+    }
+
+    private void afterMove(List<NotificationOutboxService.MovedNotification> moved) {
+        moved.stream()
+                .collect(Collectors.groupingBy(m -> m.entry().receiverId(), Collectors.counting()))
+                .forEach(unreadCacheService::incrementBy);
+
+        Map<Long, MemberResponseDto.UserInfo> senders = memberSummaryCacheService.findAll(
+                moved.stream().map(m -> m.entry().senderId()).toList());
+
+        for (NotificationOutboxService.MovedNotification m : moved) {
+            NotificationOutboxJdbcRepository.OutboxEntry entry = m.entry();
+            MemberResponseDto.UserInfo sender = senders.get(entry.senderId());
+            if (sender == null) {
+                continue;
+            }
+
+            if (entry.type() == NotificationType.FOLLOWING_CREATED) {
+                commandService.sendPacket(entry.receiverId(), notifConverter.toNewPacket(m.notificationId(), entry.type(),
+                        new MemberResponseDto.UserInfoWithFollowing(sender.id(), sender.nickname(), sender.imageUrl(), entry.senderFollowed())));
+            } else {
+                commandService.sendPacket(entry.receiverId(), notifConverter.toNewPacket(m.notificationId(), entry.type(),
+                        entry.postId(), entry.content(), sender));
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.kakaobase.snsapp.domain.notification.service;
+
+import com.kakaobase.snsapp.domain.notification.entity.NotificationOutbox;
+import com.kakaobase.snsapp.domain.notification.repository.NotificationOutboxJdbcRepository;
+import com.kakaobase.snsapp.domain.notification.repository.NotificationOutboxRepository;
+import com.kakaobase.snsapp.domain.notification.util.NotificationType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 알림 아웃박스 서비스
+ *
+ * <p>댓글/대댓글/팔로우 트랜잭션에서는 아웃박스 행 하나만 기록하므로 알림 처리 실패가 사용자 작업을 되돌리지 않고,
+ * 도메인 작업이 롤백되면 알림 의도도 함께 사라집니다.
+ * 좋아요처럼 묶어서 보내는 알림은 아웃박스를 거치지 않고 커밋 이후 Redis 묶음 버퍼에 기록됩니다.
+ * ({@link NotificationAggregationService})</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationOutboxJdbcRepository outboxJdbcRepository;
+
+    /**
+     * 알림 의도를 호출 트랜잭션에 함께 기록합니다.
+     *
+     * @param postId         전송 패킷의 target_id (팔로우 알림은 null)
+     * @param senderFollowed 수신자가 발신자를 팔로우 중인지 여부 (팔로우 알림용)
+     */
+    @Transactional
+    public void record(Long receiverId, Long senderId, NotificationType type, Long targetId,
+                       Long postId, String content, boolean senderFollowed) {
+        outboxRepository.save(NotificationOutbox.builder()
+                .receiverId(receiverId)
+                .senderId(senderId)
+                .type(type)
+                .targetId(targetId)
+                .postId(postId)
+                .content(content)
+                .senderFollowed(senderFollowed)
+                .build());
+    }
+
+    /**
+     * 아웃박스 행을 점유해 notifications로 옮기고 아웃박스에서 삭제합니다.
+     *
+     * @return 옮긴 알림 (생성된 알림 ID 포함), 커밋 이후에 전송해야 함
+     */
+    @Transactional
+    public List<MovedNotification> moveBatch(int size) {
+        List<NotificationOutboxJdbcRepository.OutboxEntry> entries = outboxJdbcRepository.claimBatch(size);
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> notificationIds = outboxJdbcRepository.insertNotifications(entries);
+        outboxJdbcRepository.deleteAll(entries);
+
+        return IntStream.range(0, entries.size())
+                .mapToObj(i -> new MovedNotification(notificationIds.get(i), entries.get(i)))
+                .toList();
+    }
+
+    public record MovedNotification(Long notificationId, NotificationOutboxJdbcRepository.OutboxEntry entry) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.kakaobase.snsapp.domain.notification.service;
+
+import com.kakaobase.snsapp.domain.notification.util.NotificationType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 타입별 보관 기간
+ *
+ * <p>notification.retention.default-days를 기본값으로 하고,
+ * notification.retention.days.{타입} 으로 타입별 보관 기간을 덮어씁니다.</p>
+ */
+@Component
+public class NotificationRetentionPolicy {
+
+    private static final String TYPE_PROPERTY_PREFIX = "notification.retention.days.";
+
+    private final Map<NotificationType, Duration> retentions;
+
+    public NotificationRetentionPolicy(Environment environment,
+                                       @Value("${notification.retention.default-days:7}") int defaultDays) {
+        Map<NotificationType, Duration> retentions = new EnumMap<>(NotificationType.class);
+        for (NotificationType type : NotificationType.values()) {
+            int days = environment.getProperty(TYPE_PROPERTY_PREFIX + type.name(), Integer.class, defaultDays);
+            retentions.put(type, Duration.ofDays(days));
+        }
+        this.retentions = Collections.unmodifiableMap(retentions);
+    }
+
+    public Duration retentionOf(NotificationType type) {
+        return retentions.get(type);
+    }
+
+    /**
+     * 가장 긴 보관 기간 (파티션은 모든 타입이 만료되어야 버릴 수 있음)
+     */
+    public Duration maxRetention() {
+        return retentions.values().stream()
+                .max(Duration::compareTo)
+                .orElseThrow();
+    }
+
+    /**
+     * 보관 기간별 타입 목록 (같은 기간의 타입은 한 번의 범위 삭제로 정리)
+     */
+    public Map<Duration, List<NotificationType>> typesByRetention() {
+        return retentions.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue, TreeMap::new,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+    }
+}
@@ -0,0 +1,247 @@
+package com.kakaobase.snsapp.domain.notification.service;
+
+import com.kakaobase.snsapp.domain.notification.repository.NotificationPartitionJdbcRepository;
+import com.kakaobase.snsapp.domain.notification.service.cache.UnreadNotificationCacheService;
+import com.kakaobase.snsapp.domain.notification.util.NotificationType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 알림 보관 기간 정리 서비스
+ *
+ * <p>notifications를 하루 단위 id 파티션으로 나누고, 가장 긴 보관 기간이 지난 파티션은 통째로 버립니다.
+ * 그보다 보관 기간이 짧은 타입은 파티션 경계까지의 id 구간을 잘게 나눠 구간마다 따로 커밋하며 지웁니다.
+ * MySQL이 아니거나 파티션을 끈 경우에도 같은 방식의 구간 삭제로 정리합니다.</p>
+ *
+ * <p>파티션 p{yyyyMMdd}에는 그 날짜의 정리 작업 이전에 생성된 행만 들어 있으므로,
+ * 다음 날 0시를 이 파티션의 가장 늦은 생성 시각으로 보고 만료 여부를 판단합니다. (하루 이내로 늦게 지워질 수 있음)
+ * 최초 전환 시에도 기존 행을 생성 날짜별 파티션으로 나누므로 같은 기준이 그대로 적용됩니다.</p>
+ *
+ * <p>파티션/구간 삭제는 수신자별 안읽은 알림 수를 세지 않으므로, 삭제가 있었다면 정리 직후 안읽은 알림 수 캐시를 재계산합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationRetentionService {
+
+    private static final String LOCK_KEY = "notification:retention:lock";
+    private static final String PARTITION_PREFIX = "p";
+    private static final DateTimeFormatter PARTITION_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final NotificationPartitionJdbcRepository partitionRepository;
+    private final NotificationRetentionPolicy retentionPolicy;
+    private final RedissonClient redissonClient;
+    private final UnreadNotificationCacheService unreadCacheService;
+
+    @Value("${notification.retention.partition.enabled:true}")
+    private boolean partitionEnabled;
+
+    @Value("${notification.retention.delete-chunk-size:5000}")
+    private int deleteChunkSize;
+
+    /**
+     * 파티션을 하루치 추가하고 만료된 알림을 정리합니다. 다른 노드가 실행 중이면 건너뜁니다.
+     *
+     * @return 구간 삭제로 지운 알림 수 (파티션 삭제분 제외)
+     */
+    public int applyRetention() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            log.info("알림 보관 기간 정리가 다른 노드에서 진행 중이므로 건너뜁니다.");
+            return 0;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<NotificationPartitionJdbcRepository.Partition> partitions = partitionEnabled && partitionRepository.isMySql()
+                    ? rollPartitions(now.toLocalDate())
+                    : List.of();
+
+            boolean dropped = false;
+            if (!partitions.isEmpty()) {
+                int before = partitions.size();
+                partitions = dropExpiredPartitions(partitions, now);
+                dropped = partitions.size() < before;
+            }
+
+            int deleted = deleteExpiredRows(partitions, now);
+            if (dropped || deleted > 0) {
+                reconcileUnreadCounts();
+            }
+            return deleted;
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 오늘 파티션을 만들고 최신 파티션 목록을 반환합니다. 파티션이 없는 테이블은 최초 1회 전환합니다.
+     */
+    private List<NotificationPartitionJdbcRepository.Partition> rollPartitions(LocalDate today) {
+        String todayPartition = PARTITION_PREFIX + today.format(PARTITION_DATE);
+        List<NotificationPartitionJdbcRepository.Partition> partitions = partitionRepository.findPartitions();
+
+        if (partitions.isEmpty()) {
+            List<NotificationPartitionJdbcRepository.Partition> layout = initialLayout(today, todayPartition);
+            log.info("알림 테이블을 id 파티션으로 전환합니다 - {}", layout);
+            partitionRepository.partitionByIdRange(layout);
+        } else if (partitions.stream().noneMatch(partition -> partition.name().equals(todayPartition))) {
+            splitToday(partitions, todayPartition);
+        }
+        return partitionRepository.findPartitions();
+    }
+
+    /**
+     * p_max를 잘라 오늘 파티션을 만듭니다.
+     * 마지막 정리 이후 추가된 행이 없으면(또는 최신 행이 삭제되어 다음 id가 줄었으면) 상한이 증가하지 않으므로 건너뛰고,
+     * 그 사이 행은 다음 날 파티션에 포함됩니다.
+     */
+    private void splitToday(List<NotificationPartitionJdbcRepository.Partition> partitions, String todayPartition) {
+        long lastUpperId = partitions.stream()
+                .map(NotificationPartitionJdbcRepository.Partition::upperId)
+                .filter(Objects::nonNull)
+                .max(Long::compare)
+                .orElse(0L);
+        long upperId = partitionRepository.nextId();
+        if (upperId <= lastUpperId) {
+            log.info("새 알림이 없어 오늘 파티션을 만들지 않습니다 - {}", todayPartition);
+            return;
+        }
+        partitionRepository.splitMaxPartition(todayPartition, upperId);
+    }
+
+    /**
+     * 최초 전환용 파티션 구성.
+     * 보관 기간 안의 기존 행은 생성 날짜별 파티션으로 나누고 (그보다 오래된 행은 가장 오래된 파티션에 들어가 바로 삭제됨),
+     * 오늘 생성된 행은 매일 잘라내는 파티션과 같은 의미의 p{오늘}에 둡니다.
+     */
+    private List<NotificationPartitionJdbcRepository.Partition> initialLayout(LocalDate today, String todayPartition) {
+        LocalDate since = today.minusDays(retentionPolicy.maxRetention().toDays());
+        List<NotificationPartitionJdbcRepository.Partition> layout = new ArrayList<>();
+        long lastUpperId = 0L;
+
+        for (NotificationPartitionJdbcRepository.DayStart dayStart : partitionRepository.findDayStarts(since.atStartOfDay())) {
+            // p{D}에는 D+1일 0시 이전에 생성된 행만 들어가도록 다음 날의 첫 id에서 자름
+            if (dayStart.firstId() <= lastUpperId) {
+                continue;
+            }
+            String name = PARTITION_PREFIX + dayStart.day().minusDays(1).format(PARTITION_DATE);
+            layout.add(new NotificationPartitionJdbcRepository.Partition(name, dayStart.firstId()));
+            lastUpperId = dayStart.firstId();
+        }
+
+        long upperId = partitionRepository.nextId();
+        if (upperId > lastUpperId) {
+            // 보관 기간 안에 생성된 행이 하나도 없으면 남은 행은 모두 만료 대상
+            String name = layout.isEmpty()
+                    ? PARTITION_PREFIX + since.minusDays(1).format(PARTITION_DATE)
+                    : todayPartition;
+            layout.add(new NotificationPartitionJdbcRepository.Partition(name, upperId));
+        }
+        return layout;
+    }
+
+    /**
+     * 모든 타입의 보관 기간이 지난 파티션을 버리고 남은 파티션 목록을 반환합니다.
+     */
+    private List<NotificationPartitionJdbcRepository.Partition> dropExpiredPartitions(
+            List<NotificationPartitionJdbcRepository.Partition> partitions, LocalDateTime now) {
+        LocalDateTime cutoff = now.minus(retentionPolicy.maxRetention());
+        List<String> expired = partitions.stream()
+                .filter(partition -> isClosedBefore(partition, cutoff))
+                .map(NotificationPartitionJdbcRepository.Partition::name)
+                .toList();
+
+        if (expired.isEmpty()) {
+            return partitions;
+        }
+
+        partitionRepository.dropPartitions(expired);
+        log.info("만료된 알림 파티션 삭제 - {}", expired);
+        return partitions.stream()
+                .filter(partition -> !expired.contains(partition.name()))
+                .toList();
+    }
+
+    /**
+     * 보관 기간별로 만료 경계 id를 구하고, 가장 작은 id부터 경계까지 구간 단위로 삭제합니다.
+     */
+    private int deleteExpiredRows(List<NotificationPartitionJdbcRepository.Partition> partitions, LocalDateTime now) {
+        Duration maxRetention = retentionPolicy.maxRetention();
+        int deleted = 0;
+
+        for (Map.Entry<Duration, List<NotificationType>> entry : retentionPolicy.typesByRetention().entrySet()) {
+            // 파티션을 쓰면 가장 긴 보관 기간은 파티션 삭제로 이미 정리됨
+            if (!partitions.isEmpty() && entry.getKey().equals(maxRetention)) {
+                continue;
+            }
+
+            LocalDateTime cutoff = now.minus(entry.getKey());
+            Long upperId = partitions.isEmpty()
+                    ? partitionRepository.upperIdCreatedBefore(cutoff)
+                    : upperIdClosedBefore(partitions, cutoff);
+            Long minId = partitionRepository.minId();
+            if (upperId == null || minId == null || minId >= upperId) {
+                continue;
+            }
+
+            int typeDeleted = 0;
+            for (long fromId = minId; fromId < upperId; fromId += deleteChunkSize) {
+                typeDeleted += partitionRepository.deleteRange(entry.getValue(), fromId, Math.min(fromId + deleteChunkSize, upperId));
+            }
+            log.info("보관 기간 {}일 알림 정리 - 타입: {}, 삭제: {}개", entry.getKey().toDays(), entry.getValue(), typeDeleted);
+            deleted += typeDeleted;
+        }
+        return deleted;
+    }
+
+    /**
+     * 삭제된 안읽은 알림이 배지에 남지 않도록 캐시가 있는 회원의 카운터를 바로 DB 값으로 맞춥니다.
+     */
+    private void reconcileUnreadCounts() {
+        try {
+            unreadCacheService.reconcile();
+        } catch (Exception e) {
+            log.warn("보관 기간 정리 후 안읽은 알림 수 재계산 실패, 다음 주기 재계산에서 보정됨", e);
+        }
+    }
+
+    /**
+     * cutoff 이전에 닫힌 파티션 중 가장 최근 파티션의 id 상한
+     */
+    private Long upperIdClosedBefore(List<NotificationPartitionJdbcRepository.Partition> partitions, LocalDateTime cutoff) {
+        return partitions.stream()
+                .filter(partition -> isClosedBefore(partition, cutoff))
+                .map(NotificationPartitionJdbcRepository.Partition::upperId)
+                .reduce((first, second) -> second)
+                .orElse(null);
+    }
+
+    private boolean isClosedBefore(NotificationPartitionJdbcRepository.Partition partition, LocalDateTime cutoff) {
+        if (partition.upperId() == null || !partition.name().startsWith(PARTITION_PREFIX)) {
+            return false;
+        }
+        try {
+            LocalDate date = LocalDate.parse(partition.name().substring(PARTITION_PREFIX.length()), PARTITION_DATE);
+            return !date.plusDays(1).atStartOfDay().isAfter(cutoff);
+        } catch (Exception e) {
+            log.warn("알 수 없는 알림 파티션 이름 - {}", partition.name());
+            return false;
+        }
+    }
+}
@@ -28,6 +28,8 @@ import java.util.List;
 public class NotificationService {
 
     private final NotificationCommandService commandService;
+    private final NotificationAggregationService aggregationService;
+    private final NotificationOutboxService outboxService;
     private final NotificationConverter notifConverter;
 
     public NotificationFetchResponse getNotifList(Long memberId, int limit, Long cursor) {
@@ -35,38 +37,10 @@ public class NotificationService {
             throw new CustomException(GeneralErrorCode.INVALID_QUERY_PARAMETER, "limit", "limit는 1 이상이어야 합니다.");
         }
 
-        try {
-            // 1. limit+10개 알림 조회 (hasNext 판단을 위해)
-            List<WebSocketPacket<NotificationResponse>> allNotifications = commandService.findNotificationsByUserId(memberId, limit + 10);
-            
-            // 2. cursor 기반 필터링 (cursor보다 작은 ID만)
-            List<WebSocketPacket<NotificationResponse>> filteredNotifications = allNotifications.stream()
-                .filter(packet -> cursor == null || packet.data.id() < cursor)
-                .toList();
-            
-            // 3. hasNext 판단 (limit+1개가 있는지 확인)
-            boolean hasNext = filteredNotifications.size() > limit;
-            
-            // 4. limit만큼 자르기
-            List<WebSocketPacket<NotificationResponse>> finalNotifications = filteredNotifications.stream()
-                .limit(limit)
-                .toList();
-            
-            // 6. NotificationFetchResponse 생성
-            NotificationFetchResponse response = NotificationFetchResponse.builder()
-                .hasNext(hasNext)
-                .notifications(finalNotifications)
-                .build();
-                
-            log.info("사용자 {}의 알림 {}개 조회됨 (반환: {}개, hasNext: {})",
-                    memberId, allNotifications.size(), finalNotifications.size(), hasNext);
-                    
-            return response;
-
-        } catch (Exception e) {
-            log.error("사용자 {}의 알림 조회 중 오류 발생", memberId, e);
-            throw new NotificationException(NotificationErrorCode.NOTIFICATION_FETCH_FAIL);
-        }
+        NotificationFetchResponse response = commandService.findNotificationPage(memberId, limit, cursor);
+        log.info("사용자 {}의 알림 {}개 조회됨 (hasNext: {})",
+                memberId, response.notifications().size(), response.hasNext());
+        return response;
     }
 
 
@@ -125,14 +99,18 @@ public class NotificationService {
     }
 
     private void sendNotification(Long receiverId, Long targetId, String content, MemberResponseDto.UserInfo userInfo, NotificationType type, Long postId) {
-        Long notifId = commandService.createNotification(receiverId, userInfo.id(), type, targetId);
-        commandService.sendNotification(receiverId, notifId, type, content, postId, userInfo);
+        // 좋아요 알림은 묶어서 플러시 주기마다 저장/전송
+        if (type.isAggregatable()) {
+            aggregationService.record(receiverId, type, targetId, userInfo.id(), postId);
+            return;
+        }
+        // 아웃박스에 기록하고 저장/전송은 NotificationOutboxDispatcher가 배치로 처리
+        outboxService.record(receiverId, userInfo.id(), type, targetId, postId, content, false);
     }
 
     //팔로우 알림용
     private void sendFollowNotification(Long receiverId, Long targetId, MemberResponseDto.UserInfoWithFollowing userInfo, NotificationType type) {
-        Long notifId = commandService.createNotification(receiverId, userInfo.id(), type, targetId);
-        commandService.sendNotification(receiverId, notifId, type, userInfo);
+        outboxService.record(receiverId, userInfo.id(), type, targetId, null, null, userInfo.isFollowed());
     }
 
 
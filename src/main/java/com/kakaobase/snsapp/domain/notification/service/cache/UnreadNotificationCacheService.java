@@ -0,0 +1,154 @@
+package com.kakaobase.snsapp.domain.notification.service.cache;
+
+import com.kakaobase.snsapp.domain.notification.dto.records.UnreadNotificationCount;
+import com.kakaobase.snsapp.domain.notification.repository.NotificationRepository;
+import com.kakaobase.snsapp.domain.notification.util.UnreadNotificationCacheUtil;
+import com.kakaobase.snsapp.global.common.redis.CacheRecord;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 안읽은 알림 수 캐시 서비스
+ *
+ * <p>배지 조회는 캐시 한 번으로 끝나고, 캐시가 없을 때만 DB에서 세어 채웁니다. (read-through)
+ * 알림 생성/읽음/삭제 시 커밋 이후 카운터를 증감하며, 일괄 삭제는 삭제한 안읽은 알림 수만큼 수신자별로 감소시킵니다.
+ * 증감 누락으로 생기는 오차와 건별로 셀 수 없는 파티션 삭제는 {@link #reconcile()}이
+ * 캐시가 살아 있는 회원만 골라 DB 값으로 덮어써 바로잡습니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UnreadNotificationCacheService {
+
+    private static final String CACHE_KEY_PREFIX = "notification:unread:";
+    private static final String TRACKED_KEY = "notification:unread:tracked";
+    private static final Duration TTL = Duration.ofDays(1);
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
+    private final UnreadNotificationCacheUtil cacheUtil;
+    private final NotificationRepository notificationRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 안읽은 알림 수를 조회합니다. 캐시가 없거나 Redis 장애 시 DB에서 셉니다.
+     */
+    public long getCount(Long memberId) {
+        String key = generateCacheKey(memberId);
+        try {
+            CacheRecord.UnreadNotificationCache cached = cacheUtil.load(key);
+            if (cached != null && cached.unreadCount() != null) {
+                return cached.unreadCount();
+            }
+        } catch (Exception e) {
+            log.warn("안읽은 알림 수 캐시 조회 실패, DB 조회로 대체 - memberId: {}", memberId, e);
+            return countFromDB(memberId);
+        }
+
+        long count = countFromDB(memberId);
+        try {
+            cacheUtil.save(key, CacheRecord.UnreadNotificationCache.builder()
+                    .memberId(memberId)
+                    .unreadCount(count)
+                    .build(), TTL);
+            stringRedisTemplate.opsForSet().add(TRACKED_KEY, memberId.toString());
+        } catch (Exception e) {
+            log.warn("안읽은 알림 수 캐시 저장 실패 - memberId: {}", memberId, e);
+        }
+        return count;
+    }
+
+    public void increment(Long memberId) {
+        applyDelta(memberId, 1);
+    }
+
+    public void incrementBy(Long memberId, long delta) {
+        applyDelta(memberId, delta);
+    }
+
+    public void decrement(Long memberId) {
+        applyDelta(memberId, -1);
+    }
+
+    /**
+     * 일괄 삭제된 안읽은 알림 수만큼 수신자별 카운터를 감소시킵니다.
+     */
+    public void decrementAll(Collection<UnreadNotificationCount> deletedUnreadCounts) {
+        deletedUnreadCounts.forEach(row -> applyDelta(row.receiverId(), -row.count()));
+    }
+
+    public void evict(Long memberId) {
+        try {
+            cacheUtil.delete(generateCacheKey(memberId));
+            stringRedisTemplate.opsForSet().remove(TRACKED_KEY, memberId.toString());
+        } catch (Exception e) {
+            log.error("안읽은 알림 수 캐시 삭제 실패: memberId={}", memberId, e);
+        }
+    }
+
+    /**
+     * 캐시가 있는 회원의 카운터를 DB 값으로 다시 맞춥니다.
+     * 만료된 회원은 추적 목록에서 제거합니다.
+     */
+    public void reconcile() {
+        Set<String> tracked = stringRedisTemplate.opsForSet().members(TRACKED_KEY);
+        if (tracked == null || tracked.isEmpty()) {
+            return;
+        }
+
+        List<Long> memberIds = tracked.stream().map(Long::valueOf).toList();
+        int reconciled = 0;
+        List<String> expired = new ArrayList<>();
+
+        for (int from = 0; from < memberIds.size(); from += RECONCILE_CHUNK_SIZE) {
+            List<Long> chunk = memberIds.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, memberIds.size()));
+
+            Map<Long, Long> dbCounts = new HashMap<>();
+            for (UnreadNotificationCount row : notificationRepository.findUnreadCounts(chunk)) {
+                dbCounts.put(row.receiverId(), row.count());
+            }
+
+            Map<String, Long> counts = new HashMap<>();
+            for (Long memberId : chunk) {
+                counts.put(generateCacheKey(memberId), dbCounts.getOrDefault(memberId, 0L));
+            }
+
+            List<String> missingKeys = cacheUtil.overwriteIfPresent(counts);
+            reconciled += chunk.size() - missingKeys.size();
+            missingKeys.forEach(key -> expired.add(key.substring(CACHE_KEY_PREFIX.length())));
+        }
+
+        if (!expired.isEmpty()) {
+            stringRedisTemplate.opsForSet().remove(TRACKED_KEY, expired.toArray());
+        }
+        log.info("안읽은 알림 수 재계산 완료 - 갱신: {} 명, 추적 해제: {} 명", reconciled, expired.size());
+    }
+
+    private void applyDelta(Long memberId, long delta) {
+        try {
+            cacheUtil.incrementIfPresent(generateCacheKey(memberId), delta);
+        } catch (Exception e) {
+            // 반영하지 못한 증감이 남지 않도록 캐시를 지워 다음 조회 시 DB 기준으로 다시 채움
+            log.warn("안읽은 알림 수 캐시 갱신 실패 - memberId: {}, delta: {}", memberId, delta, e);
+            evict(memberId);
+        }
+    }
+
+    private long countFromDB(Long memberId) {
+        Long count = notificationRepository.countByReceiverIdAndIsRead(memberId, false);
+        return count != null ? count : 0L;
+    }
+
+    private String generateCacheKey(Long memberId) {
+        return CACHE_KEY_PREFIX + memberId;
+    }
+}
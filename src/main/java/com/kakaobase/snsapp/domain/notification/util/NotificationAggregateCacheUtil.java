@@ -0,0 +1,261 @@
+package com.kakaobase.snsapp.domain.notification.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 묶음 알림 버퍼 (Redis)
+ *
+ * <p>같은 (수신자, 타입, 대상)으로 들어온 알림을 플러시 전까지 모아 둡니다.
+ * 행위자는 도착 시각을 점수로 한 ZSET에 담아 같은 회원이 여러 번 눌러도 한 번만 셉니다.</p>
+ *
+ * <p>플러시는 버퍼를 플러시 중 키로 옮겨 점유({@link #claim})하고, DB 반영이 커밋된 뒤에만 지웁니다({@link #complete}).
+ * 반영에 실패하면 점유한 행위자를 버퍼로 되돌려({@link #restore}) 다음 플러시에서 다시 처리합니다.
+ * 이미 알림 행에 합친 행위자는 알림 행별 집합에 남겨, 좋아요를 취소했다 다시 눌러도 두 번 세지 않습니다.</p>
+ *
+ * <p>한 묶음의 키들은 같은 해시 슬롯에 배치되도록 묶음 ID를 해시 태그로 사용하며,
+ * 플러시 대기 목록은 슬롯이 다르므로 스크립트 밖에서 갱신합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationAggregateCacheUtil {
+
+    private static final String BUFFER_KEY_FORMAT = "notification:agg:{%s}";
+    private static final String ACTORS_KEY_FORMAT = "notification:agg:{%s}:actors";
+    private static final String FLUSHING_KEY_FORMAT = "notification:agg:{%s}:flushing";
+    private static final String FLUSHING_ACTORS_KEY_FORMAT = "notification:agg:{%s}:flushing:actors";
+    private static final String MERGED_KEY_FORMAT = "notification:agg:{%s}:merged:%d";
+    private static final String PENDING_KEY = "notification:agg:pending";
+
+    /**
+     * 플러시가 멈춰도 버퍼가 남지 않도록 하는 안전장치
+     */
+    private static final Duration BUFFER_TTL = Duration.ofHours(1);
+
+    private static final DefaultRedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HSETNX', KEYS[1], 'postId', ARGV[2]) " +
+            "redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[4]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[4]) " +
+            "return 1",
+            Long.class
+    );
+
+    /**
+     * 버퍼를 플러시 중 키로 옮깁니다. 이전 플러시가 남긴 점유분이 있으면 그 위에 합칩니다.
+     * 반환값: {postId, 행위자 수, 최근 행위자 ID...} (최신순). 점유한 행위자가 없으면 빈 리스트
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  if redis.call('EXISTS', KEYS[3]) == 0 then " +
+            "    redis.call('RENAME', KEYS[1], KEYS[3]) " +
+            "    if redis.call('EXISTS', KEYS[2]) == 1 then redis.call('RENAME', KEYS[2], KEYS[4]) end " +
+            "  else " +
+            "    local bufferedPostId = redis.call('HGET', KEYS[1], 'postId') " +
+            "    if bufferedPostId then redis.call('HSETNX', KEYS[3], 'postId', bufferedPostId) end " +
+            "    redis.call('ZUNIONSTORE', KEYS[4], 2, KEYS[4], KEYS[2], 'AGGREGATE', 'MAX') " +
+            "    redis.call('DEL', KEYS[1], KEYS[2]) " +
+            "  end " +
+            "end " +
+            "local postId = redis.call('HGET', KEYS[3], 'postId') " +
+            "local count = redis.call('ZCARD', KEYS[4]) " +
+            "if not postId or count == 0 then " +
+            "  redis.call('DEL', KEYS[3], KEYS[4]) " +
+            "  return {} " +
+            "end " +
+            "redis.call('EXPIRE', KEYS[3], ARGV[2]) " +
+            "redis.call('EXPIRE', KEYS[4], ARGV[2]) " +
+            "local result = {postId, tostring(count)} " +
+            "for _, actor in ipairs(redis.call('ZREVRANGE', KEYS[4], 0, tonumber(ARGV[1]) - 1)) do " +
+            "  table.insert(result, actor) " +
+            "end " +
+            "return result",
+            List.class
+    );
+
+    /**
+     * 점유한 행위자 중 아직 알림 행에 합쳐지지 않은 행위자 수
+     */
+    private static final DefaultRedisScript<Long> COUNT_NEW_SCRIPT = new DefaultRedisScript<>(
+            "local count = 0 " +
+            "for _, actor in ipairs(redis.call('ZRANGE', KEYS[1], 0, -1)) do " +
+            "  if redis.call('SISMEMBER', KEYS[2], actor) == 0 then count = count + 1 end " +
+            "end " +
+            "return count",
+            Long.class
+    );
+
+    /**
+     * 점유한 행위자를 알림 행의 합쳐진 행위자 집합에 기록하고 점유분을 지웁니다.
+     */
+    private static final DefaultRedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+            "for _, actor in ipairs(redis.call('ZRANGE', KEYS[2], 0, -1)) do " +
+            "  redis.call('SADD', KEYS[3], actor) " +
+            "end " +
+            "redis.call('EXPIRE', KEYS[3], ARGV[1]) " +
+            "redis.call('DEL', KEYS[1], KEYS[2]) " +
+            "return 1",
+            Long.class
+    );
+
+    /**
+     * 점유한 행위자를 버퍼로 되돌립니다.
+     */
+    private static final DefaultRedisScript<Long> RESTORE_SCRIPT = new DefaultRedisScript<>(
+            "local postId = redis.call('HGET', KEYS[3], 'postId') " +
+            "if postId then redis.call('HSETNX', KEYS[1], 'postId', postId) end " +
+            "if redis.call('EXISTS', KEYS[4]) == 1 then " +
+            "  redis.call('ZUNIONSTORE', KEYS[2], 2, KEYS[2], KEYS[4], 'AGGREGATE', 'MAX') " +
+            "end " +
+            "redis.call('DEL', KEYS[3], KEYS[4]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+            "return 1",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 행위자 한 명을 버퍼에 추가하고 플러시 대기 목록에 등록합니다.
+     */
+    public void record(AggregateId id, Long actorId, Long postId) {
+        String tag = id.toTag();
+        stringRedisTemplate.execute(
+                RECORD_SCRIPT,
+                List.of(bufferKey(tag), actorsKey(tag)),
+                actorId.toString(),
+                postId.toString(),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(BUFFER_TTL.toSeconds())
+        );
+        stringRedisTemplate.opsForSet().add(PENDING_KEY, tag);
+    }
+
+    public Set<String> findPending() {
+        Set<String> pending = stringRedisTemplate.opsForSet().members(PENDING_KEY);
+        return pending != null ? pending : Set.of();
+    }
+
+    /**
+     * 버퍼를 점유합니다.
+     * 대기 목록에서 먼저 제거하므로 그 사이에 들어온 행위자는 새 버퍼에 쌓여 다음 플러시에서 처리됩니다.
+     *
+     * @param recentLimit 꺼낼 최근 행위자 수
+     * @return 점유한 행위자가 없으면 null
+     */
+    public Buffer claim(String tag, int recentLimit) {
+        stringRedisTemplate.opsForSet().remove(PENDING_KEY, tag);
+
+        List<?> result = stringRedisTemplate.execute(
+                CLAIM_SCRIPT,
+                List.of(bufferKey(tag), actorsKey(tag), flushingKey(tag), flushingActorsKey(tag)),
+                String.valueOf(recentLimit),
+                String.valueOf(BUFFER_TTL.toSeconds())
+        );
+
+        if (result == null || result.size() < 3) {
+            return null;
+        }
+        List<Long> recentActorIds = result.subList(2, result.size()).stream()
+                .map(value -> Long.valueOf(value.toString()))
+                .toList();
+        return new Buffer(
+                AggregateId.fromTag(tag),
+                Long.valueOf(result.get(0).toString()),
+                Long.parseLong(result.get(1).toString()),
+                recentActorIds
+        );
+    }
+
+    /**
+     * 점유한 행위자 중 해당 알림 행에 아직 합쳐지지 않은 행위자 수를 셉니다. (읽기 전용)
+     */
+    public long countNewActors(String tag, Long notificationId) {
+        Long count = stringRedisTemplate.execute(
+                COUNT_NEW_SCRIPT,
+                List.of(flushingActorsKey(tag), mergedKey(tag, notificationId))
+        );
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * DB 반영이 커밋된 뒤 호출합니다. 점유한 행위자를 알림 행에 합쳐진 것으로 기록하고 점유분을 지웁니다.
+     *
+     * @param mergedTtl 합쳐진 행위자 기록 보관 기간 (알림 행에 더 합칠 수 있는 기간)
+     */
+    public void complete(String tag, Long notificationId, Duration mergedTtl) {
+        stringRedisTemplate.execute(
+                COMPLETE_SCRIPT,
+                List.of(flushingKey(tag), flushingActorsKey(tag), mergedKey(tag, notificationId)),
+                String.valueOf(mergedTtl.toSeconds())
+        );
+    }
+
+    /**
+     * DB 반영에 실패한 점유분을 버퍼로 되돌리고 플러시 대기 목록에 다시 등록합니다.
+     */
+    public void restore(String tag) {
+        stringRedisTemplate.execute(
+                RESTORE_SCRIPT,
+                List.of(bufferKey(tag), actorsKey(tag), flushingKey(tag), flushingActorsKey(tag)),
+                String.valueOf(BUFFER_TTL.toSeconds())
+        );
+        stringRedisTemplate.opsForSet().add(PENDING_KEY, tag);
+    }
+
+    private String bufferKey(String tag) {
+        return String.format(BUFFER_KEY_FORMAT, tag);
+    }
+
+    private String actorsKey(String tag) {
+        return String.format(ACTORS_KEY_FORMAT, tag);
+    }
+
+    private String flushingKey(String tag) {
+        return String.format(FLUSHING_KEY_FORMAT, tag);
+    }
+
+    private String flushingActorsKey(String tag) {
+        return String.format(FLUSHING_ACTORS_KEY_FORMAT, tag);
+    }
+
+    private String mergedKey(String tag, Long notificationId) {
+        return String.format(MERGED_KEY_FORMAT, tag, notificationId);
+    }
+
+    /**
+     * 묶음 단위 (수신자, 타입, 대상)
+     */
+    public record AggregateId(Long receiverId, NotificationType type, Long targetId) {
+
+        String toTag() {
+            return receiverId + ":" + type.name() + ":" + targetId;
+        }
+
+        static AggregateId fromTag(String tag) {
+            String[] parts = tag.split(":");
+            return new AggregateId(Long.valueOf(parts[0]), NotificationType.valueOf(parts[1]), Long.valueOf(parts[2]));
+        }
+    }
+
+    /**
+     * @param actorCount     점유한 서로 다른 행위자 수
+     * @param recentActorIds 최근 행위자 ID (최신순)
+     */
+    public record Buffer(AggregateId id, Long postId, long actorCount, List<Long> recentActorIds) {
+
+        public String tag() {
+            return id.toTag();
+        }
+    }
+}
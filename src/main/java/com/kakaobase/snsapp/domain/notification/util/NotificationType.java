@@ -5,19 +5,25 @@ import lombok.Getter;
 // Notification 종류 열거형
 @Getter
 public enum NotificationType {
-    NOTIFICATION_FETCH("NOTIFICATION", "notification.fetch"),
-    COMMENT_CREATED("COMMENT", "comment.created"),
-    RECOMMENT_CREATED("RECOMMENT", "recomment.created"),
-    FOLLOWING_CREATED("MEMBER", "following.created"),
-    POST_LIKE_CREATED("POST", "post.like.created"),
-    COMMENT_LIKE_CREATED("COMMENT", "comment.like.created"),
-    RECOMMENT_LIKE_CREATED("RECOMMENT", "recomment.like.created");
+    NOTIFICATION_FETCH("NOTIFICATION", "notification.fetch", false),
+    COMMENT_CREATED("COMMENT", "comment.created", false),
+    RECOMMENT_CREATED("RECOMMENT", "recomment.created", false),
+    FOLLOWING_CREATED("MEMBER", "following.created", false),
+    POST_LIKE_CREATED("POST", "post.like.created", true),
+    COMMENT_LIKE_CREATED("COMMENT", "comment.like.created", true),
+    RECOMMENT_LIKE_CREATED("RECOMMENT", "recomment.like.created", true);
 
     private final String targetType;
     private final String event;
 
-    NotificationType(String targetType, String event) {
+    /**
+     * 같은 (수신자, 타입, 대상) 알림을 한 행으로 묶는지 여부 ("X님 외 N명이 좋아합니다")
+     */
+    private final boolean aggregatable;
+
+    NotificationType(String targetType, String event, boolean aggregatable) {
         this.targetType = targetType;
         this.event = event;
+        this.aggregatable = aggregatable;
     }
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+package com.kakaobase.snsapp.domain.notification.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kakaobase.snsapp.global.common.redis.CacheRecord;
+import com.kakaobase.snsapp.global.common.redis.util.AbstractCacheUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 안읽은 알림 수 캐시 유틸
+ *
+ * <p>카운터는 캐시가 이미 있을 때만 증감합니다. 캐시가 없으면 다음 조회 시 DB에서 다시 계산하므로
+ * 없는 키에 증감을 적용해 불완전한 해시가 생기지 않도록 존재 확인과 증감을 Lua 스크립트 한 번으로 처리합니다.</p>
+ */
+@Slf4j
+@Component
+public class UnreadNotificationCacheUtil extends AbstractCacheUtil<CacheRecord.UnreadNotificationCache> {
+
+    private static final String COUNT_FIELD = "unreadCount";
+
+    /**
+     * 반환값: 증감 후 값, 캐시가 없으면 -1 (음수가 되면 0으로 보정)
+     */
+    private static final DefaultRedisScript<Long> INCREMENT_IF_PRESENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "local count = redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2]) " +
+            "if count < 0 then " +
+            "  redis.call('HSET', KEYS[1], ARGV[1], '0') " +
+            "  count = 0 " +
+            "end " +
+            "return count",
+            Long.class
+    );
+
+    /**
+     * KEYS[i]가 있으면 카운터를 ARGV[i + 1]로 덮어씁니다.
+     * 반환값: 키별 덮어쓰기 여부 (1 = 덮어씀, 0 = 캐시 없음)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> OVERWRITE_IF_PRESENT_SCRIPT = new DefaultRedisScript<>(
+            "local result = {} " +
+            "for i, key in ipairs(KEYS) do " +
+            "  if redis.call('EXISTS', key) == 1 then " +
+            "    redis.call('HSET', key, ARGV[1], ARGV[i + 1]) " +
+            "    result[i] = 1 " +
+            "  else " +
+            "    result[i] = 0 " +
+            "  end " +
+            "end " +
+            "return result",
+            List.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public UnreadNotificationCacheUtil(RedisTemplate<String, Object> redisTemplate,
+                                       ObjectMapper objectMapper,
+                                       RedissonClient redissonClient,
+                                       StringRedisTemplate stringRedisTemplate) {
+        super(redisTemplate, objectMapper, redissonClient);
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    @Override
+    protected Class<CacheRecord.UnreadNotificationCache> getType() {
+        return CacheRecord.UnreadNotificationCache.class;
+    }
+
+    public void save(String key, CacheRecord.UnreadNotificationCache value, Duration ttl) {
+        save(key, value);
+        redisTemplate.expire(key, ttl);
+    }
+
+    /**
+     * 캐시가 있을 때만 카운터를 delta만큼 증감합니다.
+     *
+     * @return 증감 후 값, 캐시가 없으면 -1
+     */
+    public long incrementIfPresent(String key, long delta) {
+        Long result = stringRedisTemplate.execute(
+                INCREMENT_IF_PRESENT_SCRIPT,
+                Collections.singletonList(key),
+                COUNT_FIELD,
+                String.valueOf(delta)
+        );
+        return result != null ? result : -1L;
+    }
+
+    /**
+     * 캐시가 남아 있는 키에 한해 카운터를 DB에서 다시 센 값으로 덮어씁니다. (스크립트 한 번)
+     * 만료된 키는 다시 만들지 않습니다.
+     *
+     * @return 캐시가 없어 덮어쓰지 않은 키 목록
+     */
+    public List<String> overwriteIfPresent(Map<String, Long> counts) {
+        List<String> keys = new ArrayList<>(counts.keySet());
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        Object[] args = new Object[keys.size() + 1];
+        args[0] = COUNT_FIELD;
+        for (int i = 0; i < keys.size(); i++) {
+            args[i + 1] = String.valueOf(counts.get(keys.get(i)));
+        }
+
+        List<?> results = stringRedisTemplate.execute(OVERWRITE_IF_PRESENT_SCRIPT, keys, args);
+
+        List<String> missingKeys = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (results == null || !(results.get(i) instanceof Number number) || number.longValue() != 1L) {
+                missingKeys.add(keys.get(i));
+            }
+        }
+        return missingKeys;
+    }
+}
@@ -13,10 +13,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -37,31 +40,107 @@ public class PostController {
      * 커서 기반 페이지네이션을 적용합니다.
      */
     @GetMapping("/{postType}")
-    @Operation(summary = "게시글 목록 조회", description = "게시판 유형별로 게시글 목록을 조회합니다.")
+    @Operation(summary = "게시글 목록 조회", description = "게시판 유형별로 게시글 목록을 조회합니다. If-None-Match 헤더가 현재 페이지의 ETag와 같으면 304를 반환합니다.")
     public CustomResponse<List<PostResponseDto.PostDetails>> getPosts(
             @Parameter(description = "게시판 유형") @PathVariable String postType,
             @Parameter(description = "한 페이지에 표시할 게시글 수") @RequestParam(defaultValue = "12") int limit,
             @Parameter(description = "마지막으로 조회한 게시글 ID") @RequestParam(required = false) Long cursor,
-            @AuthenticationPrincipal CustomUserDetails userDetails
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest
             ) {
 
         Long memberId = Long.valueOf(userDetails.getId());
 
-        List<PostResponseDto.PostDetails> response = postService.getPostList(postType, limit, cursor, memberId);
+        // If-None-Match가 현재 페이지 버전과 같으면 본문 없이 304 응답
+        PostResponseDto.PostVersions versions = postService.getPostListVersion(postType, limit, cursor, memberId);
+        if (webRequest.checkNotModified(versions.eTag())) {
+            return null;
+        }
+
+        List<PostResponseDto.PostDetails> response = postService.getPostList(postType, limit, cursor, memberId, versions);
 
         return CustomResponse.success("게시글을 불러오는데 성공하였습니다", response);
     }
 
+    /**
+     * 당겨서 새로고침 시 변경분만 조회합니다.
+     * 기준점 이후의 새 게시글과, 클라이언트가 보유한 게시글의 최신 통계/삭제 여부를 반환합니다.
+     */
+    @GetMapping("/{postType}/since")
+    @Operation(summary = "게시글 목록 증분 조회", description = "기준 게시글 이후에 작성된 게시글과 보유 게시글의 통계 변경분을 조회합니다.")
+    public CustomResponse<PostResponseDto.PostDelta> getPostDelta(
+            @Parameter(description = "게시판 유형") @PathVariable String postType,
+            @Parameter(description = "마지막으로 받은 최신 게시글의 작성 시간")
+            @RequestParam("since_created_at") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime sinceCreatedAt,
+            @Parameter(description = "마지막으로 받은 최신 게시글 ID") @RequestParam("since_id") Long sinceId,
+            @Parameter(description = "최대 새 게시글 수 (최대 100)") @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "통계를 갱신할 보유 게시글 ID 목록 (최대 100개)") @RequestParam(name = "known_ids", required = false) List<Long> knownIds,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+
+        Long memberId = Long.valueOf(userDetails.getId());
+
+        PostResponseDto.PostDelta response = postService.getPostDelta(postType, sinceCreatedAt, sinceId, limit, knownIds, memberId);
+
+        return CustomResponse.success("새 게시글을 불러오는데 성공하였습니다", response);
+    }
+
+    /**
+     * 팔로우 중인 사용자의 게시글 피드를 조회합니다.
+     */
+    @GetMapping("/following")
+    @Operation(summary = "팔로잉 피드 조회", description = "팔로우 중인 사용자의 게시글을 최신순으로 조회합니다.")
+    public CustomResponse<List<PostResponseDto.PostDetails>> getFollowingPosts(
+            @Parameter(description = "한 페이지에 표시할 게시글 수") @RequestParam(defaultValue = "12") int limit,
+            @Parameter(description = "마지막으로 조회한 게시글 ID") @RequestParam(required = false) Long cursor,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+
+        Long memberId = Long.valueOf(userDetails.getId());
+
+        List<PostResponseDto.PostDetails> response = postService.getFollowingPostList(limit, cursor, memberId);
+
+        return CustomResponse.success("팔로잉 피드를 불러오는데 성공하였습니다", response);
+    }
+
+    /**
+     * 게시판별 인기 게시글 목록을 조회합니다.
+     * 좋아요/댓글 활동에 시간 감쇠를 적용한 점수 순으로 정렬됩니다.
+     */
+    @GetMapping("/{postType}/trending")
+    @Operation(summary = "인기 게시글 목록 조회", description = "게시판 유형별로 최근 활동이 많은 게시글 목록을 조회합니다.")
+    public CustomResponse<PostResponseDto.TrendingPosts> getTrendingPosts(
+            @Parameter(description = "게시판 유형") @PathVariable String postType,
+            @Parameter(description = "한 페이지에 표시할 게시글 수") @RequestParam(defaultValue = "12") int limit,
+            @Parameter(description = "이전 응답의 next_cursor") @RequestParam(required = false) Long cursor,
+            @Parameter(description = "이전 응답의 next_cursor_score") @RequestParam(name = "cursor_score", required = false) Double cursorScore,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+
+        Long memberId = Long.valueOf(userDetails.getId());
+
+        PostResponseDto.TrendingPosts response = postService.getTrendingPostList(postType, limit, cursorScore, cursor, memberId);
+
+        return CustomResponse.success("인기 게시글을 불러오는데 성공하였습니다", response);
+    }
+
     @GetMapping("/{postType}/{postId}")
-    @Operation(summary = "게시글 상세 조회", description = "게시글의 상세 정보를 조회합니다.")
+    @Operation(summary = "게시글 상세 조회", description = "게시글의 상세 정보를 조회합니다. If-None-Match 헤더가 현재 게시글의 ETag와 같으면 304를 반환합니다.")
     public CustomResponse<PostResponseDto.PostDetails> getPostDetail(
             @Parameter(description = "게시판 유형") @PathVariable String postType,
             @Parameter(description = "게시글 ID") @PathVariable Long postId,
-            @AuthenticationPrincipal CustomUserDetails userDetails
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest
     ) {
         Long memberId = Long.valueOf(userDetails.getId());
 
-        PostResponseDto.PostDetails response = postService.getPostDetail(postId, memberId);
+        // If-None-Match가 현재 게시글 버전과 같으면 본문 없이 304 응답
+        PostResponseDto.PostVersions versions = postService.getPostDetailVersion(postId, memberId);
+        if (webRequest.checkNotModified(versions.eTag())) {
+            return null;
+        }
+
+        PostResponseDto.PostDetails response = postService.getPostDetail(postId, memberId, versions);
 
         return CustomResponse.success("게시글 상세 정보를 불러왔습니다.", response);
     }
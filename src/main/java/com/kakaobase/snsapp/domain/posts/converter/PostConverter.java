@@ -2,6 +2,7 @@ package com.kakaobase.snsapp.domain.posts.converter;
 
 import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
 import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.members.service.cache.MemberSummaryCacheService;
 import com.kakaobase.snsapp.domain.posts.dto.PostRequestDto;
 import com.kakaobase.snsapp.domain.posts.dto.PostResponseDto;
 import com.kakaobase.snsapp.domain.posts.entity.Post;
@@ -11,6 +12,8 @@ import com.kakaobase.snsapp.domain.posts.service.cache.PostCacheService;
 import com.kakaobase.snsapp.domain.posts.util.BoardType;
 import com.kakaobase.snsapp.global.common.redis.CacheRecord;
 import com.kakaobase.snsapp.global.common.redis.error.CacheException;
+import com.kakaobase.snsapp.global.common.viewer.ViewerContext;
+import com.kakaobase.snsapp.global.common.viewer.ViewerContextService;
 import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +28,8 @@ import java.util.*;
 @RequiredArgsConstructor
 public class PostConverter {
     private final PostCacheService postCacheService;
+    private final ViewerContextService viewerContextService;
+    private final MemberSummaryCacheService memberSummaryCacheService;
 
     /**
      * 게시글 생성 요청 DTO를 Post 엔티티로 변환합니다.
@@ -143,6 +148,31 @@ public class PostConverter {
         }
     }
 
+    /**
+     * PostStats 리스트의 likeCount, commentCount를 캐시 데이터로 업데이트
+     */
+    public List<PostResponseDto.PostStats> updateStatsWithCache(List<PostResponseDto.PostStats> stats) {
+        if (stats == null || stats.isEmpty()) {
+            return stats;
+        }
+
+        try {
+            Map<Long, CacheRecord.PostStatsCache> postStatsCache =
+                    postCacheService.findAllById(stats.stream().map(PostResponseDto.PostStats::id).toList());
+
+            return stats.stream()
+                    .map(stat -> {
+                        CacheRecord.PostStatsCache cache = postStatsCache.get(stat.id());
+                        return cache == null ? stat
+                                : new PostResponseDto.PostStats(stat.id(), cache.likeCount(), cache.commentCount());
+                    })
+                    .toList();
+        } catch (CacheException e) {
+            log.error(e.getMessage());
+            return stats;
+        }
+    }
+
     /**
      * 단일 PostDetails의 통계 정보를 캐시 데이터로 업데이트
      */
@@ -157,4 +187,69 @@ public class PostConverter {
 
         return original.withStats(cacheStats.likeCount(), cacheStats.commentCount());
     }
-}
\ No newline at end of file
+
+    /**
+     * PostDetails 리스트에 작성자 요약과 조회자 기준 값(작성자 팔로우/본인/좋아요 여부)을 일괄 반영
+     * 작성자 요약은 회원 요약 캐시에서 한 번에 채웁니다. 탈퇴한 회원의 게시글은 조회 쿼리에서 이미 제외되므로 행을 거르지 않습니다.
+     *
+     * @param currentMemberId 조회자 ID (null이면 모두 false)
+     */
+    public List<PostResponseDto.PostDetails> applyViewerContext(
+            List<PostResponseDto.PostDetails> postDetails, Long currentMemberId) {
+
+        if (postDetails == null || postDetails.isEmpty()) {
+            return postDetails;
+        }
+
+        ViewerLookup lookup = lookupViewer(
+                postDetails.stream().map(postDetail -> postDetail.user().id()).toList(),
+                postDetails.stream().map(PostResponseDto.PostDetails::id).toList(),
+                currentMemberId);
+
+        return postDetails.stream()
+                .map(postDetail -> postDetail.withViewerFlags(
+                        lookup.authors().get(postDetail.user().id()),
+                        lookup.viewer().isFollowed(postDetail.user().id()),
+                        lookup.viewer().isMine(postDetail.user().id()),
+                        lookup.viewer().isLiked(ViewerContext.LikeTarget.POST, postDetail.id())))
+                .toList();
+    }
+
+    /**
+     * ETag 계산용 PostVersion 리스트에 조회자 기준 값(작성자 팔로우/좋아요 여부)을 반영
+     * 작성자 요약은 버전에 함께 담아 반환하며, 행을 거르지 않으므로 ETag는 페이지의 모든 게시글을 덮습니다.
+     *
+     * @param currentMemberId 조회자 ID (null이면 모두 false)
+     */
+    public PostResponseDto.PostVersions applyViewerContextToVersions(
+            List<PostResponseDto.PostVersion> versions, Long currentMemberId) {
+
+        if (versions == null || versions.isEmpty()) {
+            return new PostResponseDto.PostVersions(null, Map.of(), Map.of());
+        }
+
+        ViewerLookup lookup = lookupViewer(
+                versions.stream().map(PostResponseDto.PostVersion::memberId).toList(),
+                versions.stream().map(PostResponseDto.PostVersion::id).toList(),
+                currentMemberId);
+
+        Map<Long, PostResponseDto.PostVersion> resolved = new LinkedHashMap<>();
+        versions.forEach(version -> resolved.put(version.id(), version.withViewerFlags(
+                lookup.viewer().isLiked(ViewerContext.LikeTarget.POST, version.id()),
+                lookup.viewer().isFollowed(version.memberId()))));
+
+        return new PostResponseDto.PostVersions(null, resolved, lookup.authors());
+    }
+
+    /**
+     * 작성자 요약(회원 요약 캐시)과 조회자 기준 값을 한 번에 조회
+     */
+    private ViewerLookup lookupViewer(List<Long> authorIds, List<Long> postIds, Long currentMemberId) {
+        return new ViewerLookup(
+                memberSummaryCacheService.findAll(authorIds),
+                viewerContextService.resolve(currentMemberId, ViewerContext.LikeTarget.POST, authorIds, postIds));
+    }
+
+    private record ViewerLookup(Map<Long, MemberResponseDto.UserInfo> authors, ViewerContext viewer) {
+    }
+}
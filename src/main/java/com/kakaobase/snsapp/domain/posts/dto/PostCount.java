@@ -0,0 +1,4 @@
+package com.kakaobase.snsapp.domain.posts.dto;
+
+public record PostCount(Long memberId, Long count) {
+}
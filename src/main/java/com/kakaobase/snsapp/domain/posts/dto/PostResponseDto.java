@@ -6,6 +6,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 게시글 도메인의 응답 DTO를 관리하는 통합 클래스
@@ -73,5 +75,165 @@ public class PostResponseDto {
                     .isLiked(this.isLiked)
                     .build();
         }
+
+        /**
+         * 작성자 요약과 조회자 기준 값(팔로우/본인/좋아요 여부)을 반영한 새 인스턴스 반환
+         * 작성자 요약이 없으면(조회 직후 탈퇴 등) 기존 작성자 정보를 유지합니다.
+         */
+        public PostDetails withViewerFlags(MemberResponseDto.UserInfo author,
+                                           boolean isFollowed, boolean isMine, boolean isLiked) {
+            return PostDetails.builder()
+                    .id(this.id)
+                    .user(new MemberResponseDto.UserInfoWithFollowing(
+                            user.id(),
+                            author != null ? author.nickname() : user.nickname(),
+                            author != null ? author.imageUrl() : user.imageUrl(),
+                            isFollowed))
+                    .content(this.content)
+                    .imageUrl(this.imageUrl)
+                    .youtubeUrl(this.youtubeUrl)
+                    .youtubeSummary(this.youtubeSummary)
+                    .createdAt(this.createdAt)
+                    .likeCount(this.likeCount)
+                    .commentCount(this.commentCount)
+                    .isMine(isMine)
+                    .isLiked(isLiked)
+                    .build();
+        }
+    }
+
+    /**
+     * 조건부 요청(ETag) 계산용 게시글 버전 정보
+     * 응답 본문 없이 변경 여부만 판단하기 위해 최소한의 컬럼만 조회합니다.
+     */
+    @Builder
+    public record PostVersion(
+            Long id,
+            Long memberId,
+            LocalDateTime updatedAt,
+            Long likeCount,
+            Long commentCount,
+            Boolean isLiked,
+            Boolean isFollowed
+    ) {
+        public PostVersion withStats(Long newLikeCount, Long newCommentCount) {
+            return PostVersion.builder()
+                    .id(this.id)
+                    .memberId(this.memberId)
+                    .updatedAt(this.updatedAt)
+                    .likeCount(newLikeCount)
+                    .commentCount(newCommentCount)
+                    .isLiked(this.isLiked)
+                    .isFollowed(this.isFollowed)
+                    .build();
+        }
+
+        public PostVersion withViewerFlags(boolean isLiked, boolean isFollowed) {
+            return PostVersion.builder()
+                    .id(this.id)
+                    .memberId(this.memberId)
+                    .updatedAt(this.updatedAt)
+                    .likeCount(this.likeCount)
+                    .commentCount(this.commentCount)
+                    .isLiked(isLiked)
+                    .isFollowed(isFollowed)
+                    .build();
+        }
+
+        /**
+         * 작성자 요약(닉네임, 프로필 이미지)까지 포함한 버전 문자열
+         */
+        public String toVersionString(MemberResponseDto.UserInfo author) {
+            return id + ":" + updatedAt + ":" + likeCount + ":" + commentCount + ":" + isLiked + ":" + isFollowed
+                    + ":" + (author != null ? author.nickname() + ":" + author.imageUrl() : "");
+        }
     }
-}
\ No newline at end of file
+
+    /**
+     * ETag와 그 계산에 사용한 게시글 버전 (작성자 요약, 조회자 기준 값, 캐시 통계 반영)
+     * ETag가 일치하지 않아 본문을 내려줄 때 같은 값을 다시 조회하지 않고 재사용합니다.
+     */
+    public record PostVersions(
+            String eTag,
+            Map<Long, PostVersion> versions,
+            Map<Long, MemberResponseDto.UserInfo> authors
+    ) {
+        public boolean covers(Long postId) {
+            return versions.containsKey(postId);
+        }
+
+        /**
+         * 게시글 본문에 버전의 작성자 요약, 조회자 기준 값, 통계를 반영한 새 인스턴스 반환
+         */
+        public PostDetails apply(PostDetails postDetails, Long currentMemberId) {
+            PostVersion version = versions.get(postDetails.id());
+            return postDetails
+                    .withViewerFlags(authors.get(version.memberId()), version.isFollowed(),
+                            version.memberId().equals(currentMemberId), version.isLiked())
+                    .withStats(version.likeCount(), version.commentCount());
+        }
+    }
+
+    @Schema(description = "게시글 통계 정보")
+    public record PostStats(
+            @Schema(description = "게시글 ID", example = "123")
+            @JsonProperty("id")
+            Long id,
+
+            @Schema(description = "좋아요 수", example = "5")
+            @JsonProperty("like_count")
+            Long likeCount,
+
+            @Schema(description = "댓글 수", example = "2")
+            @JsonProperty("comment_count")
+            Long commentCount
+    ) {}
+
+    @Schema(description = "게시글 목록 증분 갱신 응답")
+    @Builder
+    public record PostDelta(
+            @Schema(description = "기준 시점 이후 새로 작성된 게시글 (최신순)")
+            @JsonProperty("new_posts")
+            List<PostDetails> newPosts,
+
+            @Schema(description = "클라이언트가 보유한 게시글의 최신 통계")
+            @JsonProperty("stats")
+            List<PostStats> stats,
+
+            @Schema(description = "클라이언트가 보유했지만 삭제된 게시글 ID")
+            @JsonProperty("deleted_ids")
+            List<Long> deletedIds,
+
+            @Schema(description = "최대 개수를 초과해 아직 받지 못한 새 게시글이 있는지 여부", example = "false")
+            @JsonProperty("has_more")
+            Boolean hasMore,
+
+            @Schema(description = "다음 증분 요청에 사용할 기준 작성 시간", example = "2024-04-23T10:00:00")
+            @JsonProperty("since_created_at")
+            LocalDateTime sinceCreatedAt,
+
+            @Schema(description = "다음 증분 요청에 사용할 기준 게시글 ID", example = "130")
+            @JsonProperty("since_id")
+            Long sinceId
+    ) {}
+
+    @Schema(description = "인기 게시글 목록 응답")
+    @Builder
+    public record TrendingPosts(
+            @Schema(description = "인기 게시글 (점수 내림차순)")
+            @JsonProperty("posts")
+            List<PostDetails> posts,
+
+            @Schema(description = "다음 페이지가 있는지 여부", example = "true")
+            @JsonProperty("has_more")
+            Boolean hasMore,
+
+            @Schema(description = "다음 페이지 요청에 사용할 게시글 ID", example = "130")
+            @JsonProperty("next_cursor")
+            Long nextCursor,
+
+            @Schema(description = "다음 페이지 요청에 사용할 인기 점수", example = "1523.4183")
+            @JsonProperty("next_cursor_score")
+            Double nextCursorScore
+    ) {}
+}
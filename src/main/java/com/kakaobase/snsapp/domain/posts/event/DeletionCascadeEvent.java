@@ -0,0 +1,36 @@
+package com.kakaobase.snsapp.domain.posts.event;
+
+import com.kakaobase.snsapp.domain.posts.util.DeletionCascadeType;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 삭제 연쇄 작업 요청 이벤트
+ *
+ * <p>게시글/댓글 삭제 트랜잭션이 커밋된 뒤 발행되며,
+ * 리스너가 하위 테이블 정리를 백그라운드에서 시작합니다.</p>
+ */
+@Getter
+public class DeletionCascadeEvent extends ApplicationEvent {
+
+    /**
+     * 삭제 대상 종류
+     */
+    private final DeletionCascadeType type;
+
+    /**
+     * 삭제된 게시글/댓글 ID
+     */
+    private final Long targetId;
+
+    public DeletionCascadeEvent(DeletionCascadeType type, Long targetId) {
+        super(targetId);
+        this.type = type;
+        this.targetId = targetId;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DeletionCascadeEvent{type=%s, targetId=%d}", type, targetId);
+    }
+}
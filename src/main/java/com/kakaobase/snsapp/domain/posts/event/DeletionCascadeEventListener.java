@@ -0,0 +1,29 @@
+package com.kakaobase.snsapp.domain.posts.event;
+
+import com.kakaobase.snsapp.domain.posts.service.async.DeletionCascadeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * 삭제 연쇄 작업 이벤트 리스너
+ *
+ * <p>요청 스레드와 분리된 비동기 스레드에서 첫 처리를 시도합니다.
+ * 실패하더라도 작업은 Redis 대기 목록에 남아 스케줄러가 재시도합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeletionCascadeEventListener {
+
+    private final DeletionCascadeService deletionCascadeService;
+
+    @EventListener
+    @Async
+    public void handleDeletionCascade(DeletionCascadeEvent event) {
+        log.info("삭제 연쇄 작업 이벤트 처리 시작 - {}", event);
+        deletionCascadeService.process(event.getType(), event.getTargetId());
+    }
+}
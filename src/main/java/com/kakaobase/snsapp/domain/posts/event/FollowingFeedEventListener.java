@@ -0,0 +1,32 @@
+package com.kakaobase.snsapp.domain.posts.event;
+
+import com.kakaobase.snsapp.domain.posts.service.cache.FollowingFeedService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팔로잉 피드 팬아웃 이벤트 리스너
+ *
+ * <p>게시글 생성 이벤트를 받아 작성자의 팔로워 피드에 게시글을 반영합니다.
+ * 팬아웃 실패가 게시글 생성에 영향을 주지 않도록 요청 스레드와 분리해 처리합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowingFeedEventListener {
+
+    private final FollowingFeedService followingFeedService;
+
+    @EventListener
+    @Async
+    public void handlePostCreated(PostCreatedEvent event) {
+        try {
+            followingFeedService.fanOut(event.getPostId(), event.getMemberId());
+        } catch (Exception e) {
+            log.error("팔로잉 피드 팬아웃 실패 - postId: {}, memberId: {}", event.getPostId(), event.getMemberId(), e);
+        }
+    }
+}
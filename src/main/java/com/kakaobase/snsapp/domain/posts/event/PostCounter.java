@@ -11,7 +11,9 @@ import java.util.concurrent.atomic.AtomicInteger;
 /**
  * 게시글 카운터 관리
  *
- * <p>게시판별로 게시글 수를 카운트하여 봇 게시글 생성 조건을 관리합니다.</p>
+ * <p>게시판별로 게시글 수를 카운트하여 봇 게시글 생성 조건을 관리합니다.
+ * 노드 로컬 카운터이므로 단일 노드 환경이나 Redis 장애 시 대체 용도로 사용합니다.
+ * 여러 노드가 카운터를 공유해야 하면 BotPostCounterCacheUtil을 사용합니다.</p>
  */
 @Slf4j
 @Component
@@ -39,6 +41,24 @@ public class PostCounter {
         return newValue;
     }
 
+    /**
+     * 게시글 카운터 증가 후 임계값 도달 여부 판단
+     *
+     * <p>임계값에 도달하면 같은 원자 연산 안에서 카운터를 0으로 되돌리므로,
+     * 동시에 호출되어도 임계값 도달마다 한 호출만 true를 받습니다.</p>
+     *
+     * @param boardType 게시판 타입
+     * @param threshold 트리거 임계값
+     * @return 이번 호출이 트리거 대상이면 true
+     */
+    public boolean incrementAndCheck(BoardType boardType, int threshold) {
+        AtomicInteger counter = counters.computeIfAbsent(boardType, k -> new AtomicInteger(0));
+        int previous = counter.getAndUpdate(current -> current + 1 >= threshold ? 0 : current + 1);
+        boolean triggered = previous + 1 >= threshold;
+        log.debug("카운터 증가 - boardType: {}, count: {}, triggered: {}", boardType, previous + 1, triggered);
+        return triggered;
+    }
+
     /**
      * 게시글 카운터 리셋
      *
@@ -2,19 +2,19 @@ package com.kakaobase.snsapp.domain.posts.event;
 
 import com.kakaobase.snsapp.domain.posts.service.BotPostService;
 import com.kakaobase.snsapp.domain.posts.util.BoardType;
+import com.kakaobase.snsapp.domain.posts.util.BotPostCounterCacheUtil;
 import com.kakaobase.snsapp.global.common.constant.BotConstants;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.CompletableFuture;
-
 /**
  * 게시글 생성 이벤트 리스너
  *
- * <p>모든 게시글(봇 포함) 생성 이벤트를 처리하여 5개마다 봇 게시글을 생성합니다.</p>
+ * <p>모든 게시글(봇 포함) 생성 이벤트를 처리하여 임계값만큼 쌓일 때마다 봇 게시글을 생성합니다.</p>
  */
 @Slf4j
 @Component
@@ -22,13 +22,20 @@ import java.util.concurrent.CompletableFuture;
 public class PostEventListener {
 
     private final PostCounter postCounter;
+    private final BotPostCounterCacheUtil botPostCounterCacheUtil;
     private final BotPostService botPostService;
 
+    /**
+     * 여러 노드가 Redis 카운터를 공유할지 여부
+     */
+    @Value("${app.bot.post-counter.distributed:true}")
+    private boolean distributed;
+
     /**
      * 게시글 생성 이벤트 처리
      *
      * <p>모든 게시글(봇 포함)이 생성될 때마다 카운터를 증가시키고,
-     * 5개가 되면 봇 게시글을 생성합니다.</p>
+     * 임계값에 도달하면 봇 게시글을 생성합니다.</p>
      *
      * @param event 게시글 생성 이벤트
      */
@@ -42,36 +49,13 @@ public class PostEventListener {
         try {
             BoardType boardType = event.getBoardType();
 
-            // 모든 게시글에 대해 카운터 증가
-            int currentCount = postCounter.increment(boardType);
-            log.info("게시글 카운터 증가 - boardType: {}, currentCount: {}, thread: {}", 
-                    boardType, currentCount, threadName);
-
-            // 카운터가 5에 도달한 경우
-            if (currentCount >= BotConstants.POST_COUNT_THRESHOLD) {
-                log.info("게시글 5개 도달 - 봇 게시글 생성 시작. boardType: {}, thread: {}", 
+            // 모든 게시글에 대해 카운터 증가 및 트리거 판단
+            if (countAndCheck(boardType, event.getPostId())) {
+                log.info("게시글 임계값 도달 - 봇 게시글 생성 시작. boardType: {}, thread: {}",
                         boardType, threadName);
 
-                // 카운터 먼저 리셋 (봇 게시글 생성 실패해도 리셋은 보장)
-                postCounter.reset(boardType);
-                log.info("카운터 리셋 완료 - boardType: {}, thread: {}", boardType, threadName);
-
-                // 봇 게시글 생성을 별도 스레드에서 비동기 실행 (타임아웃 방지)
-                CompletableFuture.runAsync(() -> {
-                    try {
-                        log.info("봇 게시글 생성 시작 - boardType: {}, asyncThread: {}", 
-                                boardType, Thread.currentThread().getName());
-                        botPostService.createBotPost(boardType);
-                        log.info("봇 게시글 생성 완료 - boardType: {}, asyncThread: {}", 
-                                boardType, Thread.currentThread().getName());
-                    } catch (Exception e) {
-                        log.error("봇 게시글 생성 실패 - boardType: {}, asyncThread: {}", 
-                                boardType, Thread.currentThread().getName(), e);
-                    }
-                }).exceptionally(throwable -> {
-                    log.error("봇 게시글 생성 CompletableFuture 실패 - boardType: {}", boardType, throwable);
-                    return null;
-                });
+                // 봇 게시글 생성은 AI 요청 파이프라인에 등록만 하고 바로 반환 (AI 응답을 기다리며 스레드를 점유하지 않음)
+                botPostService.createBotPost(boardType);
             }
 
         } catch (Exception e) {
@@ -82,4 +66,28 @@ public class PostEventListener {
         log.info("게시글 생성 이벤트 처리 완료 - postId: {}, thread: {}", 
                 event.getPostId(), threadName);
     }
+
+    /**
+     * 게시글을 카운트하고 이번 게시글이 봇 게시글을 트리거해야 하는지 판단합니다.
+     *
+     * <p>분산 모드에서는 Redis 카운터 한 번의 호출로 증가/판단/리셋이 이루어져, 여러 노드 중 하나만 트리거됩니다.
+     * Redis를 사용할 수 없으면 노드 로컬 카운터로 대체합니다.</p>
+     */
+    private boolean countAndCheck(BoardType boardType, Long postId) {
+        if (distributed) {
+            try {
+                BotPostCounterCacheUtil.TriggerResult result =
+                        botPostCounterCacheUtil.increment(boardType, postId, BotConstants.POST_COUNT_THRESHOLD);
+                log.info("게시글 카운터 증가 - boardType: {}, currentCount: {}, triggered: {}",
+                        boardType, result.count(), result.triggered());
+                return result.triggered();
+            } catch (Exception e) {
+                log.warn("분산 게시글 카운터 사용 불가, 로컬 카운터로 대체 - boardType: {}", boardType, e);
+            }
+        }
+
+        boolean triggered = postCounter.incrementAndCheck(boardType, BotConstants.POST_COUNT_THRESHOLD);
+        log.info("게시글 카운터 증가(로컬) - boardType: {}, triggered: {}", boardType, triggered);
+        return triggered;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,161 @@
+package com.kakaobase.snsapp.domain.posts.repository;
+
+import com.kakaobase.snsapp.domain.comments.entity.QComment;
+import com.kakaobase.snsapp.domain.comments.entity.QCommentLike;
+import com.kakaobase.snsapp.domain.comments.entity.QRecomment;
+import com.kakaobase.snsapp.domain.comments.entity.QRecommentLike;
+import com.kakaobase.snsapp.domain.posts.entity.QPostImage;
+import com.kakaobase.snsapp.domain.posts.entity.QPostLike;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글/댓글 삭제 후 하위 테이블을 id 구간 단위로 정리하기 위한 Repository
+ *
+ * <p>find* 메서드는 cursor 이후의 id를 오름차순으로 최대 limit개 조회하고,
+ * delete* 메서드는 조회된 구간만 정리하므로 청크 하나의 트랜잭션 크기가 제한됩니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class DeletionCascadeRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    public List<Long> findRecommentIdsByPostId(Long postId, Long cursor, int limit) {
+        QRecomment recomment = QRecomment.recomment;
+
+        return queryFactory
+                .select(recomment.id)
+                .from(recomment)
+                .where(
+                        recomment.comment.post.id.eq(postId),
+                        recomment.id.gt(cursor),
+                        recomment.deletedAt.isNull()
+                )
+                .orderBy(recomment.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    public List<Long> findRecommentIdsByCommentId(Long commentId, Long cursor, int limit) {
+        QRecomment recomment = QRecomment.recomment;
+
+        return queryFactory
+                .select(recomment.id)
+                .from(recomment)
+                .where(
+                        recomment.comment.id.eq(commentId),
+                        recomment.id.gt(cursor),
+                        recomment.deletedAt.isNull()
+                )
+                .orderBy(recomment.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    public void deleteRecommentsWithLikes(List<Long> recommentIds) {
+        QRecomment recomment = QRecomment.recomment;
+        QRecommentLike recommentLike = QRecommentLike.recommentLike;
+
+        queryFactory.delete(recommentLike)
+                .where(recommentLike.recomment.id.in(recommentIds))
+                .execute();
+        queryFactory.update(recomment)
+                .set(recomment.deletedAt, LocalDateTime.now())
+                .where(recomment.id.in(recommentIds).and(recomment.deletedAt.isNull()))
+                .execute();
+    }
+
+    public List<Long> findCommentIdsByPostId(Long postId, Long cursor, int limit) {
+        QComment comment = QComment.comment;
+
+        return queryFactory
+                .select(comment.id)
+                .from(comment)
+                .where(
+                        comment.post.id.eq(postId),
+                        comment.id.gt(cursor),
+                        comment.deletedAt.isNull()
+                )
+                .orderBy(comment.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    public void deleteCommentsWithLikes(List<Long> commentIds) {
+        QComment comment = QComment.comment;
+        QCommentLike commentLike = QCommentLike.commentLike;
+
+        queryFactory.delete(commentLike)
+                .where(commentLike.comment.id.in(commentIds))
+                .execute();
+        queryFactory.update(comment)
+                .set(comment.deletedAt, LocalDateTime.now())
+                .where(comment.id.in(commentIds).and(comment.deletedAt.isNull()))
+                .execute();
+    }
+
+    public List<Long> findCommentLikeMemberIds(Long commentId, Long cursor, int limit) {
+        QCommentLike commentLike = QCommentLike.commentLike;
+
+        return queryFactory
+                .select(commentLike.id.memberId)
+                .from(commentLike)
+                .where(
+                        commentLike.id.commentId.eq(commentId),
+                        commentLike.id.memberId.gt(cursor)
+                )
+                .orderBy(commentLike.id.memberId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    public void deleteCommentLikes(Long commentId, List<Long> memberIds) {
+        QCommentLike commentLike = QCommentLike.commentLike;
+
+        queryFactory.delete(commentLike)
+                .where(
+                        commentLike.id.commentId.eq(commentId),
+                        commentLike.id.memberId.in(memberIds)
+                )
+                .execute();
+    }
+
+    public List<Long> findPostLikeMemberIds(Long postId, Long cursor, int limit) {
+        QPostLike postLike = QPostLike.postLike;
+
+        return queryFactory
+                .select(postLike.id.memberId)
+                .from(postLike)
+                .where(
+                        postLike.id.postId.eq(postId),
+                        postLike.id.memberId.gt(cursor)
+                )
+                .orderBy(postLike.id.memberId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    public void deletePostLikes(Long postId, List<Long> memberIds) {
+        QPostLike postLike = QPostLike.postLike;
+
+        queryFactory.delete(postLike)
+                .where(
+                        postLike.id.postId.eq(postId),
+                        postLike.id.memberId.in(memberIds)
+                )
+                .execute();
+    }
+
+    public void deletePostImages(Long postId) {
+        QPostImage postImage = QPostImage.postImage;
+
+        queryFactory.delete(postImage)
+                .where(postImage.post.id.eq(postId))
+                .execute();
+    }
+}
@@ -8,7 +8,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * 게시글 좋아요 엔티티에 대한 기본 데이터 액세스 객체
@@ -26,6 +28,12 @@ public interface PostLikeRepository extends JpaRepository<PostLike, PostLike.Pos
      */
     boolean existsByMemberIdAndPostId(Long memberId, Long postId);
 
+    /**
+     * 주어진 게시글 중 특정 회원이 좋아요를 누른 게시글 ID를 조회합니다.
+     */
+    @Query("SELECT pl.id.postId FROM PostLike pl WHERE pl.id.memberId = :memberId AND pl.id.postId IN :postIds")
+    Set<Long> findLikedPostIds(@Param("memberId") Long memberId, @Param("postIds") Collection<Long> postIds);
+
     @Modifying
     @Query("DELETE FROM PostLike pl WHERE pl.post.id = :postId")
     void deleteByPostId(@Param("postId") Long postId);
@@ -4,9 +4,15 @@ import com.kakaobase.snsapp.domain.posts.entity.Post;
 import com.kakaobase.snsapp.domain.posts.repository.custom.PostCustomRepository;
 import com.kakaobase.snsapp.domain.posts.util.BoardType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 게시글 엔티티에 대한 데이터 액세스 객체
@@ -29,4 +35,26 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostCustomRep
     long countByMemberId(Long memberId);
 
     List<Post> findTop10ByBoardTypeOrderByCreatedAtDescIdDesc(BoardType boardType);
+
+    /**
+     * 게시글의 게시판 타입만 조회합니다.
+     */
+    @Query("SELECT p.boardType FROM Post p WHERE p.id = :postId")
+    Optional<BoardType> findBoardTypeById(@Param("postId") Long postId);
+
+    /**
+     * 게시글 작성자 ID만 조회합니다.
+     */
+    @Query("SELECT p.member.id FROM Post p WHERE p.id = :postId")
+    Optional<Long> findMemberIdById(@Param("postId") Long postId);
+
+    /**
+     * 같은 영상을 공유하는 게시글들의 유튜브 요약을 한 번에 갱신합니다.
+     * 벌크 UPDATE는 @LastModifiedDate를 거치지 않으므로 ETag가 바뀌도록 updatedAt을 직접 갱신합니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Post p SET p.youtubeSummary = :summary, p.updatedAt = :updatedAt WHERE p.id IN :postIds")
+    int updateYoutubeSummaryByIdIn(@Param("postIds") Collection<Long> postIds,
+                                   @Param("summary") String summary,
+                                   @Param("updatedAt") LocalDateTime updatedAt);
 }
\ No newline at end of file
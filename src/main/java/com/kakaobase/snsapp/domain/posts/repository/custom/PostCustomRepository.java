@@ -1,32 +1,56 @@
 package com.kakaobase.snsapp.domain.posts.repository.custom;
 
+import com.kakaobase.snsapp.domain.posts.dto.PostCount;
 import com.kakaobase.snsapp.domain.posts.dto.PostResponseDto;
 import com.kakaobase.snsapp.domain.posts.util.BoardType;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface PostCustomRepository {
 
-    Optional<PostResponseDto.PostDetails> findPostDetailById(Long postId, Long memberId);
+    Optional<PostResponseDto.PostDetails> findPostDetailById(Long postId);
 
     List<PostResponseDto.PostDetails> findByBoardTypeWithCursor(
             BoardType boardType,
             Long cursor,
-            int limit,
-            Long memberId);
+            int limit);
 
     List<PostResponseDto.PostDetails> findByMemberWithCursor(
             Long memberId,
             Long cursor,
-            int limit,
-            Long currentMemberId);
+            int limit);
 
     List<PostResponseDto.PostDetails> findLikedPostsWithCursor(
             Long likedByMemberId,
             Long cursor,
-            int limit,
-            Long currentMemberId);
+            int limit);
+
+    List<PostResponseDto.PostDetails> findAllByIdIn(List<Long> postIds);
+
+    Optional<PostResponseDto.PostVersion> findPostVersionById(Long postId);
+
+    List<PostResponseDto.PostVersion> findVersionsByBoardTypeWithCursor(
+            BoardType boardType,
+            Long cursor,
+            int limit);
+
+    List<Long> findIdsByBoardTypeSince(
+            BoardType boardType,
+            LocalDateTime sinceCreatedAt,
+            Long sinceId,
+            int limit);
+
+    List<PostResponseDto.PostStats> findStatsByIdIn(List<Long> postIds);
+
+    List<Long> findRecentIdsByMemberIds(Collection<Long> memberIds, int limit);
+
+    /**
+     * 작성자별 게시글 수 조회 (회원 통계 동기화용)
+     */
+    List<PostCount> findPostCounts();
 
     void deletePost(Long postId);
 }
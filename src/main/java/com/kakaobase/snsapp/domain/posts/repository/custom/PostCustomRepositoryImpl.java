@@ -1,12 +1,8 @@
 package com.kakaobase.snsapp.domain.posts.repository.custom;
 
-import com.kakaobase.snsapp.domain.comments.entity.QComment;
-import com.kakaobase.snsapp.domain.comments.entity.QCommentLike;
-import com.kakaobase.snsapp.domain.comments.entity.QRecomment;
-import com.kakaobase.snsapp.domain.comments.entity.QRecommentLike;
-import com.kakaobase.snsapp.domain.follow.entity.QFollow;
 import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
 import com.kakaobase.snsapp.domain.members.entity.QMember;
+import com.kakaobase.snsapp.domain.posts.dto.PostCount;
 import com.kakaobase.snsapp.domain.posts.dto.PostResponseDto;
 import com.kakaobase.snsapp.domain.posts.util.BoardType;
 import com.kakaobase.snsapp.domain.posts.entity.QPost;
@@ -21,10 +17,17 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * 게시글 조회 쿼리
+ *
+ * <p>게시글 상세/목록 쿼리는 조회자와 무관한 값만 조회합니다.
+ * 본인 여부, 좋아요 여부, 작성자 팔로우 여부는 false로 채워지며 ViewerContextService가 페이지 단위로 채웁니다.
+ * 탈퇴한 회원의 게시글은 페이지를 자르기 전에 제외되도록 작성자 조인 조건으로 거릅니다.</p>
+ */
 @Repository
 @RequiredArgsConstructor
 public class PostCustomRepositoryImpl implements PostCustomRepository {
@@ -32,141 +35,162 @@ public class PostCustomRepositoryImpl implements PostCustomRepository {
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public Optional<PostResponseDto.PostDetails> findPostDetailById(Long postId, Long memberId) {
+    public Optional<PostResponseDto.PostDetails> findPostDetailById(Long postId) {
 
         QPost post = QPost.post;
-        QMember member = QMember.member;
-        QPostImage postImage = QPostImage.postImage;
-        QPostLike postLike = QPostLike.postLike;
-        QFollow follow = QFollow.follow;
 
-        PostResponseDto.PostDetails result = queryFactory
-                .select(Projections.constructor(PostResponseDto.PostDetails.class,
-                        // 기본 Post 필드들
-                        post.id,
+        PostResponseDto.PostDetails result = selectPostDetails(post)
+                .where(post.id.eq(postId))  // ✅ 단일 조회 조건
+                .fetchOne();  // ✅ 단일 결과 조회
 
-                        // 이중 DTO: UserInfoWithFollowing 생성
-                        Projections.constructor(MemberResponseDto.UserInfoWithFollowing.class,
-                                post.member.id,
-                                post.member.nickname,
-                                post.member.profileImgUrl,
-                                // ✅ 현재 사용자가 게시글 작성자를 팔로우하는지 확인
-                                follow.id.isNotNull()
-                        ),
+        return Optional.ofNullable(result);
+    }
 
-                        post.content,
+    @Override
+    public List<PostResponseDto.PostDetails> findByBoardTypeWithCursor(
+            BoardType boardType,
+            Long cursor,
+            int limit) {
 
-                        // ✅ 첫 번째 이미지 URL
-                        postImage.imgUrl,
+        QPost post = QPost.post;
 
-                        post.youtubeUrl,
-                        post.youtubeSummary,
-                        post.createdAt,
-                        post.likeCount,
-                        post.commentCount,
+        return selectPostDetails(post)
+                .where(
+                        post.boardType.eq(boardType)
+                                .and(cursor != null ? post.id.lt(cursor) : null)
+                )
+                .orderBy(post.createdAt.desc(), post.id.desc())
+                .limit(limit)
+                .fetch();
+    }
 
-                        // ✅ 본인 게시글 여부
-                        memberId != null ?
-                                post.member.id.eq(memberId) :
-                                Expressions.constant(false),
+    @Override
+    public List<PostResponseDto.PostDetails> findByMemberWithCursor(
+            Long authorMemberId,  // 게시글 작성자 ID
+            Long cursor,
+            int limit) {
 
-                        // ✅ 현재 사용자가 이 게시글에 좋아요했는지 확인
-                        postLike.id.isNotNull()
-                ))
-                .from(post)
-                .join(post.member, member)
+        QPost post = QPost.post;
 
-                // ✅ 첫 번째 이미지만 LEFT JOIN
-                .leftJoin(postImage).on(
-                        postImage.post.eq(post)
-                                .and(postImage.sortIndex.eq(0))  // 첫 번째 이미지만
+        return selectPostDetails(post)
+                .where(
+                        post.member.id.eq(authorMemberId)  // 특정 작성자의 게시글만
+                                .and(cursor != null ? post.id.lt(cursor) : null)
                 )
+                .orderBy(post.createdAt.desc(), post.id.desc())
+                .limit(limit)
+                .fetch();
+    }
 
-                // ✅ 현재 사용자의 좋아요만 LEFT JOIN
-                .leftJoin(postLike).on(
+    // 2. 특정 사용자가 좋아요한 게시글 조회 (기존 findLikedPostsByMemberIdWithCursor 대체)
+    @Override
+    public List<PostResponseDto.PostDetails> findLikedPostsWithCursor(
+            Long likedByMemberId,  // 좋아요한 사용자 ID
+            Long cursor,
+            int limit) {
+
+        QPost post = QPost.post;
+        QPostLike postLike = QPostLike.postLike;
+
+        return selectPostDetails(post)
+                // 핵심: likedByMemberId가 좋아요한 게시글만 INNER JOIN
+                .join(postLike).on(
                         postLike.post.eq(post)
-                                .and(memberId != null ? postLike.id.memberId.eq(memberId) : null)
+                                .and(postLike.id.memberId.eq(likedByMemberId))
                 )
-
-                // ✅ 현재 사용자가 게시글 작성자를 팔로우하는지 LEFT JOIN
-                .leftJoin(follow).on(
-                        memberId != null ? follow.followerUser.id.eq(memberId) : null,  // 현재 사용자가
-                        follow.followingUser.eq(post.member)  // 게시글 작성자를 팔로우
+                .where(
+                        cursor != null ? post.id.lt(cursor) : null
                 )
-
-                .where(post.id.eq(postId))  // ✅ 단일 조회 조건
-                .fetchOne();  // ✅ 단일 결과 조회
-
-        return Optional.ofNullable(result);
+                .orderBy(post.createdAt.desc(), post.id.desc())
+                .limit(limit)
+                .fetch();
     }
 
+
+    /**
+     * 게시글 ID 목록으로 게시글 상세 목록을 조회합니다.
+     * 결과 순서는 보장하지 않으므로 호출 측에서 ID 순서대로 정렬해야 합니다.
+     */
     @Override
-    public List<PostResponseDto.PostDetails> findByBoardTypeWithCursor(
-            BoardType boardType,
-            Long cursor,
-            int limit,
-            Long memberId) {
+    public List<PostResponseDto.PostDetails> findAllByIdIn(List<Long> postIds) {
+
+        if (postIds == null || postIds.isEmpty()) {
+            return List.of();
+        }
 
         QPost post = QPost.post;
-        QMember member = QMember.member;
+
+        return selectPostDetails(post)
+                .where(post.id.in(postIds))
+                .fetch();
+    }
+
+    /**
+     * 게시글 상세 공통 조회 (작성자 ID + 첫 번째 이미지)
+     * 작성자 닉네임/이미지는 회원 요약 캐시로 채우고, 조회자 기준 값은 모두 false로 채워집니다.
+     */
+    private JPAQuery<PostResponseDto.PostDetails> selectPostDetails(QPost post) {
+
         QPostImage postImage = QPostImage.postImage;
-        QPostLike postLike = QPostLike.postLike;
-        QFollow follow = QFollow.follow;
+        QMember member = QMember.member;
 
         return queryFactory
                 .select(Projections.constructor(PostResponseDto.PostDetails.class,
-                        // 기본 Post 필드들
                         post.id,
 
-                        // 이중 DTO: UserInfoWithFollowing 생성
+                        // 이중 DTO: UserInfoWithFollowing (작성자 ID만)
                         Projections.constructor(MemberResponseDto.UserInfoWithFollowing.class,
-                                post.member.id,
-                                post.member.nickname,
-                                post.member.profileImgUrl,
-                                // ✅ 현재 사용자가 게시글 작성자를 팔로우하는지 확인
-                                follow.id.isNotNull()
+                                post.member.id
                         ),
 
                         post.content,
 
-                        // ✅ 첫 번째 이미지 URL (PostImage 엔티티 필드명 확인 필요)
-                        postImage.imgUrl,  // PostImage.imgUrl 필드 사용
+                        // ✅ 첫 번째 이미지 URL
+                        postImage.imgUrl,
 
                         post.youtubeUrl,
                         post.youtubeSummary,
                         post.createdAt,
                         post.likeCount,
                         post.commentCount,
-
-                        // ✅ 본인 게시글 여부
-                        memberId != null ?
-                                post.member.id.eq(memberId) :
-                                Expressions.constant(false),
-
-                        // ✅ 현재 사용자가 이 게시글에 좋아요했는지 확인
-                        postLike.id.isNotNull()
+                        Expressions.constant(false),
+                        Expressions.constant(false)
                 ))
                 .from(post)
-                .join(post.member, member)
+                .join(post.member, member).on(member.deletedAt.isNull())
 
                 // ✅ 첫 번째 이미지만 LEFT JOIN
                 .leftJoin(postImage).on(
                         postImage.post.eq(post)
                                 .and(postImage.sortIndex.eq(0))  // 첫 번째 이미지만
-                )
+                );
+    }
 
-                // ✅ 현재 사용자의 좋아요만 LEFT JOIN
-                .leftJoin(postLike).on(
-                        postLike.post.eq(post)
-                                .and(memberId != null ? postLike.id.memberId.eq(memberId) : null)
-                )
+    /**
+     * ETag 계산용 게시글 버전 정보를 조회합니다.
+     * 작성자/이미지 컬럼 없이 수정 시각과 통계만 조회하며, 조회자 기준 값은 호출 측에서 채웁니다.
+     */
+    @Override
+    public Optional<PostResponseDto.PostVersion> findPostVersionById(Long postId) {
 
-                // ✅ 현재 사용자가 게시글 작성자를 팔로우하는지 LEFT JOIN
-                .leftJoin(follow).on(
-                        memberId != null ? follow.followerUser.id.eq(memberId) : null,  // 현재 사용자가
-                        follow.followingUser.eq(post.member)  // 게시글 작성자를 팔로우
-                )
+        QPost post = QPost.post;
+
+        PostResponseDto.PostVersion result = selectPostVersion(post)
+                .where(post.id.eq(postId))
+                .fetchOne();
+
+        return Optional.ofNullable(result);
+    }
 
+    @Override
+    public List<PostResponseDto.PostVersion> findVersionsByBoardTypeWithCursor(
+            BoardType boardType,
+            Long cursor,
+            int limit) {
+
+        QPost post = QPost.post;
+
+        return selectPostVersion(post)
                 .where(
                         post.boardType.eq(boardType)
                                 .and(cursor != null ? post.id.lt(cursor) : null)
@@ -176,212 +200,118 @@ public class PostCustomRepositoryImpl implements PostCustomRepository {
                 .fetch();
     }
 
-    @Override
-    public List<PostResponseDto.PostDetails> findByMemberWithCursor(
-            Long authorMemberId,  // 게시글 작성자 ID
-            Long cursor,
-            int limit,
-            Long currentMemberId) {  // 현재 로그인한 사용자 ID
+    private JPAQuery<PostResponseDto.PostVersion> selectPostVersion(QPost post) {
 
-        QPost post = QPost.post;
         QMember member = QMember.member;
-        QPostImage postImage = QPostImage.postImage;
-        QPostLike postLike = QPostLike.postLike;
-        QFollow follow = QFollow.follow;
 
         return queryFactory
-                .select(Projections.constructor(PostResponseDto.PostDetails.class,
+                .select(Projections.constructor(PostResponseDto.PostVersion.class,
                         post.id,
-
-                        // 작성자 정보 (authorMemberId로 고정)
-                        Projections.constructor(MemberResponseDto.UserInfoWithFollowing.class,
-                                post.member.id,
-                                post.member.nickname,
-                                post.member.profileImgUrl,
-                                // 현재 사용자가 작성자를 팔로우하는지
-                                follow.id.isNotNull()
-                        ),
-
-                        post.content,
-                        postImage.imgUrl,
-                        post.youtubeUrl,
-                        post.youtubeSummary,
-                        post.createdAt,
+                        post.member.id,
+                        post.updatedAt,
                         post.likeCount,
                         post.commentCount,
-
-                        // 본인 게시글 여부 (authorMemberId == currentMemberId)
-                        currentMemberId != null ?
-                                post.member.id.eq(currentMemberId) :
-                                Expressions.constant(false),
-
-                        // 현재 사용자의 좋아요 여부
-                        postLike.id.isNotNull()
+                        Expressions.constant(false),
+                        Expressions.constant(false)
                 ))
                 .from(post)
-                .join(post.member, member)
-
-                // 첫 번째 이미지만 LEFT JOIN
-                .leftJoin(postImage).on(
-                        postImage.post.eq(post)
-                                .and(postImage.sortIndex.eq(0))
-                )
+                .join(post.member, member).on(member.deletedAt.isNull());
+    }
 
-                // 현재 사용자의 좋아요만 LEFT JOIN
-                .leftJoin(postLike).on(
-                        postLike.post.eq(post)
-                                .and(currentMemberId != null ? postLike.id.memberId.eq(currentMemberId) : null)
-                )
+    /**
+     * (createdAt, id) 기준점 이후에 작성된 게시글 ID를 오래된 순으로 조회합니다.
+     * 게시판/작성시간 인덱스만 타도록 ID만 조회하며, 상세 정보는 findAllByIdIn으로 별도 조회합니다.
+     */
+    @Override
+    public List<Long> findIdsByBoardTypeSince(
+            BoardType boardType,
+            LocalDateTime sinceCreatedAt,
+            Long sinceId,
+            int limit) {
 
-                // 현재 사용자가 작성자를 팔로우하는지 LEFT JOIN
-                .leftJoin(follow).on(
-                        currentMemberId != null ? follow.followerUser.id.eq(currentMemberId) : null,
-                        follow.followingUser.id.eq(authorMemberId)  // 작성자 ID로 고정
-                )
+        QPost post = QPost.post;
+        QMember member = QMember.member;
 
+        return queryFactory
+                .select(post.id)
+                .from(post)
+                .join(post.member, member).on(member.deletedAt.isNull())
                 .where(
-                        post.member.id.eq(authorMemberId)  // 특정 작성자의 게시글만
-                                .and(cursor != null ? post.id.lt(cursor) : null)
+                        post.boardType.eq(boardType),
+                        post.createdAt.gt(sinceCreatedAt)
+                                .or(post.createdAt.eq(sinceCreatedAt).and(post.id.gt(sinceId)))
                 )
-                .orderBy(post.createdAt.desc(), post.id.desc())
+                .orderBy(post.createdAt.asc(), post.id.asc())
                 .limit(limit)
                 .fetch();
     }
 
-    // 2. 특정 사용자가 좋아요한 게시글 조회 (기존 findLikedPostsByMemberIdWithCursor 대체)
     @Override
-    public List<PostResponseDto.PostDetails> findLikedPostsWithCursor(
-            Long likedByMemberId,  // 좋아요한 사용자 ID
-            Long cursor,
-            int limit,
-            Long currentMemberId) {  // 현재 로그인한 사용자 ID
+    public List<PostResponseDto.PostStats> findStatsByIdIn(List<Long> postIds) {
+
+        if (postIds == null || postIds.isEmpty()) {
+            return List.of();
+        }
 
         QPost post = QPost.post;
-        QMember member = QMember.member;
-        QPostImage postImage = QPostImage.postImage;
-        QPostLike postLike = QPostLike.postLike;
-        QPostLike currentUserLike = new QPostLike("currentUserLike");  // 별칭 사용
-        QFollow follow = QFollow.follow;
 
-        JPAQuery<PostResponseDto.PostDetails> query = queryFactory
-                .select(Projections.constructor(PostResponseDto.PostDetails.class,
+        return queryFactory
+                .select(Projections.constructor(PostResponseDto.PostStats.class,
                         post.id,
-
-                        // 게시글 작성자 정보
-                        Projections.constructor(MemberResponseDto.UserInfoWithFollowing.class,
-                                post.member.id,
-                                post.member.nickname,
-                                post.member.profileImgUrl,
-                                // 현재 사용자가 게시글 작성자를 팔로우하는지
-                                follow.id.isNotNull()
-                        ),
-
-                        post.content,
-                        postImage.imgUrl,
-                        post.youtubeUrl,
-                        post.youtubeSummary,
-                        post.createdAt,
                         post.likeCount,
-                        post.commentCount,
-
-                        // 본인 게시글 여부
-                        currentMemberId != null ?
-                                post.member.id.eq(currentMemberId) :
-                                Expressions.constant(false),
-
-                        // 좋아요 여부 - likedByMemberId가 좋아요한 게시글이므로 조건부 처리
-                        likedByMemberId.equals(currentMemberId) ?
-                                Expressions.constant(true) :  // 자신이 좋아요한 게시글 목록이면 모두 true
-                                (currentMemberId != null && !currentMemberId.equals(likedByMemberId)) ?
-                                        currentUserLike.id.isNotNull() :  // 조인된 경우에만 참조
-                                        Expressions.constant(false)  // 조인되지 않은 경우
+                        post.commentCount
                 ))
                 .from(post)
-                .join(post.member, member)
-
-                // 핵심: likedByMemberId가 좋아요한 게시글만 INNER JOIN
-                .join(postLike).on(
-                        postLike.post.eq(post)
-                                .and(postLike.id.memberId.eq(likedByMemberId))
-                )
+                .where(post.id.in(postIds))
+                .fetch();
+    }
 
-                // 첫 번째 이미지만 LEFT JOIN
-                .leftJoin(postImage).on(
-                        postImage.post.eq(post)
-                                .and(postImage.sortIndex.eq(0))
-                );
+    /**
+     * 특정 작성자들의 최근 게시글 ID를 최신순으로 조회합니다. (팔로잉 피드 백필/정리용)
+     */
+    @Override
+    public List<Long> findRecentIdsByMemberIds(Collection<Long> memberIds, int limit) {
 
-        // 현재 사용자의 좋아요 여부 확인 (likedByMemberId와 다른 경우만)
-        if (currentMemberId != null && !currentMemberId.equals(likedByMemberId)) {
-            query = query.leftJoin(currentUserLike).on(
-                    currentUserLike.post.eq(post).and(currentUserLike.id.memberId.eq(currentMemberId))
-            );
+        if (memberIds == null || memberIds.isEmpty()) {
+            return List.of();
         }
 
-        return query
-                // 현재 사용자가 게시글 작성자를 팔로우하는지
-                .leftJoin(follow).on(
-                        currentMemberId != null ? follow.followerUser.id.eq(currentMemberId) : null,
-                        follow.followingUser.eq(post.member)
-                )
+        QPost post = QPost.post;
 
-                .where(
-                        cursor != null ? post.id.lt(cursor) : null
-                )
-                .orderBy(post.createdAt.desc(), post.id.desc())
+        return queryFactory
+                .select(post.id)
+                .from(post)
+                .where(post.member.id.in(memberIds))
+                .orderBy(post.id.desc())
                 .limit(limit)
                 .fetch();
     }
 
-
     @Override
-    @Modifying
-    public void deletePost(Long postId) {
-
+    public List<PostCount> findPostCounts() {
         QPost post = QPost.post;
-        QComment comment = QComment.comment;
-        QRecomment recomment = QRecomment.recomment;
-        QCommentLike commentLike = QCommentLike.commentLike;
-        QRecommentLike recommentLike = QRecommentLike.recommentLike;
-        QPostLike postLike = QPostLike.postLike;
-        QPostImage postImage = QPostImage.postImage;
 
-        // 1. Comment ID 조회
-        List<Long> commentIds = queryFactory
-                .select(comment.id)
-                .from(comment)
-                .where(comment.post.id.eq(postId).and(comment.deletedAt.isNull()))
+        return queryFactory
+                .select(Projections.constructor(
+                        PostCount.class,
+                        post.member.id,
+                        post.count()
+                ))
+                .from(post)
+                .groupBy(post.member.id)
                 .fetch();
+    }
 
-        // 2. Recomment ID 조회
-        List<Long> recommentIds = Collections.emptyList();
-        if (!commentIds.isEmpty()) {
-            recommentIds = queryFactory
-                    .select(recomment.id)
-                    .from(recomment)
-                    .where(recomment.comment.id.in(commentIds).and(recomment.deletedAt.isNull()))
-                    .fetch();
-        }
-
-        // 3. 순차적 삭제 (의존성 순서)
-        if (!recommentIds.isEmpty()) {
-            queryFactory.delete(recommentLike)
-                    .where(recommentLike.recomment.id.in(recommentIds)).execute();
-            queryFactory.update(recomment)
-                    .set(recomment.deletedAt, LocalDateTime.now())
-                    .where(recomment.id.in(recommentIds).and(recomment.deletedAt.isNull())).execute();
-        }
+    /**
+     * 게시글 행만 soft delete 합니다.
+     * 댓글/대댓글/좋아요/이미지는 DeletionCascadeService가 청크 단위로 정리합니다.
+     */
+    @Override
+    @Modifying
+    public void deletePost(Long postId) {
 
-        if (!commentIds.isEmpty()) {
-            queryFactory.delete(commentLike)
-                    .where(commentLike.comment.id.in(commentIds)).execute();
-            queryFactory.update(comment)
-                    .set(comment.deletedAt, LocalDateTime.now())
-                    .where(comment.id.in(commentIds).and(comment.deletedAt.isNull())).execute();
-        }
+        QPost post = QPost.post;
 
-        queryFactory.delete(postLike).where(postLike.post.id.eq(postId)).execute();
-        queryFactory.delete(postImage).where(postImage.post.id.eq(postId)).execute();
         queryFactory.update(post)
                 .set(post.deletedAt, LocalDateTime.now())
                 .where(post.id.eq(postId).and(post.deletedAt.isNull())).execute();
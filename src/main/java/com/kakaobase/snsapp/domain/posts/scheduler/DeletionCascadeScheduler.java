@@ -0,0 +1,26 @@
+package com.kakaobase.snsapp.domain.posts.scheduler;
+
+import com.kakaobase.snsapp.domain.posts.service.async.DeletionCascadeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 삭제 연쇄 작업 재시도 스케줄러
+ * - 1분마다 실행
+ * - Redis 대기 목록에 남은 작업을 마지막 진행 지점부터 이어서 처리
+ * - 실제 처리 로직은 DeletionCascadeService에 위임
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeletionCascadeScheduler {
+
+    private final DeletionCascadeService deletionCascadeService;
+
+    @Scheduled(fixedRate = 60000) // 1분마다 실행
+    public void retryPendingCascades() {
+        deletionCascadeService.retryPending();
+    }
+}
@@ -0,0 +1,25 @@
+package com.kakaobase.snsapp.domain.posts.scheduler;
+
+import com.kakaobase.snsapp.domain.posts.service.cache.PostTrendingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인기 게시글 Sorted Set 정리 스케줄러
+ * - 10분마다 실행
+ * - 게시판별 상위 게시글만 남기고 나머지를 제거해 메모리 사용량을 제한
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostTrendingTrimScheduler {
+
+    private final PostTrendingService postTrendingService;
+
+    @Scheduled(fixedRate = 600000) // 10분마다 실행
+    public void trimTrendingPosts() {
+        postTrendingService.trimAll();
+    }
+}
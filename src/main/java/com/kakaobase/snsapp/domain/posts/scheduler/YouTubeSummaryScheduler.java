@@ -0,0 +1,30 @@
+package com.kakaobase.snsapp.domain.posts.scheduler;
+
+import com.kakaobase.snsapp.domain.posts.service.async.YouTubeSummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * YouTube 요약 복구 스케줄러
+ * - 1분마다 실행
+ * - 대기열 초과나 노드 종료로 요약 결과를 받지 못한 게시글을 다시 요청
+ * - 실제 처리 로직은 YouTubeSummaryService에 위임
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class YouTubeSummaryScheduler {
+
+    private final YouTubeSummaryService youTubeSummaryService;
+
+    @Scheduled(fixedRate = 60000) // 1분마다 실행
+    public void retryPendingSummaries() {
+        try {
+            youTubeSummaryService.retryPending();
+        } catch (Exception e) {
+            log.error("YouTube 요약 복구 중 오류 발생", e);
+        }
+    }
+}
@@ -5,15 +5,17 @@ import com.kakaobase.snsapp.domain.posts.dto.PostRequestDto;
 import com.kakaobase.snsapp.domain.posts.entity.Post;
 import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
 import com.kakaobase.snsapp.domain.posts.util.BoardType;
+import com.kakaobase.snsapp.global.common.ai.AiRequestPipeline;
 import com.kakaobase.snsapp.global.common.constant.BotConstants;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 import java.time.ZoneOffset;
@@ -28,63 +30,78 @@ import java.util.*;
 @Service
 public class BotPostService {
 
+    private static final String OPERATION = "bot_post";
+
     private final PostService postService;
     private final PostRepository postRepository;
     private final WebClient webClient;
+    private final AiRequestPipeline aiRequestPipeline;
+    private final TransactionTemplate readOnlyTransaction;
 
     @Value("${ai.server.url}")
     private String aiServerUrl;
 
     public BotPostService(@Qualifier("generalWebClient") WebClient webClient,
                           PostRepository postRepository,
-                          PostService postService) {
+                          PostService postService,
+                          AiRequestPipeline aiRequestPipeline,
+                          PlatformTransactionManager transactionManager) {
         this.webClient = webClient;
         this.postRepository = postRepository;
         this.postService = postService;
+        this.aiRequestPipeline = aiRequestPipeline;
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     /**
      * AI 봇 게시글 생성
      *
-     * <p>최근 5개 게시글을 기반으로 AI 서버에 요청하여 봇 게시글을 생성합니다.</p>
+     * <p>최근 5개 게시글을 기반으로 AI 서버에 요청하여 봇 게시글을 생성합니다.
+     * 호출 스레드를 막지 않으며, 게시글 조회와 저장은 각각 짧은 트랜잭션으로 분리되고
+     * AI 서버 호출은 트랜잭션 밖에서 이루어집니다.</p>
      *
      * @param boardType 게시판 타입
      */
-    @Transactional
     public void createBotPost(BoardType boardType) {
-        try {
-            log.info("봇 게시글 생성 시작 - boardType: {}", boardType);
-
-            // 1. 최근 게시글 조회 (봇 게시글 필터링을 위해 여유있게 10개 조회)
-            List<Post> recentPosts = postRepository.findTop10ByBoardTypeOrderByCreatedAtDescIdDesc(boardType);
-            log.info("조회된 최근 게시글 수: {}", recentPosts.size());
-
-            // 2. 봇이 작성하지 않은 게시글만 필터링하여 5개 선택
-            List<Post> filteredPosts = filterNonBotPosts(recentPosts);
-
-            if (filteredPosts.size() < 5) {
-                log.warn("게시글이 5개 미만입니다. 봇 게시글 생성을 건너뜁니다. - count: {}", filteredPosts.size());
-                return;
-            }
-
-            // 3. 오래된 순으로 정렬
-            Collections.reverse(filteredPosts);
-            logFilteredPosts(filteredPosts);
+        log.info("봇 게시글 생성 요청 - boardType: {}", boardType);
+
+        aiRequestPipeline.submit(
+                OPERATION,
+                () -> readOnlyTransaction.execute(status -> prepareBotRequest(boardType)),
+                this::callAiServer,
+                (request, aiResponse) -> {
+                    saveBotPost(aiResponse);
+                    log.info("봇 게시글 생성 완료 - boardType: {}", boardType);
+                }
+        );
+    }
 
-            // 4. AI 서버 요청 DTO 생성
-            BotRequestDto.CreatePostRequest request = createBotRequest(boardType, filteredPosts);
+    /**
+     * 최근 게시글로 AI 서버 요청 DTO를 만듭니다.
+     *
+     * @return 요청 DTO, 일반 게시글이 5개 미만이면 null
+     */
+    private BotRequestDto.CreatePostRequest prepareBotRequest(BoardType boardType) {
+        // 1. 최근 게시글 조회 (봇 게시글 필터링을 위해 여유있게 10개 조회)
+        List<Post> recentPosts = postRepository.findTop10ByBoardTypeOrderByCreatedAtDescIdDesc(boardType);
+        log.info("조회된 최근 게시글 수: {}", recentPosts.size());
 
-            // 5. AI 서버 호출
-            BotRequestDto.AiPostResponse aiResponse = callAiServer(request);
+        // 2. 봇이 작성하지 않은 게시글만 필터링하여 5개 선택
+        List<Post> filteredPosts = filterNonBotPosts(recentPosts);
 
-            // 6. 봇 게시글 저장
-            saveBotPost(aiResponse);
+        if (filteredPosts.size() < 5) {
+            log.warn("게시글이 5개 미만입니다. 봇 게시글 생성을 건너뜁니다. - count: {}", filteredPosts.size());
+            return null;
+        }
 
-            log.info("봇 게시글 생성 완료 - boardType: {}", boardType);
+        // 3. 오래된 순으로 정렬
+        Collections.reverse(filteredPosts);
+        logFilteredPosts(filteredPosts);
 
-        } catch (Exception e) {
-            log.error("봇 게시글 생성 실패 - boardType: {}", boardType, e);
-        }
+        // 4. AI 서버 요청 DTO 생성 (지연 로딩 필드는 트랜잭션 안에서 모두 읽어둠)
+        return createBotRequest(boardType, filteredPosts);
     }
 
     /**
@@ -176,20 +193,16 @@ public class BotPostService {
      * AI 서버 호출
      *
      * @param request AI 서버 요청 DTO
-     * @return AI 서버 응답 DTO
+     * @return AI 서버 응답
      */
-    private BotRequestDto.AiPostResponse callAiServer(BotRequestDto.CreatePostRequest request) {
-        try {
-            return webClient.post()
-                    .uri(aiServerUrl + "/posts/bot")
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(BotRequestDto.AiPostResponse.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("AI 서버 요청 실패 - Status: {}, Body: {}", e.getStatusCode(), e.getResponseBodyAsString());
-            throw new RuntimeException("AI 서버 통신 오류", e);
-        }
+    private Mono<BotRequestDto.AiPostResponse> callAiServer(BotRequestDto.CreatePostRequest request) {
+        return webClient.post()
+                .uri(aiServerUrl + "/posts/bot")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(BotRequestDto.AiPostResponse.class)
+                .doOnError(WebClientResponseException.class, e ->
+                        log.error("AI 서버 요청 실패 - Status: {}, Body: {}", e.getStatusCode(), e.getResponseBodyAsString()));
     }
 
     /**
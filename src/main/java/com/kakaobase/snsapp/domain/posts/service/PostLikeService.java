@@ -3,6 +3,7 @@ package com.kakaobase.snsapp.domain.posts.service;
 import com.kakaobase.snsapp.domain.members.converter.MemberConverter;
 import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
 import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.members.service.cache.MemberSummaryCacheService;
 import com.kakaobase.snsapp.domain.notification.service.NotificationService;
 import com.kakaobase.snsapp.domain.posts.entity.Post;
 import com.kakaobase.snsapp.domain.posts.entity.PostLike;
@@ -11,6 +12,7 @@ import com.kakaobase.snsapp.domain.posts.exception.PostException;
 import com.kakaobase.snsapp.domain.posts.repository.PostLikeRepository;
 import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
 import com.kakaobase.snsapp.domain.posts.service.cache.PostCacheService;
+import com.kakaobase.snsapp.domain.posts.service.cache.PostTrendingService;
 import com.kakaobase.snsapp.global.common.redis.error.CacheException;
 import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
 import jakarta.persistence.EntityManager;
@@ -34,8 +36,10 @@ public class PostLikeService {
     private final PostRepository postRepository;
     private final EntityManager em;
     private final PostCacheService postCacheService;
+    private final PostTrendingService postTrendingService;
     private final NotificationService notifService;
     private final MemberConverter memberConverter;
+    private final MemberSummaryCacheService memberSummaryCacheService;
 
     /**
      * 게시글에 좋아요를 추가합니다.
@@ -69,6 +73,7 @@ public class PostLikeService {
         // 좋아요 엔티티 생성 및 저장
         PostLike postLike = new PostLike(proxyMember, proxyPost);
         postLikeRepository.save(postLike);
+        postTrendingService.recordLike(postId);
         log.info("게시글 좋아요 추가 완료: 게시글 ID={}, 회원 ID={}", postId, memberId);
 
         if(!proxyPost.getMember().getId().equals(memberId)) {
@@ -117,6 +122,7 @@ public class PostLikeService {
             throw new PostException(GeneralErrorCode.RESOURCE_NOT_FOUND);
         }
 
-        return postLikeRepository.findMembersByPostIdWithCursor(postId, cursor, limit);
+        List<Long> memberIds = postLikeRepository.findMemberIdsByPostIdWithCursor(postId, cursor, limit);
+        return memberSummaryCacheService.findAllInOrder(memberIds);
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.kakaobase.snsapp.domain.posts.service;
 import com.kakaobase.snsapp.domain.comments.exception.CommentException;
 import com.kakaobase.snsapp.domain.members.entity.Member;
 import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
+import com.kakaobase.snsapp.domain.members.service.cache.MemberStatsCacheService;
 import com.kakaobase.snsapp.domain.posts.converter.PostConverter;
 import com.kakaobase.snsapp.domain.posts.dto.PostRequestDto;
 import com.kakaobase.snsapp.domain.posts.dto.PostResponseDto;
@@ -13,9 +14,16 @@ import com.kakaobase.snsapp.domain.posts.exception.PostErrorCode;
 import com.kakaobase.snsapp.domain.posts.exception.PostException;
 import com.kakaobase.snsapp.domain.posts.repository.PostImageRepository;
 import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
+import com.kakaobase.snsapp.domain.posts.service.async.DeletionCascadeService;
 import com.kakaobase.snsapp.domain.posts.service.async.YouTubeSummaryService;
+import com.kakaobase.snsapp.domain.posts.service.cache.FollowingFeedService;
 import com.kakaobase.snsapp.domain.posts.service.cache.PostCacheService;
+import com.kakaobase.snsapp.domain.posts.service.cache.PostTrendingService;
+import com.kakaobase.snsapp.domain.posts.util.PostTrendingCacheUtil.TrendingEntry;
 import com.kakaobase.snsapp.domain.posts.util.BoardType;
+import com.kakaobase.snsapp.domain.posts.util.DeletionCascadeType;
+import com.kakaobase.snsapp.domain.search.event.SearchIndexEvent;
+import com.kakaobase.snsapp.domain.search.util.SearchDocumentType;
 import com.kakaobase.snsapp.global.common.redis.CacheRecord;
 import com.kakaobase.snsapp.global.common.redis.error.CacheException;
 import com.kakaobase.snsapp.global.common.s3.service.S3Service;
@@ -28,9 +36,19 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
 import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 게시글 관련 비즈니스 로직을 처리하는 서비스
@@ -49,6 +67,13 @@ public class PostService {
     private final PostConverter postConverter;
     private final MemberRepository memberRepository;
     private final PostCacheService postCacheService;
+    private final DeletionCascadeService deletionCascadeService;
+    private final PostTrendingService postTrendingService;
+    private final FollowingFeedService followingFeedService;
+    private final MemberStatsCacheService memberStatsCacheService;
+
+    private static final int MAX_DELTA_SIZE = 100;
+    private static final int MAX_DELTA_KNOWN_IDS = 100;
 
     /**
      * 게시글을 생성합니다.
@@ -82,6 +107,14 @@ public class PostService {
         // 게시글 저장
         postRepository.save(post);
 
+        // 작성자 게시글 수 증가 (캐시 실패 시 DB 직접 반영)
+        try {
+            memberStatsCacheService.incrementPostCount(memberId);
+        } catch (CacheException e) {
+            log.error(e.getMessage());
+            proxyMember.incrementPostCount();
+        }
+
         if (StringUtils.hasText(requestDto.image_url())) {
             PostImage postImage = postConverter.toPostImage(post, 0, requestDto.image_url());
             postImageRepository.save(postImage);
@@ -94,11 +127,13 @@ public class PostService {
                 @Override
                 public void afterCommit() {
                     log.info(" 트랜잭션 커밋 완료 후 유튜브 요약 시작: postId={}", postId);
-                    youtubeSummaryService.processYoutubeSummary(postId);
+                    youtubeSummaryService.processYoutubeSummary(postId, youtubeUrl);
                 }
             });
         }
 
+        postTrendingService.registerPost(post.getId(), boardType);
+
         // 게시글 생성 이벤트 발행
         applicationEventPublisher.publishEvent(new PostCreatedEvent(post.getId(), boardType, memberId));
 
@@ -107,40 +142,154 @@ public class PostService {
 
     /**
      * 게시글 상세 정보를 조회합니다.
+     * ETag 계산에 사용한 버전의 작성자 요약, 조회자 기준 값, 통계를 그대로 반영하여 다시 조회하지 않습니다.
      */
     @Transactional(readOnly = true)
-    public PostResponseDto.PostDetails getPostDetail(Long postId, Long memberId) {
+    public PostResponseDto.PostDetails getPostDetail(Long postId, Long memberId, PostResponseDto.PostVersions versions) {
+
+        PostResponseDto.PostDetails postDetails = postRepository.findPostDetailById(postId)
+                .orElseThrow(() -> new PostException(GeneralErrorCode.RESOURCE_NOT_FOUND, "postId"));
 
-        PostResponseDto.PostDetails postDetails = postRepository.findPostDetailById(postId, memberId)
+        return applyVersions(List.of(postDetails), versions, memberId).stream()
+                .findFirst()
                 .orElseThrow(() -> new PostException(GeneralErrorCode.RESOURCE_NOT_FOUND, "postId"));
+    }
+
+    /**
+     * 게시글 상세 조회용 강한 ETag와 그 버전을 계산합니다.
+     * 게시글 수정 시각 + 캐시 통계 + 작성자 요약 + 현재 사용자의 좋아요/팔로우 여부로 생성되며, 상세 조회 쿼리는 실행하지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public PostResponseDto.PostVersions getPostDetailVersion(Long postId, Long memberId) {
 
-        try{
+        PostResponseDto.PostVersion version = postRepository.findPostVersionById(postId)
+                .orElseThrow(() -> new PostException(GeneralErrorCode.RESOURCE_NOT_FOUND, "postId"));
+        PostResponseDto.PostVersions versions = postConverter.applyViewerContextToVersions(List.of(version), memberId);
+
+        Map<Long, CacheRecord.PostStatsCache> statsCache = Map.of();
+        try {
             CacheRecord.PostStatsCache cache = postCacheService.findBy(postId);
-            return postConverter.updateSinglePostStats(postDetails, cache);
-        } catch (CacheException e){
-            return postDetails;
+            if (cache != null) {
+                statsCache = Map.of(postId, cache);
+            }
+        } catch (CacheException e) {
+            log.debug("ETag 계산 중 캐시 조회 실패, DB 통계 사용: postId={}", postId);
         }
+
+        return applyStats(versions, statsCache, memberId, false);
+    }
+
+    /**
+     * 게시글 목록 페이지용 약한 ETag와 그 버전을 계산합니다.
+     * 페이지에 포함된 게시글 ID와 통계 버전만으로 생성되어 본문 조립 없이 304 응답 여부를 판단할 수 있습니다.
+     */
+    @Transactional(readOnly = true)
+    public PostResponseDto.PostVersions getPostListVersion(String postType, int limit, Long cursor, Long currentMemberId) {
+        if (limit < 1) {
+            throw new PostException(GeneralErrorCode.INVALID_QUERY_PARAMETER, "limit", "limit는 1 이상이어야 합니다.");
+        }
+
+        BoardType boardType = postConverter.toBoardType(postType.toUpperCase());
+
+        PostResponseDto.PostVersions versions = postConverter.applyViewerContextToVersions(
+                postRepository.findVersionsByBoardTypeWithCursor(boardType, cursor, limit), currentMemberId);
+
+        Map<Long, CacheRecord.PostStatsCache> statsCache = Map.of();
+        if (!versions.versions().isEmpty()) {
+            try {
+                statsCache = postCacheService.findAllById(List.copyOf(versions.versions().keySet()));
+            } catch (CacheException e) {
+                log.debug("ETag 계산 중 캐시 조회 실패, DB 통계 사용");
+            }
+        }
+
+        return applyStats(versions, statsCache, currentMemberId, true);
+    }
+
+    /**
+     * 버전에 캐시 통계를 반영하고 ETag를 계산합니다.
+     *
+     * @param weak 목록처럼 본문 바이트까지 보장하지 않는 경우 약한 ETag
+     */
+    private PostResponseDto.PostVersions applyStats(PostResponseDto.PostVersions versions,
+                                                    Map<Long, CacheRecord.PostStatsCache> statsCache,
+                                                    Long currentMemberId, boolean weak) {
+
+        Map<Long, PostResponseDto.PostVersion> resolved = new LinkedHashMap<>();
+        StringBuilder source = new StringBuilder().append(currentMemberId);
+        for (PostResponseDto.PostVersion version : versions.versions().values()) {
+            CacheRecord.PostStatsCache cache = statsCache.get(version.id());
+            if (cache != null) {
+                version = version.withStats(cache.likeCount(), cache.commentCount());
+            }
+            resolved.put(version.id(), version);
+            source.append('|').append(version.toVersionString(versions.authors().get(version.memberId())));
+        }
+
+        String hash = hashVersion(source.toString());
+        String eTag = weak ? "W/\"" + hash + "\"" : "\"" + hash + "\"";
+        return new PostResponseDto.PostVersions(eTag, resolved, versions.authors());
+    }
+
+    /**
+     * 버전에 포함된 게시글은 버전 값을 그대로 반영하고,
+     * 버전 조회 이후 새로 보이게 된 게시글만 작성자 요약, 조회자 기준 값, 캐시 통계를 다시 조회합니다.
+     */
+    private List<PostResponseDto.PostDetails> applyVersions(List<PostResponseDto.PostDetails> postDetails,
+                                                            PostResponseDto.PostVersions versions,
+                                                            Long currentMemberId) {
+
+        List<PostResponseDto.PostDetails> uncovered = postDetails.stream()
+                .filter(postDetail -> !versions.covers(postDetail.id()))
+                .toList();
+        Map<Long, PostResponseDto.PostDetails> resolved = uncovered.isEmpty()
+                ? Map.of()
+                : postConverter.updateWithCachedStats(postConverter.applyViewerContext(uncovered, currentMemberId)).stream()
+                        .collect(Collectors.toMap(PostResponseDto.PostDetails::id, Function.identity()));
+
+        return postDetails.stream()
+                .map(postDetail -> versions.covers(postDetail.id())
+                        ? versions.apply(postDetail, currentMemberId)
+                        : resolved.get(postDetail.id()))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private String hashVersion(String source) {
+        return DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8));
     }
 
     /**
      * 게시글을 삭제합니다.
+     * 게시글은 즉시 soft delete 되고, 댓글/좋아요/이미지 정리는 커밋 이후 백그라운드에서 진행됩니다.
      */
     @Transactional
     public void deletePost(Long postId) {
 
-        if(!postRepository.existsById(postId)) {
-            throw new PostException(GeneralErrorCode.RESOURCE_NOT_FOUND);
+        Long authorId = postRepository.findMemberIdById(postId)
+                .orElseThrow(() -> new PostException(GeneralErrorCode.RESOURCE_NOT_FOUND));
+
+        try {
+            memberStatsCacheService.decrementPostCount(authorId);
+        } catch (CacheException e) {
+            log.error(e.getMessage());
+            em.getReference(Member.class, authorId).decrementPostCount();
         }
 
         postCacheService.delete(postId);
+        postTrendingService.remove(postId);
         postRepository.deletePost(postId);
+        deletionCascadeService.enqueue(DeletionCascadeType.POST, postId);
+        applicationEventPublisher.publishEvent(SearchIndexEvent.delete(SearchDocumentType.POST, postId));
     }
 
     /**
      * 게시글 목록을 조회합니다.
+     * ETag 계산에 사용한 버전의 작성자 요약, 조회자 기준 값, 통계를 그대로 반영하여 다시 조회하지 않습니다.
      */
     @Transactional(readOnly = true)
-    public List<PostResponseDto.PostDetails> getPostList(String postType, int limit, Long cursor, Long currentMemberId) {
+    public List<PostResponseDto.PostDetails> getPostList(String postType, int limit, Long cursor, Long currentMemberId,
+                                                         PostResponseDto.PostVersions versions) {
         // 1. 유효성 검증
         if (limit < 1) {
             throw new PostException(GeneralErrorCode.INVALID_QUERY_PARAMETER, "limit", "limit는 1 이상이어야 합니다.");
@@ -149,10 +298,160 @@ public class PostService {
         BoardType boardType = postConverter.toBoardType(postType.toUpperCase());
 
         // 2. 게시글 조회
-        List<PostResponseDto.PostDetails> postDetails = postRepository.findByBoardTypeWithCursor(boardType, cursor, limit, currentMemberId);
+        List<PostResponseDto.PostDetails> postDetails = postRepository.findByBoardTypeWithCursor(boardType, cursor, limit);
+
+        // 3. 버전의 작성자 요약, 조회자 기준 값, 통계 반영
+        return applyVersions(postDetails, versions, currentMemberId);
+    }
+
+    /**
+     * 당겨서 새로고침용 증분 조회
+     * (sinceCreatedAt, sinceId) 이후의 새 게시글과, 클라이언트가 보유한 게시글의 최신 통계/삭제 여부만 반환합니다.
+     */
+    @Transactional(readOnly = true)
+    public PostResponseDto.PostDelta getPostDelta(String postType, LocalDateTime sinceCreatedAt, Long sinceId,
+                                                  int limit, List<Long> knownIds, Long currentMemberId) {
+        if (limit < 1) {
+            throw new PostException(GeneralErrorCode.INVALID_QUERY_PARAMETER, "limit", "limit는 1 이상이어야 합니다.");
+        }
+        if (knownIds != null && knownIds.size() > MAX_DELTA_KNOWN_IDS) {
+            throw new PostException(GeneralErrorCode.INVALID_QUERY_PARAMETER, "known_ids",
+                    "known_ids는 최대 " + MAX_DELTA_KNOWN_IDS + "개까지 요청할 수 있습니다.");
+        }
+
+        BoardType boardType = postConverter.toBoardType(postType.toUpperCase());
+        int cap = Math.min(limit, MAX_DELTA_SIZE);
+
+        // 1. 기준점 이후 새 게시글 ID (오래된 순, hasNext 판단을 위해 +1)
+        List<Long> newIds = postRepository.findIdsByBoardTypeSince(boardType, sinceCreatedAt, sinceId, cap + 1);
+        boolean hasMore = newIds.size() > cap;
+        if (hasMore) {
+            newIds = newIds.subList(0, cap);
+        }
+
+        // 2. 새 게시글 상세 조회 후 최신순 정렬
+        Map<Long, PostResponseDto.PostDetails> detailsById = postRepository.findAllByIdIn(newIds).stream()
+                .collect(Collectors.toMap(PostResponseDto.PostDetails::id, Function.identity(), (a, b) -> a));
+
+        List<PostResponseDto.PostDetails> newPosts = new ArrayList<>();
+        for (int i = newIds.size() - 1; i >= 0; i--) {
+            PostResponseDto.PostDetails details = detailsById.get(newIds.get(i));
+            if (details != null) {
+                newPosts.add(details);
+            }
+        }
+        newPosts = postConverter.updateWithCachedStats(postConverter.applyViewerContext(newPosts, currentMemberId));
+
+        // 3. 다음 기준점 (가장 최근에 받은 게시글)
+        LocalDateTime nextCreatedAt = sinceCreatedAt;
+        Long nextId = sinceId;
+        if (!newPosts.isEmpty()) {
+            nextCreatedAt = newPosts.get(0).createdAt();
+            nextId = newPosts.get(0).id();
+        }
+
+        // 4. 보유 게시글 통계 변경분
+        List<PostResponseDto.PostStats> stats = List.of();
+        List<Long> deletedIds = List.of();
+        if (knownIds != null && !knownIds.isEmpty()) {
+            stats = postConverter.updateStatsWithCache(postRepository.findStatsByIdIn(knownIds));
+
+            Set<Long> existingIds = stats.stream()
+                    .map(PostResponseDto.PostStats::id)
+                    .collect(Collectors.toSet());
+            deletedIds = knownIds.stream()
+                    .filter(id -> !existingIds.contains(id))
+                    .distinct()
+                    .toList();
+        }
+
+        return PostResponseDto.PostDelta.builder()
+                .newPosts(newPosts)
+                .stats(stats)
+                .deletedIds(deletedIds)
+                .hasMore(hasMore)
+                .sinceCreatedAt(nextCreatedAt)
+                .sinceId(nextId)
+                .build();
+    }
+
+    /**
+     * 게시판별 인기 게시글 목록을 조회합니다.
+     * 인기 순위는 Redis에서 (점수, 게시글 ID) 커서로 가져오고, 게시글 정보는 일반 목록과 동일하게 조회 후 캐시 통계를 적용합니다.
+     */
+    @Transactional(readOnly = true)
+    public PostResponseDto.TrendingPosts getTrendingPostList(String postType, int limit, Double cursorScore, Long cursor, Long currentMemberId) {
+        if (limit < 1) {
+            throw new PostException(GeneralErrorCode.INVALID_QUERY_PARAMETER, "limit", "limit는 1 이상이어야 합니다.");
+        }
+        if ((cursorScore == null) != (cursor == null)) {
+            throw new PostException(GeneralErrorCode.INVALID_QUERY_PARAMETER, "cursor", "cursor와 cursor_score는 함께 전달해야 합니다.");
+        }
+
+        BoardType boardType = postConverter.toBoardType(postType.toUpperCase());
+
+        // 1. 인기 순위 조회 (hasMore 판단을 위해 +1)
+        List<TrendingEntry> entries = postTrendingService.getTrendingPosts(boardType, cursorScore, cursor, limit + 1);
+        boolean hasMore = entries.size() > limit;
+        if (hasMore) {
+            entries = entries.subList(0, limit);
+        }
+        if (entries.isEmpty()) {
+            return PostResponseDto.TrendingPosts.builder()
+                    .posts(List.of())
+                    .hasMore(false)
+                    .build();
+        }
+
+        // 다음 커서는 삭제 여부와 관계없이 순위상 마지막 게시글 기준
+        TrendingEntry last = entries.get(entries.size() - 1);
+        List<Long> postIds = entries.stream().map(TrendingEntry::postId).toList();
+
+        // 2. 게시글 조회 후 순위 순서대로 정렬 (삭제된 게시글은 제외됨)
+        Map<Long, PostResponseDto.PostDetails> detailsById = postRepository.findAllByIdIn(postIds).stream()
+                .collect(Collectors.toMap(PostResponseDto.PostDetails::id, Function.identity(), (a, b) -> a));
+
+        List<PostResponseDto.PostDetails> postDetails = postIds.stream()
+                .map(detailsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        // 3. 조회자 기준 값과 캐싱데이터로 최신화후 반환
+        return PostResponseDto.TrendingPosts.builder()
+                .posts(postConverter.updateWithCachedStats(postConverter.applyViewerContext(postDetails, currentMemberId)))
+                .hasMore(hasMore)
+                .nextCursor(last.postId())
+                .nextCursorScore(last.score())
+                .build();
+    }
+
+    /**
+     * 팔로잉 피드를 조회합니다.
+     * 팔로우 중인 사용자의 게시글을 최신순으로 반환하며, 커서는 마지막으로 조회한 게시글 ID입니다.
+     */
+    @Transactional(readOnly = true)
+    public List<PostResponseDto.PostDetails> getFollowingPostList(int limit, Long cursor, Long currentMemberId) {
+        if (limit < 1) {
+            throw new PostException(GeneralErrorCode.INVALID_QUERY_PARAMETER, "limit", "limit는 1 이상이어야 합니다.");
+        }
+
+        // 1. 피드 게시글 ID 조회 (inbox + 읽기 병합 대상 작성자 outbox)
+        List<Long> postIds = followingFeedService.getFeedPostIds(currentMemberId, cursor, limit);
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 2. 게시글 조회 후 피드 순서대로 정렬 (삭제된 게시글은 제외됨)
+        Map<Long, PostResponseDto.PostDetails> detailsById = postRepository.findAllByIdIn(postIds).stream()
+                .collect(Collectors.toMap(PostResponseDto.PostDetails::id, Function.identity(), (a, b) -> a));
+
+        List<PostResponseDto.PostDetails> postDetails = postIds.stream()
+                .map(detailsById::get)
+                .filter(Objects::nonNull)
+                .toList();
 
-        // 3. PostListItem으로 변환
-        return postConverter.updateWithCachedStats(postDetails);
+        // 3. 조회자 기준 값과 캐싱데이터로 최신화후 반환
+        return postConverter.updateWithCachedStats(postConverter.applyViewerContext(postDetails, currentMemberId));
     }
 
     /**
@@ -166,10 +465,10 @@ public class PostService {
         }
 
         // 2. 게시글 조회
-        List<PostResponseDto.PostDetails> postDetails = postRepository.findByMemberWithCursor(memberId, cursor, limit, currentMemberId);
+        List<PostResponseDto.PostDetails> postDetails = postRepository.findByMemberWithCursor(memberId, cursor, limit);
 
-        // 3. PostListItem으로 변환
-        return postConverter.updateWithCachedStats(postDetails);
+        // 3. 조회자 기준 값과 캐시된 통계 반영
+        return postConverter.updateWithCachedStats(postConverter.applyViewerContext(postDetails, currentMemberId));
 
     }
 
@@ -188,9 +487,9 @@ public class PostService {
         }
 
         // 3. 게시글 조회
-        List<PostResponseDto.PostDetails> postDetails = postRepository.findLikedPostsWithCursor(memberId, cursor, limit, currentMemberId);
+        List<PostResponseDto.PostDetails> postDetails = postRepository.findLikedPostsWithCursor(memberId, cursor, limit);
 
-        // 4. 캐싱데이터로 최신화후 반환
-        return postConverter.updateWithCachedStats(postDetails);
+        // 4. 조회자 기준 값과 캐싱데이터로 최신화후 반환
+        return postConverter.updateWithCachedStats(postConverter.applyViewerContext(postDetails, currentMemberId));
     }
 }
\ No newline at end of file
@@ -0,0 +1,207 @@
+package com.kakaobase.snsapp.domain.posts.service.async;
+
+import com.kakaobase.snsapp.domain.members.service.async.MemberTeardownService;
+import com.kakaobase.snsapp.domain.posts.event.DeletionCascadeEvent;
+import com.kakaobase.snsapp.domain.posts.repository.DeletionCascadeRepository;
+import com.kakaobase.snsapp.domain.posts.util.DeletionCascadeCacheUtil;
+import com.kakaobase.snsapp.domain.posts.util.DeletionCascadeType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StopWatch;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 게시글/댓글/회원 삭제 연쇄 작업 서비스
+ *
+ * <p>API 요청에서는 대상 행만 soft delete 하고 이 서비스에 작업을 등록합니다.
+ * 하위 테이블(대댓글, 댓글, 좋아요, 이미지 / 회원의 경우 팔로우, 좋아요, 알림, 토큰, 채팅)은 id 구간 단위 청크로 나누어
+ * 청크마다 짧은 트랜잭션으로 정리하며, 진행 상황은 Redis에 기록되어 실패 시 이어서 재시도합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeletionCascadeService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_ATTEMPTS = 5;
+    private static final String LOCK_PREFIX = "lock:deletion:cascade:";
+
+    private final DeletionCascadeRepository deletionCascadeRepository;
+    private final MemberTeardownService memberTeardownService;
+    private final DeletionCascadeCacheUtil deletionCascadeCacheUtil;
+    private final TransactionTemplate transactionTemplate;
+    private final RedissonClient redissonClient;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * 삭제 연쇄 작업을 등록합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 대기 목록에 추가되고 처리가 시작됩니다.
+     */
+    public void enqueue(DeletionCascadeType type, Long targetId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(type, targetId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(type, targetId);
+            }
+        });
+    }
+
+    private void dispatch(DeletionCascadeType type, Long targetId) {
+        try {
+            deletionCascadeCacheUtil.addPending(type.toTaskKey(targetId));
+        } catch (Exception e) {
+            log.error("삭제 연쇄 작업 대기 목록 등록 실패 - type: {}, targetId: {}", type, targetId, e);
+        }
+        applicationEventPublisher.publishEvent(new DeletionCascadeEvent(type, targetId));
+    }
+
+    /**
+     * 대기 목록에 남아있는 작업을 다시 처리합니다. (스케줄러에서 호출)
+     */
+    public void retryPending() {
+        Set<String> tasks = deletionCascadeCacheUtil.getPendingTasks();
+        if (tasks.isEmpty()) {
+            log.debug("재시도할 삭제 연쇄 작업 없음");
+            return;
+        }
+
+        log.info("삭제 연쇄 작업 재시도 대상: {} 개", tasks.size());
+        for (String taskKey : tasks) {
+            try {
+                String[] parts = taskKey.split(":");
+                process(DeletionCascadeType.valueOf(parts[0]), Long.valueOf(parts[1]));
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+                log.warn("잘못된 삭제 연쇄 작업 키 제거: {}", taskKey);
+                deletionCascadeCacheUtil.complete(taskKey);
+            }
+        }
+    }
+
+    /**
+     * 단일 삭제 연쇄 작업을 처리합니다.
+     * 같은 작업은 분산 락으로 한 노드에서만 처리되며, 이미 처리 중이면 건너뜁니다.
+     */
+    public void process(DeletionCascadeType type, Long targetId) {
+        String taskKey = type.toTaskKey(targetId);
+        RLock lock = redissonClient.getLock(LOCK_PREFIX + taskKey);
+        boolean acquired = false;
+
+        StopWatch stopWatch = new StopWatch();
+        stopWatch.start();
+
+        try {
+            acquired = lock.tryLock();
+            if (!acquired) {
+                log.debug("다른 작업자가 처리 중인 삭제 연쇄 작업: {}", taskKey);
+                return;
+            }
+
+            runStages(type, targetId, taskKey);
+            deletionCascadeCacheUtil.complete(taskKey);
+
+            stopWatch.stop();
+            log.info("삭제 연쇄 작업 완료 - {} ({}ms)", taskKey, stopWatch.getTotalTimeMillis());
+
+        } catch (Exception e) {
+            long attempts = deletionCascadeCacheUtil.increaseAttempts(taskKey);
+            if (attempts >= MAX_ATTEMPTS) {
+                deletionCascadeCacheUtil.markFailed(taskKey);
+                log.error("삭제 연쇄 작업 재시도 횟수 초과 - {} (시도: {}회)", taskKey, attempts, e);
+            } else {
+                log.warn("삭제 연쇄 작업 실패, 다음 스케줄에서 재시도 - {} (시도: {}회)", taskKey, attempts, e);
+            }
+        } finally {
+            if (acquired && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void runStages(DeletionCascadeType type, Long targetId, String taskKey) {
+        DeletionCascadeCacheUtil.Progress progress = deletionCascadeCacheUtil.loadProgress(taskKey);
+        List<DeletionCascadeType.Stage> stages = type.getStages();
+
+        for (int i = progress.stageIndex(); i < stages.size(); i++) {
+            DeletionCascadeType.Stage stage = stages.get(i);
+            Long cursor = (i == progress.stageIndex()) ? progress.cursor() : 0L;
+
+            while (cursor != null) {
+                final Long current = cursor;
+                cursor = transactionTemplate.execute(status -> runChunk(type, stage, targetId, current));
+
+                if (cursor != null) {
+                    deletionCascadeCacheUtil.saveProgress(taskKey, i, cursor);
+                } else {
+                    deletionCascadeCacheUtil.saveProgress(taskKey, i + 1, 0L);
+                }
+            }
+            log.debug("삭제 연쇄 단계 완료 - {} / {}", taskKey, stage);
+        }
+    }
+
+    /**
+     * 청크 하나를 정리합니다.
+     *
+     * @return 다음 청크의 시작 커서, 단계가 끝났으면 null
+     */
+    private Long runChunk(DeletionCascadeType type, DeletionCascadeType.Stage stage, Long targetId, Long cursor) {
+        List<Long> ids = switch (stage) {
+            case RECOMMENTS -> {
+                List<Long> recommentIds = (type == DeletionCascadeType.POST)
+                        ? deletionCascadeRepository.findRecommentIdsByPostId(targetId, cursor, CHUNK_SIZE)
+                        : deletionCascadeRepository.findRecommentIdsByCommentId(targetId, cursor, CHUNK_SIZE);
+                if (!recommentIds.isEmpty()) {
+                    deletionCascadeRepository.deleteRecommentsWithLikes(recommentIds);
+                }
+                yield recommentIds;
+            }
+            case COMMENTS -> {
+                List<Long> commentIds = deletionCascadeRepository.findCommentIdsByPostId(targetId, cursor, CHUNK_SIZE);
+                if (!commentIds.isEmpty()) {
+                    deletionCascadeRepository.deleteCommentsWithLikes(commentIds);
+                }
+                yield commentIds;
+            }
+            case COMMENT_LIKES -> {
+                List<Long> memberIds = deletionCascadeRepository.findCommentLikeMemberIds(targetId, cursor, CHUNK_SIZE);
+                if (!memberIds.isEmpty()) {
+                    deletionCascadeRepository.deleteCommentLikes(targetId, memberIds);
+                }
+                yield memberIds;
+            }
+            case POST_LIKES -> {
+                List<Long> memberIds = deletionCascadeRepository.findPostLikeMemberIds(targetId, cursor, CHUNK_SIZE);
+                if (!memberIds.isEmpty()) {
+                    deletionCascadeRepository.deletePostLikes(targetId, memberIds);
+                }
+                yield memberIds;
+            }
+            case POST_IMAGES -> {
+                deletionCascadeRepository.deletePostImages(targetId);
+                yield List.of();
+            }
+            case FOLLOWINGS, FOLLOWERS, MEMBER_POST_LIKES, MEMBER_COMMENT_LIKES, MEMBER_RECOMMENT_LIKES,
+                 RECEIVED_NOTIFICATIONS, SENT_NOTIFICATIONS, AUTH_TOKENS, CHAT_MESSAGES, CHAT_ROOM ->
+                    memberTeardownService.runChunk(stage, targetId, cursor, CHUNK_SIZE);
+        };
+
+        if (ids.size() < CHUNK_SIZE) {
+            return null;
+        }
+        return ids.get(ids.size() - 1);
+    }
+}
@@ -1,102 +1,283 @@
 package com.kakaobase.snsapp.domain.posts.service.async;
 
 import com.kakaobase.snsapp.domain.posts.dto.PostRequestDto;
-import com.kakaobase.snsapp.domain.posts.entity.Post;
-import com.kakaobase.snsapp.domain.posts.exception.PostException;
 import com.kakaobase.snsapp.domain.posts.exception.YoutubeSummaryStatus;
 import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
-import com.kakaobase.snsapp.global.error.exception.AiServerException;
-import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
+import com.kakaobase.snsapp.domain.posts.util.YouTubeSummaryCacheUtil;
+import com.kakaobase.snsapp.domain.posts.util.YoutubeUrlParser;
+import com.kakaobase.snsapp.global.common.ai.BoundedWorkQueue;
 import com.kakaobase.snsapp.global.error.handler.WebClientErrorHandler;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * YouTube 영상 요약 서비스
  *
  * <p>AI 서버와 통신하여 YouTube 영상의 요약을 처리하는 서비스입니다.</p>
+ *
+ * <ul>
+ *     <li>요약 결과는 정규화된 영상 ID 기준으로 캐싱되어, 같은 영상이 다시 게시되면 AI 서버를 호출하지 않습니다.</li>
+ *     <li>같은 영상에 대한 동시 요청은 Redis 락으로 한 번만 요약하고, 나머지 게시글은 대기 목록에 올려 결과를 함께 반영합니다.</li>
+ *     <li>AI 호출은 논블로킹으로 수행되며 동시 호출 수와 대기열 크기가 제한되어 공용 @Async 풀을 점유하지 않습니다.</li>
+ *     <li>DB 갱신은 요약 결과가 도착한 뒤 짧은 별도 트랜잭션에서 한 번의 UPDATE로 처리합니다.</li>
+ *     <li>대기 게시글은 UPDATE가 커밋된 뒤에만 대기 목록에서 제거되어, 반영에 실패하면 복구 스케줄러가 다시 처리합니다.</li>
+ * </ul>
  */
 @Slf4j
 @Service
 public class YouTubeSummaryService {
 
+    private static final Duration SUMMARY_TTL = Duration.ofDays(30);
+
+    /**
+     * 자막 없음/비공개 등 영상 자체의 문제는 재시도해도 같으므로 짧게 캐싱
+     */
+    private static final Duration FAILURE_TTL = Duration.ofDays(1);
+
     private final WebClient webClient;
     private final PostRepository postRepository;
+    private final YouTubeSummaryCacheUtil summaryCacheUtil;
+    private final TransactionTemplate requiresNewTransaction;
+
+    private final String aiServerUrl;
+    private final Duration summaryTimeout;
+    private final Duration lockTtl;
 
-    @Value("${ai.server.url}")
-    private String aiServerUrl;
+    /**
+     * 요약할 영상 ID 대기열 (동시 호출 수 제한)
+     */
+    private final BoundedWorkQueue<String> summaryQueue;
+
+    /**
+     * 요약 결과 반영(DB 갱신) 전용 스케줄러 - Netty 이벤트 루프에서 JDBC 호출을 하지 않기 위함
+     */
+    private final Scheduler dbScheduler = Schedulers.newBoundedElastic(2, 1000, "youtube-summary-db");
 
     public YouTubeSummaryService(@Qualifier("generalWebClient") WebClient webClient,
-                                                       PostRepository postRepository) {
+                                 PostRepository postRepository,
+                                 YouTubeSummaryCacheUtil summaryCacheUtil,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${ai.server.url}") String aiServerUrl,
+                                 @Value("${ai.server.youtube-summary-timeout:120000}") long summaryTimeoutMillis,
+                                 @Value("${ai.server.youtube-summary-max-concurrency:4}") int maxConcurrency,
+                                 @Value("${ai.server.youtube-summary-queue-capacity:200}") int queueCapacity) {
         this.webClient = webClient;
         this.postRepository = postRepository;
+        this.summaryCacheUtil = summaryCacheUtil;
+        this.aiServerUrl = aiServerUrl;
+        this.summaryTimeout = Duration.ofMillis(summaryTimeoutMillis);
+        this.lockTtl = summaryTimeout.plusSeconds(30);
+        this.summaryQueue = new BoundedWorkQueue<>("youtube-summary", maxConcurrency, queueCapacity, this::summarize);
+
+        // 게시글 생성 트랜잭션의 afterCommit에서 호출될 수 있으므로 항상 새 트랜잭션으로 실행
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
-    @Async
-    @Transactional
-    public void processYoutubeSummary(Long postId) {
-        log.info("YouTube 요약 시작");
-        Post post = postRepository.findById(postId)
-                .orElseThrow(()->new PostException(GeneralErrorCode.RESOURCE_NOT_FOUND, "postId", "유튜브 요약게시글을 찾을 수 없음"));
-
-        log.debug("유튜브 요약할 게시글 Post: {}, PostId {}", post, post.getId());
-        try{
-            String summary = getSummary(post.getYoutubeUrl());
-            post.updateYoutubeSummary(summary);
-        } catch (AiServerException e) {
-            String summaryStatus = YoutubeSummaryStatus.fromAiErrorCode(e.getErrorCode()).name();
-            post.updateYoutubeSummary(summaryStatus);
+    @PreDestroy
+    public void shutdown() {
+        dbScheduler.dispose();
+    }
+
+    /**
+     * 게시글의 유튜브 요약을 요청합니다. 호출 스레드를 막지 않습니다.
+     */
+    public void processYoutubeSummary(Long postId, String youtubeUrl) {
+        String videoId = YoutubeUrlParser.extractVideoId(youtubeUrl);
+        if (videoId == null) {
+            log.info("YouTube 영상 ID 추출 실패 - postId: {}, url: {}", postId, youtubeUrl);
+            applySummaryAsync(List.of(postId), YoutubeSummaryStatus.INVALID_YOUTUBE_URL.name());
+            return;
         }
+
+        // 캐시 적중이어도 대기 목록을 거쳐 반영해야 실패 시 복구 스케줄러가 다시 처리할 수 있음
+        summaryCacheUtil.addWaiter(videoId, postId);
+
+        String cached = summaryCacheUtil.loadSummary(videoId);
+        if (cached != null) {
+            log.info("YouTube 요약 캐시 적중 - postId: {}, videoId: {}", postId, videoId);
+            applyWaitersAsync(videoId, cached);
+            return;
+        }
+
+        dispatch(videoId);
     }
 
     /**
-     * YouTube 영상 요약 요청
-     *
-     * <p>AI 서버에 YouTube URL을 전송하여 영상의 요약본을 받아옵니다.</p>
-     *
-     * @param youtubeUrl YouTube 영상 URL
-     * @return 요약된 내용
-     * @throws PostException AI 서버 통신 실패 또는 요약 실패 시
+     * 대기 게시글이 남아있지만 진행 중인 요약이 없는 영상을 다시 요청합니다. (스케줄러에서 호출)
+     * 대기열이 가득 찼거나 요약 도중 노드가 종료된 경우를 복구합니다.
+     */
+    public void retryPending() {
+        for (String videoId : summaryCacheUtil.getPendingVideoIds()) {
+            if (!summaryCacheUtil.hasWaiters(videoId)) {
+                summaryCacheUtil.removePending(videoId);
+                continue;
+            }
+            if (!summaryCacheUtil.isLocked(videoId)) {
+                log.info("YouTube 요약 재요청 - videoId: {}", videoId);
+                dispatch(videoId);
+            }
+        }
+    }
+
+    public int getQueueSize() {
+        return summaryQueue.size();
+    }
+
+    private void dispatch(String videoId) {
+        if (!summaryCacheUtil.tryLock(videoId, lockTtl)) {
+            // 다른 요청이 요약 중. 락 획득 시도 전에 이미 끝났다면 대기 게시글을 직접 반영
+            String cached = summaryCacheUtil.loadSummary(videoId);
+            if (cached != null) {
+                applyWaitersAsync(videoId, cached);
+            }
+            return;
+        }
+
+        // 락을 기다리는 사이 앞선 요청이 요약을 끝냈다면 AI 서버를 다시 호출하지 않음
+        String cached = summaryCacheUtil.loadSummary(videoId);
+        if (cached != null) {
+            try {
+                applyWaitersAsync(videoId, cached);
+            } finally {
+                summaryCacheUtil.unlock(videoId);
+            }
+            return;
+        }
+
+        if (!summaryQueue.offer(videoId)) {
+            // 대기 게시글은 남겨두고 복구 스케줄러가 다시 요청하도록 함
+            summaryCacheUtil.unlock(videoId);
+            log.warn("YouTube 요약 대기열이 가득 참 - videoId: {}, capacity: {}", videoId, summaryQueue.capacity());
+        }
+    }
+
+    private Mono<Void> summarize(String videoId) {
+        log.info("YouTube 요약 요청 시작 - videoId: {}", videoId);
+
+        return requestSummary(YoutubeUrlParser.toCanonicalUrl(videoId))
+                .map(SummaryResult::success)
+                .onErrorResume(e -> Mono.just(SummaryResult.failure(toStatus(videoId, e))))
+                .publishOn(dbScheduler)
+                .doOnNext(result -> complete(videoId, result))
+                .onErrorResume(e -> {
+                    log.error("YouTube 요약 결과 반영 실패 - videoId: {}", videoId, e);
+                    summaryCacheUtil.unlock(videoId);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * AI 서버에 YouTube URL을 전송하여 영상의 요약본을 받아옵니다.
      */
-    public String getSummary(String youtubeUrl) {
-        log.info("YouTube 요약 요청 시작 - URL: {}", youtubeUrl);
+    private Mono<String> requestSummary(String youtubeUrl) {
+        PostRequestDto.YouTubeAiRequest request = new PostRequestDto.YouTubeAiRequest(youtubeUrl);
+
+        return webClient.post()
+                .uri(aiServerUrl + "/posts/youtube/summary")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(PostRequestDto.YouTubeAiResponse.class)
+                .timeout(summaryTimeout)
+                .map(response -> response.data().summary());
+    }
 
+    private void complete(String videoId, SummaryResult result) {
         try {
-            // AI 서버 요청 DTO 생성
-            PostRequestDto.YouTubeAiRequest request = new PostRequestDto.YouTubeAiRequest(youtubeUrl);
-
-            // AI 서버에 요약 요청
-            PostRequestDto.YouTubeAiResponse response = webClient.post()
-                    .uri(aiServerUrl + "/posts/youtube/summary")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(PostRequestDto.YouTubeAiResponse.class)
-                    .block(); // 동기식 처리를 위해 block() 사용
-
-            // 응답에서 요약 내용 추출
-            String summary = response.data().summary();
-            log.info("YouTube 요약 요청 성공");
-
-            return summary;
-
-        } catch (WebClientResponseException e) {
-            throw WebClientErrorHandler.parseAiServerException(e);
-        } catch (WebClientRequestException e) {
-            throw new AiServerException("internal_server_error", "Ai서버에서 응답이 없습니다", e);
-
-        } catch (Exception e) {
-            log.error("WebClientResponseException안터짐 에러코드: {}", e.getMessage());
-            throw new PostException(GeneralErrorCode.INTERNAL_SERVER_ERROR, "요약도중 예기치못한 에러 발행");
+            if (result.cacheTtl() != null) {
+                summaryCacheUtil.saveSummary(videoId, result.summary(), result.cacheTtl());
+            }
+            int applied = applyWaiters(videoId, result.summary());
+            log.info("YouTube 요약 완료 - videoId: {}, 반영 게시글: {} 개", videoId, applied);
+        } finally {
+            summaryCacheUtil.unlock(videoId);
+        }
+    }
+
+    /**
+     * 대기 게시글에 요약을 반영하고, UPDATE가 커밋된 뒤에 대기 목록에서 제거합니다.
+     * 반영에 실패하면 대기 게시글이 그대로 남아 복구 스케줄러가 다시 처리합니다.
+     *
+     * @return 반영한 게시글 수
+     */
+    private int applyWaiters(String videoId, String summary) {
+        List<Long> postIds = summaryCacheUtil.findWaiters(videoId);
+        applySummary(postIds, summary);
+        summaryCacheUtil.removeWaiters(videoId, postIds);
+        return postIds.size();
+    }
+
+    private void applyWaitersAsync(String videoId, String summary) {
+        dbScheduler.schedule(() -> {
+            try {
+                applyWaiters(videoId, summary);
+            } catch (Exception e) {
+                log.error("YouTube 요약 반영 실패, 복구 스케줄러에서 재시도 - videoId: {}", videoId, e);
+            }
+        });
+    }
+
+    private void applySummaryAsync(List<Long> postIds, String summary) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        dbScheduler.schedule(() -> {
+            try {
+                applySummary(postIds, summary);
+            } catch (Exception e) {
+                log.error("YouTube 요약 반영 실패 - postIds: {}", postIds, e);
+            }
+        });
+    }
+
+    private void applySummary(List<Long> postIds, String summary) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        Integer updated = requiresNewTransaction.execute(status -> postRepository.updateYoutubeSummaryByIdIn(postIds, summary, LocalDateTime.now()));
+        log.debug("YouTube 요약 반영 - postIds: {}, 갱신: {} 건", postIds, updated);
+    }
+
+    private YoutubeSummaryStatus toStatus(String videoId, Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            String errorCode = WebClientErrorHandler.parseAiServerException(responseException).getErrorCode();
+            log.warn("YouTube 요약 실패 - videoId: {}, error: {}", videoId, errorCode);
+            return YoutubeSummaryStatus.fromAiErrorCode(errorCode);
+        }
+        log.error("YouTube 요약 요청 실패 - videoId: {}", videoId, e);
+        return YoutubeSummaryStatus.AI_SERVER_FAILED;
+    }
+
+    /**
+     * @param cacheTtl 캐싱 기간, 일시적인 서버 오류라 캐싱하지 않으면 null
+     */
+    private record SummaryResult(String summary, Duration cacheTtl) {
+
+        static SummaryResult success(String summary) {
+            return new SummaryResult(summary, SUMMARY_TTL);
+        }
+
+        static SummaryResult failure(YoutubeSummaryStatus status) {
+            Duration ttl = (status == YoutubeSummaryStatus.AI_SERVER_FAILED) ? null : FAILURE_TTL;
+            return new SummaryResult(status.name(), ttl);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,202 @@
+package com.kakaobase.snsapp.domain.posts.service.cache;
+
+import com.kakaobase.snsapp.domain.follow.repository.FollowRepository;
+import com.kakaobase.snsapp.domain.follow.service.cache.FollowGraphService;
+import com.kakaobase.snsapp.domain.members.service.cache.MemberStatsCacheService;
+import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
+import com.kakaobase.snsapp.domain.posts.util.FollowingFeedCacheUtil;
+import com.kakaobase.snsapp.global.common.redis.CacheRecord;
+import com.kakaobase.snsapp.global.common.redis.error.CacheException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 팔로잉 피드 서비스 (하이브리드 팬아웃)
+ *
+ * <p>일반 작성자의 게시글은 작성 시점에 팔로워별 inbox로 밀어넣고(fan-out on write),
+ * 팔로워 수가 임계값을 넘는 작성자의 게시글은 작성자 outbox에만 두고 조회 시 병합합니다(fan-out on read).
+ * 팔로워 수는 MemberStatsCache를 기준으로 판단합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FollowingFeedService {
+
+    /**
+     * 이 팔로워 수를 넘으면 팬아웃하지 않고 조회 시 병합
+     */
+    static final long CELEBRITY_THRESHOLD = 1000;
+
+    /**
+     * 임계값 근처에서 팬아웃 방식이 자주 바뀌지 않도록, 이 값 아래로 내려가야 일반 작성자로 돌아옴
+     */
+    static final long CELEBRITY_RELEASE_THRESHOLD = 800;
+
+    static final long INBOX_MAX_SIZE = 800;
+    static final long OUTBOX_MAX_SIZE = 200;
+
+    private static final int FAN_OUT_CHUNK_SIZE = 1000;
+
+    private final FollowingFeedCacheUtil feedCacheUtil;
+    private final MemberStatsCacheService memberStatsCacheService;
+    private final FollowRepository followRepository;
+    private final FollowGraphService followGraphService;
+    private final PostRepository postRepository;
+
+    /**
+     * 새 게시글을 팔로워 피드에 반영합니다.
+     */
+    public void fanOut(Long postId, Long authorId) {
+        feedCacheUtil.pushToOutbox(authorId, postId, OUTBOX_MAX_SIZE);
+
+        long followerCount = resolveFollowerCount(authorId);
+        boolean wasCelebrity = feedCacheUtil.isCelebrity(authorId);
+
+        if (followerCount > CELEBRITY_THRESHOLD
+                || (wasCelebrity && followerCount >= CELEBRITY_RELEASE_THRESHOLD)) {
+            if (!wasCelebrity) {
+                feedCacheUtil.addCelebrity(authorId);
+                log.info("팔로잉 피드 읽기 병합 대상으로 전환 - authorId: {}, followerCount: {}", authorId, followerCount);
+            }
+            return;
+        }
+
+        if (wasCelebrity) {
+            // outbox에만 있던 최근 게시글이 빠지지 않도록 전환 시 함께 팬아웃
+            feedCacheUtil.removeCelebrity(authorId);
+            List<Long> recentIds = feedCacheUtil.findOutboxPostIds(authorId, null, (int) OUTBOX_MAX_SIZE);
+            log.info("팔로잉 피드 팬아웃 대상으로 전환 - authorId: {}, 최근 게시글: {} 개", authorId, recentIds.size());
+            for (Long recentId : recentIds) {
+                pushToFollowers(recentId, authorId);
+            }
+            return;
+        }
+
+        pushToFollowers(postId, authorId);
+    }
+
+    /**
+     * 팔로우 시 작성자의 최근 게시글을 팔로워 inbox에 채웁니다.
+     * 읽기 병합 대상 작성자는 조회 시 병합되므로 건너뜁니다.
+     * 비동기로 실행되어 언팔로우 처리보다 늦게 도착할 수 있으므로, 팔로우 관계가 남아 있을 때만 채웁니다.
+     */
+    @Async
+    public void onFollow(Long followerId, Long authorId) {
+        try {
+            if (!feedCacheUtil.isInboxBuilt(followerId) || feedCacheUtil.isCelebrity(authorId)
+                    || !isFollowing(followerId, authorId)) {
+                return;
+            }
+            feedCacheUtil.addToInbox(followerId, findRecentPostIds(authorId), INBOX_MAX_SIZE);
+        } catch (Exception e) {
+            log.warn("팔로잉 피드 백필 실패 - followerId: {}, authorId: {}", followerId, authorId, e);
+        }
+    }
+
+    /**
+     * 언팔로우 시 작성자의 게시글을 팔로워 inbox에서 제거합니다.
+     * inbox는 최근 INBOX_MAX_SIZE개만 유지하므로 작성자의 최근 게시글 ID만 제거하면 충분합니다.
+     * 그 사이 다시 팔로우했다면 제거하지 않습니다.
+     */
+    @Async
+    public void onUnfollow(Long followerId, Long authorId) {
+        try {
+            if (!feedCacheUtil.isInboxBuilt(followerId) || isFollowing(followerId, authorId)) {
+                return;
+            }
+            List<Long> postIds = postRepository.findRecentIdsByMemberIds(List.of(authorId), (int) INBOX_MAX_SIZE);
+            feedCacheUtil.removeFromInbox(followerId, postIds);
+        } catch (Exception e) {
+            log.warn("팔로잉 피드 정리 실패 - followerId: {}, authorId: {}", followerId, authorId, e);
+        }
+    }
+
+    /**
+     * 커밋된 팔로우 관계를 DB에서 확인합니다. (비동기 반영 순서가 뒤바뀐 경우 판단용)
+     */
+    private boolean isFollowing(Long followerId, Long authorId) {
+        return !followRepository.findFollowingMemberIdsByFollowerAndTargets(followerId, List.of(authorId)).isEmpty();
+    }
+
+    /**
+     * 팔로잉 피드의 게시글 ID를 최신순으로 조회합니다.
+     * inbox 페이지와 팔로우 중인 읽기 병합 대상 작성자의 outbox 페이지를 합쳐 상위 limit개를 반환합니다.
+     *
+     * @param cursor 마지막으로 조회한 게시글 ID (null이면 최신부터)
+     */
+    public List<Long> getFeedPostIds(Long memberId, Long cursor, int limit) {
+        if (!feedCacheUtil.isInboxBuilt(memberId)) {
+            rebuildInbox(memberId);
+        }
+
+        TreeSet<Long> merged = new TreeSet<>(Comparator.reverseOrder());
+        merged.addAll(feedCacheUtil.findInboxPostIds(memberId, cursor, limit));
+
+        List<Long> celebrities = feedCacheUtil.findCelebrities();
+        if (!celebrities.isEmpty()) {
+            Set<Long> followedCelebrities = followGraphService.filterFollowing(memberId, celebrities);
+            for (Long authorId : followedCelebrities) {
+                ensureOutbox(authorId);
+                merged.addAll(feedCacheUtil.findOutboxPostIds(authorId, cursor, limit));
+            }
+        }
+
+        return merged.stream().limit(limit).toList();
+    }
+
+    private void pushToFollowers(Long postId, Long authorId) {
+        Long cursor = null;
+        while (true) {
+            List<Long> followerIds = followRepository.findFollowerIdsByFollowingUserId(authorId, cursor, FAN_OUT_CHUNK_SIZE);
+            if (followerIds.isEmpty()) {
+                return;
+            }
+
+            feedCacheUtil.pushToInboxes(followerIds, postId, INBOX_MAX_SIZE);
+
+            if (followerIds.size() < FAN_OUT_CHUNK_SIZE) {
+                return;
+            }
+            cursor = followerIds.get(followerIds.size() - 1);
+        }
+    }
+
+    private void rebuildInbox(Long memberId) {
+        Set<Long> followingIds = followGraphService.getFollowingIds(memberId);
+        List<Long> postIds = postRepository.findRecentIdsByMemberIds(followingIds, (int) INBOX_MAX_SIZE);
+        feedCacheUtil.rebuildInbox(memberId, postIds);
+        log.debug("팔로잉 피드 inbox 재구성 - memberId: {}, 게시글: {} 개", memberId, postIds.size());
+    }
+
+    private void ensureOutbox(Long authorId) {
+        if (!feedCacheUtil.hasOutbox(authorId)) {
+            feedCacheUtil.rebuildOutbox(authorId,
+                    postRepository.findRecentIdsByMemberIds(List.of(authorId), (int) OUTBOX_MAX_SIZE));
+        }
+    }
+
+    private List<Long> findRecentPostIds(Long authorId) {
+        ensureOutbox(authorId);
+        return feedCacheUtil.findOutboxPostIds(authorId, null, (int) OUTBOX_MAX_SIZE);
+    }
+
+    private long resolveFollowerCount(Long authorId) {
+        try {
+            CacheRecord.MemberStatsCache stats = memberStatsCacheService.findBy(authorId);
+            if (stats != null && stats.followerCount() != null) {
+                return stats.followerCount();
+            }
+        } catch (CacheException e) {
+            log.warn("팔로워 수 캐시 조회 실패, DB 조회로 대체 - authorId: {}", authorId);
+        }
+        Long count = followRepository.countFollowersByFollowingUserId(authorId);
+        return count != null ? count : 0L;
+    }
+}
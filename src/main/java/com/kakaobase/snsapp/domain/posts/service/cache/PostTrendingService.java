@@ -0,0 +1,152 @@
+package com.kakaobase.snsapp.domain.posts.service.cache;
+
+import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
+import com.kakaobase.snsapp.domain.posts.util.BoardType;
+import com.kakaobase.snsapp.domain.posts.util.PostTrendingCacheUtil;
+import com.kakaobase.snsapp.domain.posts.util.PostTrendingCacheUtil.TrendingEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 게시판별 인기 게시글 점수 관리 서비스
+ *
+ * <p>활동(좋아요/댓글/대댓글)마다 log2(가중치) + (현재시각 - 기준시각) / 반감기 만큼의 점수를 더합니다.
+ * 시간이 지날수록 새 활동의 점수가 커지므로, 오래된 활동은 상대적으로 반감기마다 절반의 가치가 됩니다.
+ * 점수는 log 공간에 있어 수년이 지나도 double 범위를 넘지 않습니다.</p>
+ *
+ * <p>활동 점수는 트랜잭션 커밋 이후에 반영되어, 롤백된 좋아요/댓글이 순위에 남지 않습니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostTrendingService {
+
+    // 2025-01-01T00:00:00Z
+    private static final long EPOCH_SECONDS = 1735689600L;
+    private static final double HALF_LIFE_SECONDS = 6 * 60 * 60;
+
+    private static final double LIKE_WEIGHT = 1.0;
+    private static final double COMMENT_WEIGHT = 2.0;
+    private static final double RECOMMENT_WEIGHT = 1.0;
+
+    /**
+     * 게시판별로 유지할 최대 게시글 수
+     */
+    private static final long MAX_TRENDING_SIZE = 500;
+
+    private final PostTrendingCacheUtil trendingCacheUtil;
+    private final PostRepository postRepository;
+
+    public void recordLike(Long postId) {
+        afterCommit(() -> recordActivity(postId, LIKE_WEIGHT));
+    }
+
+    public void recordComment(Long postId) {
+        afterCommit(() -> recordActivity(postId, COMMENT_WEIGHT));
+    }
+
+    public void recordRecomment(Long postId) {
+        afterCommit(() -> recordActivity(postId, RECOMMENT_WEIGHT));
+    }
+
+    /**
+     * 게시글 생성 시 게시판 타입을 미리 캐싱해 활동 기록 시 DB 조회를 피함
+     */
+    public void registerPost(Long postId, BoardType boardType) {
+        try {
+            trendingCacheUtil.saveBoardType(postId, boardType);
+        } catch (Exception e) {
+            log.warn("인기 게시글 게시판 타입 캐싱 실패: postId={}", postId, e);
+        }
+    }
+
+    /**
+     * 인기 게시글을 점수 내림차순으로 조회합니다.
+     *
+     * @param cursorScore 마지막으로 조회한 게시글의 점수 (null이면 1위부터)
+     * @param cursorId 마지막으로 조회한 게시글 ID
+     */
+    public List<TrendingEntry> getTrendingPosts(BoardType boardType, Double cursorScore, Long cursorId, int limit) {
+        return trendingCacheUtil.findPostsAfter(boardType, cursorScore, cursorId, limit);
+    }
+
+    public void remove(Long postId) {
+        try {
+            BoardType boardType = resolveBoardType(postId);
+            if (boardType != null) {
+                trendingCacheUtil.remove(boardType, postId);
+            }
+        } catch (Exception e) {
+            log.warn("인기 게시글 제거 실패: postId={}", postId, e);
+        }
+    }
+
+    /**
+     * 모든 게시판의 Sorted Set을 상위 MAX_TRENDING_SIZE개로 유지 (스케줄러에서 호출)
+     */
+    public void trimAll() {
+        for (BoardType boardType : BoardType.values()) {
+            try {
+                long removed = trendingCacheUtil.trim(boardType, MAX_TRENDING_SIZE);
+                if (removed > 0) {
+                    log.info("인기 게시글 정리 - boardType: {}, 제거: {} 개", boardType, removed);
+                }
+            } catch (Exception e) {
+                log.error("인기 게시글 정리 실패 - boardType: {}", boardType, e);
+            }
+        }
+    }
+
+    private void recordActivity(Long postId, double weight) {
+        try {
+            BoardType boardType = resolveBoardType(postId);
+            if (boardType == null) {
+                return;
+            }
+            trendingCacheUtil.addScore(boardType, postId, computeLogScore(weight));
+        } catch (Exception e) {
+            // 인기 점수 갱신 실패가 좋아요/댓글 처리에 영향을 주지 않도록 함
+            log.warn("인기 게시글 점수 갱신 실패: postId={}", postId, e);
+        }
+    }
+
+    /**
+     * 롤백된 활동이 점수에 반영되지 않도록 커밋 이후에 실행
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private double computeLogScore(double weight) {
+        double elapsed = Instant.now().getEpochSecond() - EPOCH_SECONDS;
+        return Math.log(weight) / Math.log(2) + elapsed / HALF_LIFE_SECONDS;
+    }
+
+    private BoardType resolveBoardType(Long postId) {
+        BoardType cached = trendingCacheUtil.loadBoardType(postId);
+        if (cached != null) {
+            return cached;
+        }
+
+        BoardType boardType = postRepository.findBoardTypeById(postId).orElse(null);
+        if (boardType != null) {
+            trendingCacheUtil.saveBoardType(postId, boardType);
+        }
+        return boardType;
+    }
+}
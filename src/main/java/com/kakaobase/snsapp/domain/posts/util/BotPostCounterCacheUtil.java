@@ -0,0 +1,81 @@
+package com.kakaobase.snsapp.domain.posts.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 봇 게시글 트리거용 게시판별 게시글 카운터 (Redis)
+ *
+ * <p>여러 노드가 같은 카운터를 공유하며, 증가와 임계값 판단, 리셋을 Lua 스크립트 한 번으로 처리합니다.
+ * 임계값에 도달한 호출 하나만 트리거 결과를 받으므로 임계값 도달마다 정확히 한 노드만 봇 게시글을 생성합니다.
+ * 같은 게시글 이벤트가 다시 처리되어도 한 번만 카운트되도록 게시글 ID별 표식을 함께 남깁니다.</p>
+ *
+ * <p>카운터 키와 표식 키는 같은 해시 슬롯에 배치되도록 게시판 타입을 해시 태그로 사용합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BotPostCounterCacheUtil {
+
+    private static final String COUNTER_KEY_FORMAT = "bot:post-counter:{%s}";
+    private static final String COUNTED_KEY_FORMAT = "bot:post-counter:{%s}:counted:%d";
+
+    private static final Duration COUNTED_TTL = Duration.ofHours(1);
+
+    /**
+     * 반환값: {증가 후 카운트, 트리거 여부(1/0)}. 이미 카운트된 게시글이면 {현재 카운트, 0}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "if not redis.call('SET', KEYS[2], '1', 'NX', 'EX', ARGV[2]) then " +
+            "  return {tonumber(redis.call('GET', KEYS[1]) or '0'), 0} " +
+            "end " +
+            "local count = redis.call('INCR', KEYS[1]) " +
+            "if count >= tonumber(ARGV[1]) then " +
+            "  redis.call('SET', KEYS[1], '0') " +
+            "  return {count, 1} " +
+            "end " +
+            "return {count, 0}",
+            List.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 게시글 하나를 카운트하고 이번 호출이 봇 게시글을 트리거해야 하는지 반환합니다.
+     *
+     * @param threshold 트리거 임계값
+     */
+    public TriggerResult increment(BoardType boardType, Long postId, int threshold) {
+        List<?> result = stringRedisTemplate.execute(
+                INCREMENT_SCRIPT,
+                List.of(counterKey(boardType), String.format(COUNTED_KEY_FORMAT, boardType.name(), postId)),
+                String.valueOf(threshold),
+                String.valueOf(COUNTED_TTL.toSeconds())
+        );
+
+        if (result == null || result.size() < 2) {
+            throw new IllegalStateException("봇 게시글 카운터 스크립트 응답이 올바르지 않습니다.");
+        }
+        long count = ((Number) result.get(0)).longValue();
+        boolean triggered = ((Number) result.get(1)).longValue() == 1L;
+        return new TriggerResult(count, triggered);
+    }
+
+    private String counterKey(BoardType boardType) {
+        return String.format(COUNTER_KEY_FORMAT, boardType.name());
+    }
+
+    /**
+     * @param count     증가 후 카운트 (트리거된 경우 리셋 직전 값)
+     * @param triggered 이번 호출이 봇 게시글을 생성해야 하는지 여부
+     */
+    public record TriggerResult(long count, boolean triggered) {
+    }
+}
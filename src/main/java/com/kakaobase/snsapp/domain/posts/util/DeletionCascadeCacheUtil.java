@@ -0,0 +1,89 @@
+package com.kakaobase.snsapp.domain.posts.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 삭제 연쇄 작업의 대기 목록과 진행 상황을 Redis에 저장하는 유틸리티
+ * 서버가 재시작되어도 마지막으로 처리한 단계/커서부터 이어서 처리할 수 있도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeletionCascadeCacheUtil {
+
+    private static final String PENDING_KEY = "deletion:cascade:pending";
+    private static final String FAILED_KEY = "deletion:cascade:failed";
+    private static final String PROGRESS_PREFIX = "deletion:cascade:progress:";
+    private static final Duration PROGRESS_TTL = Duration.ofDays(7);
+
+    private static final String STAGE_FIELD = "stage";
+    private static final String CURSOR_FIELD = "cursor";
+    private static final String ATTEMPTS_FIELD = "attempts";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 진행 상황 (현재 단계 인덱스, 해당 단계에서 마지막으로 처리한 id)
+     */
+    public record Progress(int stageIndex, long cursor) {}
+
+    public void addPending(String taskKey) {
+        stringRedisTemplate.opsForSet().add(PENDING_KEY, taskKey);
+    }
+
+    public Set<String> getPendingTasks() {
+        try {
+            Set<String> tasks = stringRedisTemplate.opsForSet().members(PENDING_KEY);
+            return tasks != null ? tasks : Set.of();
+        } catch (Exception e) {
+            log.error("삭제 연쇄 대기 목록 조회 실패", e);
+            return Set.of();
+        }
+    }
+
+    public Progress loadProgress(String taskKey) {
+        Map<Object, Object> raw = stringRedisTemplate.opsForHash().entries(PROGRESS_PREFIX + taskKey);
+        int stageIndex = Integer.parseInt(String.valueOf(raw.getOrDefault(STAGE_FIELD, "0")));
+        long cursor = Long.parseLong(String.valueOf(raw.getOrDefault(CURSOR_FIELD, "0")));
+        return new Progress(stageIndex, cursor);
+    }
+
+    /**
+     * 청크 하나가 커밋될 때마다 호출되어 다음 재시도 시작 지점을 기록
+     */
+    public void saveProgress(String taskKey, int stageIndex, long cursor) {
+        String key = PROGRESS_PREFIX + taskKey;
+        stringRedisTemplate.opsForHash().putAll(key, Map.of(
+                STAGE_FIELD, String.valueOf(stageIndex),
+                CURSOR_FIELD, String.valueOf(cursor)
+        ));
+        stringRedisTemplate.expire(key, PROGRESS_TTL);
+    }
+
+    public long increaseAttempts(String taskKey) {
+        String key = PROGRESS_PREFIX + taskKey;
+        Long attempts = stringRedisTemplate.opsForHash().increment(key, ATTEMPTS_FIELD, 1);
+        stringRedisTemplate.expire(key, PROGRESS_TTL);
+        return attempts != null ? attempts : 1L;
+    }
+
+    public void complete(String taskKey) {
+        stringRedisTemplate.opsForSet().remove(PENDING_KEY, taskKey);
+        stringRedisTemplate.delete(PROGRESS_PREFIX + taskKey);
+    }
+
+    /**
+     * 재시도 횟수를 초과한 작업은 대기 목록에서 빼고 실패 목록으로 옮김 (진행 상황은 수동 재처리를 위해 유지)
+     */
+    public void markFailed(String taskKey) {
+        stringRedisTemplate.opsForSet().remove(PENDING_KEY, taskKey);
+        stringRedisTemplate.opsForSet().add(FAILED_KEY, taskKey);
+    }
+}
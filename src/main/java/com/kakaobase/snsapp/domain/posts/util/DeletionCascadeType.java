@@ -0,0 +1,65 @@
+package com.kakaobase.snsapp.domain.posts.util;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 삭제 연쇄 작업 대상 종류
+ *
+ * <p>API에서는 대상 행만 즉시 soft delete 하고, 하위 테이블은 아래 단계 순서대로
+ * 백그라운드에서 id 구간 단위로 정리합니다. MEMBER는 회원 탈퇴 시 회원과 연결된 행을 정리합니다.</p>
+ */
+@Getter
+public enum DeletionCascadeType {
+    POST(List.of(Stage.RECOMMENTS, Stage.COMMENTS, Stage.POST_LIKES, Stage.POST_IMAGES)),
+    COMMENT(List.of(Stage.RECOMMENTS, Stage.COMMENT_LIKES)),
+    MEMBER(List.of(Stage.FOLLOWINGS, Stage.FOLLOWERS,
+            Stage.MEMBER_POST_LIKES, Stage.MEMBER_COMMENT_LIKES, Stage.MEMBER_RECOMMENT_LIKES,
+            Stage.RECEIVED_NOTIFICATIONS, Stage.SENT_NOTIFICATIONS,
+            Stage.AUTH_TOKENS, Stage.CHAT_MESSAGES, Stage.CHAT_ROOM));
+
+    private final List<Stage> stages;
+
+    DeletionCascadeType(List<Stage> stages) {
+        this.stages = stages;
+    }
+
+    /**
+     * Redis 진행 상황 추적용 작업 키 (예: "POST:12")
+     */
+    public String toTaskKey(Long targetId) {
+        return name() + ":" + targetId;
+    }
+
+    /**
+     * 단계별 정리 대상
+     * - RECOMMENTS: 대댓글 좋아요 삭제 + 대댓글 soft delete
+     * - COMMENTS: 댓글 좋아요 삭제 + 댓글 soft delete
+     * - COMMENT_LIKES: 삭제된 댓글의 좋아요 삭제
+     * - POST_LIKES: 삭제된 게시글의 좋아요 삭제
+     * - POST_IMAGES: 삭제된 게시글의 이미지 삭제
+     * - FOLLOWINGS / FOLLOWERS: 탈퇴 회원의 팔로우 관계 삭제 + 상대 회원 팔로워/팔로잉 수 감소
+     * - MEMBER_POST_LIKES / MEMBER_COMMENT_LIKES / MEMBER_RECOMMENT_LIKES: 탈퇴 회원의 좋아요 삭제 + 좋아요 수 감소
+     * - RECEIVED_NOTIFICATIONS / SENT_NOTIFICATIONS: 탈퇴 회원이 받거나 발생시킨 알림 삭제
+     * - AUTH_TOKENS: 탈퇴 회원의 리프레시 토큰 삭제
+     * - CHAT_MESSAGES / CHAT_ROOM: 탈퇴 회원의 봇 채팅 메시지, 채팅방 삭제
+     */
+    public enum Stage {
+        RECOMMENTS,
+        COMMENTS,
+        COMMENT_LIKES,
+        POST_LIKES,
+        POST_IMAGES,
+        FOLLOWINGS,
+        FOLLOWERS,
+        MEMBER_POST_LIKES,
+        MEMBER_COMMENT_LIKES,
+        MEMBER_RECOMMENT_LIKES,
+        RECEIVED_NOTIFICATIONS,
+        SENT_NOTIFICATIONS,
+        AUTH_TOKENS,
+        CHAT_MESSAGES,
+        CHAT_ROOM
+    }
+}
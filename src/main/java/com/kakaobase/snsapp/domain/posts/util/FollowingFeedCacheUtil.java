@@ -0,0 +1,190 @@
+package com.kakaobase.snsapp.domain.posts.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 팔로잉 피드 Sorted Set을 관리하는 유틸리티
+ *
+ * <p>게시글 ID가 단조 증가하므로 점수로 게시글 ID를 그대로 사용합니다.
+ * 따라서 커서는 마지막으로 받은 게시글 ID이며, 점수 범위 조회만으로 페이지를 이어갈 수 있습니다.</p>
+ * <ul>
+ *     <li>inbox: 팔로워별로 팬아웃된 게시글 ID</li>
+ *     <li>outbox: 작성자별 최근 게시글 ID (읽기 시 병합 및 팔로우 백필에 사용)</li>
+ *     <li>celebrities: 팬아웃 대신 읽기 시 병합되는 작성자 ID</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowingFeedCacheUtil {
+
+    private static final String INBOX_PREFIX = "feed:inbox:";
+    private static final String OUTBOX_PREFIX = "feed:outbox:";
+    private static final String CELEBRITY_KEY = "feed:celebrities";
+    private static final String INBOX_BUILT_PREFIX = "feed:inbox:built:";
+
+    private static final Duration INBOX_TTL = Duration.ofDays(14);
+    private static final Duration OUTBOX_TTL = Duration.ofDays(30);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 여러 팔로워의 inbox에 게시글 ID를 한 번의 파이프라인으로 추가합니다.
+     * 재구성 표식이 없는 inbox는 첫 조회 시 DB에서 다시 만들어지므로 여기서는 inbox 존재 여부를 확인하지 않습니다.
+     */
+    public void pushToInboxes(Collection<Long> memberIds, Long postId, long maxSize) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+
+        String member = postId.toString();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long memberId : memberIds) {
+                String key = INBOX_PREFIX + memberId;
+                stringConnection.zAdd(key, postId, member);
+                stringConnection.zRemRange(key, 0, -(maxSize + 1));
+                stringConnection.expire(key, INBOX_TTL.toSeconds());
+            }
+            return null;
+        });
+    }
+
+    /**
+     * inbox 전체를 주어진 게시글 ID로 재구성합니다.
+     */
+    public void rebuildInbox(Long memberId, Collection<Long> postIds) {
+        String key = INBOX_PREFIX + memberId;
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.del(key);
+            for (Long postId : postIds) {
+                stringConnection.zAdd(key, postId, postId.toString());
+            }
+            stringConnection.expire(key, INBOX_TTL.toSeconds());
+            // 빈 inbox도 재구성 완료 상태로 남도록 별도 표식 키를 둠
+            stringConnection.setEx(INBOX_BUILT_PREFIX + memberId, INBOX_TTL.toSeconds(), "1");
+            return null;
+        });
+    }
+
+    /**
+     * DB에서 재구성된 inbox인지 확인합니다.
+     * 팬아웃으로만 생성된 inbox는 과거 게시글이 빠져 있으므로 재구성 대상입니다.
+     */
+    public boolean isInboxBuilt(Long memberId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(INBOX_BUILT_PREFIX + memberId));
+    }
+
+    /**
+     * inbox에서 cursor보다 작은 게시글 ID를 최신순으로 조회합니다.
+     */
+    public List<Long> findInboxPostIds(Long memberId, Long cursor, int limit) {
+        return findPostIds(INBOX_PREFIX + memberId, cursor, limit);
+    }
+
+    public void addToInbox(Long memberId, Collection<Long> postIds, long maxSize) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        String key = INBOX_PREFIX + memberId;
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long postId : postIds) {
+                stringConnection.zAdd(key, postId, postId.toString());
+            }
+            stringConnection.zRemRange(key, 0, -(maxSize + 1));
+            return null;
+        });
+    }
+
+    public void removeFromInbox(Long memberId, Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        Object[] members = postIds.stream().map(String::valueOf).toArray();
+        stringRedisTemplate.opsForZSet().remove(INBOX_PREFIX + memberId, members);
+    }
+
+    /**
+     * 작성자의 outbox에 게시글 ID를 추가하고 최근 maxSize개만 유지합니다.
+     */
+    public void pushToOutbox(Long authorId, Long postId, long maxSize) {
+        String key = OUTBOX_PREFIX + authorId;
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.zAdd(key, postId, postId.toString());
+            stringConnection.zRemRange(key, 0, -(maxSize + 1));
+            stringConnection.expire(key, OUTBOX_TTL.toSeconds());
+            return null;
+        });
+    }
+
+    public boolean hasOutbox(Long authorId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(OUTBOX_PREFIX + authorId));
+    }
+
+    public void rebuildOutbox(Long authorId, Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        String key = OUTBOX_PREFIX + authorId;
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long postId : postIds) {
+                stringConnection.zAdd(key, postId, postId.toString());
+            }
+            stringConnection.expire(key, OUTBOX_TTL.toSeconds());
+            return null;
+        });
+    }
+
+    public List<Long> findOutboxPostIds(Long authorId, Long cursor, int limit) {
+        return findPostIds(OUTBOX_PREFIX + authorId, cursor, limit);
+    }
+
+    public void removeFromOutbox(Long authorId, Long postId) {
+        stringRedisTemplate.opsForZSet().remove(OUTBOX_PREFIX + authorId, postId.toString());
+    }
+
+    public void addCelebrity(Long authorId) {
+        stringRedisTemplate.opsForSet().add(CELEBRITY_KEY, authorId.toString());
+    }
+
+    public void removeCelebrity(Long authorId) {
+        stringRedisTemplate.opsForSet().remove(CELEBRITY_KEY, authorId.toString());
+    }
+
+    public boolean isCelebrity(Long authorId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForSet().isMember(CELEBRITY_KEY, authorId.toString()));
+    }
+
+    public List<Long> findCelebrities() {
+        Set<String> members = stringRedisTemplate.opsForSet().members(CELEBRITY_KEY);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    private List<Long> findPostIds(String key, Long cursor, int limit) {
+        double max = (cursor != null) ? cursor - 1 : Double.POSITIVE_INFINITY;
+        Set<String> members = stringRedisTemplate.opsForZSet()
+                .reverseRangeByScore(key, Double.NEGATIVE_INFINITY, max, 0, limit);
+
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+}
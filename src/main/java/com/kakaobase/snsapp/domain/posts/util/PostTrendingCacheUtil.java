@@ -0,0 +1,134 @@
+package com.kakaobase.snsapp.domain.posts.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 게시판별 인기 게시글 Sorted Set을 관리하는 유틸리티
+ *
+ * <p>점수는 log2 공간에 저장됩니다. 새 활동 점수 x를 더할 때
+ * log2(2^cur + 2^x)를 Lua 스크립트로 원자적으로 계산하므로 조회/갱신 시 전체 재계산이 필요 없습니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostTrendingCacheUtil {
+
+    private static final String TRENDING_PREFIX = "post:trending:";
+    private static final String BOARD_TYPE_PREFIX = "post:board:";
+    private static final Duration BOARD_TYPE_TTL = Duration.ofDays(3);
+
+    /**
+     * log2(2^cur + 2^x) = max + log2(1 + 2^(min - max))
+     */
+    private static final DefaultRedisScript<String> LOG_ADD_SCRIPT = new DefaultRedisScript<>(
+            "local cur = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "local x = tonumber(ARGV[2]) " +
+            "if cur then " +
+            "  cur = tonumber(cur) " +
+            "  local hi = math.max(cur, x) " +
+            "  local lo = math.min(cur, x) " +
+            "  x = hi + math.log(1 + 2 ^ (lo - hi)) / math.log(2) " +
+            "end " +
+            "redis.call('ZADD', KEYS[1], x, ARGV[1]) " +
+            "return tostring(x)",
+            String.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void addScore(BoardType boardType, Long postId, double logScore) {
+        stringRedisTemplate.execute(
+                LOG_ADD_SCRIPT,
+                Collections.singletonList(generateKey(boardType)),
+                postId.toString(),
+                Double.toString(logScore)
+        );
+    }
+
+    /**
+     * 점수 내림차순으로 (cursorScore, cursorId) 다음부터 count개의 게시글 조회
+     *
+     * <p>점수가 같은 게시글은 Redis 정렬과 동일하게 멤버 문자열 내림차순으로 이어서 조회합니다.
+     * 커서 게시글의 현재 순위를 쓰지 않으므로, 커서 게시글이 정리되거나 점수가 바뀌어도 다음 페이지를 조회할 수 있습니다.</p>
+     *
+     * @param cursorScore 마지막으로 조회한 게시글의 점수 (null이면 1위부터)
+     * @param cursorId 마지막으로 조회한 게시글 ID (cursorScore와 함께 사용)
+     */
+    public List<TrendingEntry> findPostsAfter(BoardType boardType, Double cursorScore, Long cursorId, int count) {
+        String key = generateKey(boardType);
+        double max = cursorScore != null ? cursorScore : Double.POSITIVE_INFINITY;
+        String cursorMember = cursorId != null ? cursorId.toString() : null;
+
+        List<TrendingEntry> entries = new ArrayList<>(count);
+        long offset = 0;
+        while (entries.size() < count) {
+            Set<TypedTuple<String>> rows = stringRedisTemplate.opsForZSet()
+                    .reverseRangeByScoreWithScores(key, Double.NEGATIVE_INFINITY, max, offset, count);
+            if (rows == null || rows.isEmpty()) {
+                break;
+            }
+
+            for (TypedTuple<String> row : rows) {
+                // 커서와 점수가 같고 멤버가 커서 이상이면 이미 조회한 게시글
+                if (cursorMember != null && row.getScore() == max && row.getValue().compareTo(cursorMember) >= 0) {
+                    continue;
+                }
+                entries.add(new TrendingEntry(Long.valueOf(row.getValue()), row.getScore()));
+                if (entries.size() == count) {
+                    break;
+                }
+            }
+
+            if (rows.size() < count) {
+                break;
+            }
+            offset += rows.size();
+        }
+        return entries;
+    }
+
+    public void remove(BoardType boardType, Long postId) {
+        stringRedisTemplate.opsForZSet().remove(generateKey(boardType), postId.toString());
+    }
+
+    /**
+     * 상위 maxSize개만 남기고 나머지 제거
+     *
+     * @return 제거된 게시글 수
+     */
+    public long trim(BoardType boardType, long maxSize) {
+        Long removed = stringRedisTemplate.opsForZSet()
+                .removeRange(generateKey(boardType), 0, -(maxSize + 1));
+        return removed != null ? removed : 0L;
+    }
+
+    public BoardType loadBoardType(Long postId) {
+        String value = stringRedisTemplate.opsForValue().get(BOARD_TYPE_PREFIX + postId);
+        return value != null ? BoardType.valueOf(value) : null;
+    }
+
+    public void saveBoardType(Long postId, BoardType boardType) {
+        stringRedisTemplate.opsForValue().set(BOARD_TYPE_PREFIX + postId, boardType.name(), BOARD_TYPE_TTL);
+    }
+
+    private String generateKey(BoardType boardType) {
+        return TRENDING_PREFIX + boardType.name();
+    }
+
+    /**
+     * 인기 게시글 ID와 점수 (다음 페이지 커서로 사용)
+     */
+    public record TrendingEntry(Long postId, double score) {
+    }
+}
@@ -0,0 +1,101 @@
+package com.kakaobase.snsapp.domain.posts.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * YouTube 요약 중복 제거용 캐시 유틸리티
+ *
+ * <ul>
+ *     <li>youtube:summary:{videoId} - 영상별 요약 결과</li>
+ *     <li>youtube:summary:lock:{videoId} - 영상별 요약 진행 락 (노드 간 single-flight)</li>
+ *     <li>youtube:summary:waiters:{videoId} - 요약 결과를 기다리는 게시글 ID</li>
+ *     <li>youtube:summary:pending - 대기 게시글이 남아있는 영상 ID (복구 스케줄러용)</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class YouTubeSummaryCacheUtil {
+
+    private static final String SUMMARY_PREFIX = "youtube:summary:";
+    private static final String LOCK_PREFIX = "youtube:summary:lock:";
+    private static final String WAITERS_PREFIX = "youtube:summary:waiters:";
+    private static final String PENDING_KEY = "youtube:summary:pending";
+
+    private static final Duration WAITERS_TTL = Duration.ofDays(1);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public String loadSummary(String videoId) {
+        return stringRedisTemplate.opsForValue().get(SUMMARY_PREFIX + videoId);
+    }
+
+    public void saveSummary(String videoId, String summary, Duration ttl) {
+        stringRedisTemplate.opsForValue().set(SUMMARY_PREFIX + videoId, summary, ttl);
+    }
+
+    public boolean tryLock(String videoId, Duration ttl) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LOCK_PREFIX + videoId, "1", ttl));
+    }
+
+    public boolean isLocked(String videoId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(LOCK_PREFIX + videoId));
+    }
+
+    public void unlock(String videoId) {
+        stringRedisTemplate.delete(LOCK_PREFIX + videoId);
+    }
+
+    public void addWaiter(String videoId, Long postId) {
+        String key = WAITERS_PREFIX + videoId;
+        stringRedisTemplate.opsForSet().add(key, postId.toString());
+        stringRedisTemplate.expire(key, WAITERS_TTL);
+        stringRedisTemplate.opsForSet().add(PENDING_KEY, videoId);
+    }
+
+    /**
+     * 대기 중인 게시글 ID를 조회합니다. 반영이 끝날 때까지 대기 목록에 남겨 둡니다.
+     */
+    public List<Long> findWaiters(String videoId) {
+        Set<String> members = stringRedisTemplate.opsForSet().members(WAITERS_PREFIX + videoId);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    /**
+     * 반영을 마친 게시글을 대기 목록에서 제거하고, 더 이상 대기 게시글이 없으면 복구 대상에서도 제거합니다.
+     * 주어진 ID만 제거하므로 그 사이 추가된 게시글은 남아있습니다.
+     */
+    public void removeWaiters(String videoId, Collection<Long> postIds) {
+        String key = WAITERS_PREFIX + videoId;
+        if (!postIds.isEmpty()) {
+            stringRedisTemplate.opsForSet().remove(key, postIds.stream().map(String::valueOf).toArray());
+        }
+        Long remaining = stringRedisTemplate.opsForSet().size(key);
+        if (remaining == null || remaining == 0) {
+            stringRedisTemplate.opsForSet().remove(PENDING_KEY, videoId);
+        }
+    }
+
+    public boolean hasWaiters(String videoId) {
+        Long size = stringRedisTemplate.opsForSet().size(WAITERS_PREFIX + videoId);
+        return size != null && size > 0;
+    }
+
+    public Set<String> getPendingVideoIds() {
+        Set<String> members = stringRedisTemplate.opsForSet().members(PENDING_KEY);
+        return members != null ? members : Set.of();
+    }
+
+    public void removePending(String videoId) {
+        stringRedisTemplate.opsForSet().remove(PENDING_KEY, videoId);
+    }
+}
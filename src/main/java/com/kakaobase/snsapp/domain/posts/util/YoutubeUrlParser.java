@@ -0,0 +1,38 @@
+package com.kakaobase.snsapp.domain.posts.util;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * YouTube URL에서 영상 ID를 추출하는 유틸리티
+ *
+ * <p>watch?v=, youtu.be/, shorts/, embed/, live/ 형식을 지원하며
+ * 쿼리 파라미터(t, si, list 등)가 달라도 같은 영상이면 같은 ID를 반환합니다.</p>
+ */
+public final class YoutubeUrlParser {
+
+    private static final Pattern VIDEO_ID_PATTERN = Pattern.compile(
+            "(?:youtube\\.com/(?:watch\\?(?:.*&)?v=|shorts/|embed/|live/|v/)|youtu\\.be/)([A-Za-z0-9_-]{11})(?![A-Za-z0-9_-])"
+    );
+
+    private YoutubeUrlParser() {
+    }
+
+    /**
+     * @return 11자리 영상 ID, 형식이 맞지 않으면 null
+     */
+    public static String extractVideoId(String youtubeUrl) {
+        if (youtubeUrl == null) {
+            return null;
+        }
+        Matcher matcher = VIDEO_ID_PATTERN.matcher(youtubeUrl.trim());
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    /**
+     * AI 서버 요청에 사용할 정규화된 URL
+     */
+    public static String toCanonicalUrl(String videoId) {
+        return "https://www.youtube.com/watch?v=" + videoId;
+    }
+}
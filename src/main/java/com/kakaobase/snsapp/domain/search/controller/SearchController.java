@@ -0,0 +1,63 @@
+package com.kakaobase.snsapp.domain.search.controller;
+
+import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
+import com.kakaobase.snsapp.domain.posts.dto.PostResponseDto;
+import com.kakaobase.snsapp.domain.search.dto.SearchResponseDto;
+import com.kakaobase.snsapp.domain.search.service.SearchService;
+import com.kakaobase.snsapp.global.common.response.CustomResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 검색 API 컨트롤러
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@Tag(name = "검색 API", description = "게시글/댓글 본문 검색 API")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping("/posts")
+    @Operation(summary = "게시글 검색", description = "검색어를 포함하는 게시글을 최신순으로 조회합니다.")
+    public CustomResponse<List<PostResponseDto.PostDetails>> searchPosts(
+            @Parameter(description = "검색어 (최대 100자)") @RequestParam("q") String keyword,
+            @Parameter(description = "게시판 유형 (생략 시 전체)") @RequestParam(name = "post_type", required = false) String postType,
+            @Parameter(description = "한 페이지에 표시할 게시글 수") @RequestParam(defaultValue = "12") int limit,
+            @Parameter(description = "마지막으로 조회한 게시글 ID") @RequestParam(required = false) Long cursor,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+
+        Long memberId = Long.valueOf(userDetails.getId());
+
+        List<PostResponseDto.PostDetails> response = searchService.searchPosts(keyword, postType, limit, cursor, memberId);
+
+        return CustomResponse.success("게시글 검색에 성공하였습니다", response);
+    }
+
+    @GetMapping("/comments")
+    @Operation(summary = "댓글 검색", description = "검색어를 포함하는 댓글을 최신순으로 조회합니다.")
+    public CustomResponse<List<SearchResponseDto.CommentHit>> searchComments(
+            @Parameter(description = "검색어 (최대 100자)") @RequestParam("q") String keyword,
+            @Parameter(description = "게시판 유형 (생략 시 전체)") @RequestParam(name = "post_type", required = false) String postType,
+            @Parameter(description = "한 페이지에 표시할 댓글 수") @RequestParam(defaultValue = "12") int limit,
+            @Parameter(description = "마지막으로 조회한 댓글 ID") @RequestParam(required = false) Long cursor
+    ) {
+
+        List<SearchResponseDto.CommentHit> response = searchService.searchComments(keyword, postType, limit, cursor);
+
+        return CustomResponse.success("댓글 검색에 성공하였습니다", response);
+    }
+}
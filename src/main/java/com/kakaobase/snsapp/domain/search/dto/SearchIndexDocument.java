@@ -0,0 +1,24 @@
+package com.kakaobase.snsapp.domain.search.dto;
+
+import com.kakaobase.snsapp.domain.posts.util.BoardType;
+import com.kakaobase.snsapp.domain.search.util.SearchDocumentType;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인에 저장되는 문서
+ *
+ * <p>게시글이면 id와 postId가 같고, 댓글이면 postId는 부모 게시글 ID입니다.
+ * 댓글 문서도 부모 게시글의 게시판 타입을 가지므로 게시판 필터를 그대로 적용할 수 있습니다.</p>
+ */
+@Builder
+public record SearchIndexDocument(
+        SearchDocumentType type,
+        Long id,
+        Long postId,
+        BoardType boardType,
+        Long memberId,
+        String content,
+        LocalDateTime createdAt
+) {}
@@ -0,0 +1,37 @@
+package com.kakaobase.snsapp.domain.search.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 도메인의 응답 DTO를 관리하는 통합 클래스
+ */
+public class SearchResponseDto {
+
+    @Schema(description = "댓글 검색 결과")
+    @Builder
+    public record CommentHit(
+            @Schema(description = "댓글 ID", example = "456")
+            @JsonProperty("id")
+            Long id,
+
+            @Schema(description = "게시글 ID", example = "123")
+            @JsonProperty("post_id")
+            Long postId,
+
+            @Schema(description = "작성자 ID", example = "7")
+            @JsonProperty("user_id")
+            Long userId,
+
+            @Schema(description = "댓글 내용", example = "이벤트 버블링 설명 감사합니다")
+            @JsonProperty("content")
+            String content,
+
+            @Schema(description = "생성 시간", example = "2024-04-23T10:00:00Z")
+            @JsonProperty("created_at")
+            LocalDateTime createdAt
+    ) {}
+}
@@ -0,0 +1,44 @@
+package com.kakaobase.snsapp.domain.search.event;
+
+import com.kakaobase.snsapp.domain.search.util.SearchDocumentType;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 검색 색인 갱신 요청 이벤트
+ *
+ * <p>댓글 생성, 게시글/댓글 삭제 시 발행되며 트랜잭션 커밋 이후 리스너가 색인을 갱신합니다.
+ * 게시글 생성은 기존 PostCreatedEvent로 처리합니다.</p>
+ */
+@Getter
+public class SearchIndexEvent extends ApplicationEvent {
+
+    public enum Action {
+        INDEX,
+        DELETE
+    }
+
+    private final Action action;
+    private final SearchDocumentType type;
+    private final Long targetId;
+
+    private SearchIndexEvent(Action action, SearchDocumentType type, Long targetId) {
+        super(targetId);
+        this.action = action;
+        this.type = type;
+        this.targetId = targetId;
+    }
+
+    public static SearchIndexEvent index(SearchDocumentType type, Long targetId) {
+        return new SearchIndexEvent(Action.INDEX, type, targetId);
+    }
+
+    public static SearchIndexEvent delete(SearchDocumentType type, Long targetId) {
+        return new SearchIndexEvent(Action.DELETE, type, targetId);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SearchIndexEvent{action=%s, type=%s, targetId=%d}", action, type, targetId);
+    }
+}
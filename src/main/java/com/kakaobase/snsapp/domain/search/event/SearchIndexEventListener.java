@@ -0,0 +1,56 @@
+package com.kakaobase.snsapp.domain.search.event;
+
+import com.kakaobase.snsapp.domain.posts.event.PostCreatedEvent;
+import com.kakaobase.snsapp.domain.search.service.SearchIndexService;
+import com.kakaobase.snsapp.domain.search.util.SearchDocumentType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 검색 색인 이벤트 리스너
+ *
+ * <p>색인 시 커밋된 행을 다시 읽으므로 트랜잭션 커밋 이후에 처리합니다.
+ * 변경은 모든 노드의 로컬 색인에 반영되도록 {@link SearchIndexService#publish}로 전파합니다.
+ * 트랜잭션 밖에서 발행된 이벤트(봇 게시글 등)도 바로 처리되도록 fallbackExecution을 켭니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexEventListener {
+
+    private final SearchIndexService searchIndexService;
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePostCreated(PostCreatedEvent event) {
+        try {
+            searchIndexService.publish(SearchIndexEvent.Action.INDEX, SearchDocumentType.POST, event.getPostId());
+        } catch (Exception e) {
+            log.error("게시글 색인 실패 - postId: {}", event.getPostId(), e);
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleSearchIndex(SearchIndexEvent event) {
+        try {
+            searchIndexService.publish(event.getAction(), event.getType(), event.getTargetId());
+        } catch (Exception e) {
+            log.error("검색 색인 갱신 실패 - {}", event, e);
+        }
+    }
+
+    /**
+     * 새 노드이거나 색인 디렉토리가 비어 있으면 기동 후 재색인
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void handleApplicationReady() {
+        searchIndexService.rebuildIfEmpty();
+    }
+}
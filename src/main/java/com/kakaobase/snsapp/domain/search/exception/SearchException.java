@@ -0,0 +1,22 @@
+package com.kakaobase.snsapp.domain.search.exception;
+
+import com.kakaobase.snsapp.global.error.code.BaseErrorCode;
+import com.kakaobase.snsapp.global.error.exception.CustomException;
+
+/**
+ * 검색 도메인에서 발생하는 예외를 처리하는 클래스입니다.
+ */
+public class SearchException extends CustomException {
+
+    public SearchException(BaseErrorCode errorCode) {
+        super(errorCode);
+    }
+
+    public SearchException(BaseErrorCode errorCode, String field) {
+        super(errorCode, field);
+    }
+
+    public SearchException(BaseErrorCode errorCode, String field, String additionalMessage) {
+        super(errorCode, field, additionalMessage);
+    }
+}
@@ -0,0 +1,108 @@
+package com.kakaobase.snsapp.domain.search.repository;
+
+import com.kakaobase.snsapp.domain.comments.entity.QComment;
+import com.kakaobase.snsapp.domain.posts.entity.QPost;
+import com.kakaobase.snsapp.domain.search.dto.SearchIndexDocument;
+import com.kakaobase.snsapp.domain.search.util.SearchDocumentType;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 검색 색인용 게시글/댓글 조회 Repository
+ *
+ * <p>재색인 시에는 id 오름차순 keyset 조회로 테이블을 limit개씩 끝까지 읽으며,
+ * 엔티티 대신 색인에 필요한 컬럼만 조회합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchIndexRepository {
+
+    private static final QPost post = QPost.post;
+    private static final QComment comment = QComment.comment;
+
+    private final JPAQueryFactory queryFactory;
+
+    public List<SearchIndexDocument> findPostDocumentsAfter(Long cursor, int limit) {
+        return queryFactory
+                .select(post.id, post.boardType, post.member.id, post.content, post.createdAt)
+                .from(post)
+                .where(post.id.gt(cursor))
+                .orderBy(post.id.asc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(this::toPostDocument)
+                .toList();
+    }
+
+    public Optional<SearchIndexDocument> findPostDocument(Long postId) {
+        Tuple tuple = queryFactory
+                .select(post.id, post.boardType, post.member.id, post.content, post.createdAt)
+                .from(post)
+                .where(post.id.eq(postId))
+                .fetchOne();
+        return Optional.ofNullable(tuple).map(this::toPostDocument);
+    }
+
+    public List<SearchIndexDocument> findCommentDocumentsAfter(Long cursor, int limit) {
+        return queryFactory
+                .select(comment.id, post.id, post.boardType, comment.member.id,
+                        comment.content, comment.createdAt)
+                .from(comment)
+                .join(comment.post, post)
+                .where(
+                        comment.id.gt(cursor),
+                        post.deletedAt.isNull()
+                )
+                .orderBy(comment.id.asc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(this::toCommentDocument)
+                .toList();
+    }
+
+    public Optional<SearchIndexDocument> findCommentDocument(Long commentId) {
+        Tuple tuple = queryFactory
+                .select(comment.id, post.id, post.boardType, comment.member.id,
+                        comment.content, comment.createdAt)
+                .from(comment)
+                .join(comment.post, post)
+                .where(
+                        comment.id.eq(commentId),
+                        post.deletedAt.isNull()
+                )
+                .fetchOne();
+        return Optional.ofNullable(tuple).map(this::toCommentDocument);
+    }
+
+    private SearchIndexDocument toPostDocument(Tuple tuple) {
+        Long id = tuple.get(post.id);
+        return SearchIndexDocument.builder()
+                .type(SearchDocumentType.POST)
+                .id(id)
+                .postId(id)
+                .boardType(tuple.get(post.boardType))
+                .memberId(tuple.get(post.member.id))
+                .content(tuple.get(post.content))
+                .createdAt(tuple.get(post.createdAt))
+                .build();
+    }
+
+    private SearchIndexDocument toCommentDocument(Tuple tuple) {
+        return SearchIndexDocument.builder()
+                .type(SearchDocumentType.COMMENT)
+                .id(tuple.get(comment.id))
+                .postId(tuple.get(post.id))
+                .boardType(tuple.get(post.boardType))
+                .memberId(tuple.get(comment.member.id))
+                .content(tuple.get(comment.content))
+                .createdAt(tuple.get(comment.createdAt))
+                .build();
+    }
+}
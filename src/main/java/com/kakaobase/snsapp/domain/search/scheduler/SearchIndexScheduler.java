@@ -0,0 +1,37 @@
+package com.kakaobase.snsapp.domain.search.scheduler;
+
+import com.kakaobase.snsapp.domain.search.service.SearchIndexService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 색인 스케줄러
+ * 색인 커밋 (1분마다) + 증분 갱신 누락 보정을 위한 전체 재색인 (매주 월요일 새벽 4시)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexScheduler {
+
+    private final SearchIndexService searchIndexService;
+
+    /**
+     * NRT로 이미 검색에 반영된 변경 사항을 디스크에 커밋
+     */
+    @Scheduled(fixedRate = 60000)
+    public void commit() {
+        try {
+            searchIndexService.commit();
+        } catch (Exception e) {
+            log.error("검색 색인 커밋 중 오류 발생", e);
+        }
+    }
+
+    @Scheduled(cron = "0 0 4 * * MON")
+    public void rebuild() {
+        log.info("검색 색인 정기 재색인 시작");
+        searchIndexService.rebuild();
+    }
+}
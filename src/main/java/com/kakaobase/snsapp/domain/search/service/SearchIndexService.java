@@ -0,0 +1,195 @@
+package com.kakaobase.snsapp.domain.search.service;
+
+import com.kakaobase.snsapp.domain.search.dto.SearchIndexDocument;
+import com.kakaobase.snsapp.domain.search.event.SearchIndexEvent;
+import com.kakaobase.snsapp.domain.search.repository.SearchIndexRepository;
+import com.kakaobase.snsapp.domain.search.util.SearchDocumentType;
+import com.kakaobase.snsapp.domain.search.util.SearchIndexManager;
+import com.kakaobase.snsapp.domain.search.util.SearchIndexSyncTopic;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StopWatch;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+
+/**
+ * 검색 색인 갱신 서비스
+ *
+ * <p>게시글/댓글 생성·삭제 이벤트로 색인을 증분 갱신하고,
+ * 재색인 시에는 posts, comments 테이블을 id 순으로 끝까지 읽어 새 색인을 만듭니다.
+ * 색인은 노드별 로컬 디스크에 있으므로 재색인도 노드마다 독립적으로 수행됩니다.</p>
+ *
+ * <p>증분 변경은 발생한 노드에서 바로 반영하지 않고 {@link SearchIndexSyncTopic}으로 모든 노드에 전파해,
+ * 각 노드가 수신한 변경을 자기 색인에 반영합니다. 전파에 실패하면 자기 색인에만 반영하고,
+ * 다른 노드의 누락분은 재색인으로 복구됩니다.</p>
+ */
+@Slf4j
+@Service
+public class SearchIndexService {
+
+    private final SearchIndexRepository searchIndexRepository;
+    private final SearchIndexManager searchIndexManager;
+    private final SearchIndexSyncTopic searchIndexSyncTopic;
+    private final Executor taskExecutor;
+    private final int rebuildBatchSize;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    public SearchIndexService(SearchIndexRepository searchIndexRepository,
+                              SearchIndexManager searchIndexManager,
+                              SearchIndexSyncTopic searchIndexSyncTopic,
+                              @Qualifier("taskExecutor") Executor taskExecutor,
+                              @Value("${search.index.rebuild-batch-size:1000}") int rebuildBatchSize) {
+        this.searchIndexRepository = searchIndexRepository;
+        this.searchIndexManager = searchIndexManager;
+        this.searchIndexSyncTopic = searchIndexSyncTopic;
+        this.taskExecutor = taskExecutor;
+        this.rebuildBatchSize = rebuildBatchSize;
+    }
+
+    /**
+     * 다른 노드(자신 포함)에서 전파된 변경을 구독합니다.
+     * 색인 시 DB를 조회하므로 pub/sub 스레드가 아닌 비동기 실행기에서 처리합니다.
+     */
+    @PostConstruct
+    public void subscribe() {
+        try {
+            searchIndexSyncTopic.subscribe((action, type, targetId) -> taskExecutor.execute(() -> {
+                try {
+                    apply(action, type, targetId);
+                } catch (Exception e) {
+                    log.error("전파된 검색 색인 갱신 실패 - action: {}, type: {}, targetId: {}", action, type, targetId, e);
+                }
+            }));
+        } catch (Exception e) {
+            log.warn("검색 색인 변경 구독 실패, 다른 노드의 변경은 재색인 시 반영됨", e);
+        }
+    }
+
+    /**
+     * 색인 변경을 모든 노드에 전파합니다. 전파에 실패하면 이 노드의 색인에만 반영합니다.
+     */
+    public void publish(SearchIndexEvent.Action action, SearchDocumentType type, Long targetId) {
+        try {
+            searchIndexSyncTopic.publish(action, type, targetId);
+        } catch (Exception e) {
+            log.warn("검색 색인 변경 전파 실패, 이 노드에만 반영 - action: {}, type: {}, targetId: {}", action, type, targetId, e);
+            apply(action, type, targetId);
+        }
+    }
+
+    public void apply(SearchIndexEvent.Action action, SearchDocumentType type, Long targetId) {
+        switch (action) {
+            case INDEX -> {
+                if (type == SearchDocumentType.POST) {
+                    indexPost(targetId);
+                } else {
+                    indexComment(targetId);
+                }
+            }
+            case DELETE -> {
+                if (type == SearchDocumentType.POST) {
+                    deletePost(targetId);
+                } else {
+                    deleteComment(targetId);
+                }
+            }
+        }
+    }
+
+    public void indexPost(Long postId) {
+        searchIndexRepository.findPostDocument(postId)
+                .ifPresentOrElse(
+                        searchIndexManager::upsert,
+                        () -> log.debug("색인할 게시글 없음 (삭제됨) - postId: {}", postId)
+                );
+    }
+
+    public void indexComment(Long commentId) {
+        searchIndexRepository.findCommentDocument(commentId)
+                .ifPresentOrElse(
+                        searchIndexManager::upsert,
+                        () -> log.debug("색인할 댓글 없음 (삭제됨) - commentId: {}", commentId)
+                );
+    }
+
+    /**
+     * 게시글과 그 댓글 문서를 색인에서 제거합니다.
+     */
+    public void deletePost(Long postId) {
+        searchIndexManager.deleteByPostId(postId);
+    }
+
+    public void deleteComment(Long commentId) {
+        searchIndexManager.delete(SearchDocumentType.COMMENT, commentId);
+    }
+
+    public void rebuildIfEmpty() {
+        if (searchIndexManager.isEmpty()) {
+            log.info("검색 색인이 비어 있어 재색인을 시작합니다");
+            rebuild();
+        }
+    }
+
+    /**
+     * 전체 재색인
+     * 이미 재색인 중이면 건너뜁니다.
+     */
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("검색 재색인이 이미 진행 중입니다");
+            return;
+        }
+
+        StopWatch stopWatch = new StopWatch();
+        stopWatch.start();
+        try {
+            searchIndexManager.beginRebuild();
+            long posts = stream(searchIndexRepository::findPostDocumentsAfter);
+            long comments = stream(searchIndexRepository::findCommentDocumentsAfter);
+            searchIndexManager.finishRebuild();
+
+            stopWatch.stop();
+            log.info("검색 재색인 완료 - 게시글: {} 개, 댓글: {} 개 ({}ms)", posts, comments, stopWatch.getTotalTimeMillis());
+        } catch (Exception e) {
+            searchIndexManager.abortRebuild();
+            log.error("검색 재색인 실패", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    public void commit() {
+        searchIndexManager.commit();
+    }
+
+    /**
+     * id 오름차순으로 테이블을 batch 단위로 끝까지 읽어 재색인 대상 색인에 추가합니다.
+     *
+     * @return 색인한 문서 수
+     */
+    private long stream(BiFunction<Long, Integer, List<SearchIndexDocument>> fetcher) throws Exception {
+        long cursor = 0L;
+        long total = 0L;
+        while (true) {
+            List<SearchIndexDocument> documents = fetcher.apply(cursor, rebuildBatchSize);
+            if (documents.isEmpty()) {
+                return total;
+            }
+
+            searchIndexManager.addToRebuild(documents);
+            total += documents.size();
+
+            if (documents.size() < rebuildBatchSize) {
+                return total;
+            }
+            cursor = documents.get(documents.size() - 1).id();
+        }
+    }
+}
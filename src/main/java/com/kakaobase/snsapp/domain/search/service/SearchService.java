@@ -0,0 +1,153 @@
+package com.kakaobase.snsapp.domain.search.service;
+
+import com.kakaobase.snsapp.domain.posts.converter.PostConverter;
+import com.kakaobase.snsapp.domain.posts.dto.PostResponseDto;
+import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
+import com.kakaobase.snsapp.domain.posts.util.BoardType;
+import com.kakaobase.snsapp.domain.search.dto.SearchIndexDocument;
+import com.kakaobase.snsapp.domain.search.dto.SearchResponseDto;
+import com.kakaobase.snsapp.domain.search.exception.SearchException;
+import com.kakaobase.snsapp.domain.search.util.KoreanNGramAnalyzer;
+import com.kakaobase.snsapp.domain.search.util.SearchDocumentType;
+import com.kakaobase.snsapp.domain.search.util.SearchIndexManager;
+import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글/댓글 검색 서비스
+ *
+ * <p>검색어를 bigram으로 분석해 모든 토큰을 포함하는 문서를 찾고, 최신순(id 내림차순)으로 커서 페이지네이션합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    private static final int MAX_QUERY_LENGTH = 100;
+    private static final Analyzer QUERY_ANALYZER = KoreanNGramAnalyzer.forQuery();
+
+    private final SearchIndexManager searchIndexManager;
+    private final PostRepository postRepository;
+    private final PostConverter postConverter;
+
+    /**
+     * 게시글 본문 검색
+     */
+    @Transactional(readOnly = true)
+    public List<PostResponseDto.PostDetails> searchPosts(String keyword, String postType, int limit, Long cursor, Long currentMemberId) {
+        Query query = buildQuery(keyword, SearchDocumentType.POST, postType, cursor, limit);
+        if (query == null) {
+            return List.of();
+        }
+
+        List<Long> postIds = searchIndexManager.search(query, limit).stream()
+                .map(SearchIndexDocument::id)
+                .toList();
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 색인 반영 전에 삭제된 게시글은 조회 단계에서 제외됨
+        Map<Long, PostResponseDto.PostDetails> detailsById = postRepository.findAllByIdIn(postIds).stream()
+                .collect(Collectors.toMap(PostResponseDto.PostDetails::id, Function.identity(), (a, b) -> a));
+
+        List<PostResponseDto.PostDetails> postDetails = postIds.stream()
+                .map(detailsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return postConverter.updateWithCachedStats(postConverter.applyViewerContext(postDetails, currentMemberId));
+    }
+
+    /**
+     * 댓글 본문 검색
+     * 색인에 저장된 내용을 그대로 반환하므로 DB를 조회하지 않습니다.
+     */
+    public List<SearchResponseDto.CommentHit> searchComments(String keyword, String postType, int limit, Long cursor) {
+        Query query = buildQuery(keyword, SearchDocumentType.COMMENT, postType, cursor, limit);
+        if (query == null) {
+            return List.of();
+        }
+
+        return searchIndexManager.search(query, limit).stream()
+                .map(document -> SearchResponseDto.CommentHit.builder()
+                        .id(document.id())
+                        .postId(document.postId())
+                        .userId(document.memberId())
+                        .content(document.content())
+                        .createdAt(document.createdAt())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * @return 검색할 토큰이 없으면 null
+     */
+    private Query buildQuery(String keyword, SearchDocumentType type, String postType, Long cursor, int limit) {
+        if (limit < 1) {
+            throw new SearchException(GeneralErrorCode.INVALID_QUERY_PARAMETER, "limit", "limit는 1 이상이어야 합니다.");
+        }
+        if (!StringUtils.hasText(keyword) || keyword.length() > MAX_QUERY_LENGTH) {
+            throw new SearchException(GeneralErrorCode.INVALID_QUERY_PARAMETER, "q",
+                    "검색어는 1자 이상 " + MAX_QUERY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        Set<String> tokens = analyze(keyword);
+        if (tokens.isEmpty()) {
+            return null;
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (String token : tokens) {
+            builder.add(new TermQuery(new Term(SearchIndexManager.FIELD_CONTENT, token)), BooleanClause.Occur.MUST);
+        }
+        builder.add(new TermQuery(new Term(SearchIndexManager.FIELD_TYPE, type.name())), BooleanClause.Occur.FILTER);
+
+        BoardType boardType = StringUtils.hasText(postType) ? postConverter.toBoardType(postType) : BoardType.ALL;
+        if (boardType != BoardType.ALL) {
+            builder.add(new TermQuery(new Term(SearchIndexManager.FIELD_BOARD_TYPE, boardType.name())), BooleanClause.Occur.FILTER);
+        }
+        if (cursor != null) {
+            builder.add(LongPoint.newRangeQuery(SearchIndexManager.FIELD_ID, Long.MIN_VALUE, cursor - 1), BooleanClause.Occur.FILTER);
+        }
+        return builder.build();
+    }
+
+    private Set<String> analyze(String keyword) {
+        Set<String> tokens = new LinkedHashSet<>();
+        try (TokenStream stream = QUERY_ANALYZER.tokenStream(SearchIndexManager.FIELD_CONTENT, keyword)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return tokens;
+    }
+}
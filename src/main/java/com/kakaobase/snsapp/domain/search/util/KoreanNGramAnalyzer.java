@@ -0,0 +1,49 @@
+package com.kakaobase.snsapp.domain.search.util;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.cjk.CJKBigramFilter;
+import org.apache.lucene.analysis.cjk.CJKWidthFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+
+/**
+ * 한글 bigram 분석기
+ *
+ * <p>StandardTokenizer가 한글 어절을 HANGUL 토큰으로 분리하면 CJKBigramFilter가 2글자 단위로 쪼갭니다.
+ * 형태소 사전 없이도 "카카오테크" 색인에 대해 "카카오", "테크" 같은 부분 검색이 가능합니다.
+ * 영문/숫자는 소문자 단어 단위로 색인됩니다.</p>
+ *
+ * <ul>
+ *     <li>색인용: 1글자 검색을 위해 unigram도 함께 출력</li>
+ *     <li>검색용: bigram만 출력해 불필요하게 넓은 매칭을 줄임 (1글자 어절은 그대로 unigram)</li>
+ * </ul>
+ */
+public class KoreanNGramAnalyzer extends Analyzer {
+
+    private static final int CJK_FLAGS = CJKBigramFilter.HANGUL | CJKBigramFilter.HAN
+            | CJKBigramFilter.HIRAGANA | CJKBigramFilter.KATAKANA;
+
+    private final boolean outputUnigrams;
+
+    private KoreanNGramAnalyzer(boolean outputUnigrams) {
+        this.outputUnigrams = outputUnigrams;
+    }
+
+    public static KoreanNGramAnalyzer forIndexing() {
+        return new KoreanNGramAnalyzer(true);
+    }
+
+    public static KoreanNGramAnalyzer forQuery() {
+        return new KoreanNGramAnalyzer(false);
+    }
+
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName) {
+        StandardTokenizer tokenizer = new StandardTokenizer();
+        TokenStream stream = new CJKWidthFilter(tokenizer);
+        stream = new LowerCaseFilter(stream);
+        stream = new CJKBigramFilter(stream, CJK_FLAGS, outputUnigrams);
+        return new TokenStreamComponents(tokenizer, stream);
+    }
+}
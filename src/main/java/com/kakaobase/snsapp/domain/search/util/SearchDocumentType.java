@@ -0,0 +1,16 @@
+package com.kakaobase.snsapp.domain.search.util;
+
+/**
+ * 검색 색인 문서 종류
+ */
+public enum SearchDocumentType {
+    POST,
+    COMMENT;
+
+    /**
+     * 색인 내에서 문서를 유일하게 식별하는 키 (예: "POST:12")
+     */
+    public String toUid(Long id) {
+        return name() + ":" + id;
+    }
+}
@@ -0,0 +1,375 @@
+package com.kakaobase.snsapp.domain.search.util;
+
+import com.kakaobase.snsapp.domain.posts.util.BoardType;
+import com.kakaobase.snsapp.domain.search.dto.SearchIndexDocument;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 디스크 기반 Lucene 색인 관리자
+ *
+ * <p>색인은 {base}/index-{생성시각} 디렉토리에 저장되고, {base}/CURRENT 파일이 사용 중인 디렉토리를 가리킵니다.
+ * 변경 사항은 커밋 전이라도 NRT(near-real-time) 리더로 max-stale-seconds 이내에 검색에 반영되며,
+ * 커밋은 스케줄러가 주기적으로 수행합니다.</p>
+ *
+ * <p>재색인은 새 디렉토리에 처음부터 색인한 뒤 CURRENT를 교체하므로, 진행 중에도 기존 색인으로 검색할 수 있습니다.
+ * 재색인 중 들어온 증분 변경은 기존 색인과 새 색인 모두에 반영됩니다.</p>
+ *
+ * <p>색인은 노드마다 따로 있으므로 증분 변경은 {@link SearchIndexSyncTopic}을 통해 모든 노드에서 적용됩니다.</p>
+ */
+@Slf4j
+@Component
+public class SearchIndexManager {
+
+    public static final String FIELD_UID = "uid";
+    public static final String FIELD_TYPE = "type";
+    public static final String FIELD_ID = "id";
+    public static final String FIELD_POST_ID = "post_id";
+    public static final String FIELD_BOARD_TYPE = "board_type";
+    public static final String FIELD_MEMBER_ID = "member_id";
+    public static final String FIELD_CONTENT = "content";
+    public static final String FIELD_CREATED_AT = "created_at";
+
+    private static final String CURRENT_FILE = "CURRENT";
+    private static final String INDEX_DIR_PREFIX = "index-";
+    private static final Sort ID_DESC = new Sort(new SortField(FIELD_ID, SortField.Type.LONG, true));
+
+    private final Path basePath;
+    private final double maxStaleSeconds;
+
+    /**
+     * 검색/증분 색인은 읽기 락, 색인 교체는 쓰기 락
+     */
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    private volatile IndexHandle current;
+    private volatile IndexHandle rebuilding;
+
+    public SearchIndexManager(@Value("${search.index.path:./data/search-index}") String basePath,
+                              @Value("${search.index.max-stale-seconds:1.0}") double maxStaleSeconds) {
+        this.basePath = Path.of(basePath).toAbsolutePath();
+        this.maxStaleSeconds = maxStaleSeconds;
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(basePath);
+
+        Path currentFile = basePath.resolve(CURRENT_FILE);
+        Path indexPath = null;
+        if (Files.exists(currentFile)) {
+            indexPath = basePath.resolve(Files.readString(currentFile, StandardCharsets.UTF_8).trim());
+        }
+        if (indexPath == null || !Files.isDirectory(indexPath)) {
+            indexPath = newIndexPath();
+            writePointer(indexPath);
+        }
+
+        current = IndexHandle.open(indexPath, maxStaleSeconds);
+        log.info("검색 색인 열기 완료 - path: {}, 문서 수: {}", indexPath, current.writer().getDocStats().numDocs);
+    }
+
+    @PreDestroy
+    public void close() {
+        abortRebuild();
+        IndexHandle handle = current;
+        if (handle != null) {
+            handle.commitQuietly();
+            handle.close();
+        }
+    }
+
+    public boolean isEmpty() {
+        return current.writer().getDocStats().numDocs == 0;
+    }
+
+    public void upsert(SearchIndexDocument document) {
+        Document doc = toDocument(document);
+        Term uid = new Term(FIELD_UID, document.type().toUid(document.id()));
+        applyToAll(handle -> handle.writer().updateDocument(uid, doc));
+    }
+
+    public void delete(SearchDocumentType type, Long id) {
+        Term uid = new Term(FIELD_UID, type.toUid(id));
+        applyToAll(handle -> handle.writer().deleteDocuments(uid));
+    }
+
+    /**
+     * 게시글과 해당 게시글의 댓글 문서를 모두 삭제합니다.
+     */
+    public void deleteByPostId(Long postId) {
+        Term term = new Term(FIELD_POST_ID, postId.toString());
+        applyToAll(handle -> handle.writer().deleteDocuments(term));
+    }
+
+    /**
+     * 게시글 ID 내림차순으로 검색합니다.
+     */
+    public List<SearchIndexDocument> search(Query query, int limit) {
+        swapLock.readLock().lock();
+        IndexSearcher searcher = null;
+        SearcherManager searcherManager = current.searcherManager();
+        try {
+            searcher = searcherManager.acquire();
+            TopDocs topDocs = searcher.search(query, limit, ID_DESC);
+            StoredFields storedFields = searcher.storedFields();
+
+            List<SearchIndexDocument> results = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                results.add(fromDocument(storedFields.document(scoreDoc.doc)));
+            }
+            return results;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (searcher != null) {
+                releaseQuietly(searcherManager, searcher);
+            }
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 커밋되지 않은 변경 사항을 디스크에 반영합니다. (스케줄러에서 호출)
+     */
+    public void commit() {
+        swapLock.readLock().lock();
+        try {
+            current.commitQuietly();
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 새 디렉토리에 빈 색인을 열고 재색인을 시작합니다.
+     * 이후 {@link #addToRebuild(List)}로 문서를 채운 뒤 {@link #finishRebuild()}로 교체합니다.
+     */
+    public void beginRebuild() throws IOException {
+        if (rebuilding != null) {
+            throw new IllegalStateException("이미 재색인이 진행 중입니다");
+        }
+        rebuilding = IndexHandle.open(newIndexPath(), maxStaleSeconds);
+    }
+
+    public void addToRebuild(List<SearchIndexDocument> documents) throws IOException {
+        IndexHandle handle = rebuilding;
+        if (handle == null) {
+            throw new IllegalStateException("진행 중인 재색인이 없습니다");
+        }
+        for (SearchIndexDocument document : documents) {
+            handle.writer().updateDocument(new Term(FIELD_UID, document.type().toUid(document.id())), toDocument(document));
+        }
+    }
+
+    public void finishRebuild() throws IOException {
+        IndexHandle next = rebuilding;
+        if (next == null) {
+            throw new IllegalStateException("진행 중인 재색인이 없습니다");
+        }
+        next.writer().commit();
+        next.searcherManager().maybeRefreshBlocking();
+
+        IndexHandle previous;
+        swapLock.writeLock().lock();
+        try {
+            previous = current;
+            writePointer(next.path());
+            current = next;
+            rebuilding = null;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        previous.close();
+        deleteDirectory(previous.path());
+        log.info("검색 색인 교체 완료 - path: {}, 문서 수: {}", next.path(), next.writer().getDocStats().numDocs);
+    }
+
+    public void abortRebuild() {
+        IndexHandle handle = rebuilding;
+        if (handle == null) {
+            return;
+        }
+        rebuilding = null;
+        handle.close();
+        deleteDirectory(handle.path());
+    }
+
+    private void applyToAll(IndexOperation operation) {
+        swapLock.readLock().lock();
+        try {
+            operation.apply(current);
+            IndexHandle pending = rebuilding;
+            if (pending != null) {
+                operation.apply(pending);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private Document toDocument(SearchIndexDocument document) {
+        Document doc = new Document();
+        doc.add(new StringField(FIELD_UID, document.type().toUid(document.id()), Field.Store.NO));
+        doc.add(new StringField(FIELD_TYPE, document.type().name(), Field.Store.YES));
+        doc.add(new LongPoint(FIELD_ID, document.id()));
+        doc.add(new NumericDocValuesField(FIELD_ID, document.id()));
+        doc.add(new StoredField(FIELD_ID, document.id()));
+        doc.add(new StringField(FIELD_POST_ID, document.postId().toString(), Field.Store.YES));
+        doc.add(new StringField(FIELD_BOARD_TYPE, document.boardType().name(), Field.Store.YES));
+        doc.add(new StoredField(FIELD_MEMBER_ID, document.memberId()));
+        doc.add(new TextField(FIELD_CONTENT, document.content() != null ? document.content() : "", Field.Store.YES));
+        if (document.createdAt() != null) {
+            doc.add(new StoredField(FIELD_CREATED_AT, document.createdAt().toInstant(ZoneOffset.UTC).toEpochMilli()));
+        }
+        return doc;
+    }
+
+    private SearchIndexDocument fromDocument(Document doc) {
+        Number createdAt = doc.getField(FIELD_CREATED_AT) != null ? doc.getField(FIELD_CREATED_AT).numericValue() : null;
+        return SearchIndexDocument.builder()
+                .type(SearchDocumentType.valueOf(doc.get(FIELD_TYPE)))
+                .id(doc.getField(FIELD_ID).numericValue().longValue())
+                .postId(Long.valueOf(doc.get(FIELD_POST_ID)))
+                .boardType(BoardType.valueOf(doc.get(FIELD_BOARD_TYPE)))
+                .memberId(doc.getField(FIELD_MEMBER_ID).numericValue().longValue())
+                .content(doc.get(FIELD_CONTENT))
+                .createdAt(createdAt != null
+                        ? LocalDateTime.ofInstant(Instant.ofEpochMilli(createdAt.longValue()), ZoneOffset.UTC)
+                        : null)
+                .build();
+    }
+
+    private Path newIndexPath() {
+        return basePath.resolve(INDEX_DIR_PREFIX + System.currentTimeMillis());
+    }
+
+    /**
+     * CURRENT 파일을 임시 파일에 쓴 뒤 원자적으로 교체합니다.
+     */
+    private void writePointer(Path indexPath) throws IOException {
+        Path tmp = basePath.resolve(CURRENT_FILE + ".tmp");
+        Files.writeString(tmp, indexPath.getFileName().toString(), StandardCharsets.UTF_8);
+        Files.move(tmp, basePath.resolve(CURRENT_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void deleteDirectory(Path path) {
+        try (Stream<Path> paths = Files.walk(path)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> {
+                try {
+                    Files.deleteIfExists(p);
+                } catch (IOException e) {
+                    log.warn("검색 색인 파일 삭제 실패: {}", p);
+                }
+            });
+        } catch (IOException e) {
+            log.warn("검색 색인 디렉토리 삭제 실패: {}", path, e);
+        }
+    }
+
+    private static void releaseQuietly(SearcherManager searcherManager, IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("검색기 반환 실패", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexOperation {
+        void apply(IndexHandle handle) throws IOException;
+    }
+
+    /**
+     * 하나의 색인 디렉토리에 대한 writer/reader 묶음
+     */
+    private record IndexHandle(
+            Path path,
+            Directory directory,
+            IndexWriter writer,
+            SearcherManager searcherManager,
+            ControlledRealTimeReopenThread<IndexSearcher> reopenThread
+    ) {
+
+        static IndexHandle open(Path path, double maxStaleSeconds) throws IOException {
+            Files.createDirectories(path);
+            Directory directory = FSDirectory.open(path);
+            IndexWriterConfig config = new IndexWriterConfig(KoreanNGramAnalyzer.forIndexing())
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+            IndexWriter writer = new IndexWriter(directory, config);
+            SearcherManager searcherManager = new SearcherManager(writer, new SearcherFactory());
+
+            ControlledRealTimeReopenThread<IndexSearcher> reopenThread =
+                    new ControlledRealTimeReopenThread<>(writer, searcherManager, maxStaleSeconds, 0.025);
+            reopenThread.setName("search-index-reopen-" + path.getFileName());
+            reopenThread.setDaemon(true);
+            reopenThread.start();
+
+            return new IndexHandle(path, directory, writer, searcherManager, reopenThread);
+        }
+
+        void commitQuietly() {
+            try {
+                if (writer.hasUncommittedChanges()) {
+                    writer.commit();
+                }
+            } catch (IOException e) {
+                log.error("검색 색인 커밋 실패 - path: {}", path, e);
+            }
+        }
+
+        void close() {
+            try {
+                reopenThread.close();
+                searcherManager.close();
+                writer.close();
+                directory.close();
+            } catch (IOException e) {
+                log.warn("검색 색인 닫기 실패 - path: {}", path, e);
+            }
+        }
+    }
+}
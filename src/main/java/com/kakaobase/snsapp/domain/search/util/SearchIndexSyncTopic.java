@@ -0,0 +1,44 @@
+package com.kakaobase.snsapp.domain.search.util;
+
+import com.kakaobase.snsapp.domain.search.event.SearchIndexEvent;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 색인 변경 전파 토픽 (Redis pub/sub)
+ *
+ * <p>색인은 노드별 로컬 디스크에 있으므로, 한 노드에서 일어난 변경을 모든 노드(자신 포함)에 알려 각자 색인에 반영합니다.
+ * 메시지는 "{동작}:{문서 타입}:{ID}" 형식입니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchIndexSyncTopic {
+
+    private static final String TOPIC = "search:index:sync";
+
+    private final RedissonClient redissonClient;
+
+    public void publish(SearchIndexEvent.Action action, SearchDocumentType type, Long targetId) {
+        topic().publish(action.name() + ":" + type.name() + ":" + targetId);
+    }
+
+    public void subscribe(Listener listener) {
+        topic().addListener(String.class, (channel, message) -> {
+            String[] parts = message.split(":");
+            listener.onChange(SearchIndexEvent.Action.valueOf(parts[0]), SearchDocumentType.valueOf(parts[1]),
+                    Long.parseLong(parts[2]));
+        });
+    }
+
+    private RTopic topic() {
+        return redissonClient.getTopic(TOPIC, StringCodec.INSTANCE);
+    }
+
+    @FunctionalInterface
+    public interface Listener {
+        void onChange(SearchIndexEvent.Action action, SearchDocumentType type, Long targetId);
+    }
+}
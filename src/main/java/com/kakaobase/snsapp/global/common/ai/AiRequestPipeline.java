@@ -0,0 +1,168 @@
+package com.kakaobase.snsapp.global.common.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * AI 서버 요청 파이프라인
+ *
+ * <p>봇 게시글/대댓글처럼 "DB 조회 → AI 호출 → DB 저장" 흐름을 세 단계로 분리해 실행합니다.</p>
+ * <ol>
+ *     <li>gather: 전용 스케줄러에서 짧은 읽기 트랜잭션으로 요청 컨텍스트를 만듭니다.</li>
+ *     <li>call: 트랜잭션 없이 논블로킹 WebClient로 AI 서버를 호출합니다. 시도별 타임아웃, 재시도 횟수, 전체 제한 시간이 적용됩니다.</li>
+ *     <li>persist: 응답이 도착하면 전용 스케줄러에서 짧은 쓰기 트랜잭션으로 저장합니다.</li>
+ * </ol>
+ *
+ * <p>동시에 진행되는 작업 수와 대기열 크기가 제한되며, 대기열 길이와 AI 응답 시간은 Micrometer로 노출됩니다.</p>
+ */
+@Slf4j
+@Component
+public class AiRequestPipeline {
+
+    private static final String METRIC_PREFIX = "ai.pipeline.";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxRetries;
+    private final Duration attemptTimeout;
+    private final Duration totalTimeout;
+
+    private final BoundedWorkQueue<Supplier<Mono<Void>>> workQueue;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * gather/persist 단계의 JDBC 호출 전용 스케줄러
+     */
+    private final Scheduler dbScheduler;
+
+    public AiRequestPipeline(MeterRegistry meterRegistry,
+                             @Value("${ai.server.bot-max-concurrency:4}") int maxConcurrency,
+                             @Value("${ai.server.bot-queue-capacity:100}") int queueCapacity,
+                             @Value("${ai.server.bot-max-retries:2}") int maxRetries,
+                             @Value("${ai.server.read-timeout:30000}") long attemptTimeoutMillis,
+                             @Value("${ai.server.bot-total-timeout:70000}") long totalTimeoutMillis) {
+        this.meterRegistry = meterRegistry;
+        this.maxRetries = maxRetries;
+        this.attemptTimeout = Duration.ofMillis(attemptTimeoutMillis);
+        this.totalTimeout = Duration.ofMillis(totalTimeoutMillis);
+        this.workQueue = new BoundedWorkQueue<>("ai-pipeline", maxConcurrency, queueCapacity, Supplier::get);
+        this.dbScheduler = Schedulers.newBoundedElastic(maxConcurrency * 2, queueCapacity, "ai-pipeline-db");
+
+        Gauge.builder(METRIC_PREFIX + "queue.depth", workQueue, BoundedWorkQueue::size)
+                .description("AI 요청 대기열에 쌓인 작업 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "in.flight", inFlight, AtomicInteger::get)
+                .description("진행 중인 AI 요청 작업 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dbScheduler.dispose();
+    }
+
+    /**
+     * 작업을 대기열에 등록합니다. 호출 스레드를 막지 않습니다.
+     *
+     * @param operation 메트릭/로그에 사용할 작업 이름 (예: bot_post)
+     * @param gather    요청 컨텍스트 생성. null을 반환하면 작업을 건너뜀
+     * @param call      AI 서버 호출
+     * @param persist   결과 저장
+     * @return 대기열이 가득 차 등록하지 못했으면 false
+     */
+    public <C, R> boolean submit(String operation,
+                                 Callable<C> gather,
+                                 Function<C, Mono<R>> call,
+                                 BiConsumer<C, R> persist) {
+        if (!workQueue.offer(() -> run(operation, gather, call, persist))) {
+            Counter.builder(METRIC_PREFIX + "rejected").tag("operation", operation).register(meterRegistry).increment();
+            log.warn("AI 요청 대기열이 가득 차 작업을 버립니다 - operation: {}, capacity: {}", operation, workQueue.capacity());
+            return false;
+        }
+        return true;
+    }
+
+    public int getQueueDepth() {
+        return workQueue.size();
+    }
+
+    private <C, R> Mono<Void> run(String operation,
+                                  Callable<C> gather,
+                                  Function<C, Mono<R>> call,
+                                  BiConsumer<C, R> persist) {
+        inFlight.incrementAndGet();
+
+        return Mono.fromCallable(gather)
+                .subscribeOn(dbScheduler)
+                .flatMap(context -> timedCall(operation, call.apply(context))
+                        .publishOn(dbScheduler)
+                        .doOnNext(result -> persist.accept(context, result)))
+                .doOnError(e -> log.error("AI 요청 작업 실패 - operation: {}", operation, e))
+                .onErrorResume(e -> Mono.empty())
+                .doFinally(signal -> inFlight.decrementAndGet())
+                .then();
+    }
+
+    /**
+     * 시도별 타임아웃과 일시적 오류에 대한 재시도, 전체 제한 시간을 적용하고 응답 시간을 기록합니다.
+     */
+    private <R> Mono<R> timedCall(String operation, Mono<R> request) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+
+            return request
+                    .timeout(attemptTimeout)
+                    .retryWhen(Retry.backoff(maxRetries, Duration.ofMillis(500))
+                            .filter(this::isTransient)
+                            .doBeforeRetry(signal -> log.warn("AI 요청 재시도 - operation: {}, attempt: {}",
+                                    operation, signal.totalRetries() + 1)))
+                    .timeout(totalTimeout)
+                    .doOnSuccess(result -> sample.stop(latencyTimer(operation, "success")))
+                    .doOnError(e -> sample.stop(latencyTimer(operation, outcomeOf(e))));
+        });
+    }
+
+    private boolean isTransient(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError();
+        }
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
+
+    private String outcomeOf(Throwable e) {
+        Throwable cause = (e.getCause() != null && Exceptions.isRetryExhausted(e)) ? e.getCause() : e;
+        if (cause instanceof TimeoutException) {
+            return "timeout";
+        }
+        return "error";
+    }
+
+    private Timer latencyTimer(String operation, String outcome) {
+        return Timer.builder(METRIC_PREFIX + "latency")
+                .description("AI 서버 응답 시간 (재시도 포함)")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,94 @@
+package com.kakaobase.snsapp.global.common.ai;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 동시 실행 수와 대기열 크기가 제한된 논블로킹 작업 대기열
+ *
+ * <p>작업은 Mono로 실행되며, 끝나면 허가를 반납하고 대기열에서 다음 작업을 꺼냅니다.
+ * 호출 스레드를 막지 않으므로 공용 스레드 풀을 점유하지 않습니다.</p>
+ *
+ * @param <T> 대기열 항목
+ */
+@Slf4j
+public class BoundedWorkQueue<T> {
+
+    private final String name;
+    private final int capacity;
+    private final Semaphore permits;
+    private final Function<T, Mono<?>> worker;
+
+    private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    /**
+     * @param name           로그에 사용할 이름
+     * @param maxConcurrency 동시에 실행할 작업 수
+     * @param capacity       대기열 크기
+     * @param worker         항목을 처리하는 작업
+     */
+    public BoundedWorkQueue(String name, int maxConcurrency, int capacity, Function<T, Mono<?>> worker) {
+        this.name = name;
+        this.capacity = capacity;
+        this.permits = new Semaphore(maxConcurrency);
+        this.worker = worker;
+    }
+
+    /**
+     * 항목을 대기열에 등록하고, 허가가 남아 있으면 바로 실행합니다.
+     *
+     * @return 대기열이 가득 차 등록하지 못했으면 false
+     */
+    public boolean offer(T item) {
+        if (queued.incrementAndGet() > capacity) {
+            queued.decrementAndGet();
+            return false;
+        }
+        queue.add(item);
+        drain();
+        return true;
+    }
+
+    /**
+     * 대기 중인 항목 수 (실행 중인 작업 제외)
+     */
+    public int size() {
+        return queued.get();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 허용된 동시 실행 수만큼 대기열에서 꺼내 실행합니다.
+     */
+    private void drain() {
+        while (permits.tryAcquire()) {
+            T item = queue.poll();
+            if (item == null) {
+                permits.release();
+                // 반납 직후 다른 스레드가 추가했을 수 있으므로 다시 확인
+                if (queue.isEmpty()) {
+                    return;
+                }
+                continue;
+            }
+            queued.decrementAndGet();
+
+            Mono.defer(() -> worker.apply(item))
+                    .doFinally(signal -> {
+                        permits.release();
+                        drain();
+                    })
+                    .subscribe(null, e -> log.error("대기열 작업 실패 - queue: {}", name, e));
+        }
+    }
+}
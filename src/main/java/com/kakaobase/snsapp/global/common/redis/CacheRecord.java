@@ -2,6 +2,9 @@ package com.kakaobase.snsapp.global.common.redis;
 
 import lombok.Builder;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public class CacheRecord {
 
     /**
@@ -32,9 +35,62 @@ public class CacheRecord {
     ) {}
 
     @Builder
-    public record FollowStatsCache(
+    public record RecommentStatsCache(
+            Long recommentId,
+            Long likeCount
+    ) {}
+
+    /**
+     * 회원 프로필 통계 (게시글 수, 팔로워 수, 팔로잉 수)
+     */
+    @Builder
+    public record MemberStatsCache(
             Long memberId,
+            Long postCount,
             Long followerCount,
             Long followingCount
     ) {}
+
+    /**
+     * 목록 응답에 포함되는 회원 요약 정보 (UserInfo)
+     */
+    @Builder
+    public record MemberSummaryCache(
+            Long memberId,
+            String name,
+            String nickname,
+            String imageUrl
+    ) {}
+
+    /**
+     * 회원별 안읽은 알림 수 (DB가 원본이며 주기적으로 재계산)
+     */
+    @Builder
+    public record UnreadNotificationCache(
+            Long memberId,
+            Long unreadCount
+    ) {}
+
+    /**
+     * 게시글 댓글 앞부분 페이지 (조회자와 무관한 값만 저장)
+     *
+     * @param complete 게시글의 모든 댓글이 items에 포함되어 있는지 여부
+     */
+    public record CommentPageCache(
+            List<CommentPageEntry> items,
+            boolean complete
+    ) {}
+
+    @Builder
+    public record CommentPageEntry(
+            Long id,
+            Long postId,
+            Long memberId,
+            String nickname,
+            String imageUrl,
+            String content,
+            LocalDateTime createdAt,
+            Long likeCount,
+            Long recommentCount
+    ) {}
 }
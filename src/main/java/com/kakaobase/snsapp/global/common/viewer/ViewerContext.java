@@ -0,0 +1,84 @@
+package com.kakaobase.snsapp.global.common.viewer;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 조회자 기준 값(본인 여부, 작성자 팔로우 여부, 좋아요 여부)
+ *
+ * <p>ViewerContextService가 한 페이지의 작성자/대상 ID를 모아 일괄 조회한 결과를 담습니다.
+ * 이미 확인한 ID는 다시 조회하지 않도록 확인 범위도 함께 보관합니다.</p>
+ */
+public final class ViewerContext {
+
+    public enum LikeTarget {
+        POST, COMMENT, RECOMMENT
+    }
+
+    private static final ViewerContext ANONYMOUS = new ViewerContext(null);
+
+    private final Long viewerId;
+    private final Set<Long> checkedAuthorIds = new HashSet<>();
+    private final Set<Long> followedAuthorIds = new HashSet<>();
+    private final Map<LikeTarget, Set<Long>> checkedTargetIds = new EnumMap<>(LikeTarget.class);
+    private final Map<LikeTarget, Set<Long>> likedTargetIds = new EnumMap<>(LikeTarget.class);
+
+    private ViewerContext(Long viewerId) {
+        this.viewerId = viewerId;
+    }
+
+    /**
+     * 비로그인 조회자 (모든 값이 false)
+     */
+    public static ViewerContext anonymous() {
+        return ANONYMOUS;
+    }
+
+    /**
+     * 아직 아무 값도 조회하지 않은 조회자 컨텍스트
+     */
+    public static ViewerContext of(Long viewerId) {
+        return viewerId == null ? ANONYMOUS : new ViewerContext(viewerId);
+    }
+
+    public Long getViewerId() {
+        return viewerId;
+    }
+
+    public boolean isAnonymous() {
+        return viewerId == null;
+    }
+
+    public boolean isMine(Long authorId) {
+        return viewerId != null && viewerId.equals(authorId);
+    }
+
+    public boolean isFollowed(Long authorId) {
+        return followedAuthorIds.contains(authorId);
+    }
+
+    public boolean isLiked(LikeTarget target, Long targetId) {
+        return likedTargetIds.getOrDefault(target, Collections.emptySet()).contains(targetId);
+    }
+
+    boolean isAuthorChecked(Long authorId) {
+        return checkedAuthorIds.contains(authorId);
+    }
+
+    boolean isTargetChecked(LikeTarget target, Long targetId) {
+        return checkedTargetIds.getOrDefault(target, Collections.emptySet()).contains(targetId);
+    }
+
+    void putAuthors(Set<Long> checked, Set<Long> followed) {
+        checkedAuthorIds.addAll(checked);
+        followedAuthorIds.addAll(followed);
+    }
+
+    void putTargets(LikeTarget target, Set<Long> checked, Set<Long> liked) {
+        checkedTargetIds.computeIfAbsent(target, k -> new HashSet<>()).addAll(checked);
+        likedTargetIds.computeIfAbsent(target, k -> new HashSet<>()).addAll(liked);
+    }
+}
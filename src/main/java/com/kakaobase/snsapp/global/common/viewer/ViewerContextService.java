@@ -0,0 +1,94 @@
+package com.kakaobase.snsapp.global.common.viewer;
+
+import com.kakaobase.snsapp.domain.comments.repository.CommentLikeRepository;
+import com.kakaobase.snsapp.domain.comments.repository.RecommentLikeRepository;
+import com.kakaobase.snsapp.domain.follow.service.cache.FollowGraphService;
+import com.kakaobase.snsapp.domain.posts.repository.PostLikeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * 조회자 기준 값 일괄 조회 서비스
+ *
+ * <p>목록 조회 쿼리는 조회자와 무관한 값만 가져오고, 팔로우/좋아요 여부는 이 서비스가 페이지 단위로 채웁니다.
+ * 팔로우 여부는 팔로우 그래프 비트맵으로 판단하고, 좋아요 여부는 페이지 크기와 관계없이 1회의 IN 조회로 끝나며,
+ * 같은 요청에서 이미 확인한 작성자/대상은 ViewerContext에 남아 있어 다시 조회하지 않습니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewerContextService {
+
+    private final FollowGraphService followGraphService;
+    private final PostLikeRepository postLikeRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    private final RecommentLikeRepository recommentLikeRepository;
+
+    /**
+     * 한 페이지의 작성자/대상에 대한 조회자 기준 값을 조회합니다.
+     *
+     * @param viewerId  조회자 ID (null이면 비로그인)
+     * @param target    좋아요 대상 종류
+     * @param authorIds 페이지에 포함된 작성자 ID
+     * @param targetIds 페이지에 포함된 게시글/댓글/대댓글 ID
+     */
+    public ViewerContext resolve(Long viewerId, ViewerContext.LikeTarget target,
+                                 Collection<Long> authorIds, Collection<Long> targetIds) {
+        return extend(ViewerContext.of(viewerId), target, authorIds, targetIds);
+    }
+
+    /**
+     * 기존 ViewerContext에 아직 확인하지 않은 작성자/대상만 추가로 조회해 채웁니다.
+     */
+    public ViewerContext extend(ViewerContext context, ViewerContext.LikeTarget target,
+                                Collection<Long> authorIds, Collection<Long> targetIds) {
+        if (context.isAnonymous()) {
+            return context;
+        }
+        Long viewerId = context.getViewerId();
+
+        List<Long> authorsToCheck = uncheckedIds(authorIds, id -> context.isAuthorChecked(id) || context.isMine(id));
+        if (!authorsToCheck.isEmpty()) {
+            Set<Long> followed = followGraphService.filterFollowing(viewerId, authorsToCheck);
+            context.putAuthors(Set.copyOf(authorsToCheck), followed);
+        }
+
+        List<Long> targetsToCheck = uncheckedIds(targetIds, id -> context.isTargetChecked(target, id));
+        if (!targetsToCheck.isEmpty()) {
+            Set<Long> liked = findLikedIds(viewerId, target, targetsToCheck);
+            context.putTargets(target, Set.copyOf(targetsToCheck), liked);
+        }
+
+        log.debug("조회자 기준 값 조회 - viewerId: {}, target: {}, 작성자: {} 개, 대상: {} 개",
+                viewerId, target, authorsToCheck.size(), targetsToCheck.size());
+        return context;
+    }
+
+    private Set<Long> findLikedIds(Long viewerId, ViewerContext.LikeTarget target, List<Long> targetIds) {
+        return switch (target) {
+            case POST -> postLikeRepository.findLikedPostIds(viewerId, targetIds);
+            case COMMENT -> commentLikeRepository.findLikedCommentIds(viewerId, targetIds);
+            case RECOMMENT -> recommentLikeRepository.findLikedRecommentIds(viewerId, targetIds);
+        };
+    }
+
+    private List<Long> uncheckedIds(Collection<Long> ids, Predicate<Long> checked) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> distinct = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (id != null && !checked.test(id)) {
+                distinct.add(id);
+            }
+        }
+        return List.copyOf(distinct);
+    }
+}
@@ -0,0 +1,107 @@
+package com.kakaobase.snsapp.domain.follow.util;
+
+import com.kakaobase.snsapp.domain.follow.util.FollowListCacheUtil.ListType;
+import com.kakaobase.snsapp.global.config.EmbeddedRedisConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FollowListCacheUtil 테스트 (Embedded Redis)
+ *
+ * 구성에 쓰는 스냅샷을 읽은 뒤 커밋된 팔로우/언팔로우가 교체 후 목록에 그대로 반영되는지 확인
+ */
+@DisplayName("팔로우 목록 캐시 테스트")
+class FollowListCacheUtilTest {
+
+    private static final Long OWNER_ID = 1L;
+    private static final int PAGE_SIZE = 20;
+
+    private static EmbeddedRedisConfig embeddedRedis;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+    private static FollowListCacheUtil listCacheUtil;
+
+    @BeforeAll
+    static void setUp() {
+        embeddedRedis = new EmbeddedRedisConfig();
+        ReflectionTestUtils.setField(embeddedRedis, "defaultEmbeddedPort", 16380);
+        embeddedRedis.startEmbeddedRedis();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", embeddedRedis.getPort()));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+
+        listCacheUtil = new FollowListCacheUtil(redisTemplate);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        connectionFactory.destroy();
+        embeddedRedis.stopEmbeddedRedis();
+    }
+
+    @BeforeEach
+    void flush() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        }, true);
+    }
+
+    @Test
+    @DisplayName("스냅샷 이후 언팔로우한 회원은 구성 후 목록에 되살아나지 않는다")
+    void rebuild_UnfollowAfterSnapshotIsNotRestored() {
+        List<Long> snapshot = List.of(2L, 3L, 4L);
+
+        // 스냅샷을 읽은 뒤, 교체 전에 언팔로우가 커밋됨
+        listCacheUtil.remove(ListType.FOLLOWERS, OWNER_ID, 3L);
+        listCacheUtil.rebuild(ListType.FOLLOWERS, OWNER_ID, snapshot);
+
+        assertThat(listCacheUtil.isBuilt(ListType.FOLLOWERS, OWNER_ID)).isTrue();
+        assertThat(listCacheUtil.findPage(ListType.FOLLOWERS, OWNER_ID, null, PAGE_SIZE)).containsExactly(2L, 4L);
+    }
+
+    @Test
+    @DisplayName("스냅샷 이후 팔로우한 회원은 구성 후 목록에 포함된다")
+    void rebuild_FollowAfterSnapshotIsKept() {
+        List<Long> snapshot = List.of(2L, 4L);
+
+        listCacheUtil.add(ListType.FOLLOWERS, OWNER_ID, 3L);
+        listCacheUtil.rebuild(ListType.FOLLOWERS, OWNER_ID, snapshot);
+
+        assertThat(listCacheUtil.findPage(ListType.FOLLOWERS, OWNER_ID, null, PAGE_SIZE)).containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("언팔로우 후 다시 팔로우한 회원은 구성 후 목록에 포함된다")
+    void rebuild_RefollowClearsRemoval() {
+        List<Long> snapshot = List.of(2L, 3L);
+
+        listCacheUtil.remove(ListType.FOLLOWERS, OWNER_ID, 3L);
+        listCacheUtil.add(ListType.FOLLOWERS, OWNER_ID, 3L);
+        listCacheUtil.rebuild(ListType.FOLLOWERS, OWNER_ID, snapshot);
+
+        assertThat(listCacheUtil.findPage(ListType.FOLLOWERS, OWNER_ID, null, PAGE_SIZE)).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("구성된 목록을 커서 이후부터 오름차순으로 조회한다")
+    void findPage_AfterCursor() {
+        listCacheUtil.rebuild(ListType.FOLLOWINGS, OWNER_ID, List.of(5L, 2L, 9L, 7L));
+
+        assertThat(listCacheUtil.findPage(ListType.FOLLOWINGS, OWNER_ID, 5L, 2)).containsExactly(7L, 9L);
+        assertThat(listCacheUtil.findPage(ListType.FOLLOWINGS, OWNER_ID, 9L, 2)).isEmpty();
+    }
+}
@@ -0,0 +1,143 @@
+package com.kakaobase.snsapp.domain.notification.repository;
+
+import com.kakaobase.snsapp.annotation.RepositoryTest;
+import com.kakaobase.snsapp.domain.follow.entity.Follow;
+import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
+import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.members.service.cache.MemberSummaryCacheService;
+import com.kakaobase.snsapp.domain.notification.converter.NotificationConverter;
+import com.kakaobase.snsapp.domain.notification.dto.records.NotificationResponse;
+import com.kakaobase.snsapp.domain.notification.entity.Notification;
+import com.kakaobase.snsapp.domain.notification.util.InvalidNotificationCacheUtil;
+import com.kakaobase.snsapp.domain.notification.util.NotificationType;
+import com.kakaobase.snsapp.fixture.FollowFixture;
+import com.kakaobase.snsapp.fixture.members.MemberFixture;
+import com.kakaobase.snsapp.global.common.entity.WebSocketPacket;
+import com.kakaobase.snsapp.global.common.metrics.QueryCountInspector;
+import com.kakaobase.snsapp.global.config.HibernateConfig;
+import com.kakaobase.snsapp.global.config.QueryDSLConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 알림 목록 조회 N+1 회귀 테스트
+ *
+ * 페이지 크기가 달라도 알림 조회 + 대상 테이블별 조회만 실행되는지 확인
+ */
+@RepositoryTest
+@Import({QueryDSLConfig.class, HibernateConfig.class, QueryCountInspector.class, NotificationConverter.class})
+@DisplayName("알림 목록 조회 쿼리 수 테스트")
+class NotificationRepositoryQueryCountTest {
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private QueryCountInspector queryCountInspector;
+
+    @MockitoBean
+    private MemberSummaryCacheService memberSummaryCacheService;
+
+    @MockitoBean
+    private InvalidNotificationCacheUtil invalidNotificationCacheUtil;
+
+    private Long receiverId;
+
+    @BeforeEach
+    void setUp() {
+        Member receiver = testEntityManager.persist(MemberFixture.createMemberWithNickname("receiver"));
+        receiverId = receiver.getId();
+
+        List<Member> senders = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Member sender = testEntityManager.persist(MemberFixture.createMemberWithNickname("sender" + i));
+            senders.add(sender);
+
+            // 팔로우 알림과 게시글 좋아요 알림을 번갈아 생성
+            if (i % 2 == 0) {
+                Follow follow = testEntityManager.persist(FollowFixture.createFollow(sender, receiver));
+                testEntityManager.persist(Notification.builder()
+                        .receiverId(receiverId)
+                        .senderId(sender.getId())
+                        .type(NotificationType.FOLLOWING_CREATED)
+                        .targetId(follow.getId())
+                        .build());
+            } else {
+                testEntityManager.persist(Notification.builder()
+                        .receiverId(receiverId)
+                        .senderId(sender.getId())
+                        .type(NotificationType.POST_LIKE_CREATED)
+                        .targetId(100L + i)
+                        .build());
+            }
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        Map<Long, MemberResponseDto.UserInfo> summaries = senders.stream()
+                .map(member -> new MemberResponseDto.UserInfo(member.getId(), member.getName(), member.getNickname(), null))
+                .collect(Collectors.toMap(MemberResponseDto.UserInfo::id, Function.identity()));
+        given(memberSummaryCacheService.findAll(anyCollection())).willAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream()
+                    .filter(summaries::containsKey)
+                    .collect(Collectors.toMap(Function.identity(), summaries::get));
+        });
+    }
+
+    @Test
+    @DisplayName("페이지 크기와 상관없이 쿼리 수가 일정하다")
+    void findResponsePackets_ConstantQueryCount() {
+        long smallPageQueries = countQueries(4);
+        long largePageQueries = countQueries(20);
+
+        // 알림 페이지 1회 + 팔로우 대상 1회
+        assertThat(smallPageQueries).isEqualTo(2L);
+        assertThat(largePageQueries).isEqualTo(smallPageQueries);
+    }
+
+    @Test
+    @DisplayName("SQL 정렬 순서(id 내림차순)를 그대로 유지한다")
+    void findResponsePackets_PreservesSqlOrder() {
+        List<Notification> page = notificationRepository.findPageByReceiverId(receiverId, null, 20);
+
+        List<WebSocketPacket<NotificationResponse>> packets = notificationRepository.findResponsePackets(page);
+
+        assertThat(packets).extracting(packet -> packet.data.id())
+                .containsExactlyElementsOf(page.stream().map(Notification::getId).toList())
+                .isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    private long countQueries(int size) {
+        testEntityManager.clear();
+        queryCountInspector.startCounter();
+        try {
+            List<Notification> page = notificationRepository.findPageByReceiverId(receiverId, null, size);
+            List<WebSocketPacket<NotificationResponse>> packets = notificationRepository.findResponsePackets(page);
+            assertThat(packets).hasSize(size);
+            return queryCountInspector.getQueryCount().getCount();
+        } finally {
+            queryCountInspector.clearCounter();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.kakaobase.snsapp.domain.notification.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kakaobase.snsapp.global.common.redis.CacheRecord;
+import com.kakaobase.snsapp.global.config.EmbeddedRedisConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * UnreadNotificationCacheUtil 테스트 (Embedded Redis)
+ *
+ * 캐시가 있을 때만 카운터를 증감/덮어쓰고, 없는 키는 만들지 않는지 확인
+ */
+@DisplayName("안읽은 알림 수 캐시 테스트")
+class UnreadNotificationCacheUtilTest {
+
+    private static final String KEY = "notification:unread:1";
+    private static final String MISSING_KEY = "notification:unread:2";
+
+    private static EmbeddedRedisConfig embeddedRedis;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+    private static UnreadNotificationCacheUtil cacheUtil;
+
+    @BeforeAll
+    static void setUp() {
+        embeddedRedis = new EmbeddedRedisConfig();
+        ReflectionTestUtils.setField(embeddedRedis, "defaultEmbeddedPort", 16383);
+        embeddedRedis.startEmbeddedRedis();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", embeddedRedis.getPort()));
+        connectionFactory.afterPropertiesSet();
+
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        stringRedisTemplate.afterPropertiesSet();
+
+        cacheUtil = new UnreadNotificationCacheUtil(redisTemplate, new ObjectMapper(), mock(RedissonClient.class), stringRedisTemplate);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        connectionFactory.destroy();
+        embeddedRedis.stopEmbeddedRedis();
+    }
+
+    @BeforeEach
+    void flush() {
+        stringRedisTemplate.execute(connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        }, true);
+    }
+
+    @Test
+    @DisplayName("캐시가 있으면 증감하고, 음수가 되면 0으로 보정한다")
+    void incrementIfPresent_ClampsAtZero() {
+        saveCount(KEY, 3L);
+
+        assertThat(cacheUtil.incrementIfPresent(KEY, 2)).isEqualTo(5L);
+        assertThat(cacheUtil.incrementIfPresent(KEY, -7)).isZero();
+        assertThat(cacheUtil.load(KEY).unreadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시가 없으면 증감하지 않고 키도 만들지 않는다")
+    void incrementIfPresent_MissingKey() {
+        assertThat(cacheUtil.incrementIfPresent(MISSING_KEY, 1)).isEqualTo(-1L);
+        assertThat(stringRedisTemplate.hasKey(MISSING_KEY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("캐시가 있는 키만 덮어쓰고, 없는 키를 반환한다")
+    void overwriteIfPresent_ReturnsMissingKeys() {
+        saveCount(KEY, 9L);
+
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counts.put(KEY, 4L);
+        counts.put(MISSING_KEY, 2L);
+
+        assertThat(cacheUtil.overwriteIfPresent(counts)).containsExactly(MISSING_KEY);
+        assertThat(cacheUtil.load(KEY).unreadCount()).isEqualTo(4L);
+        assertThat(stringRedisTemplate.hasKey(MISSING_KEY)).isFalse();
+    }
+
+    private void saveCount(String key, long count) {
+        cacheUtil.save(key, CacheRecord.UnreadNotificationCache.builder()
+                .memberId(1L)
+                .unreadCount(count)
+                .build(), Duration.ofMinutes(5));
+    }
+}
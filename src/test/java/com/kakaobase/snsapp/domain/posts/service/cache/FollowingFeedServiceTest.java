@@ -0,0 +1,312 @@
+package com.kakaobase.snsapp.domain.posts.service.cache;
+
+import com.kakaobase.snsapp.domain.follow.repository.FollowRepository;
+import com.kakaobase.snsapp.domain.follow.service.cache.FollowGraphService;
+import com.kakaobase.snsapp.domain.members.service.cache.MemberStatsCacheService;
+import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
+import com.kakaobase.snsapp.domain.posts.util.FollowingFeedCacheUtil;
+import com.kakaobase.snsapp.global.config.EmbeddedRedisConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * FollowingFeedService 테스트 (Embedded Redis + Mock 저장소)
+ *
+ * 팬아웃/읽기 병합 전환, 팔로우 백필과 언팔로우 정리, inbox와 outbox 병합 페이지를 서비스 단위로 확인하고
+ * 작성자 팔로워 수에 따른 팬아웃 비용과 조회 지연 시간을 측정
+ */
+@DisplayName("팔로잉 피드 서비스 테스트")
+class FollowingFeedServiceTest {
+
+    private static final int PAGE_SIZE = 12;
+    private static final Long AUTHOR_ID = 1L;
+    private static final Long READER_ID = 2L;
+
+    private static EmbeddedRedisConfig embeddedRedis;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+    private static FollowingFeedCacheUtil feedCacheUtil;
+
+    private FollowRepository followRepository;
+    private FollowGraphService followGraphService;
+    private PostRepository postRepository;
+    private FollowingFeedService followingFeedService;
+
+    @BeforeAll
+    static void setUpRedis() {
+        embeddedRedis = new EmbeddedRedisConfig();
+        ReflectionTestUtils.setField(embeddedRedis, "defaultEmbeddedPort", 16381);
+        embeddedRedis.startEmbeddedRedis();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", embeddedRedis.getPort()));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+
+        feedCacheUtil = new FollowingFeedCacheUtil(redisTemplate);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+        embeddedRedis.stopEmbeddedRedis();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        }, true);
+
+        followRepository = mock(FollowRepository.class);
+        followGraphService = mock(FollowGraphService.class);
+        postRepository = mock(PostRepository.class);
+        followingFeedService = new FollowingFeedService(feedCacheUtil, mock(MemberStatsCacheService.class),
+                followRepository, followGraphService, postRepository);
+    }
+
+    @Test
+    @DisplayName("일반 작성자의 게시글은 모든 팔로워 inbox에 팬아웃된다")
+    void fanOut_PushesToEveryFollower() {
+        List<Long> followerIds = givenFollowers(AUTHOR_ID, 900);
+
+        followingFeedService.fanOut(10L, AUTHOR_ID);
+
+        assertThat(followerIds).allSatisfy(followerId ->
+                assertThat(feedCacheUtil.findInboxPostIds(followerId, null, PAGE_SIZE)).containsExactly(10L));
+        assertThat(feedCacheUtil.isCelebrity(AUTHOR_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("팔로워 수가 임계값을 넘으면 팬아웃하지 않고 조회 시 outbox를 병합한다")
+    void fanOut_AboveThresholdMergesOnRead() {
+        givenFollowers(AUTHOR_ID, (int) FollowingFeedService.CELEBRITY_THRESHOLD + 1);
+        givenReaderFollows(AUTHOR_ID);
+
+        followingFeedService.fanOut(10L, AUTHOR_ID);
+
+        assertThat(feedCacheUtil.isCelebrity(AUTHOR_ID)).isTrue();
+        verify(followRepository, never()).findFollowerIdsByFollowingUserId(anyLong(), any(), anyInt());
+        assertThat(feedCacheUtil.findInboxPostIds(READER_ID, null, PAGE_SIZE)).isEmpty();
+        assertThat(followingFeedService.getFeedPostIds(READER_ID, null, PAGE_SIZE)).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("읽기 병합 대상은 해제 임계값 아래로 내려갈 때까지 유지된다")
+    void fanOut_CelebrityKeptAboveReleaseThreshold() {
+        feedCacheUtil.addCelebrity(AUTHOR_ID);
+        givenFollowers(AUTHOR_ID, (int) FollowingFeedService.CELEBRITY_RELEASE_THRESHOLD);
+
+        followingFeedService.fanOut(10L, AUTHOR_ID);
+
+        assertThat(feedCacheUtil.isCelebrity(AUTHOR_ID)).isTrue();
+        verify(followRepository, never()).findFollowerIdsByFollowingUserId(anyLong(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("읽기 병합 대상에서 해제되면 outbox의 최근 게시글까지 팔로워 inbox에 팬아웃된다")
+    void fanOut_ReleasedCelebrityPushesRecentPosts() {
+        feedCacheUtil.addCelebrity(AUTHOR_ID);
+        feedCacheUtil.pushToOutbox(AUTHOR_ID, 10L, FollowingFeedService.OUTBOX_MAX_SIZE);
+        feedCacheUtil.pushToOutbox(AUTHOR_ID, 11L, FollowingFeedService.OUTBOX_MAX_SIZE);
+        List<Long> followerIds = givenFollowers(AUTHOR_ID, (int) FollowingFeedService.CELEBRITY_RELEASE_THRESHOLD - 1);
+
+        followingFeedService.fanOut(12L, AUTHOR_ID);
+
+        assertThat(feedCacheUtil.isCelebrity(AUTHOR_ID)).isFalse();
+        assertThat(followerIds).allSatisfy(followerId ->
+                assertThat(feedCacheUtil.findInboxPostIds(followerId, null, PAGE_SIZE)).containsExactly(12L, 11L, 10L));
+    }
+
+    @Test
+    @DisplayName("inbox와 팔로우 중인 읽기 병합 대상의 outbox가 최신순으로 중복·누락 없이 이어진다")
+    void getFeedPostIds_MergedPagesAreOrderedWithoutGapsOrDuplicates() {
+        Long followedCelebrity = 100_000L;
+        Long otherCelebrity = 100_001L;
+        Long unfollowedCelebrity = 100_002L;
+        List.of(followedCelebrity, otherCelebrity, unfollowedCelebrity).forEach(feedCacheUtil::addCelebrity);
+        givenReaderFollows(followedCelebrity, otherCelebrity);
+
+        // inbox에는 짝수 게시글, 팔로우 중인 읽기 병합 대상 outbox에는 3의 배수/5의 배수 게시글 (일부 겹침)
+        feedCacheUtil.rebuildInbox(READER_ID, LongStream.rangeClosed(1, 100).filter(id -> id % 2 == 0).boxed().toList());
+        pushToOutbox(followedCelebrity, LongStream.rangeClosed(1, 100).filter(id -> id % 3 == 0));
+        pushToOutbox(otherCelebrity, LongStream.rangeClosed(1, 100).filter(id -> id % 5 == 0));
+        pushToOutbox(unfollowedCelebrity, LongStream.rangeClosed(1, 100).filter(id -> id % 7 == 0));
+
+        List<Long> expected = LongStream.iterate(100, id -> id >= 1, id -> id - 1)
+                .filter(id -> id % 2 == 0 || id % 3 == 0 || id % 5 == 0)
+                .boxed()
+                .toList();
+
+        List<Long> collected = new ArrayList<>();
+        Long cursor = null;
+        while (true) {
+            List<Long> page = followingFeedService.getFeedPostIds(READER_ID, cursor, PAGE_SIZE);
+            if (page.isEmpty()) {
+                break;
+            }
+            assertThat(page).hasSizeLessThanOrEqualTo(PAGE_SIZE);
+            collected.addAll(page);
+            cursor = page.get(page.size() - 1);
+        }
+
+        assertThat(collected).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("팔로우하면 작성자의 최근 게시글이 inbox에 채워진다")
+    void onFollow_BackfillsRecentPosts() {
+        feedCacheUtil.rebuildInbox(READER_ID, List.of(1L));
+        given(postRepository.findRecentIdsByMemberIds(eq(List.of(AUTHOR_ID)), anyInt())).willReturn(List.of(30L, 20L));
+        givenFollowEdge(true);
+
+        followingFeedService.onFollow(READER_ID, AUTHOR_ID);
+
+        assertThat(feedCacheUtil.findInboxPostIds(READER_ID, null, PAGE_SIZE)).containsExactly(30L, 20L, 1L);
+    }
+
+    @Test
+    @DisplayName("백필 전에 언팔로우됐다면 inbox를 채우지 않는다")
+    void onFollow_SkipsWhenAlreadyUnfollowed() {
+        feedCacheUtil.rebuildInbox(READER_ID, List.of(1L));
+        given(postRepository.findRecentIdsByMemberIds(eq(List.of(AUTHOR_ID)), anyInt())).willReturn(List.of(30L, 20L));
+        givenFollowEdge(false);
+
+        followingFeedService.onFollow(READER_ID, AUTHOR_ID);
+
+        assertThat(feedCacheUtil.findInboxPostIds(READER_ID, null, PAGE_SIZE)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("읽기 병합 대상 작성자를 팔로우하면 백필하지 않는다")
+    void onFollow_SkipsCelebrity() {
+        feedCacheUtil.rebuildInbox(READER_ID, List.of(1L));
+        feedCacheUtil.addCelebrity(AUTHOR_ID);
+        givenFollowEdge(true);
+
+        followingFeedService.onFollow(READER_ID, AUTHOR_ID);
+
+        assertThat(feedCacheUtil.findInboxPostIds(READER_ID, null, PAGE_SIZE)).containsExactly(1L);
+        verify(postRepository, never()).findRecentIdsByMemberIds(anyCollection(), anyInt());
+    }
+
+    @Test
+    @DisplayName("언팔로우하면 작성자의 게시글이 inbox에서 제거된다")
+    void onUnfollow_PurgesAuthorPosts() {
+        feedCacheUtil.rebuildInbox(READER_ID, List.of(30L, 20L, 1L));
+        given(postRepository.findRecentIdsByMemberIds(eq(List.of(AUTHOR_ID)), anyInt())).willReturn(List.of(30L, 20L));
+        givenFollowEdge(false);
+
+        followingFeedService.onUnfollow(READER_ID, AUTHOR_ID);
+
+        assertThat(feedCacheUtil.findInboxPostIds(READER_ID, null, PAGE_SIZE)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("정리 전에 다시 팔로우했다면 inbox에서 제거하지 않는다")
+    void onUnfollow_SkipsWhenFollowedAgain() {
+        feedCacheUtil.rebuildInbox(READER_ID, List.of(30L, 20L, 1L));
+        givenFollowEdge(true);
+
+        followingFeedService.onUnfollow(READER_ID, AUTHOR_ID);
+
+        assertThat(feedCacheUtil.findInboxPostIds(READER_ID, null, PAGE_SIZE)).containsExactly(30L, 20L, 1L);
+    }
+
+    @ParameterizedTest(name = "팔로워 {0}명")
+    @ValueSource(ints = {100, 1_000, 5_000})
+    @DisplayName("작성자 팔로워 수에 따른 팬아웃 비용과 조회 지연 시간")
+    void fanOutAndRead_LatencyByFollowerCount(int followerCount) {
+        int iterations = 200;
+        List<Long> followerIds = givenFollowers(AUTHOR_ID, followerCount);
+        givenReaderFollows(AUTHOR_ID);
+        feedCacheUtil.rebuildInbox(READER_ID, List.of());
+
+        long fanOutStart = System.nanoTime();
+        followingFeedService.fanOut(10L, AUTHOR_ID);
+        double fanOutMillis = (System.nanoTime() - fanOutStart) / 1_000_000.0;
+
+        // 워밍업
+        for (int i = 0; i < 20; i++) {
+            followingFeedService.getFeedPostIds(READER_ID, null, PAGE_SIZE);
+        }
+        long readStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            assertThat(followingFeedService.getFeedPostIds(READER_ID, null, PAGE_SIZE)).containsExactly(10L);
+        }
+        double readMillis = (System.nanoTime() - readStart) / 1_000_000.0 / iterations;
+
+        System.out.printf("followers=%5d | mode=%-10s | fan-out=%8.2f ms | feed read=%6.3f ms%n",
+                followerIds.size(), feedCacheUtil.isCelebrity(AUTHOR_ID) ? "read-merge" : "fan-out",
+                fanOutMillis, readMillis);
+
+        // 조회 비용은 팔로워 수와 무관해야 함 (CI 환경 고려)
+        assertThat(readMillis).isLessThan(20.0);
+    }
+
+    /**
+     * 작성자의 팔로워를 2번부터 count명 준비합니다. (팔로워 수 캐시 미스 → DB 카운트 사용)
+     */
+    private List<Long> givenFollowers(Long authorId, int count) {
+        List<Long> followerIds = LongStream.rangeClosed(2, count + 1).boxed().toList();
+        given(followRepository.countFollowersByFollowingUserId(authorId)).willReturn((long) count);
+        given(followRepository.findFollowerIdsByFollowingUserId(eq(authorId), any(), anyInt())).willAnswer(invocation -> {
+            Long cursor = invocation.getArgument(1);
+            int limit = invocation.getArgument(2);
+            return followerIds.stream()
+                    .filter(id -> cursor == null || id > cursor)
+                    .limit(limit)
+                    .toList();
+        });
+        return followerIds;
+    }
+
+    /**
+     * 조회자가 주어진 작성자들을 팔로우 중인 것으로 준비합니다.
+     */
+    private void givenReaderFollows(Long... authorIds) {
+        Set<Long> followed = Set.of(authorIds);
+        given(followGraphService.getFollowingIds(READER_ID)).willReturn(followed);
+        given(followGraphService.filterFollowing(eq(READER_ID), anyCollection())).willAnswer(invocation -> {
+            Collection<Long> targets = invocation.getArgument(1);
+            return targets.stream().filter(followed::contains).collect(Collectors.toSet());
+        });
+    }
+
+    private void givenFollowEdge(boolean following) {
+        given(followRepository.findFollowingMemberIdsByFollowerAndTargets(READER_ID, List.of(AUTHOR_ID)))
+                .willReturn(following ? Set.of(AUTHOR_ID) : Set.of());
+    }
+
+    private void pushToOutbox(Long authorId, LongStream postIds) {
+        postIds.forEach(postId -> feedCacheUtil.pushToOutbox(authorId, postId, FollowingFeedService.OUTBOX_MAX_SIZE));
+    }
+}
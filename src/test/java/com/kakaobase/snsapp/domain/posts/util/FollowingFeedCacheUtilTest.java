@@ -0,0 +1,100 @@
+package com.kakaobase.snsapp.domain.posts.util;
+
+import com.kakaobase.snsapp.global.config.EmbeddedRedisConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FollowingFeedCacheUtil 테스트 (Embedded Redis)
+ *
+ * 팬아웃이 청크 경계와 관계없이 모든 팔로워 inbox에 반영되는지, inbox 크기 제한과 재구성 표식이 유지되는지 확인
+ * (inbox와 outbox 병합은 FollowingFeedServiceTest에서 서비스 단위로 확인)
+ */
+@DisplayName("팔로잉 피드 캐시 테스트")
+class FollowingFeedCacheUtilTest {
+
+    private static final int PAGE_SIZE = 12;
+    private static final int CHUNK_SIZE = 1000;
+    private static final long INBOX_MAX_SIZE = 800;
+
+    private static EmbeddedRedisConfig embeddedRedis;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+    private static FollowingFeedCacheUtil feedCacheUtil;
+
+    @BeforeAll
+    static void setUp() {
+        embeddedRedis = new EmbeddedRedisConfig();
+        ReflectionTestUtils.setField(embeddedRedis, "defaultEmbeddedPort", 16379);
+        embeddedRedis.startEmbeddedRedis();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", embeddedRedis.getPort()));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+
+        feedCacheUtil = new FollowingFeedCacheUtil(redisTemplate);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        connectionFactory.destroy();
+        embeddedRedis.stopEmbeddedRedis();
+    }
+
+    @BeforeEach
+    void flush() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        }, true);
+    }
+
+    @Test
+    @DisplayName("청크로 나눈 팬아웃이 모든 팔로워 inbox에 반영된다")
+    void pushToInboxes_ReachesEveryFollower() {
+        List<Long> followerIds = LongStream.rangeClosed(2, 2_501).boxed().toList();
+
+        for (int i = 0; i < followerIds.size(); i += CHUNK_SIZE) {
+            feedCacheUtil.pushToInboxes(followerIds.subList(i, Math.min(i + CHUNK_SIZE, followerIds.size())), 1L, INBOX_MAX_SIZE);
+        }
+
+        assertThat(followerIds).allSatisfy(followerId ->
+                assertThat(feedCacheUtil.findInboxPostIds(followerId, null, PAGE_SIZE)).containsExactly(1L));
+        assertThat(feedCacheUtil.findInboxPostIds(1L, null, PAGE_SIZE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("inbox는 최근 게시글만 최대 크기까지 유지한다")
+    void pushToInboxes_TrimsToMaxSize() {
+        long readerId = 2L;
+        feedCacheUtil.rebuildInbox(readerId, LongStream.rangeClosed(1, INBOX_MAX_SIZE).boxed().toList());
+
+        feedCacheUtil.pushToInboxes(List.of(readerId), INBOX_MAX_SIZE + 1, INBOX_MAX_SIZE);
+
+        assertThat(redisTemplate.opsForZSet().zCard("feed:inbox:" + readerId)).isEqualTo(INBOX_MAX_SIZE);
+        assertThat(feedCacheUtil.findInboxPostIds(readerId, null, 2)).containsExactly(INBOX_MAX_SIZE + 1, INBOX_MAX_SIZE);
+        assertThat(feedCacheUtil.findInboxPostIds(readerId, 3L, PAGE_SIZE)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("빈 inbox도 재구성 완료로 표시된다")
+    void rebuildInbox_EmptyIsBuilt() {
+        feedCacheUtil.rebuildInbox(2L, List.of());
+
+        assertThat(feedCacheUtil.isInboxBuilt(2L)).isTrue();
+        assertThat(feedCacheUtil.findInboxPostIds(2L, null, PAGE_SIZE)).isEmpty();
+    }
+}
@@ -0,0 +1,122 @@
+package com.kakaobase.snsapp.domain.posts.util;
+
+import com.kakaobase.snsapp.domain.posts.util.PostTrendingCacheUtil.TrendingEntry;
+import com.kakaobase.snsapp.global.config.EmbeddedRedisConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostTrendingCacheUtil 테스트 (Embedded Redis)
+ *
+ * (점수, 게시글 ID) 커서로 조회한 페이지가 순위 변동/정리와 관계없이 이어지는지 확인
+ */
+@DisplayName("인기 게시글 캐시 테스트")
+class PostTrendingCacheUtilTest {
+
+    private static final BoardType BOARD = BoardType.ALL;
+    private static final String KEY = "post:trending:" + BOARD.name();
+
+    private static EmbeddedRedisConfig embeddedRedis;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+    private static PostTrendingCacheUtil trendingCacheUtil;
+
+    @BeforeAll
+    static void setUp() {
+        embeddedRedis = new EmbeddedRedisConfig();
+        ReflectionTestUtils.setField(embeddedRedis, "defaultEmbeddedPort", 16382);
+        embeddedRedis.startEmbeddedRedis();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", embeddedRedis.getPort()));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+
+        trendingCacheUtil = new PostTrendingCacheUtil(redisTemplate);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        connectionFactory.destroy();
+        embeddedRedis.stopEmbeddedRedis();
+    }
+
+    @BeforeEach
+    void flush() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        }, true);
+    }
+
+    @Test
+    @DisplayName("커서 게시글이 정리되어도 다음 페이지를 조회한다")
+    void findPostsAfter_CursorPostTrimmed() {
+        for (long id = 1; id <= 5; id++) {
+            redisTemplate.opsForZSet().add(KEY, Long.toString(id), id * 10.0);
+        }
+
+        List<TrendingEntry> first = trendingCacheUtil.findPostsAfter(BOARD, null, null, 2);
+        assertThat(first).extracting(TrendingEntry::postId).containsExactly(5L, 4L);
+
+        // 커서 게시글(4)이 정리됨
+        redisTemplate.opsForZSet().remove(KEY, "4");
+        TrendingEntry last = first.get(first.size() - 1);
+
+        List<TrendingEntry> second = trendingCacheUtil.findPostsAfter(BOARD, last.score(), last.postId(), 2);
+        assertThat(second).extracting(TrendingEntry::postId).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("점수가 같은 게시글이 많아도 중복/누락 없이 이어서 조회한다")
+    void findPostsAfter_TiedScores() {
+        for (long id = 1; id <= 7; id++) {
+            redisTemplate.opsForZSet().add(KEY, Long.toString(id), 1.5);
+        }
+
+        List<Long> seen = new ArrayList<>();
+        Double cursorScore = null;
+        Long cursorId = null;
+        while (true) {
+            List<TrendingEntry> page = trendingCacheUtil.findPostsAfter(BOARD, cursorScore, cursorId, 3);
+            if (page.isEmpty()) {
+                break;
+            }
+            page.forEach(entry -> seen.add(entry.postId()));
+            TrendingEntry last = page.get(page.size() - 1);
+            cursorScore = last.score();
+            cursorId = last.postId();
+        }
+
+        assertThat(seen).containsExactly(7L, 6L, 5L, 4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("이전 페이지 게시글의 점수가 오르더라도 다음 페이지가 비지 않는다")
+    void findPostsAfter_CursorPostScoreChanged() {
+        for (long id = 1; id <= 4; id++) {
+            redisTemplate.opsForZSet().add(KEY, Long.toString(id), id * 10.0);
+        }
+
+        List<TrendingEntry> first = trendingCacheUtil.findPostsAfter(BOARD, null, null, 2);
+        TrendingEntry last = first.get(first.size() - 1);
+
+        // 커서 게시글(3)의 점수가 올라 1위가 됨
+        trendingCacheUtil.addScore(BOARD, 3L, 100.0);
+
+        List<TrendingEntry> second = trendingCacheUtil.findPostsAfter(BOARD, last.score(), last.postId(), 2);
+        assertThat(second).extracting(TrendingEntry::postId).containsExactly(2L, 1L);
+    }
+}